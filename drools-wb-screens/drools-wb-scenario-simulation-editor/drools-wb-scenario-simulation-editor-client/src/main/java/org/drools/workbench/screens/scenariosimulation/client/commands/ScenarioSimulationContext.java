@@ -477,6 +477,18 @@ public class ScenarioSimulationContext {
         }
 
         public Status cloneStatus() {
+            Status toReturn = cloneStatusWithoutModels();
+            toReturn.simulation = this.simulation.cloneModel();
+            toReturn.background = this.background.cloneModel();
+            return toReturn;
+        }
+
+        /**
+         * Clones this <code>Status</code> but its <b>simulation</b> and <b>background</b>, which are left <code>null</code>.
+         * To be used by commands which restore only the part of the model they change.
+         * @return
+         */
+        public Status cloneStatusWithoutModels() {
             Status toReturn = new Status();
             toReturn.columnId = this.columnId;
             toReturn.columnIndex = this.columnIndex;
@@ -490,8 +502,6 @@ public class ScenarioSimulationContext {
             toReturn.keepData = this.keepData;
             toReturn.gridCellValue = this.gridCellValue;
             toReturn.rowIndex = this.rowIndex;
-            toReturn.simulation = this.simulation.cloneModel();
-            toReturn.background = this.background.cloneModel();
             toReturn.currentGrid = this.currentGrid;
             toReturn.importPrefix = this.importPrefix;
             return toReturn;
@@ -15,20 +15,42 @@
  */
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
+import java.util.Collections;
+import java.util.Optional;
+
 import org.drools.scenariosimulation.api.model.AbstractScesimData;
 import org.drools.scenariosimulation.api.model.AbstractScesimModel;
 import org.drools.scenariosimulation.api.model.FactMapping;
+import org.drools.scenariosimulation.api.model.FactMappingValue;
 import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.drools.workbench.screens.scenariosimulation.client.models.AbstractScesimGridModel;
 import org.drools.workbench.screens.scenariosimulation.client.utils.ScenarioSimulationUtils;
 import org.drools.workbench.screens.scenariosimulation.client.values.ScenarioGridCellValue;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridColumn;
+import org.kie.workbench.common.command.client.CommandResult;
+import org.kie.workbench.common.command.client.impl.CommandResultImpl;
 
 /**
- * <code>Command</code> to set the <i>value</i> of a grid' cell
+ * <code>Command</code> to set the <i>value</i> of a grid' cell.
+ * <p>
+ * Instead of cloning the whole <code>Simulation</code> and <code>Background</code>, it only keeps the previous value
+ * of the edited cell to restore it on <b>undo</b>, and swaps it with the current one on each <b>undo/redo</b>.
+ * </p>
+ * <p>
+ * Only cell edits are restored this way. The row and column commands (insert, delete, duplicate) still clone the
+ * whole status through {@link AbstractScenarioGridCommand}, so their undo steps stay proportional to the model.
+ * </p>
  */
 public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
 
+    /**
+     * The value of the edited cell to restore on <b>undo/redo</b>, or <code>null</code> if the whole
+     * <code>ScenarioSimulationContext.Status</code> has been cloned
+     */
+    protected CellValue restorableCellValue = null;
+
     public SetGridCellValueCommand(GridWidget gridWidget) {
         super(gridWidget);
     }
@@ -36,18 +58,100 @@ public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         final ScenarioSimulationContext.Status status = context.getStatus();
+        setCellValue(context, status.getRowIndex(), status.getColumnIndex(), status.getGridCellValue());
+    }
+
+    @Override
+    protected ScenarioSimulationContext.Status setRestorableStatusPreExecution(ScenarioSimulationContext context) {
+        final ScenarioSimulationContext.Status status = context.getStatus();
+        final Optional<FactMappingValue> factMappingValue = getFactMappingValue(context, status.getRowIndex(), status.getColumnIndex());
+        final Object rawValue = factMappingValue.map(FactMappingValue::getRawValue).orElse(null);
+        if (rawValue != null && !(rawValue instanceof String)) {
+            /* The grid only sets String values: a different one can't be restored through it */
+            restorableCellValue = null;
+            return super.setRestorableStatusPreExecution(context);
+        }
+        restorableCellValue = new CellValue(status.getRowIndex(), status.getColumnIndex(), factMappingValue.isPresent(), (String) rawValue);
+        return status.cloneStatusWithoutModels();
+    }
+
+    @Override
+    protected CommandResult<ScenarioSimulationViolation> setCurrentContext(ScenarioSimulationContext context) {
+        if (restorableCellValue == null) {
+            return super.setCurrentContext(context);
+        }
+        try {
+            final ScenarioSimulationContext.Status currentStatus = context.getStatus();
+            final ScenarioSimulationContext.Status originalStatus = currentStatus.cloneStatusWithoutModels();
+            final int rowIndex = restorableCellValue.rowIndex;
+            final int columnIndex = restorableCellValue.columnIndex;
+            final Optional<FactMappingValue> factMappingValue = getFactMappingValue(context, rowIndex, columnIndex);
+            final CellValue originalCellValue = new CellValue(rowIndex,
+                                                              columnIndex,
+                                                              factMappingValue.isPresent(),
+                                                              (String) factMappingValue.map(FactMappingValue::getRawValue).orElse(null));
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).clearSelections();
+            if (restorableCellValue.present) {
+                setCellValue(context, rowIndex, columnIndex, restorableCellValue.value);
+            } else {
+                deleteCellValue(context, rowIndex, columnIndex);
+            }
+            restorableStatus.setSimulation(currentStatus.getSimulation());
+            restorableStatus.setBackground(currentStatus.getBackground());
+            context.setStatus(restorableStatus);
+            restorableStatus = originalStatus;
+            restorableCellValue = originalCellValue;
+            return commonExecution(context);
+        } catch (Exception e) {
+            return new CommandResultImpl<>(CommandResult.Type.ERROR, Collections.singleton(new ScenarioSimulationViolation(e.getMessage())));
+        }
+    }
+
+    protected void setCellValue(ScenarioSimulationContext context, int rowIndex, int columnIndex, String value) {
         AbstractScesimModel<AbstractScesimData> abstractScesimModel = context.getAbstractScesimModelByGridWidget(gridWidget);
-        int columnIndex = status.getColumnIndex();
         FactMapping factMapping = abstractScesimModel.getScesimModelDescriptor().getFactMappingByIndex(columnIndex);
         ScenarioGridColumn selectedColumn = (ScenarioGridColumn) context.getAbstractScesimGridModelByGridWidget(gridWidget).getColumns().get(columnIndex);
         String placeholder = ScenarioSimulationUtils.getPlaceHolder(selectedColumn.isInstanceAssigned(),
                                                                     selectedColumn.isPropertyAssigned(),
                                                                     factMapping.getFactMappingValueType(),
                                                                     factMapping.getClassName());
-        context.getAbstractScesimGridModelByGridWidget(gridWidget).setCellValue(status.getRowIndex(),
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).setCellValue(rowIndex,
                                                                                 columnIndex,
-                                                                                new ScenarioGridCellValue(status.getGridCellValue(),
+                                                                                new ScenarioGridCellValue(value,
                                                                                                           placeholder));
-        context.getAbstractScesimGridModelByGridWidget(gridWidget).resetError(status.getRowIndex(), columnIndex);
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).resetError(rowIndex, columnIndex);
+    }
+
+    protected void deleteCellValue(ScenarioSimulationContext context, int rowIndex, int columnIndex) {
+        final AbstractScesimGridModel abstractScesimGridModel = context.getAbstractScesimGridModelByGridWidget(gridWidget);
+        abstractScesimGridModel.deleteCell(rowIndex, columnIndex);
+        abstractScesimGridModel.refreshErrors();
+    }
+
+    protected Optional<FactMappingValue> getFactMappingValue(ScenarioSimulationContext context, int rowIndex, int columnIndex) {
+        AbstractScesimModel<AbstractScesimData> abstractScesimModel = context.getAbstractScesimModelByGridWidget(gridWidget);
+        FactMapping factMapping = abstractScesimModel.getScesimModelDescriptor().getFactMappingByIndex(columnIndex);
+        return abstractScesimModel.getDataByIndex(rowIndex).getFactMappingValue(factMapping);
+    }
+
+    /**
+     * The value of a cell, as stored by its <code>FactMappingValue</code>
+     */
+    protected static class CellValue {
+
+        protected final int rowIndex;
+        protected final int columnIndex;
+        /**
+         * <code>false</code> if the cell has no <code>FactMappingValue</code>
+         */
+        protected final boolean present;
+        protected final String value;
+
+        protected CellValue(int rowIndex, int columnIndex, boolean present, String value) {
+            this.rowIndex = rowIndex;
+            this.columnIndex = columnIndex;
+            this.present = present;
+            this.value = value;
+        }
     }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.scenariosimulation.api.model.Background;
+import org.drools.scenariosimulation.api.model.ExpressionIdentifier;
+import org.drools.scenariosimulation.api.model.FactIdentifier;
+import org.drools.scenariosimulation.api.model.FactMapping;
+import org.drools.scenariosimulation.api.model.FactMappingType;
+import org.drools.scenariosimulation.api.model.Scenario;
+import org.drools.scenariosimulation.api.model.Simulation;
+import org.drools.workbench.screens.scenariosimulation.client.AbstractScenarioSimulationTest;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_NUMBER;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doNothing;
+
+/**
+ * Compares the memory retained by 500 consecutive cell edits when each undo step clones the whole status, as all the
+ * <code>AbstractScenarioGridCommand</code>s do, with the memory retained by <code>SetGridCellValueCommand</code>.
+ * Only cell edits keep a delta as undo state: the row and column commands still clone the whole status, so they are
+ * not measured here.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=SetGridCellValueCommandBenchmarkTest</code>
+ * </p>
+ */
+@RunWith(GwtMockitoTestRunner.class)
+public class SetGridCellValueCommandBenchmarkTest extends AbstractScenarioSimulationTest {
+
+    private static final Logger LOGGER = Logger.getLogger(SetGridCellValueCommandBenchmarkTest.class.getName());
+
+    private static final int EDITS = 500;
+
+    private static final int[] SCENARIOS = {100, 1000, 5000};
+
+    private static final int FACT_MAPPINGS = 30;
+
+    @Before
+    public void setup() {
+        super.setup();
+        // The grid model is bound to a mocked simulation: only the undo status is measured here
+        doNothing().when(scenarioGridModelMock).resetError(anyInt(), anyInt());
+    }
+
+    @Test
+    public void benchmark() {
+        for (int scenarios : SCENARIOS) {
+            final Simulation simulation = newSimulation(scenarios);
+            final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus();
+            status.setSimulation(simulation);
+            status.setBackground(new Background());
+
+            final List<Object> retained = new ArrayList<>(EDITS);
+            long before = usedMemory();
+            for (int i = 0; i < EDITS; i++) {
+                retained.add(status.cloneStatus());
+            }
+            final long cloned = usedMemory() - before;
+            retained.clear();
+
+            before = usedMemory();
+            for (int i = 0; i < EDITS; i++) {
+                status.setRowIndex(i % scenarios);
+                status.setColumnIndex(i % COLUMN_NUMBER);
+                status.setGridCellValue("value " + i);
+                final SetGridCellValueCommand command = new SetGridCellValueCommand(GridWidget.SIMULATION);
+                command.execute(scenarioSimulationContextLocal);
+                retained.add(command);
+            }
+            final long delta = usedMemory() - before;
+
+            LOGGER.info(String.format("%d scenarios x %d fact mappings, %d edits: cloned status %d KB (%d bytes per edit), cell values %d KB (%d bytes per edit)",
+                                      scenarios, FACT_MAPPINGS, EDITS,
+                                      cloned / 1024, cloned / EDITS,
+                                      delta / 1024, delta / EDITS));
+            retained.clear();
+        }
+    }
+
+    private static Simulation newSimulation(int scenarios) {
+        final Simulation simulation = new Simulation();
+        final List<FactMapping> factMappings = new ArrayList<>();
+        for (int i = 0; i < FACT_MAPPINGS; i++) {
+            factMappings.add(simulation.getScesimModelDescriptor()
+                                     .addFactMapping(FactIdentifier.create("fact" + i, String.class.getCanonicalName()),
+                                                     ExpressionIdentifier.create("expression" + i, FactMappingType.GIVEN)));
+        }
+        for (int i = 0; i < scenarios; i++) {
+            final Scenario scenario = simulation.addData();
+            for (FactMapping factMapping : factMappings) {
+                scenario.addMappingValue(factMapping.getFactIdentifier(), factMapping.getExpressionIdentifier(), "value " + i);
+            }
+        }
+        return simulation;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -16,38 +16,140 @@
 
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
+import java.util.Optional;
+
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.scenariosimulation.api.model.Scenario;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.values.ScenarioGridCellValue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.command.client.CommandResult;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_INDEX;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.MULTIPART_VALUE;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
 public class SetGridCellValueCommandTest extends AbstractScenarioGridCommandTest {
 
+    private static final String OLD_VALUE = "OLD_VALUE";
+
+    @Mock
+    private Scenario scenarioMock;
+
     @Before
     public void setup() {
         super.setup();
+        when(simulationMock.getDataByIndex(anyInt())).thenReturn(scenarioMock);
+        when(scenarioMock.getFactMappingValue(factMappingMock)).thenReturn(Optional.of(factMappingValueMock));
+        when(factMappingValueMock.getRawValue()).thenReturn(OLD_VALUE);
+        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
+        scenarioSimulationContextLocal.getStatus().setColumnIndex(COLUMN_INDEX);
         commandSpy = spy(new SetGridCellValueCommand(GridWidget.SIMULATION));
     }
 
     @Test
+    @Override
+    public void setRestorableStatus() {
+        ScenarioSimulationContext.Status restorableStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertNotNull(restorableStatus);
+        assertNull(restorableStatus.getSimulation());
+        assertNull(restorableStatus.getBackground());
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+        final SetGridCellValueCommand.CellValue restorableCellValue = ((SetGridCellValueCommand) commandSpy).restorableCellValue;
+        assertEquals(ROW_INDEX, restorableCellValue.rowIndex);
+        assertEquals(COLUMN_INDEX, restorableCellValue.columnIndex);
+        assertTrue(restorableCellValue.present);
+        assertEquals(OLD_VALUE, restorableCellValue.value);
+    }
+
+    @Test
+    public void setRestorableStatusNotStringValue() {
+        when(factMappingValueMock.getRawValue()).thenReturn(1);
+        ScenarioSimulationContext.Status restorableStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertEquals(clonedSimulationMock, restorableStatus.getSimulation());
+        assertEquals(clonedBackgroundMock, restorableStatus.getBackground());
+        assertNull(((SetGridCellValueCommand) commandSpy).restorableCellValue);
+    }
+
+    @Test
+    public void setRestorableStatusNoValue() {
+        when(scenarioMock.getFactMappingValue(factMappingMock)).thenReturn(Optional.empty());
+        commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        final SetGridCellValueCommand.CellValue restorableCellValue = ((SetGridCellValueCommand) commandSpy).restorableCellValue;
+        assertFalse(restorableCellValue.present);
+        assertNull(restorableCellValue.value);
+    }
+
+    @Test
+    @Override
     public void execute() {
-        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
-        scenarioSimulationContextLocal.getStatus().setColumnIndex(COLUMN_INDEX);
         scenarioSimulationContextLocal.getStatus().setGridCellValue(MULTIPART_VALUE);
         commandSpy.execute(scenarioSimulationContextLocal);
+        assertNull(commandSpy.restorableStatus.getSimulation());
+        assertNull(commandSpy.restorableStatus.getBackground());
+        verify(commandSpy, times(1)).internalExecute(eq(scenarioSimulationContextLocal));
         verify(scenarioGridModelMock, times(1)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), isA(ScenarioGridCellValue.class));
         verify(scenarioGridModelMock, times(1)).resetError(eq(ROW_INDEX), eq(COLUMN_INDEX));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void undoRedo() {
+        scenarioSimulationContextLocal.getStatus().setGridCellValue(MULTIPART_VALUE);
+        commandSpy.execute(scenarioSimulationContextLocal);
+        when(factMappingValueMock.getRawValue()).thenReturn(MULTIPART_VALUE);
+
+        CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.undo(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        final ArgumentCaptor<ScenarioGridCellValue> cellValueCaptor = ArgumentCaptor.forClass(ScenarioGridCellValue.class);
+        verify(scenarioGridModelMock, times(2)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), cellValueCaptor.capture());
+        assertEquals(OLD_VALUE, cellValueCaptor.getValue().getValue());
+        assertEquals(simulationMock, scenarioSimulationContextLocal.getStatus().getSimulation());
+        assertEquals(backgroundMock, scenarioSimulationContextLocal.getStatus().getBackground());
+        assertEquals(MULTIPART_VALUE, ((SetGridCellValueCommand) commandSpy).restorableCellValue.value);
+        verify(scenarioGridMock, never()).setContent(eq(simulationMock), eq(settingsLocal.getType()));
+        verify(simulationMock, never()).cloneModel();
+
+        when(factMappingValueMock.getRawValue()).thenReturn(OLD_VALUE);
+        retrieved = commandSpy.redo(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        verify(scenarioGridModelMock, times(3)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), cellValueCaptor.capture());
+        assertEquals(MULTIPART_VALUE, cellValueCaptor.getValue().getValue());
+        assertEquals(OLD_VALUE, ((SetGridCellValueCommand) commandSpy).restorableCellValue.value);
+    }
+
+    @Test
+    public void undoWithoutPreviousValue() {
+        when(scenarioMock.getFactMappingValue(factMappingMock)).thenReturn(Optional.empty());
+        doReturn(null).when(scenarioGridModelMock).deleteCell(anyInt(), anyInt());
+        scenarioSimulationContextLocal.getStatus().setGridCellValue(MULTIPART_VALUE);
+        commandSpy.execute(scenarioSimulationContextLocal);
+        when(scenarioMock.getFactMappingValue(factMappingMock)).thenReturn(Optional.of(factMappingValueMock));
+        when(factMappingValueMock.getRawValue()).thenReturn(MULTIPART_VALUE);
+
+        commandSpy.undo(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(1)).deleteCell(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        assertTrue(((SetGridCellValueCommand) commandSpy).restorableCellValue.present);
+    }
+}
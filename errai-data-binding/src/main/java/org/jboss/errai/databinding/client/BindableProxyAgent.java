@@ -53,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -79,6 +80,9 @@ import java.util.function.Supplier;
  *
  * <li>Update the target model in response to value change events (only works for bound components that implement
  * {@link HasValue})</li>
+ *
+ * <li>Defer all of the above while a batch is running (see {@link #startBatch()}), so each changed property updates
+ * its widgets and fires a {@link PropertyChangeEvent} once when the batch ends.</li>
  * <ul>
  *
  * @author Christian Sadilek <csadilek@redhat.com>
@@ -97,6 +101,11 @@ public final class BindableProxyAgent<T> implements HasPropertyChangeHandlers {
   final Map<String, DataBinder> binders = new HashMap<>();
   final Map<String, Object> knownValues = new HashMap<>();
   final Collection<HandlerRegistration> modelChangeHandlers = new ArrayList<>();
+  final Map<String, PendingChange> pendingChanges = new LinkedHashMap<>();
+  final List<DataBinder<?>> batchedBinders = new ArrayList<>();
+
+  int batchDepth;
+  boolean pendingComparison;
 
   PropertyChangeHandlerSupport propertyChangeHandlerSupport = new PropertyChangeHandlerSupport();
 
@@ -674,13 +683,26 @@ public final class BindableProxyAgent<T> implements HasPropertyChangeHandlers {
    * Updates all bound widgets if necessary (if a bound property's value has
    * changed). This method is invoked in case a bound property changed outside
    * the property's write method (when using a non accessor method).
+   * <p>
+   * The known value of a property is the instance last passed to its setter or
+   * seen by the previous comparison. A property for which the proxy still
+   * returns that instance is clean and is skipped without calling equals or
+   * touching its nested binder.
    */
   void updateWidgetsAndFireEvents() {
+    if (batchDepth > 0) {
+      pendingComparison = true;
+      return;
+    }
+
     for (final String property : propertyTypes.keySet()) {
       final Object knownValue = knownValues.get(property);
       final Object actualValue = proxy.get(property);
 
-      if ((knownValue == null && actualValue != null) || (knownValue != null && !knownValue.equals(actualValue))) {
+      if (knownValue == actualValue)
+        continue;
+
+      if (knownValue == null || !knownValue.equals(actualValue)) {
 
         final DataBinder nestedBinder = binders.get(property);
         if (nestedBinder != null) {
@@ -709,9 +731,75 @@ public final class BindableProxyAgent<T> implements HasPropertyChangeHandlers {
    *          The new value of the property.
    */
   <P> void updateWidgetsAndFireEvent(final boolean sync, final String property, final P oldValue, final P newValue) {
+    if (batchDepth > 0) {
+      final PendingChange change = pendingChanges.get(property);
+      if (change == null) {
+        pendingChanges.put(property, new PendingChange(sync, oldValue, newValue));
+      }
+      else {
+        change.sync |= sync;
+        change.newValue = newValue;
+      }
+      return;
+    }
+
     updateWidgetsAndFireEvent(sync, property, oldValue, newValue, null);
   }
 
+  /**
+   * Starts a batch of changes. Until the batch ends, changes to the model only mark the changed properties as dirty,
+   * and non-accessor methods only request a comparison of all properties. The nested binders are batched along with
+   * this agent, including models they are given during the batch. Batches can be nested, only ending the outermost one
+   * has an effect.
+   */
+  public void startBatch() {
+    if (batchDepth++ > 0) {
+      return;
+    }
+
+    for (final DataBinder<?> binder : binders.values()) {
+      binder.startBatch();
+      batchedBinders.add(binder);
+    }
+  }
+
+  /**
+   * Ends a batch of changes (see {@link #startBatch()}). Once the nested binders are done, every dirty property updates
+   * its widgets once and fires one {@link PropertyChangeEvent} from its value before the batch to its last value. If a
+   * non-accessor method was called during the batch, all properties are compared afterwards. This method has no
+   * effect if no batch is running.
+   */
+  public void endBatch() {
+    if (batchDepth == 0 || --batchDepth > 0) {
+      return;
+    }
+
+    final List<DataBinder<?>> nestedBinders = new ArrayList<>(batchedBinders);
+    batchedBinders.clear();
+    for (final DataBinder<?> nestedBinder : nestedBinders) {
+      nestedBinder.endBatch();
+    }
+
+    final List<Map.Entry<String, PendingChange>> changes = new ArrayList<>(pendingChanges.entrySet());
+    pendingChanges.clear();
+    for (final Map.Entry<String, PendingChange> entry : changes) {
+      final PendingChange change = entry.getValue();
+      updateWidgetsAndFireEvent(change.sync, entry.getKey(), change.oldValue, change.newValue, null);
+    }
+
+    if (pendingComparison) {
+      pendingComparison = false;
+      updateWidgetsAndFireEvents();
+    }
+  }
+
+  /**
+   * @return true iff a batch of changes was started and has not ended yet.
+   */
+  public boolean isBatching() {
+    return batchDepth > 0;
+  }
+
   /**
    * Updates all bound widgets and fires the corresponding
    * {@link PropertyChangeEvent}.
@@ -1068,4 +1156,16 @@ public final class BindableProxyAgent<T> implements HasPropertyChangeHandlers {
   private static BindableProxyAgent<?> getAgent(final DataBinder<?> binder) {
     return ((BindableProxy<?>) binder.getModel()).getBindableProxyAgent();
   }
+
+  private static class PendingChange {
+    private boolean sync;
+    private final Object oldValue;
+    private Object newValue;
+
+    private PendingChange(final boolean sync, final Object oldValue, final Object newValue) {
+      this.sync = sync;
+      this.oldValue = oldValue;
+      this.newValue = newValue;
+    }
+  }
 }
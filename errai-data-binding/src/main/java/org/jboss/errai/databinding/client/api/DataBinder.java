@@ -59,6 +59,8 @@ public class DataBinder<T> implements HasPropertyChangeHandlers {
 
   private T proxy;
   private T paused;
+  private BindableProxyAgent<T> batchAgent;
+  private int batchDepth;
 
   protected DataBinder() {
   }
@@ -444,6 +446,14 @@ public class DataBinder<T> implements HasPropertyChangeHandlers {
       newProxy = (BindableProxy<T>) BindableProxyFactory.getBindableProxy(model);
     }
 
+    // while batching, the changes to the replaced model are applied first and the new model is batched in its place
+    final boolean replacesBatchAgent = (batchDepth > 0 && newProxy.getBindableProxyAgent() != batchAgent);
+    if (replacesBatchAgent) {
+      for (int i = 0; i < batchDepth; i++) {
+        batchAgent.endBatch();
+      }
+    }
+
     newProxy.getBindableProxyAgent().mergePropertyChangeHandlers(propertyChangeHandlerSupport);
     if (fireChangeEvents) {
       newProxy.getBindableProxyAgent().fireChangeEvents(getAgent(), initialState);
@@ -465,6 +475,13 @@ public class DataBinder<T> implements HasPropertyChangeHandlers {
                                       .bind(b.getComponent(), b.getProperty(), b.getConverter(), bindOnKeyUp, newInitState));
     }
 
+    if (replacesBatchAgent) {
+      batchAgent = newProxy.getBindableProxyAgent();
+      for (int i = 0; i < batchDepth; i++) {
+        batchAgent.startBatch();
+      }
+    }
+
     this.paused = null;
     this.bindings = bindings;
     this.proxy = (T) newProxy;
@@ -537,6 +554,57 @@ public class DataBinder<T> implements HasPropertyChangeHandlers {
     return (paused != null);
   }
 
+  /**
+   * Starts a batch of changes to the model. Until {@link #endBatch()} is called, the bound widgets are not updated and
+   * no {@link PropertyChangeEvent} is fired. Ending the batch updates the widgets of each changed property once and
+   * fires one event per changed property, including the properties of nested models. Batches can be nested, only
+   * ending the outermost one has an effect.
+   */
+  public void startBatch() {
+    if (batchDepth++ == 0) {
+      batchAgent = getAgent();
+    }
+    batchAgent.startBatch();
+  }
+
+  /**
+   * Ends a batch of changes started with {@link #startBatch()}. This method has no effect if no batch was started.
+   */
+  public void endBatch() {
+    if (batchDepth == 0) return;
+
+    final BindableProxyAgent<T> agent = batchAgent;
+    if (--batchDepth == 0) {
+      batchAgent = null;
+    }
+    agent.endBatch();
+  }
+
+  /**
+   * Runs the provided changes to the model as one batch (see {@link #startBatch()}).
+   *
+   * @param changes
+   *          the changes to run. Must not be null.
+   */
+  public void batch(final Runnable changes) {
+    Assert.notNull(changes);
+
+    startBatch();
+    try {
+      changes.run();
+    }
+    finally {
+      endBatch();
+    }
+  }
+
+  /**
+   * @return true iff {@link #startBatch()} was called and the batch has not ended yet.
+   */
+  public boolean isBatching() {
+    return (batchDepth > 0);
+  }
+
   @Override
   public PropertyChangeUnsubscribeHandle addPropertyChangeHandler(final PropertyChangeHandler<?> handler) {
     propertyChangeHandlerSupport.addPropertyChangeHandler(handler);
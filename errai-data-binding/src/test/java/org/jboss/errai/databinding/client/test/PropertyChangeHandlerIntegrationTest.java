@@ -644,4 +644,120 @@ public class PropertyChangeHandlerIntegrationTest extends AbstractErraiIOCTest {
       assertEquals(expected.get(i), model.observedEvents().get(i));
     }
   }
+
+  @Test
+  public void testBatchedChangesFireOneEventPerProperty() {
+    final MockHandler handler = new MockHandler();
+
+    final TextBox textBox = new TextBox();
+    final DataBinder<TestModel> binder = DataBinder.forType(TestModel.class).bind(textBox, "value");
+    binder.addPropertyChangeHandler(handler);
+    final TestModel model = binder.getModel();
+
+    binder.startBatch();
+    assertTrue("Binder should be batching", binder.isBatching());
+    model.setValue("first");
+    model.setValue("second");
+    model.setName("name");
+    model.activate();
+    assertEquals("Widget should not have been updated during the batch", "", textBox.getText());
+    assertEquals("No property change event should have been fired during the batch", 0, handler.getEvents().size());
+
+    binder.endBatch();
+    assertFalse("Binder should not be batching", binder.isBatching());
+    assertEquals("Widget not properly updated", "second", textBox.getText());
+    assertEquals("Should have received exactly three property change events", 3, handler.getEvents().size());
+    assertEquals("Wrong property name in event", "value", handler.getEvents().get(0).getPropertyName());
+    assertNull("Previous value should have been null", handler.getEvents().get(0).getOldValue());
+    assertEquals("Wrong property value in event", "second", handler.getEvents().get(0).getNewValue());
+    assertEquals("Wrong property name in event", "name", handler.getEvents().get(1).getPropertyName());
+    assertEquals("Wrong property name in event", "active", handler.getEvents().get(2).getPropertyName());
+    assertEquals("Wrong property value in event", true, handler.getEvents().get(2).getNewValue());
+
+    model.setValue("after batch");
+    assertEquals("Widget not properly updated", "after batch", textBox.getText());
+    assertEquals("Should have received exactly four property change events", 4, handler.getEvents().size());
+  }
+
+  @Test
+  public void testNestedBatchedChanges() {
+    final MockHandler handler = new MockHandler();
+
+    final TextBox textBox = new TextBox();
+    final DataBinder<TestModel> binder = DataBinder.forType(TestModel.class).bind(textBox, "child.value");
+    binder.addPropertyChangeHandler("child.value", handler);
+    final TestModel model = binder.getModel();
+
+    binder.batch(() -> {
+      binder.batch(() -> model.getChild().setValue("inner"));
+      assertEquals("Widget should not have been updated before the outer batch ends", "", textBox.getText());
+      model.getChild().setValue("outer");
+    });
+
+    assertEquals("Widget not properly updated", "outer", textBox.getText());
+    assertEquals("Should have received exactly one property change event", 1, handler.getEvents().size());
+    assertEquals("Wrong property value in event", "outer", handler.getEvents().get(0).getNewValue());
+  }
+
+  @Test
+  public void testBatchedChangesReverted() {
+    final MockHandler handler = new MockHandler();
+
+    final DataBinder<TestModel> binder = DataBinder.forType(TestModel.class).bind(new TextBox(), "value");
+    binder.addPropertyChangeHandler(handler);
+    final TestModel model = binder.getModel();
+
+    binder.batch(() -> {
+      model.setValue("changed");
+      model.setValue(null);
+    });
+
+    assertEquals("Should not have received a property change event", 0, handler.getEvents().size());
+  }
+
+  @Test
+  public void testModelReplacedDuringBatchIsBatched() {
+    final MockHandler handler = new MockHandler();
+
+    final TextBox textBox = new TextBox();
+    final DataBinder<TestModel> binder = DataBinder.forType(TestModel.class).bind(textBox, "value");
+    binder.addPropertyChangeHandler("value", handler);
+
+    binder.startBatch();
+    binder.getModel().setValue("replaced");
+    final TestModel model = binder.setModel(new TestModel());
+    assertEquals("Changes to the replaced model should have been applied", "replaced",
+            handler.getEvents().get(0).getNewValue());
+
+    final int events = handler.getEvents().size();
+    model.setValue("first");
+    model.setValue("second");
+    assertTrue("Binder should still be batching", binder.isBatching());
+    assertEquals("No property change event should have been fired during the batch", events, handler.getEvents().size());
+
+    binder.endBatch();
+    assertEquals("Widget not properly updated", "second", textBox.getText());
+    assertEquals("Should have received exactly one more property change event", events + 1, handler.getEvents().size());
+    assertEquals("Wrong property value in event", "second", handler.getEvents().get(events).getNewValue());
+  }
+
+  @Test
+  public void testNestedModelReplacedDuringBatchIsBatched() {
+    final MockHandler handler = new MockHandler();
+
+    final TextBox textBox = new TextBox();
+    final DataBinder<TestModel> binder = DataBinder.forType(TestModel.class).bind(textBox, "child.value");
+    binder.addPropertyChangeHandler("child.value", handler);
+    final TestModel model = binder.getModel();
+
+    binder.batch(() -> {
+      model.setChild(new TestModel());
+      model.getChild().setValue("nested");
+      assertEquals("Widget should not have been updated during the batch", "", textBox.getText());
+    });
+
+    assertEquals("Widget not properly updated", "nested", textBox.getText());
+    assertEquals("Wrong property value in event", "nested",
+            handler.getEvents().get(handler.getEvents().size() - 1).getNewValue());
+  }
 }
@@ -20,8 +20,12 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
@@ -56,6 +60,13 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   private final Multimap<String, FactoryHandle> handlesByName = ArrayListMultimap.create();
   private final Multimap<String, SyncBeanDef<?>> runtimeBeanDefsByName = ArrayListMultimap.create();
 
+  /*
+   * Resolved bean definitions by name and by type and qualifiers. They are discarded whenever a
+   * factory or a bean definition is added, and the qualified ones when the JS providers change.
+   */
+  private final Map<String, Resolution> resolutionsByName = new HashMap<>();
+  private final Map<QualifiedLookup, QualifiedResolution> qualifiedResolutions = new HashMap<>();
+
   @Override
   public void destroyBean(final Object ref) {
     contextManager.destroy(ref);
@@ -136,6 +147,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   }
 
   private void addFactory(final FactoryHandle handle) {
+    clearResolutions();
     for (final Class<?> assignableType : handle.getAssignableTypes()) {
       handlesByName.put(assignableType.getName(), handle);
     }
@@ -155,36 +167,34 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     Assert.notNull(name);
     logger.debug("Looking up beans for {}", name);
 
-    final Collection<FactoryHandle> handles = handlesByName.get(name);
-    final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
-    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
-
-    final Set<String> beanDefFactoryNames = new HashSet<>();
-    final Collection beanDefs = new ArrayList<SyncBeanDef<Object>>(handles.size()+runtimeBeanDefs.size()+jsProviders.length());
-    beanDefs.addAll(runtimeBeanDefs);
-    for (final FactoryHandle handle : handles) {
-      if (handle.isAvailableByLookup()) {
-        beanDefs.add(new IOCBeanDefImplementation<>(handle, this.<Object>getType(name, handle, handle.getActualType())));
-        beanDefFactoryNames.add(handle.getFactoryName());
-      }
-    }
-    for (final JsTypeProvider<?> provider : JsArray.iterable(jsProviders)) {
-      logger.debug("Found JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
-      if (keepJsDups || provider.getFactoryName() == null || !beanDefFactoryNames.contains(provider.getFactoryName())) {
-        logger.debug("Keeping JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
-        beanDefs.add(new JsTypeBeanDefImplementation(provider, name));
-      }
-      else {
-        logger.debug("Rejecting duplicate JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
-      }
-    }
+    final Resolution resolution = resolve(name);
+    final List<SyncBeanDef<?>> jsBeanDefs = resolution.getJsBeanDefs(keepJsDups);
+    final Collection beanDefs = new ArrayList<SyncBeanDef<Object>>(resolution.beanDefs.size()+jsBeanDefs.size());
+    beanDefs.addAll(resolution.beanDefs);
+    beanDefs.addAll(jsBeanDefs);
 
     logger.debug("Looked up {} beans: {}", beanDefs.size(), beanDefs);
 
     return beanDefs;
   }
 
-  private JsArray<JsTypeProvider<?>> getJsProviders(final String name) {
+  private Resolution resolve(final String name) {
+    Resolution resolution = resolutionsByName.get(name);
+    if (resolution == null) {
+      resolution = new Resolution(name);
+      resolutionsByName.put(name, resolution);
+    }
+    resolution.updateJsProviders(getJsProviders(name));
+
+    return resolution;
+  }
+
+  private void clearResolutions() {
+    resolutionsByName.clear();
+    qualifiedResolutions.clear();
+  }
+
+  protected JsArray<JsTypeProvider<?>> getJsProviders(final String name) {
     final WindowInjectionContext windowInjectionContext = WindowInjectionContextStorage.createOrGet();
 
     // This check may be false if -generateJsInteropExports is not set
@@ -220,19 +230,28 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     return (Class<T>) defaultType;
   }
 
+  @SuppressWarnings({ "unchecked", "rawtypes" })
   @Override
   public <T> Collection<SyncBeanDef<T>> lookupBeans(final Class<T> type, final Annotation... qualifiers) {
-    final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
-    final Collection<SyncBeanDef<T>> candidates = lookupBeans(type);
-    final Iterator<SyncBeanDef<T>> iter = candidates.iterator();
-    while (iter.hasNext()) {
-      final SyncBeanDef<T> beanDef = iter.next();
-      if (!beanDef.matches(qualifierSet)) {
-        iter.remove();
+    final Resolution resolution = resolve(type.getName());
+    final QualifiedLookup lookup = new QualifiedLookup(type.getName(), qualifiers);
+    QualifiedResolution qualifiedResolution = qualifiedResolutions.get(lookup);
+    if (qualifiedResolution == null || qualifiedResolution.jsVersion != resolution.jsVersion) {
+      final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
+      final Collection<SyncBeanDef<T>> candidates = lookupBeans(type);
+      final Iterator<SyncBeanDef<T>> iter = candidates.iterator();
+      while (iter.hasNext()) {
+        final SyncBeanDef<T> beanDef = iter.next();
+        if (!beanDef.matches(qualifierSet)) {
+          iter.remove();
+        }
       }
+      qualifiedResolution = new QualifiedResolution(resolution.jsVersion, (Collection) candidates);
+      qualifiedResolutions.put(lookup, qualifiedResolution);
     }
 
-    return candidates;
+    // Callers are free to modify the returned collection.
+    return new ArrayList<SyncBeanDef<T>>((Collection) qualifiedResolution.beanDefs);
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -253,6 +272,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBean(final SyncBeanDef<T> beanDef) {
+    clearResolutions();
     runtimeBeanDefsByName.put(beanDef.getType().getName(), beanDef);
     if (!beanDef.getType().getName().equals(beanDef.getBeanClass().getName())) {
       runtimeBeanDefsByName.put(beanDef.getBeanClass().getName(), beanDef);
@@ -264,6 +284,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBeanTypeAlias(final SyncBeanDef<T> beanDef, final Class<?> type) {
+    clearResolutions();
     runtimeBeanDefsByName.put(type.getName(), beanDef);
   }
 
@@ -274,6 +295,149 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     contextManager = null;
     handlesByName.clear();
     runtimeBeanDefsByName.clear();
+    clearResolutions();
+  }
+
+  /**
+   * The bean definitions resolved for a name. The runtime and IOC bean definitions only change when
+   * a factory or a bean definition is added, but the JS providers of the window injection context
+   * can change at any time, so they are checked on every lookup and their bean definitions are only
+   * created again when they change.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private final class Resolution {
+    private final String name;
+    private final List<SyncBeanDef<?>> beanDefs;
+    private final Set<String> beanDefFactoryNames = new HashSet<>();
+    private JsTypeProvider<?>[] jsProviders = new JsTypeProvider[0];
+    private List<SyncBeanDef<?>> jsBeanDefs = Collections.emptyList();
+    private List<SyncBeanDef<?>> jsBeanDefsWithDups = Collections.emptyList();
+    private int jsVersion;
+
+    private Resolution(final String name) {
+      this.name = name;
+      final Collection<FactoryHandle> handles = handlesByName.get(name);
+      final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
+      beanDefs = new ArrayList<>(handles.size()+runtimeBeanDefs.size());
+      beanDefs.addAll(runtimeBeanDefs);
+      for (final FactoryHandle handle : handles) {
+        if (handle.isAvailableByLookup()) {
+          beanDefs.add(new IOCBeanDefImplementation<>(handle, SyncBeanManagerImpl.this.<Object>getType(name, handle, handle.getActualType())));
+          beanDefFactoryNames.add(handle.getFactoryName());
+        }
+      }
+    }
+
+    private void updateJsProviders(final JsArray<JsTypeProvider<?>> providers) {
+      if (isSameJsProviders(providers)) {
+        return;
+      }
+      jsProviders = new JsTypeProvider[providers.length()];
+      jsBeanDefs = new ArrayList<>(providers.length());
+      jsBeanDefsWithDups = new ArrayList<>(providers.length());
+      for (int i = 0; i < providers.length(); i++) {
+        final JsTypeProvider<?> provider = providers.get(i);
+        jsProviders[i] = provider;
+        logger.debug("Found JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
+        final SyncBeanDef<?> beanDef = new JsTypeBeanDefImplementation(provider, name);
+        jsBeanDefsWithDups.add(beanDef);
+        if (provider.getFactoryName() == null || !beanDefFactoryNames.contains(provider.getFactoryName())) {
+          logger.debug("Keeping JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
+          jsBeanDefs.add(beanDef);
+        }
+        else {
+          logger.debug("Rejecting duplicate JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
+        }
+      }
+      jsVersion++;
+    }
+
+    private boolean isSameJsProviders(final JsArray<JsTypeProvider<?>> providers) {
+      if (providers.length() != jsProviders.length) {
+        return false;
+      }
+      for (int i = 0; i < jsProviders.length; i++) {
+        if (providers.get(i) != jsProviders[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private List<SyncBeanDef<?>> getJsBeanDefs(final boolean keepJsDups) {
+      return keepJsDups ? jsBeanDefsWithDups : jsBeanDefs;
+    }
+  }
+
+  /**
+   * The key of a lookup by type and qualifiers. Annotations are compared and hashed with
+   * {@link QualifierUtil#isEqual(Annotation, Annotation)} and {@link QualifierUtil#hashCodeOf(Annotation)},
+   * including their member values, so equal qualifiers created for each lookup still find the same
+   * resolution while qualifiers only differing by a member value do not.
+   */
+  private static final class QualifiedLookup {
+    private final String typeName;
+    private final Annotation[] qualifiers;
+    private final int hashCode;
+
+    private QualifiedLookup(final String typeName, final Annotation[] qualifiers) {
+      this.typeName = typeName;
+      this.qualifiers = qualifiers.clone();
+      int hashCode = typeName.hashCode();
+      for (final Annotation qualifier : qualifiers) {
+        hashCode += QualifierUtil.hashCodeOf(qualifier);
+      }
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof QualifiedLookup)) {
+        return false;
+      }
+      final QualifiedLookup other = (QualifiedLookup) obj;
+      return hashCode == other.hashCode
+              && typeName.equals(other.typeName)
+              && qualifiers.length == other.qualifiers.length
+              && containsAll(qualifiers, other.qualifiers)
+              && containsAll(other.qualifiers, qualifiers);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    private static boolean containsAll(final Annotation[] container, final Annotation[] contained) {
+      for (final Annotation annotation : contained) {
+        if (!contains(container, annotation)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean contains(final Annotation[] container, final Annotation annotation) {
+      for (final Annotation candidate : container) {
+        if (candidate == annotation || QualifierUtil.isEqual(candidate, annotation)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class QualifiedResolution {
+    private final int jsVersion;
+    private final List<SyncBeanDef<?>> beanDefs;
+
+    private QualifiedResolution(final int jsVersion, final Collection<SyncBeanDef<?>> beanDefs) {
+      this.jsVersion = jsVersion;
+      this.beanDefs = new ArrayList<>(beanDefs);
+    }
   }
 
   // TODO Find way to properly get scope, qualifiers, and assignable types.
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.errai.ioc.unit.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Named;
+
+import org.jboss.errai.ioc.client.JsArray;
+import org.jboss.errai.ioc.client.QualifierEqualityFactory;
+import org.jboss.errai.ioc.client.QualifierUtil;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.FactoryHandle;
+import org.jboss.errai.ioc.client.container.JsTypeProvider;
+import org.jboss.errai.ioc.client.container.SyncBeanManagerImpl;
+import org.jboss.errai.ioc.client.container.SyncBeanDef;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SyncBeanManagerImplTest {
+
+  private JsArray<JsTypeProvider<?>> jsProviders;
+  private SyncBeanManagerImpl beanManager;
+
+  @Before
+  public void setup() {
+    QualifierUtil.initFromFactoryProvider(() -> new MemberValueQualifierEqualityFactory());
+    jsProviders = jsProviders();
+    beanManager = new SyncBeanManagerImpl() {
+      @Override
+      protected JsArray<JsTypeProvider<?>> getJsProviders(final String name) {
+        return jsProviders;
+      }
+    };
+  }
+
+  @After
+  public void tearDown() {
+    QualifierUtil.initFromFactoryProvider(() -> null);
+  }
+
+  @Test
+  public void testLookupWithEqualQualifiersIsCached() {
+    final FactoryHandle handle = handle("a", QualifierUtil.createNamed("a"));
+    beanManager.setContextManager(contextManager(handle));
+
+    assertEquals(1, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+    assertEquals(1, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+
+    verify(handle, times(1)).getQualifiers();
+  }
+
+  @Test
+  public void testLookupWithDifferentQualifierMemberValues() {
+    final FactoryHandle a = handle("a", QualifierUtil.createNamed("a"));
+    final FactoryHandle b = handle("b", QualifierUtil.createNamed("b"));
+    beanManager.setContextManager(contextManager(a, b));
+
+    assertEquals("a", factoryNameOf(beanManager.lookupBean(Service.class, QualifierUtil.createNamed("a"))));
+    assertEquals("b", factoryNameOf(beanManager.lookupBean(Service.class, QualifierUtil.createNamed("b"))));
+    assertTrue(beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("c")).isEmpty());
+  }
+
+  @Test
+  public void testRegisterBeanInvalidatesLookups() {
+    beanManager.setContextManager(contextManager(handle("a", QualifierUtil.createNamed("a"))));
+    assertEquals(1, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+
+    final SyncBeanDef<Service> beanDef = beanDef();
+    beanManager.registerBean(beanDef);
+
+    final Collection<SyncBeanDef<Service>> beanDefs = beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a"));
+    assertEquals(2, beanDefs.size());
+    assertTrue(beanDefs.contains(beanDef));
+  }
+
+  @Test
+  public void testRegisterBeanTypeAliasInvalidatesLookups() {
+    beanManager.setContextManager(contextManager(handle("a", QualifierUtil.createNamed("a"))));
+    assertEquals(1, beanManager.lookupBeans(Alias.class, QualifierUtil.createNamed("a")).size());
+
+    final SyncBeanDef<Service> beanDef = beanDef();
+    beanManager.registerBeanTypeAlias(beanDef, Alias.class);
+
+    final Collection<SyncBeanDef<Alias>> beanDefs = beanManager.lookupBeans(Alias.class, QualifierUtil.createNamed("a"));
+    assertEquals(2, beanDefs.size());
+    assertTrue(beanDefs.contains(beanDef));
+  }
+
+  @Test
+  public void testResetAndAddFactoriesInvalidateLookups() {
+    beanManager.setContextManager(contextManager(handle("a", QualifierUtil.createNamed("a"))));
+    assertEquals("a", factoryNameOf(beanManager.lookupBean(Service.class, QualifierUtil.createNamed("a"))));
+
+    beanManager.reset();
+    assertTrue(beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).isEmpty());
+
+    beanManager.setContextManager(contextManager(handle("other", QualifierUtil.createNamed("a"))));
+    assertEquals("other", factoryNameOf(beanManager.lookupBean(Service.class, QualifierUtil.createNamed("a"))));
+  }
+
+  @Test
+  public void testJsProvidersChangesInvalidateLookups() {
+    beanManager.setContextManager(contextManager(handle("a", QualifierUtil.createNamed("a"))));
+    assertEquals(1, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+
+    final JsTypeProvider<?> provider = mock(JsTypeProvider.class);
+    jsProviders = jsProviders(provider);
+    assertEquals(2, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+
+    jsProviders = jsProviders(provider);
+    assertEquals(2, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+
+    jsProviders = jsProviders();
+    assertEquals(1, beanManager.lookupBeans(Service.class, QualifierUtil.createNamed("a")).size());
+  }
+
+  private static Object factoryNameOf(final SyncBeanDef<?> beanDef) {
+    assertSame(Service.class, beanDef.getType());
+    return beanDef.getInstance();
+  }
+
+  private static FactoryHandle handle(final String factoryName, final Annotation... qualifiers) {
+    final FactoryHandle handle = mock(FactoryHandle.class);
+    when(handle.getFactoryName()).thenReturn(factoryName);
+    when(handle.getQualifiers()).thenReturn(Arrays.asList(qualifiers));
+    when(handle.getAssignableTypes()).thenReturn(Arrays.asList(Service.class, Alias.class));
+    when(handle.getActualType()).thenReturn((Class) Service.class);
+    when(handle.getScope()).thenReturn((Class) Dependent.class);
+    when(handle.isAvailableByLookup()).thenReturn(true);
+    return handle;
+  }
+
+  private static ContextManager contextManager(final FactoryHandle... handles) {
+    final ContextManager contextManager = mock(ContextManager.class);
+    when(contextManager.getAllFactoryHandles()).thenReturn(Arrays.asList(handles));
+    for (final FactoryHandle handle : handles) {
+      final String factoryName = handle.getFactoryName();
+      when(contextManager.getInstance(factoryName)).thenReturn(factoryName);
+    }
+    return contextManager;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SyncBeanDef<Service> beanDef() {
+    final SyncBeanDef<Service> beanDef = mock(SyncBeanDef.class);
+    when(beanDef.getType()).thenReturn(Service.class);
+    when(beanDef.getBeanClass()).thenReturn((Class) Service.class);
+    when(beanDef.matches(any())).thenReturn(true);
+    return beanDef;
+  }
+
+  private static JsArray<JsTypeProvider<?>> jsProviders(final JsTypeProvider<?>... providers) {
+    return new JsArray<>(providers);
+  }
+
+  public interface Service {
+  }
+
+  public interface Alias {
+  }
+
+  /**
+   * Compares annotations by type and member values, as the generated factory does.
+   */
+  private static class MemberValueQualifierEqualityFactory implements QualifierEqualityFactory {
+
+    @Override
+    public boolean isEqual(final Annotation a1, final Annotation a2) {
+      if (!a1.annotationType().equals(a2.annotationType())) {
+        return false;
+      }
+      for (final Method member : a1.annotationType().getDeclaredMethods()) {
+        if (!valueOf(member, a1).equals(valueOf(member, a2))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCodeOf(final Annotation a1) {
+      int hash = a1.annotationType().hashCode();
+      for (final Method member : a1.annotationType().getDeclaredMethods()) {
+        hash = (31 * hash) + valueOf(member, a1).hashCode();
+      }
+      return hash;
+    }
+
+    private static Object valueOf(final Method member, final Annotation annotation) {
+      try {
+        return member.invoke(annotation);
+      } catch (final ReflectiveOperationException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
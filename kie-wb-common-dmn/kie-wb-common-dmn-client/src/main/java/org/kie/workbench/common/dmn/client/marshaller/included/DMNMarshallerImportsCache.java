@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.included;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.kie.workbench.common.dmn.api.editors.included.PMMLDocumentMetadata;
+import org.kie.workbench.common.dmn.client.marshaller.common.JsInteropUtils;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
+
+/**
+ * Caches the parsed DMN definitions and PMML documents of the workspace files, so opening a model
+ * does not parse again the files that have not changed since they were last parsed.
+ * <p>
+ * The entries are kept by file path along with the file content they were parsed from, and they are
+ * discarded as soon as the content changes. The cache is application scoped, so it is
+ * shared by all the editor sessions.
+ */
+@ApplicationScoped
+public class DMNMarshallerImportsCache {
+
+    private final Map<String, Entry<JSITDefinitions>> dmnDefinitions = new HashMap<>();
+
+    private final Map<String, Entry<PMMLDocumentMetadata>> pmmlDocuments = new HashMap<>();
+
+    public Optional<JSITDefinitions> getDMNDefinitions(final String path,
+                                                       final String content) {
+        return get(dmnDefinitions, path, content).map(this::copy);
+    }
+
+    public void putDMNDefinitions(final String path,
+                                  final String content,
+                                  final JSITDefinitions definitions) {
+        dmnDefinitions.put(path, new Entry<>(content, copy(definitions)));
+    }
+
+    public Optional<PMMLDocumentMetadata> getPMMLDocumentMetadata(final String path,
+                                                                  final String content) {
+        return get(pmmlDocuments, path, content);
+    }
+
+    public void putPMMLDocumentMetadata(final String path,
+                                        final String content,
+                                        final PMMLDocumentMetadata documentMetadata) {
+        pmmlDocuments.put(path, new Entry<>(content, documentMetadata));
+    }
+
+    /**
+     * Discards the DMN definitions of the files that are not in the workspace anymore.
+     */
+    public void retainDMNFiles(final Collection<String> paths) {
+        dmnDefinitions.keySet().retainAll(paths);
+    }
+
+    /**
+     * Discards the PMML documents of the files that are not in the workspace anymore.
+     */
+    public void retainPMMLFiles(final Collection<String> paths) {
+        pmmlDocuments.keySet().retainAll(paths);
+    }
+
+    public void clear() {
+        dmnDefinitions.clear();
+        pmmlDocuments.clear();
+    }
+
+    /**
+     * The imported definitions are modified in place when their elements are imported into a model,
+     * so the cache keeps its own copy and hands out copies of it.
+     */
+    JSITDefinitions copy(final JSITDefinitions definitions) {
+        return JsInteropUtils.jsCopy(definitions);
+    }
+
+    private static <T> Optional<T> get(final Map<String, Entry<T>> entries,
+                                       final String path,
+                                       final String content) {
+        final Entry<T> entry = entries.get(path);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.isParsedFrom(content)) {
+            entries.remove(path);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    private static class Entry<T> {
+
+        private final String content;
+        private final T value;
+
+        private Entry(final String content,
+                      final T value) {
+            this.content = content;
+            this.value = value;
+        }
+
+        /**
+         * The whole content is compared, as different contents may have the same length and hash.
+         */
+        private boolean isParsedFrom(final String content) {
+            return this.content.equals(content);
+        }
+    }
+}
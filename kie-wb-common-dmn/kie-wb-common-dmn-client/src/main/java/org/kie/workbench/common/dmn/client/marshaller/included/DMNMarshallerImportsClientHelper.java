@@ -71,6 +71,7 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     private final DMNMarshallerImportsContentService dmnImportsContentService;
     private final Promises promises;
     private final DMNIncludedNodeFactory includedModelFactory;
+    private final DMNMarshallerImportsCache importsCache;
 
     private static final Logger LOGGER = Logger.getLogger(DMNMarshallerImportsClientHelper.class.getName());
 
@@ -78,11 +79,13 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     public DMNMarshallerImportsClientHelper(final DMNMarshallerImportsService dmnImportsService,
                                             final DMNMarshallerImportsContentService dmnImportsContentService,
                                             final Promises promises,
-                                            final DMNIncludedNodeFactory includedModelFactory) {
+                                            final DMNIncludedNodeFactory includedModelFactory,
+                                            final DMNMarshallerImportsCache importsCache) {
         this.dmnImportsService = dmnImportsService;
         this.dmnImportsContentService = dmnImportsContentService;
         this.promises = promises;
         this.includedModelFactory = includedModelFactory;
+        this.importsCache = importsCache;
     }
 
     public Promise<Map<JSITImport, JSITDefinitions>> getImportDefinitionsAsync(final Metadata metadata,
@@ -106,6 +109,7 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     private Promise<Map<String, JSITDefinitions>> loadDMNDefinitions() {
         return dmnImportsContentService.getModelsDMNFilesURIs()
                 .then(list -> {
+                    importsCache.retainDMNFiles(Arrays.asList(list));
                     if (list.length == 0) {
                         return promises.resolve(Collections.emptyMap());
                     } else {
@@ -227,22 +231,30 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
                                                  final Map<String, JSITDefinitions> otherDefinitions) {
         return dmnImportsContentService.loadFile(file)
                 .then(xml -> promises.create((success, failure) -> {
-                    if (!isEmpty(xml)) {
-                        final ServiceCallback<JSITDefinitions> callback = Js.uncheckedCast(getCallback(file, otherDefinitions, success));
-                        dmnImportsService.getDMNDefinitions(xml, callback);
-                    } else {
+                    if (isEmpty(xml)) {
                         success.onInvoke(promises.resolve());
+                        return;
+                    }
+                    final Optional<JSITDefinitions> cached = importsCache.getDMNDefinitions(file, xml);
+                    if (cached.isPresent()) {
+                        otherDefinitions.put(file, cached.get());
+                        success.onInvoke(promises.resolve());
+                    } else {
+                        final ServiceCallback<JSITDefinitions> callback = Js.uncheckedCast(getCallback(file, xml, otherDefinitions, success));
+                        dmnImportsService.getDMNDefinitions(xml, callback);
                     }
                 }));
     }
 
     private ServiceCallback<Object> getCallback(final String filePath,
+                                                final String xml,
                                                 final Map<String, JSITDefinitions> otherDefinitions,
                                                 final Promise.PromiseExecutorCallbackFn.ResolveCallbackFn<Void> success) {
         return new ServiceCallback<Object>() {
             @Override
             public void onSuccess(final Object item) {
                 final JSITDefinitions def = Js.uncheckedCast(item);
+                importsCache.putDMNDefinitions(filePath, xml, def);
                 otherDefinitions.put(filePath, def);
                 success.onInvoke(promises.resolve());
             }
@@ -299,6 +311,7 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     private Promise<Map<String, PMMLDocumentMetadata>> loadPMMLDefinitions() {
         return dmnImportsContentService.getModelsPMMLFilesURIs().
                 then(files -> {
+                    importsCache.retainPMMLFiles(Arrays.asList(files));
                     if (files.length == 0) {
                         return promises.resolve(Collections.emptyMap());
                     } else {
@@ -311,10 +324,21 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
 
     private Promise<Void> loadPMMLDefinitionFromFile(final String file,
                                                      final Map<String, PMMLDocumentMetadata> definitions) {
-        return dmnImportsContentService.getPMMLDocumentMetadata(file)
-                .then(pmmlDocumentMetadata -> {
-                    definitions.put(file, pmmlDocumentMetadata);
-                    return promises.resolve();
+        return dmnImportsContentService.loadFile(file)
+                .then(content -> {
+                    final Optional<PMMLDocumentMetadata> cached = isEmpty(content) ? Optional.empty() : importsCache.getPMMLDocumentMetadata(file, content);
+                    if (cached.isPresent()) {
+                        definitions.put(file, cached.get());
+                        return promises.resolve();
+                    }
+                    return dmnImportsContentService.getPMMLDocumentMetadata(file)
+                            .then(pmmlDocumentMetadata -> {
+                                if (!isEmpty(content)) {
+                                    importsCache.putPMMLDocumentMetadata(file, content, pmmlDocumentMetadata);
+                                }
+                                definitions.put(file, pmmlDocumentMetadata);
+                                return promises.resolve();
+                            });
                 });
     }
 
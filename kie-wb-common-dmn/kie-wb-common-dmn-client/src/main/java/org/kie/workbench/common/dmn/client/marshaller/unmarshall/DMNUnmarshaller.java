@@ -107,11 +107,15 @@ public class DMNUnmarshaller {
     public Promise<Graph> unmarshall(final Metadata metadata,
                                      final JSITDefinitions jsiDefinitions) {
 
-        return getImportDefinitions(metadata, jsiDefinitions)
-                .then(importDefinitions -> getPMMLDocuments(metadata, jsiDefinitions)
+        // DMN and PMML imports are independent, so both are resolved at the same time.
+        final Promise<Map<JSITImport, JSITDefinitions>> importDefinitions = getImportDefinitions(metadata, jsiDefinitions);
+        final Promise<Map<JSITImport, PMMLDocumentMetadata>> pmmlDocuments = getPMMLDocuments(metadata, jsiDefinitions);
+
+        return importDefinitions
+                .then(definitions -> pmmlDocuments
                         .then(pmmlDocumentMetadata -> unmarshall(metadata,
                                                                  jsiDefinitions,
-                                                                 importDefinitions,
+                                                                 definitions,
                                                                  pmmlDocumentMetadata)));
     }
 
@@ -206,30 +210,45 @@ public class DMNUnmarshaller {
 
         //Copy ComponentWidths information
         final List<JSITComponentsWidthsExtension> extensions = findComponentsWidthsExtensions(dmnDefinitions.getDMNDI().getDMNDiagram());
+        restoreComponentWidths(extensions, hasComponentWidthsMap);
+
+        return promises.resolve(drgGraph);
+    }
+
+    void restoreComponentWidths(final List<JSITComponentsWidthsExtension> extensions,
+                                final Map<String, HasComponentWidths> hasComponentWidthsMap) {
+        // Index the widths by element reference once, instead of scanning them for every expression.
+        // When an element has more than one entry the last one wins, as it did with the nested scans.
+        final Map<String, JSITComponentWidths> componentWidthsByRef = new HashMap<>();
         extensions.forEach(componentsWidthsExtension -> {
             //This condition is required because a node with ComponentsWidthsExtension
             //can be imported from another diagram but the extension is not imported or present in this diagram.
-            if (Objects.nonNull(componentsWidthsExtension.getComponentWidths())) {
-                hasComponentWidthsMap.entrySet().forEach(es -> {
-                    final List<JSITComponentWidths> jsiComponentWidths = componentsWidthsExtension.getComponentWidths();
-                    for (int i = 0; i < jsiComponentWidths.size(); i++) {
-                        final JSITComponentWidths jsiWidths = Js.uncheckedCast(jsiComponentWidths.get(i));
-                        if (Objects.equals(jsiWidths.getDmnElementRef(), es.getKey())) {
-                            final List<Double> widths = es.getValue().getComponentWidths();
-                            if (Objects.nonNull(jsiWidths.getWidth())) {
-                                widths.clear();
-                                for (int w = 0; w < jsiWidths.getWidth().size(); w++) {
-                                    final double width = jsiWidths.getWidth().get(w).doubleValue();
-                                    widths.add(width);
-                                }
-                            }
-                        }
+            final List<JSITComponentWidths> jsiComponentWidths = componentsWidthsExtension.getComponentWidths();
+            if (Objects.nonNull(jsiComponentWidths)) {
+                for (int i = 0; i < jsiComponentWidths.size(); i++) {
+                    final JSITComponentWidths jsiWidths = Js.uncheckedCast(jsiComponentWidths.get(i));
+                    if (Objects.nonNull(jsiWidths.getDmnElementRef()) && Objects.nonNull(jsiWidths.getWidth())) {
+                        componentWidthsByRef.put(jsiWidths.getDmnElementRef(), jsiWidths);
                     }
-                });
+                }
             }
         });
 
-        return promises.resolve(drgGraph);
+        if (componentWidthsByRef.isEmpty()) {
+            return;
+        }
+
+        hasComponentWidthsMap.forEach((uuid, hasComponentWidths) -> {
+            final JSITComponentWidths jsiWidths = componentWidthsByRef.get(uuid);
+            if (Objects.nonNull(jsiWidths)) {
+                final List<Double> widths = hasComponentWidths.getComponentWidths();
+                widths.clear();
+                for (int w = 0; w < jsiWidths.getWidth().size(); w++) {
+                    final double width = jsiWidths.getWidth().get(w).doubleValue();
+                    widths.add(width);
+                }
+            }
+        });
     }
 
     private void ensureDRGElementExists(final JSITDefinitions dmnDefinitions) {
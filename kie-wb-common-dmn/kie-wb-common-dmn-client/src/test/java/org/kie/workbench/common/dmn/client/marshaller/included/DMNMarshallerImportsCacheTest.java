@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.dmn.client.marshaller.included;
+
+import java.util.Collections;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.api.editors.included.PMMLDocumentMetadata;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class DMNMarshallerImportsCacheTest {
+
+    private static final String PATH = "/src/model.dmn";
+
+    private static final String CONTENT = "<dmn:definitions name=\"Aa\"/>";
+
+    /**
+     * Same length and {@link String#hashCode()} as {@link #CONTENT}.
+     */
+    private static final String COLLIDING_CONTENT = "<dmn:definitions name=\"BB\"/>";
+
+    private DMNMarshallerImportsCache cache;
+
+    @Before
+    public void setup() {
+        cache = spy(new DMNMarshallerImportsCache());
+        doAnswer(invocation -> invocation.getArgument(0)).when(cache).copy(any());
+    }
+
+    @Test
+    public void testGetDMNDefinitions() {
+        final JSITDefinitions definitions = mock(JSITDefinitions.class);
+        cache.putDMNDefinitions(PATH, CONTENT, definitions);
+
+        assertEquals(definitions, cache.getDMNDefinitions(PATH, new String(CONTENT)).get());
+    }
+
+    @Test
+    public void testGetDMNDefinitionsWhenContentChanged() {
+        cache.putDMNDefinitions(PATH, CONTENT, mock(JSITDefinitions.class));
+
+        assertFalse(cache.getDMNDefinitions(PATH, CONTENT + " ").isPresent());
+        assertFalse(cache.getDMNDefinitions(PATH, CONTENT).isPresent());
+    }
+
+    @Test
+    public void testGetDMNDefinitionsWhenContentHashCollides() {
+        assertEquals(CONTENT.length(), COLLIDING_CONTENT.length());
+        assertEquals(CONTENT.hashCode(), COLLIDING_CONTENT.hashCode());
+        cache.putDMNDefinitions(PATH, CONTENT, mock(JSITDefinitions.class));
+
+        assertFalse(cache.getDMNDefinitions(PATH, COLLIDING_CONTENT).isPresent());
+    }
+
+    @Test
+    public void testGetPMMLDocumentMetadataWhenContentHashCollides() {
+        final PMMLDocumentMetadata metadata = mock(PMMLDocumentMetadata.class);
+        cache.putPMMLDocumentMetadata(PATH, CONTENT, metadata);
+
+        assertFalse(cache.getPMMLDocumentMetadata(PATH, COLLIDING_CONTENT).isPresent());
+
+        cache.putPMMLDocumentMetadata(PATH, CONTENT, metadata);
+        assertEquals(metadata, cache.getPMMLDocumentMetadata(PATH, CONTENT).get());
+    }
+
+    @Test
+    public void testRetainDMNFiles() {
+        cache.putDMNDefinitions(PATH, CONTENT, mock(JSITDefinitions.class));
+        cache.retainDMNFiles(Collections.singletonList("/src/other.dmn"));
+
+        assertFalse(cache.getDMNDefinitions(PATH, CONTENT).isPresent());
+    }
+}
@@ -30,6 +30,7 @@ import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.api.editors.included.IncludedModel;
 import org.kie.workbench.common.dmn.api.editors.included.PMMLDocumentMetadata;
 import org.kie.workbench.common.dmn.api.editors.included.PMMLIncludedModel;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITImport;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
@@ -42,14 +43,17 @@ import org.uberfire.promise.SyncPromises;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.kie.workbench.common.dmn.api.editors.included.DMNImportTypes.PMML;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -95,15 +99,20 @@ public class DMNMarshallerImportsClientHelperTest {
 
     private Promises promises;
 
+    private DMNMarshallerImportsCache importsCache;
+
     private DMNMarshallerImportsClientHelper importsHelper;
 
     @Before
     public void setup() {
         promises = new SyncPromises();
+        importsCache = spy(new DMNMarshallerImportsCache());
+        doAnswer(invocation -> invocation.getArgument(0)).when(importsCache).copy(any());
         importsHelper = new DMNMarshallerImportsClientHelper(dmnImportsService,
                                                              dmnImportsContentService,
                                                              promises,
-                                                             includedModelFactory);
+                                                             includedModelFactory,
+                                                             importsCache);
     }
 
     @Test
@@ -211,6 +220,74 @@ public class DMNMarshallerImportsClientHelperTest {
         });
     }
 
+    @Test
+    public void getImportDefinitionsAsyncParsesUnchangedFilesOnce() {
+        final JSITDefinitions definitions = mock(JSITDefinitions.class);
+        final List<JSITImport> imports = singletonList(mock(JSITImport.class));
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[]{DMN_PATH}));
+        when(dmnImportsContentService.loadFile(DMN_PATH)).thenReturn(promises.resolve(DMN_CONTENT));
+        doAnswer(invocation -> {
+            final ServiceCallback<Object> callback = invocation.getArgument(1);
+            callback.onSuccess(definitions);
+            return null;
+        }).when(dmnImportsService).getDMNDefinitions(eq(DMN_CONTENT), any());
+
+        importsHelper.getImportDefinitionsAsync(metadataMock, imports);
+        importsHelper.getImportDefinitionsAsync(metadataMock, imports);
+
+        verify(dmnImportsContentService, times(2)).loadFile(DMN_PATH);
+        verify(dmnImportsService, times(1)).getDMNDefinitions(eq(DMN_CONTENT), any());
+        assertEquals(definitions, importsCache.getDMNDefinitions(DMN_PATH, DMN_CONTENT).get());
+    }
+
+    @Test
+    public void getImportDefinitionsAsyncParsesChangedFilesAgain() {
+        final String changedContent = DMN_CONTENT + " ";
+        final List<JSITImport> imports = singletonList(mock(JSITImport.class));
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[]{DMN_PATH}));
+        when(dmnImportsContentService.loadFile(DMN_PATH)).thenReturn(promises.resolve(DMN_CONTENT), promises.resolve(changedContent));
+        doAnswer(invocation -> {
+            final ServiceCallback<Object> callback = invocation.getArgument(1);
+            callback.onSuccess(mock(JSITDefinitions.class));
+            return null;
+        }).when(dmnImportsService).getDMNDefinitions(any(), any());
+
+        importsHelper.getImportDefinitionsAsync(metadataMock, imports);
+        importsHelper.getImportDefinitionsAsync(metadataMock, imports);
+
+        verify(dmnImportsService).getDMNDefinitions(eq(DMN_CONTENT), any());
+        verify(dmnImportsService).getDMNDefinitions(eq(changedContent), any());
+        assertFalse(importsCache.getDMNDefinitions(DMN_PATH, DMN_CONTENT).isPresent());
+    }
+
+    @Test
+    public void getImportDefinitionsAsyncDiscardsRemovedFiles() {
+        importsCache.putDMNDefinitions(DMN_PATH, DMN_CONTENT, mock(JSITDefinitions.class));
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[0]));
+
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(mock(JSITImport.class)));
+
+        assertFalse(importsCache.getDMNDefinitions(DMN_PATH, DMN_CONTENT).isPresent());
+    }
+
+    @Test
+    public void getPMMLDocumentsAsyncParsesUnchangedFilesOnce() {
+        final PMMLDocumentMetadata pmmlDocumentMetadata = new PMMLDocumentMetadata(PMML_PATH,
+                                                                                   PMML_FILE,
+                                                                                   PMML.getDefaultNamespace(),
+                                                                                   Collections.emptyList());
+        final List<JSITImport> imports = singletonList(mock(JSITImport.class));
+        when(dmnImportsContentService.getModelsPMMLFilesURIs()).thenReturn(promises.resolve(new String[]{PMML_PATH}));
+        when(dmnImportsContentService.loadFile(PMML_PATH)).thenReturn(promises.resolve(PMML_CONTENT));
+        doReturn(promises.resolve(pmmlDocumentMetadata)).when(dmnImportsContentService).getPMMLDocumentMetadata(PMML_PATH);
+
+        importsHelper.getPMMLDocumentsAsync(metadataMock, imports);
+        importsHelper.getPMMLDocumentsAsync(metadataMock, imports);
+
+        verify(dmnImportsContentService, times(1)).getPMMLDocumentMetadata(PMML_PATH);
+        assertEquals(pmmlDocumentMetadata, importsCache.getPMMLDocumentMetadata(PMML_PATH, PMML_CONTENT).get());
+    }
+
     @Test
     public void getPMMLDocumentsMetadataFromFilesEmptyFiles() {
         importsHelper.getPMMLDocumentsMetadataFromFiles(Collections.emptyList(), pmmlMetadataServiceCallback);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.unmarshall;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.api.definition.HasComponentWidths;
+import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramsSession;
+import org.kie.workbench.common.dmn.client.marshaller.common.DMNDiagramElementsUtils;
+import org.kie.workbench.common.dmn.client.marshaller.included.DMNMarshallerImportsClientHelper;
+import org.kie.workbench.common.dmn.client.marshaller.unmarshall.nodes.NodeEntriesFactory;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentsWidthsExtension;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.uberfire.promise.SyncPromises;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the time to restore the component widths of 1,000, 5,000 and 20,000 boxed expressions when
+ * unmarshalling. The widths are spread over several DMNDI extensions, as they are for diagrams with many DRDs,
+ * and every expression must get its widths back.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=DMNUnmarshallerBenchmarkTest</code>
+ * </p>
+ */
+@RunWith(GwtMockitoTestRunner.class)
+public class DMNUnmarshallerBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(DMNUnmarshallerBenchmarkTest.class.getName());
+
+    private static final int[] SIZES = {1_000, 5_000, 20_000};
+
+    private static final int EXTENSIONS = 10;
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int ROUNDS = 10;
+
+    private final DMNUnmarshaller dmnUnmarshaller = new DMNUnmarshaller(mock(FactoryManager.class),
+                                                                        mock(DMNMarshallerImportsClientHelper.class),
+                                                                        new SyncPromises(),
+                                                                        mock(NodeEntriesFactory.class),
+                                                                        mock(DMNDiagramElementsUtils.class),
+                                                                        mock(DMNDiagramsSession.class));
+
+    @Test
+    public void benchmark() {
+        for (final int size : SIZES) {
+            final List<JSITComponentsWidthsExtension> extensions = makeExtensions(size);
+            long nanos = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                final Map<String, HasComponentWidths> hasComponentWidthsMap = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    hasComponentWidthsMap.put("uuid" + i, new ComponentWidths());
+                }
+
+                final long start = System.nanoTime();
+                dmnUnmarshaller.restoreComponentWidths(extensions, hasComponentWidthsMap);
+                final long elapsed = System.nanoTime() - start;
+                if (round >= WARMUP_ROUNDS) {
+                    nanos += elapsed;
+                }
+
+                for (int i = 0; i < size; i++) {
+                    assertEquals(Arrays.asList(50.0, (double) i), hasComponentWidthsMap.get("uuid" + i).getComponentWidths());
+                }
+            }
+
+            LOGGER.info(String.format("%d expressions: widths restored in %.3f ms",
+                                      size,
+                                      nanos / (ROUNDS * 1e6)));
+        }
+    }
+
+    private static List<JSITComponentsWidthsExtension> makeExtensions(final int size) {
+        final List<JSITComponentsWidthsExtension> extensions = new ArrayList<>();
+        for (int e = 0; e < EXTENSIONS; e++) {
+            final List<JSITComponentWidths> jsiComponentWidths = new ArrayList<>();
+            for (int i = e; i < size; i += EXTENSIONS) {
+                final JSITComponentWidths componentWidths = mock(JSITComponentWidths.class, withSettings().stubOnly());
+                when(componentWidths.getDmnElementRef()).thenReturn("uuid" + i);
+                when(componentWidths.getWidth()).thenReturn(Arrays.asList(50.0f, (float) i));
+                jsiComponentWidths.add(componentWidths);
+            }
+            final JSITComponentsWidthsExtension extension = mock(JSITComponentsWidthsExtension.class, withSettings().stubOnly());
+            when(extension.getComponentWidths()).thenReturn(jsiComponentWidths);
+            extensions.add(extension);
+        }
+        return extensions;
+    }
+
+    private static class ComponentWidths implements HasComponentWidths {
+
+        private final List<Double> componentWidths = new ArrayList<>(Arrays.asList(100.0, 100.0));
+
+        @Override
+        public List<Double> getComponentWidths() {
+            return componentWidths;
+        }
+
+        @Override
+        public int getRequiredComponentWidthCount() {
+            return 2;
+        }
+    }
+}
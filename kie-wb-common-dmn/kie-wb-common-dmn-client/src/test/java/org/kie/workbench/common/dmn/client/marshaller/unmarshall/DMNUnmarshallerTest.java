@@ -17,26 +17,34 @@
 package org.kie.workbench.common.dmn.client.marshaller.unmarshall;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.api.definition.HasComponentWidths;
 import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramsSession;
 import org.kie.workbench.common.dmn.client.marshaller.common.DMNDiagramElementsUtils;
 import org.kie.workbench.common.dmn.client.marshaller.included.DMNMarshallerImportsClientHelper;
 import org.kie.workbench.common.dmn.client.marshaller.unmarshall.nodes.NodeEntriesFactory;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITImport;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentsWidthsExtension;
 import org.kie.workbench.common.stunner.core.api.FactoryManager;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.mockito.Mock;
 import org.uberfire.client.promise.Promises;
 import org.uberfire.promise.SyncPromises;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -94,4 +102,76 @@ public class DMNUnmarshallerTest {
         verify(dmnMarshallerImportsHelper, times(1)).getImportDefinitionsAsync(eq(metadata), eq(imports));
         verify(dmnMarshallerImportsHelper, times(1)).getPMMLDocumentsAsync(eq(metadata), eq(imports));
     }
+
+    @Test
+    public void unmarshallRequestsPMMLDocumentsWhileImportDefinitionsArePending() {
+        when(dmnMarshallerImportsHelper.getImportDefinitionsAsync(eq(metadata), eq(imports))).thenReturn(promises.create((success, failure) -> {
+        }));
+        dmnUnmarshaller.unmarshall(metadata, jsitDefinitions);
+        verify(dmnMarshallerImportsHelper, times(1)).getPMMLDocumentsAsync(eq(metadata), eq(imports));
+    }
+
+    @Test
+    public void restoreComponentWidths() {
+        final HasComponentWidths hasComponentWidths1 = makeHasComponentWidths(50.0);
+        final HasComponentWidths hasComponentWidths2 = makeHasComponentWidths(60.0);
+        final HasComponentWidths hasComponentWidths3 = makeHasComponentWidths(70.0);
+        final Map<String, HasComponentWidths> hasComponentWidthsMap = new HashMap<>();
+        hasComponentWidthsMap.put("uuid1", hasComponentWidths1);
+        hasComponentWidthsMap.put("uuid2", hasComponentWidths2);
+        hasComponentWidthsMap.put("uuid3", hasComponentWidths3);
+
+        final JSITComponentsWidthsExtension extension1 = makeExtension(makeComponentWidths("uuid1", Arrays.asList(100.0f, 200.0f)),
+                                                                       makeComponentWidths("uuid2", Collections.singletonList(300.0f)));
+        final JSITComponentsWidthsExtension extension2 = makeExtension(makeComponentWidths("uuid2", Collections.singletonList(400.0f)),
+                                                                       makeComponentWidths("uuid3", null));
+        final JSITComponentsWidthsExtension extension3 = mock(JSITComponentsWidthsExtension.class);
+
+        dmnUnmarshaller.restoreComponentWidths(Arrays.asList(extension1, extension2, extension3), hasComponentWidthsMap);
+
+        assertEquals(Arrays.asList(100.0, 200.0), hasComponentWidths1.getComponentWidths());
+        assertEquals(Collections.singletonList(400.0), hasComponentWidths2.getComponentWidths());
+        assertEquals(Collections.singletonList(70.0), hasComponentWidths3.getComponentWidths());
+    }
+
+    @Test
+    public void restoreComponentWidthsReadsEachEntryOnce() {
+        final int expressions = 100;
+        final Map<String, HasComponentWidths> hasComponentWidthsMap = new HashMap<>();
+        final List<JSITComponentWidths> jsiComponentWidths = new ArrayList<>();
+        for (int i = 0; i < expressions; i++) {
+            hasComponentWidthsMap.put("uuid" + i, makeHasComponentWidths(50.0));
+            jsiComponentWidths.add(makeComponentWidths("uuid" + i, Collections.singletonList((float) i)));
+        }
+        final JSITComponentsWidthsExtension extension = mock(JSITComponentsWidthsExtension.class);
+        when(extension.getComponentWidths()).thenReturn(jsiComponentWidths);
+
+        dmnUnmarshaller.restoreComponentWidths(Collections.singletonList(extension), hasComponentWidthsMap);
+
+        for (int i = 0; i < expressions; i++) {
+            assertEquals(Collections.singletonList((double) i), hasComponentWidthsMap.get("uuid" + i).getComponentWidths());
+        }
+        // Every entry is read once when indexing, not once per expression.
+        verify(jsiComponentWidths.get(expressions - 1), atMost(2)).getDmnElementRef();
+    }
+
+    private static HasComponentWidths makeHasComponentWidths(final Double width) {
+        final HasComponentWidths hasComponentWidths = mock(HasComponentWidths.class);
+        when(hasComponentWidths.getComponentWidths()).thenReturn(new ArrayList<>(Collections.singletonList(width)));
+        return hasComponentWidths;
+    }
+
+    private static JSITComponentsWidthsExtension makeExtension(final JSITComponentWidths... componentWidths) {
+        final JSITComponentsWidthsExtension extension = mock(JSITComponentsWidthsExtension.class);
+        when(extension.getComponentWidths()).thenReturn(Arrays.asList(componentWidths));
+        return extension;
+    }
+
+    private static JSITComponentWidths makeComponentWidths(final String dmnElementRef,
+                                                           final List<Float> widths) {
+        final JSITComponentWidths componentWidths = mock(JSITComponentWidths.class);
+        when(componentWidths.getDmnElementRef()).thenReturn(dmnElementRef);
+        when(componentWidths.getWidth()).thenReturn(widths);
+        return componentWidths;
+    }
 }
@@ -25,7 +25,10 @@ import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.IPrimitive;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.shape.storage.PrimitiveSpatialIndexStorageEngine;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import org.kie.workbench.common.stunner.core.client.canvas.TransformImpl;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.uberfire.mvp.Command;
@@ -41,6 +44,13 @@ public class LienzoLayer {
 
         private boolean skipDraw = false;
 
+        LienzoCustomLayer() {
+            // Only the shapes visible through the viewport are drawn.
+            setStorageEngine(new PrimitiveSpatialIndexStorageEngine());
+            // Shapes are only looked up at a point on mouse events.
+            setSelectionLayerOnDemand(true);
+        }
+
         @Override
         public Layer draw(final Context2D context) {
             if (skipDraw) {
@@ -48,6 +58,14 @@ public class LienzoLayer {
             }
             return super.draw(context);
         }
+
+        @Override
+        public Layer draw(final NFastArrayList<BoundingBox> regions) {
+            if (skipDraw) {
+                return this;
+            }
+            return super.draw(regions);
+        }
     }
 
     public void setSkipDraw(final boolean skipDraw) {
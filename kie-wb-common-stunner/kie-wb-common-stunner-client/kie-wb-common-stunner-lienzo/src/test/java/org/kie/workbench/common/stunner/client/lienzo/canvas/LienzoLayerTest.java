@@ -74,6 +74,13 @@ public class LienzoLayerTest {
         this.tested = new LienzoLayer(layer);
     }
 
+    @Test
+    public void testLayerIsSpatiallyIndexed() {
+        final LienzoCustomLayer customLayer = new LienzoCustomLayer();
+        assertTrue(customLayer.getStorageEngine().isSpatiallyIndexed());
+        assertTrue(customLayer.isSelectionLayerOnDemand());
+    }
+
     @Test
     public void testAdd() {
         tested.add(shape);
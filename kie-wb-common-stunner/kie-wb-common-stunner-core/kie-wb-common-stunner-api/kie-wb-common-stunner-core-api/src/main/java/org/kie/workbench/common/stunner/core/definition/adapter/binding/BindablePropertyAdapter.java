@@ -16,9 +16,23 @@
 
 package org.kie.workbench.common.stunner.core.definition.adapter.binding;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
 
 public interface BindablePropertyAdapter<T, V> extends PropertyAdapter<T, V> {
 
     void addBinding(Class<?> type, String valueField);
+
+    /**
+     * Binds the value field of the given property type, along with its accessors, if any, so the value is
+     * read and written by them rather than by the adapter functions.
+     */
+    default void addBinding(Class<?> type,
+                            String valueField,
+                            Function<Object, Object> valueGetter,
+                            BiConsumer<Object, Object> valueSetter) {
+        addBinding(type, valueField);
+    }
 }
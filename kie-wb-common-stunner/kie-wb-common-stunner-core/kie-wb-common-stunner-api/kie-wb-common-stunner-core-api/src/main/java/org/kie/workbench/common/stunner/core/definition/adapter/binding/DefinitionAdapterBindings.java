@@ -16,8 +16,13 @@
 
 package org.kie.workbench.common.stunner.core.definition.adapter.binding;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class DefinitionAdapterBindings {
@@ -32,8 +37,14 @@ public class DefinitionAdapterBindings {
     private List<String> propertiesFieldNames;
     private List<Boolean> typedPropertyFields;
     private PropertyMetaTypes metaTypes;
+    private Map<String, Integer> propertyIndexes;
+    private final Map<String, Integer> fieldIndexes;
+    private final List<Function<Object, Object>> fieldGetters;
 
     public DefinitionAdapterBindings() {
+        this.propertyIndexes = Collections.emptyMap();
+        this.fieldIndexes = new HashMap<>();
+        this.fieldGetters = new ArrayList<>();
         this.baseType = Object.class;
     }
 
@@ -115,9 +126,51 @@ public class DefinitionAdapterBindings {
 
     public DefinitionAdapterBindings setPropertiesFieldNames(List<String> propertiesFieldNames) {
         this.propertiesFieldNames = propertiesFieldNames;
+        this.propertyIndexes = new HashMap<>();
+        if (null != propertiesFieldNames) {
+            for (int i = 0; i < propertiesFieldNames.size(); i++) {
+                propertyIndexes.putIfAbsent(propertiesFieldNames.get(i), i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the index of the given field in the properties field names, or -1 if it is not a property field.
+     */
+    public int getPropertyIndex(String field) {
+        final Integer index = propertyIndexes.get(field);
+        return null != index ? index : -1;
+    }
+
+    /**
+     * Registers a getter for the given field, so its value can be read without going through the
+     * adapter functions. The getters are generated along with the bindings, for the fields that
+     * expose a public accessor.
+     */
+    public DefinitionAdapterBindings addFieldGetter(String field, Function<Object, Object> getter) {
+        final Integer index = fieldIndexes.get(field);
+        if (null != index) {
+            fieldGetters.set(index, getter);
+        } else {
+            fieldIndexes.put(field, fieldGetters.size());
+            fieldGetters.add(getter);
+        }
         return this;
     }
 
+    /**
+     * Returns the index of the getter for the given field, or -1 if there is no getter for it.
+     */
+    public int getFieldIndex(String field) {
+        final Integer index = fieldIndexes.get(field);
+        return null != index ? index : -1;
+    }
+
+    public Function<Object, Object> getFieldGetter(int index) {
+        return fieldGetters.get(index);
+    }
+
     public List<Boolean> getTypedPropertyFields() {
         return typedPropertyFields;
     }
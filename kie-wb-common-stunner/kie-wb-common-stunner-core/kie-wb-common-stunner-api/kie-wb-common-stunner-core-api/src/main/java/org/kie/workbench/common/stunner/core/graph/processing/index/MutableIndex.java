@@ -30,6 +30,13 @@ public interface MutableIndex<N extends Node, E extends Edge> extends Index<N, E
      */
     MutableIndex<N, E> removeNode(final N node);
 
+    /**
+     * Notifies the index that the location, the size, the parent or the labels of an already indexed node have changed.
+     */
+    default MutableIndex<N, E> updateNode(final N node) {
+        return this;
+    }
+
     /**
      * Adds an edge into the given index.
      */
@@ -20,8 +20,16 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 
 public interface GraphBoundsIndexer extends NodeBoundsIndexer<Graph<View, Node<View, Edge>>> {
 
     GraphBoundsIndexer setRootUUID(final String uuid);
+
+    /**
+     * Builds the index for the graph of the given graph index.
+     * If the graph index keeps the node bounds up to date, the look-ups are resolved by using it,
+     * so no graph traversal is required.
+     */
+    GraphBoundsIndexer build(final Index<?, ?> graphIndex);
 }
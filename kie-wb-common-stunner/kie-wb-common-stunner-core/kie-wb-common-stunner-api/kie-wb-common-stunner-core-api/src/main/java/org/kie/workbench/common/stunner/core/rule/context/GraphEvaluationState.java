@@ -17,6 +17,9 @@
 package org.kie.workbench.common.stunner.core.rule.context;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
@@ -42,6 +45,14 @@ public interface GraphEvaluationState {
     interface CardinalityState {
 
         Iterable<Node> nodes();
+
+        /**
+         * Returns the number of nodes for each one of the given labels, if it can be resolved without
+         * iterating over all the {@link #nodes()}. Labels not being used are not included.
+         */
+        default Optional<Map<String, Integer>> getLabelsCount(final Set<String> roleFilter) {
+            return Optional.empty();
+        }
     }
 
     interface ConnectorCardinalityState {
@@ -52,6 +52,35 @@ public class DefinitionAdapterBindingsTest {
         assertEquals(metaTypes, bindings.getMetaTypes());
     }
 
+    @Test
+    public void testPropertyIndexes() {
+        DefinitionAdapterBindings bindings = new DefinitionAdapterBindings();
+        assertEquals(-1, bindings.getPropertyIndex("p1"));
+        bindings.setPropertiesFieldNames(Arrays.asList("p1", "p2"));
+        assertEquals(0, bindings.getPropertyIndex("p1"));
+        assertEquals(1, bindings.getPropertyIndex("p2"));
+        assertEquals(-1, bindings.getPropertyIndex("p3"));
+        bindings.setPropertiesFieldNames(Arrays.asList("p3"));
+        assertEquals(-1, bindings.getPropertyIndex("p1"));
+        assertEquals(0, bindings.getPropertyIndex("p3"));
+    }
+
+    @Test
+    public void testFieldGetters() {
+        DefinitionAdapterBindings bindings = new DefinitionAdapterBindings()
+                .addFieldGetter("f1", pojo -> "v1")
+                .addFieldGetter("f2", pojo -> pojo);
+        assertEquals(0, bindings.getFieldIndex("f1"));
+        assertEquals(1, bindings.getFieldIndex("f2"));
+        assertEquals(-1, bindings.getFieldIndex("f3"));
+        assertEquals(-1, bindings.getFieldIndex(null));
+        assertEquals("v1", bindings.getFieldGetter(0).apply("pojo"));
+        assertEquals("pojo", bindings.getFieldGetter(1).apply("pojo"));
+        bindings.addFieldGetter("f1", pojo -> "v2");
+        assertEquals(0, bindings.getFieldIndex("f1"));
+        assertEquals("v2", bindings.getFieldGetter(0).apply("pojo"));
+    }
+
     @Test
     public void testMetaTypes() {
         DefinitionAdapterBindings.PropertyMetaTypes metaTypes = new DefinitionAdapterBindings.PropertyMetaTypes();
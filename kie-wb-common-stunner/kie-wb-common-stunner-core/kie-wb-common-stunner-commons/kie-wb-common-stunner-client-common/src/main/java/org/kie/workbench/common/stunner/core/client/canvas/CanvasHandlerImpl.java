@@ -22,11 +22,14 @@ import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.client.api.ClientDefinitionManager;
 import org.kie.workbench.common.stunner.core.client.api.ShapeManager;
+import org.kie.workbench.common.stunner.core.client.canvas.command.DrawCanvasCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.actions.TextPropertyProviderFactory;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLoadingObserver;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommand;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
@@ -53,7 +56,11 @@ public class CanvasHandlerImpl<D extends Diagram, C extends AbstractCanvas> exte
     private final Event<CanvasElementUpdatedEvent> canvasElementUpdatedEvent;
     private final Event<CanvasElementsClearEvent> canvasElementsClearEvent;
 
+    private final CanvasLoadingObserver loadingObserver;
+
     private MutableIndex<?, ?> graphIndex;
+    private boolean progressiveDraw;
+    private DrawCanvasCommand progressiveDrawCommand;
 
     @Inject
     public CanvasHandlerImpl(final ClientDefinitionManager clientDefinitionManager,
@@ -78,6 +85,23 @@ public class CanvasHandlerImpl<D extends Diagram, C extends AbstractCanvas> exte
         this.canvasElementRemovedEvent = canvasElementRemovedEvent;
         this.canvasElementUpdatedEvent = canvasElementUpdatedEvent;
         this.canvasElementsClearEvent = canvasElementsClearEvent;
+        this.loadingObserver = new CanvasLoadingObserver();
+        this.progressiveDraw = false;
+    }
+
+    /**
+     * Enables drawing the diagram across several animation frames, rather than in a single one, so the
+     * browser is not blocked while drawing large diagrams. The drawing progress is notified through
+     * the {@link CanvasLoadingObserver}. A drawing still in progress is cancelled when the canvas is cleared
+     * or this handler is destroyed.
+     */
+    public CanvasHandlerImpl<D, C> setProgressiveDraw(final boolean progressiveDraw) {
+        this.progressiveDraw = progressiveDraw;
+        return this;
+    }
+
+    public CanvasLoadingObserver getLoadingObserver() {
+        return loadingObserver;
     }
 
     @Override
@@ -99,15 +123,47 @@ public class CanvasHandlerImpl<D extends Diagram, C extends AbstractCanvas> exte
 
     @Override
     public void draw(final ParameterizedCommand<CommandResult> loadCallback) {
-        loadCallback.execute(commandFactory.draw().execute(this));
+        final CanvasCommand<AbstractCanvasHandler> drawCommand = commandFactory.draw();
+        if (progressiveDraw && drawCommand instanceof DrawCanvasCommand) {
+            cancelProgressiveDraw();
+            progressiveDrawCommand = (DrawCanvasCommand) drawCommand;
+            progressiveDrawCommand.execute(this,
+                                           loadingObserver,
+                                           result -> {
+                                               progressiveDrawCommand = null;
+                                               loadCallback.execute(result);
+                                           });
+        } else {
+            loadCallback.execute(drawCommand.execute(this));
+        }
     }
 
     @Override
     public void clearCanvas() {
+        cancelProgressiveDraw();
         super.clearCanvas();
         canvasElementsClearEvent.fire(new CanvasElementsClearEvent(this));
     }
 
+    @Override
+    public CanvasHandler<D, C> clear() {
+        cancelProgressiveDraw();
+        return super.clear();
+    }
+
+    @Override
+    public void destroy() {
+        cancelProgressiveDraw();
+        super.destroy();
+    }
+
+    private void cancelProgressiveDraw() {
+        if (null != progressiveDrawCommand) {
+            progressiveDrawCommand.cancel();
+            progressiveDrawCommand = null;
+        }
+    }
+
     @Override
     protected void afterElementAdded(final Element element,
                                      final Shape shape) {
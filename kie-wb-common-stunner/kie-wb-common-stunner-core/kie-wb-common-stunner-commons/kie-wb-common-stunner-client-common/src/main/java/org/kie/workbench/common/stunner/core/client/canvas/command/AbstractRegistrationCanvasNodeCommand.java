@@ -28,6 +28,8 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
+import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
 public abstract class AbstractRegistrationCanvasNodeCommand extends AbstractCanvasCommand {
@@ -57,6 +59,10 @@ public abstract class AbstractRegistrationCanvasNodeCommand extends AbstractCanv
                                              location.getY(),
                                              location.getX() + boundingBox.getWidth(),
                                              location.getY() + boundingBox.getHeight()));
+            final Index<?, ?> graphIndex = context.getGraphIndex();
+            if (graphIndex instanceof MutableIndex) {
+                ((MutableIndex) graphIndex).updateNode(candidate);
+            }
         }
     }
 
@@ -16,31 +16,50 @@
 
 package org.kie.workbench.common.stunner.core.client.canvas.command;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 
+import com.google.gwt.animation.client.AnimationScheduler;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.Canvas;
+import org.kie.workbench.common.stunner.core.client.canvas.Transform;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLoadingObserver;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
+import org.kie.workbench.common.stunner.core.client.shape.Shape;
+import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
+import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.AbstractChildrenTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.AbstractContentTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ViewTraverseProcessor;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
 public class DrawCanvasCommand extends AbstractCanvasCommand {
 
+    // The time, in milliseconds, given to each animation frame for drawing elements when drawing progressively.
+    static final double FRAME_BUDGET = 10;
+
     private final ChildrenTraverseProcessor childrenTraverseProcessor;
     private final ViewTraverseProcessor viewTraverseProcessor;
+    private ProgressiveDraw progressiveDraw;
 
     public DrawCanvasCommand(final ChildrenTraverseProcessor childrenTraverseProcessor,
                              final ViewTraverseProcessor viewTraverseProcessor) {
@@ -49,8 +68,57 @@ public class DrawCanvasCommand extends AbstractCanvasCommand {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public CommandResult<CanvasViolation> execute(final AbstractCanvasHandler context) {
+        return executeCommands(context, buildCommands(context));
+    }
+
+    /**
+     * Draws the graph progressively, so the browser is not blocked while drawing large diagrams.
+     * <p>
+     * The elements are drawn across several animation frames, each one drawing elements for up to
+     * {@link #FRAME_BUDGET} milliseconds. The elements in the visible area of the canvas are drawn first,
+     * and the shapes are stacked back in the graph order once all elements are drawn, also within the
+     * frame budget.
+     * <p>
+     * If drawing an element fails, the elements already drawn are removed from the canvas, in reverse order,
+     * before notifying the callback.
+     * @param context The canvas handler.
+     * @param loadingObserver The observer notified about the drawing progress.
+     * @param callback Receives the result once all elements are drawn, or once drawing an element fails.
+     * It is not notified if the drawing is cancelled.
+     */
+    public void execute(final AbstractCanvasHandler context,
+                        final CanvasLoadingObserver loadingObserver,
+                        final Consumer<CommandResult<CanvasViolation>> callback) {
+        final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> commandBuilder = buildCommands(context);
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder = new ArrayList<>(commandBuilder.size());
+        for (int i = 0; i < commandBuilder.size(); i++) {
+            graphOrder.add(commandBuilder.get(i));
+        }
+        progressiveDraw = new ProgressiveDraw(context,
+                                              sortVisibleFirst(context,
+                                                               commandBuilder),
+                                              graphOrder,
+                                              loadingObserver,
+                                              callback);
+        loadingObserver.loadingStarted();
+        scheduleFrame(progressiveDraw);
+    }
+
+    /**
+     * Cancels the progressive drawing, if still in progress. The pending elements are not drawn, and
+     * the callback given to {@link #execute(AbstractCanvasHandler, CanvasLoadingObserver, Consumer)}
+     * is not notified.
+     */
+    public void cancel() {
+        if (null != progressiveDraw) {
+            progressiveDraw.cancelled = true;
+            progressiveDraw = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> buildCommands(final AbstractCanvasHandler context) {
         final Graph graph = context.getGraphIndex().getGraph();
         final String shapeSetId = getShapeSetId(context);
 
@@ -163,7 +231,140 @@ public class DrawCanvasCommand extends AbstractCanvasCommand {
                               }
                           });
 
-        return executeCommands(context, commandBuilder);
+        return commandBuilder;
+    }
+
+    /**
+     * Moves the commands for the elements in the visible area of the canvas first. The relative order of
+     * the commands is kept, as well as a parent being drawn before its children and docked nodes, and
+     * a connector being drawn after its source and target nodes.
+     */
+    @SuppressWarnings("unchecked")
+    List<Command<AbstractCanvasHandler, CanvasViolation>> sortVisibleFirst(final AbstractCanvasHandler context,
+                                                                           final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> commandBuilder) {
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> visibleNodes = new ArrayList<>();
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> visibleConnectors = new ArrayList<>();
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> hiddenNodes = new ArrayList<>();
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> hiddenConnectors = new ArrayList<>();
+        final Optional<double[]> visibleArea = getVisibleArea(context.getCanvas());
+        final Set<String> visibleUUIDs = new HashSet<>();
+        for (int i = 0; i < commandBuilder.size(); i++) {
+            final Command<AbstractCanvasHandler, CanvasViolation> command = commandBuilder.get(i);
+            if (command instanceof AddCanvasConnectorCommand) {
+                final Edge edge = ((AddCanvasConnectorCommand) command).getCandidate();
+                final Node source = edge.getSourceNode();
+                final Node target = edge.getTargetNode();
+                final boolean connected = (null == source || visibleUUIDs.contains(source.getUUID()))
+                        && (null == target || visibleUUIDs.contains(target.getUUID()));
+                if (connected && (null != source || null != target)) {
+                    visibleConnectors.add(command);
+                } else {
+                    hiddenConnectors.add(command);
+                }
+            } else {
+                final Node parent = getParent(command);
+                final Node node = getCandidate(command);
+                if ((null == parent || visibleUUIDs.contains(parent.getUUID()))
+                        && null != node
+                        && isVisible(node, visibleArea)) {
+                    visibleUUIDs.add(node.getUUID());
+                    visibleNodes.add(command);
+                } else {
+                    hiddenNodes.add(command);
+                }
+            }
+        }
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> commands = new ArrayList<>(commandBuilder.size());
+        commands.addAll(visibleNodes);
+        commands.addAll(visibleConnectors);
+        commands.addAll(hiddenNodes);
+        commands.addAll(hiddenConnectors);
+        return commands;
+    }
+
+    private static Node getCandidate(final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        if (command instanceof AbstractRegistrationCanvasNodeCommand) {
+            return ((AbstractRegistrationCanvasNodeCommand) command).getCandidate();
+        } else if (command instanceof AddCanvasDockedNodeCommand) {
+            return ((AddCanvasDockedNodeCommand) command).getCandidate();
+        }
+        return null;
+    }
+
+    private static Element getElement(final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        if (command instanceof AddCanvasConnectorCommand) {
+            return ((AddCanvasConnectorCommand) command).getCandidate();
+        }
+        return getCandidate(command);
+    }
+
+    private static Node getParent(final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        if (command instanceof AddCanvasChildNodeCommand) {
+            return ((AddCanvasChildNodeCommand) command).getParent();
+        } else if (command instanceof AddCanvasDockedNodeCommand) {
+            return ((AddCanvasDockedNodeCommand) command).getParent();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the visible area of the canvas as [minX, minY, maxX, maxY], in diagram coordinates.
+     */
+    private static Optional<double[]> getVisibleArea(final Canvas canvas) {
+        final Transform transform = null != canvas ? canvas.getTransform() : null;
+        if (null == transform) {
+            return Optional.empty();
+        }
+        final Point2D min = transform.inverse(0, 0);
+        final Point2D max = transform.inverse(canvas.getWidthPx(), canvas.getHeightPx());
+        return Optional.of(new double[]{min.getX(), min.getY(), max.getX(), max.getY()});
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isVisible(final Node node,
+                                     final Optional<double[]> visibleArea) {
+        if (!visibleArea.isPresent()) {
+            return true;
+        }
+        if (!(node.getContent() instanceof View)) {
+            return false;
+        }
+        final double[] area = visibleArea.get();
+        final Point2D position = GraphUtils.getComputedPosition(node);
+        final double[] size = GraphUtils.getNodeSize((View) node.getContent());
+        return position.getX() <= area[2]
+                && position.getY() <= area[3]
+                && position.getX() + size[0] >= area[0]
+                && position.getY() + size[1] >= area[1];
+    }
+
+    /**
+     * Returns how many of the first commands in the graph order are also drawn in that order. Their shapes are
+     * already stacked right, so only the shapes of the following commands are moved to the top.
+     */
+    static int getOrderedPrefix(final List<Command<AbstractCanvasHandler, CanvasViolation>> commands,
+                                final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder) {
+        final Map<Command<AbstractCanvasHandler, CanvasViolation>, Integer> drawOrder = new HashMap<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            drawOrder.put(commands.get(i), i);
+        }
+        int last = -1;
+        for (int i = 0; i < graphOrder.size(); i++) {
+            final int position = drawOrder.get(graphOrder.get(i));
+            if (position < last) {
+                return i;
+            }
+            last = position;
+        }
+        return graphOrder.size();
+    }
+
+    protected void scheduleFrame(final Runnable frame) {
+        AnimationScheduler.get().requestAnimationFrame(timestamp -> frame.run());
+    }
+
+    protected double now() {
+        return System.currentTimeMillis();
     }
 
     @Override
@@ -196,4 +397,108 @@ public class DrawCanvasCommand extends AbstractCanvasCommand {
     public String toString() {
         return getClass().getSimpleName();
     }
+
+    private class ProgressiveDraw implements Runnable {
+
+        private final AbstractCanvasHandler context;
+        private final List<Command<AbstractCanvasHandler, CanvasViolation>> commands;
+        private final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder;
+        private final CanvasLoadingObserver loadingObserver;
+        private final Consumer<CommandResult<CanvasViolation>> callback;
+        private final CanvasCommandResultBuilder resultBuilder;
+        private CommandResult.Type resultType;
+        private int index;
+        private int restored;
+        private boolean cancelled;
+
+        private ProgressiveDraw(final AbstractCanvasHandler context,
+                                final List<Command<AbstractCanvasHandler, CanvasViolation>> commands,
+                                final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder,
+                                final CanvasLoadingObserver loadingObserver,
+                                final Consumer<CommandResult<CanvasViolation>> callback) {
+            this.context = context;
+            this.commands = commands;
+            this.graphOrder = graphOrder;
+            this.loadingObserver = loadingObserver;
+            this.callback = callback;
+            this.resultBuilder = new CanvasCommandResultBuilder();
+            this.resultType = CommandResult.Type.INFO;
+            this.index = 0;
+            this.restored = getOrderedPrefix(commands, graphOrder);
+            this.cancelled = false;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                loadingObserver.loadingCompleted();
+                return;
+            }
+            final double start = now();
+            // At least one element is drawn on each frame, whatever the time it takes.
+            while (index < commands.size()) {
+                final CommandResult<CanvasViolation> result = commands.get(index++).execute(context);
+                addResult(result);
+                if (CommandUtils.isError(result)) {
+                    undoExecuted(index - 1);
+                    complete();
+                    return;
+                }
+                if (now() - start >= FRAME_BUDGET) {
+                    break;
+                }
+            }
+            if (index < commands.size()) {
+                loadingObserver.loadingProgress(index,
+                                                commands.size());
+                scheduleFrame(this);
+            } else if (restoreGraphOrder(start)) {
+                complete();
+            } else {
+                scheduleFrame(this);
+            }
+        }
+
+        private void undoExecuted(final int executed) {
+            for (int i = executed - 1; i >= 0; i--) {
+                commands.get(i).undo(context);
+            }
+        }
+
+        // The shapes are stacked in the order they're added, so move them to the top in the graph order. Moving a
+        // shape is linear in the size of its container, so it's done within the frame budget as well.
+        // Returns whether all shapes are in the graph order.
+        private boolean restoreGraphOrder(final double start) {
+            final Canvas canvas = context.getCanvas();
+            while (restored < graphOrder.size()) {
+                final Element element = getElement(graphOrder.get(restored++));
+                final Shape shape = null != element ? canvas.getShape(element.getUUID()) : null;
+                if (null != shape) {
+                    shape.getShapeView().moveToTop();
+                }
+                if (now() - start >= FRAME_BUDGET) {
+                    break;
+                }
+            }
+            return restored == graphOrder.size();
+        }
+
+        private void addResult(final CommandResult<CanvasViolation> result) {
+            if (result.getType().getSeverity() > resultType.getSeverity()) {
+                resultType = result.getType();
+            }
+            final Iterable<CanvasViolation> violations = result.getViolations();
+            if (null != violations) {
+                violations.forEach(resultBuilder::addViolation);
+            }
+        }
+
+        private void complete() {
+            if (progressiveDraw == this) {
+                progressiveDraw = null;
+            }
+            loadingObserver.loadingCompleted();
+            callback.accept(resultBuilder.setType(resultType).build());
+        }
+    }
 }
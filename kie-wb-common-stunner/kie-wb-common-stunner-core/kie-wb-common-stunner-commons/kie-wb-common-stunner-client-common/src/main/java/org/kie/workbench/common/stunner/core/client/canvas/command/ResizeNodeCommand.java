@@ -45,6 +45,8 @@ import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
 import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
+import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
 import static org.kie.workbench.common.stunner.core.graph.util.GraphUtils.getDockedNodes;
@@ -137,6 +139,7 @@ public class ResizeNodeCommand extends AbstractCanvasCompositeCommand {
         return onResize;
     }
 
+    @SuppressWarnings("unchecked")
     CommandResult<CanvasViolation> postOperation(final AbstractCanvasHandler context,
                                                  final CommandResult<CanvasViolation> result,
                                                  final double width,
@@ -149,6 +152,10 @@ public class ResizeNodeCommand extends AbstractCanvasCompositeCommand {
                                                    current.getY() + height);
 
             candidate.getContent().setBounds(newBounds);
+            final Index<?, ?> graphIndex = context.getGraphIndex();
+            if (graphIndex instanceof MutableIndex) {
+                ((MutableIndex) graphIndex).updateNode(candidate.asNode());
+            }
             final ShapeView shapeView = getShape(context, candidate.getUUID()).getShapeView();
             ShapeUtils.setSizeFromBoundingBox(shapeView, width, height);
             onResize.accept(getShape(context, candidate.getUUID()));
@@ -327,7 +327,7 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
                                          final double _y) {
         if (_x > -1 && _y > -1) {
             final String rootUUID = canvasHandler.getDiagram().getMetadata().getCanvasRootUUID();
-            graphBoundsIndexer.setRootUUID(rootUUID).build(canvasHandler.getDiagram().getGraph());
+            graphBoundsIndexer.setRootUUID(rootUUID).build(canvasHandler.getGraphIndex());
             final Node<View<?>, Edge> r = graphBoundsIndexer.getAt(_x,
                                                                    _y);
             return r;
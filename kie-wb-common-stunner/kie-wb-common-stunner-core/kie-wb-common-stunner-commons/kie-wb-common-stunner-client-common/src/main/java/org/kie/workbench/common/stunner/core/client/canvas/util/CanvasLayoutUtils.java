@@ -248,7 +248,7 @@ public class CanvasLayoutUtils {
         checkNotNull("root",
                      root);
 
-        graphBoundsIndexer.build(canvasHandler.getDiagram().getGraph());
+        graphBoundsIndexer.build(canvasHandler.getGraphIndex());
 
         Element parentNode = GraphUtils.getParent(root.asNode());
 
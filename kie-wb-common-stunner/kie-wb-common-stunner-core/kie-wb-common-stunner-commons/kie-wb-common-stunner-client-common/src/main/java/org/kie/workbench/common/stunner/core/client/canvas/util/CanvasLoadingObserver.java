@@ -32,6 +32,10 @@ public class CanvasLoadingObserver {
 
         void onLoadingStarted();
 
+        default void onLoadingProgress(final int processed,
+                                       final int total) {
+        }
+
         void onLoadingCompleted();
     }
 
@@ -49,8 +53,7 @@ public class CanvasLoadingObserver {
 
     public void loadingStarted() {
         if (null != callback
-                && null != timeout
-                && !timeout.isRunning()) {
+                && (null == timeout || !timeout.isRunning())) {
             callback.onLoadingStarted();
             log("Starting timeout...");
             this.timeout = new Timer() {
@@ -64,6 +67,21 @@ public class CanvasLoadingObserver {
         }
     }
 
+    /**
+     * Notifies the progress of a loading that spans several browser frames. It also restarts the
+     * timeout, so it only fires when the loading does not progress for the given duration.
+     */
+    public void loadingProgress(final int processed,
+                                final int total) {
+        if (null != callback) {
+            callback.onLoadingProgress(processed,
+                                       total);
+        }
+        if (null != timeout && timeout.isRunning()) {
+            timeout.schedule(duration);
+        }
+    }
+
     public void loadingCompleted() {
         clearTimeout();
         if (null != callback) {
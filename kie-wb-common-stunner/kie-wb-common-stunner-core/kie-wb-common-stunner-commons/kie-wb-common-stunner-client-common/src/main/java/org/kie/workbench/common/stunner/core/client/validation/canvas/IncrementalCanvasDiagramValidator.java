@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.validation.canvas;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.AbstractCanvasHandlerElementEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionDestroyedEvent;
+import org.kie.workbench.common.stunner.core.client.validation.ClientDiagramValidator;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
+import org.kie.workbench.common.stunner.core.validation.impl.IncrementalDiagramValidator;
+
+/**
+ * Validates the diagram of a canvas handler incrementally, so it can be run after every edit.
+ * <p>
+ * The elements added, updated or removed by the executed commands are marked as dirty, and
+ * only those are validated again, see {@link IncrementalDiagramValidator}. The first validation
+ * for a canvas handler, and the ones after {@link #invalidate(AbstractCanvasHandler)}, are full.
+ * Use the {@link CanvasDiagramValidator} when a full validation is required, for example on save.
+ * <p>
+ * The state kept for a canvas handler is dropped when its canvas is cleared or its session is destroyed.
+ */
+@ApplicationScoped
+public class IncrementalCanvasDiagramValidator {
+
+    private final ClientDiagramValidator diagramValidator;
+    private final Event<CanvasValidationSuccessEvent> validationSuccessEvent;
+    private final Event<CanvasValidationFailEvent> validationFailEvent;
+    private final Map<String, IncrementalDiagramValidator> validators;
+    private final Map<String, String> graphUuids;
+
+    // CDI proxy.
+    protected IncrementalCanvasDiagramValidator() {
+        this(null,
+             null,
+             null);
+    }
+
+    @Inject
+    public IncrementalCanvasDiagramValidator(final ClientDiagramValidator diagramValidator,
+                                             final Event<CanvasValidationSuccessEvent> validationSuccessEvent,
+                                             final Event<CanvasValidationFailEvent> validationFailEvent) {
+        this.diagramValidator = diagramValidator;
+        this.validationSuccessEvent = validationSuccessEvent;
+        this.validationFailEvent = validationFailEvent;
+        this.validators = new HashMap<>();
+        this.graphUuids = new HashMap<>();
+    }
+
+    public void validate(final AbstractCanvasHandler canvasHandler,
+                         final Consumer<Collection<DiagramElementViolation<RuleViolation>>> callback) {
+        final IncrementalDiagramValidator validator =
+                validators.computeIfAbsent(canvasHandler.getUuid(),
+                                           uuid -> newValidator());
+        graphUuids.put(canvasHandler.getUuid(),
+                       canvasHandler.getDiagram().getGraph().getUUID());
+        new CanvasDiagramValidator<>(validator,
+                                     validationSuccessEvent,
+                                     validationFailEvent)
+                .validate(canvasHandler,
+                          callback);
+    }
+
+    /**
+     * The next validation for the given canvas handler is performed for the whole diagram.
+     */
+    public void invalidate(final AbstractCanvasHandler canvasHandler) {
+        remove(canvasHandler.getUuid());
+    }
+
+    void onCanvasElementAdded(final @Observes CanvasElementAddedEvent event) {
+        markDirty(event);
+    }
+
+    void onCanvasElementUpdated(final @Observes CanvasElementUpdatedEvent event) {
+        markDirty(event);
+    }
+
+    void onCanvasElementRemoved(final @Observes CanvasElementRemovedEvent event) {
+        markDirty(event);
+    }
+
+    void onCanvasElementsClear(final @Observes CanvasElementsClearEvent event) {
+        final CanvasHandler canvasHandler = event.getCanvasHandler();
+        if (canvasHandler instanceof AbstractCanvasHandler) {
+            invalidate((AbstractCanvasHandler) canvasHandler);
+        }
+    }
+
+    void onSessionDestroyed(final @Observes SessionDestroyedEvent event) {
+        graphUuids.entrySet().stream()
+                .filter(entry -> Objects.equals(entry.getValue(), event.getGraphUuid()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(this::remove);
+    }
+
+    boolean isValidating(final AbstractCanvasHandler canvasHandler) {
+        return validators.containsKey(canvasHandler.getUuid());
+    }
+
+    IncrementalDiagramValidator newValidator() {
+        return new IncrementalDiagramValidator(diagramValidator);
+    }
+
+    private void remove(final String canvasHandlerUuid) {
+        validators.remove(canvasHandlerUuid);
+        graphUuids.remove(canvasHandlerUuid);
+    }
+
+    private void markDirty(final AbstractCanvasHandlerElementEvent event) {
+        final CanvasHandler canvasHandler = event.getCanvasHandler();
+        if (canvasHandler instanceof AbstractCanvasHandler) {
+            final IncrementalDiagramValidator validator = validators.get(((AbstractCanvasHandler) canvasHandler).getUuid());
+            if (null != validator) {
+                validator.markDirty(event.getElement());
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.kie.workbench.common.stunner.core.client.canvas;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.enterprise.event.Event;
 
@@ -25,16 +26,21 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.stunner.core.client.api.ClientDefinitionManager;
 import org.kie.workbench.common.stunner.core.client.api.ShapeManager;
+import org.kie.workbench.common.stunner.core.client.canvas.command.DrawCanvasCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.actions.TextPropertyProviderFactory;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.listener.CanvasElementListener;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLoadingObserver;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
 import org.kie.workbench.common.stunner.core.client.command.QueueGraphExecutionContext;
 import org.kie.workbench.common.stunner.core.client.shape.ElementShape;
 import org.kie.workbench.common.stunner.core.client.shape.MutationContext;
+import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
@@ -43,15 +49,19 @@ import org.kie.workbench.common.stunner.core.graph.processing.index.GraphIndexBu
 import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.mvp.ParameterizedCommand;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BaseCanvasHandlerTest {
@@ -100,6 +110,12 @@ public class BaseCanvasHandlerTest {
     @Mock
     private CanvasElementListener updateListener;
 
+    @Mock
+    private AbstractCanvas canvas;
+
+    @Mock
+    private ParameterizedCommand<CommandResult> drawCallback;
+
     @Before
     public void setup() {
         canvasHandler = new CanvasHandlerImpl(clientDefinitionManager,
@@ -199,4 +215,44 @@ public class BaseCanvasHandlerTest {
         canvasHandler.doBatchUpdate(updatedElements);
         verify(updateListener, times(1)).updateBatch(any());
     }
+
+    @Test
+    public void checkProgressiveDrawCancelledOnClearCanvas() {
+        final DrawCanvasCommand drawCommand = drawProgressively();
+
+        canvasHandler.clearCanvas();
+        verify(drawCommand, times(1)).cancel();
+    }
+
+    @Test
+    public void checkProgressiveDrawCancelledOnDestroy() {
+        final DrawCanvasCommand drawCommand = drawProgressively();
+
+        canvasHandler.destroy();
+        verify(drawCommand, times(1)).cancel();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkProgressiveDrawNotCancelledOnceCompleted() {
+        final DrawCanvasCommand drawCommand = drawProgressively();
+        final ArgumentCaptor<Consumer<CommandResult<CanvasViolation>>> callback = ArgumentCaptor.forClass(Consumer.class);
+        verify(drawCommand).execute(eq(canvasHandler), any(CanvasLoadingObserver.class), callback.capture());
+
+        callback.getValue().accept(CanvasCommandResultBuilder.SUCCESS);
+        canvasHandler.clearCanvas();
+        verify(drawCommand, never()).cancel();
+        verify(drawCallback, times(1)).execute(eq(CanvasCommandResultBuilder.SUCCESS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private DrawCanvasCommand drawProgressively() {
+        final DrawCanvasCommand drawCommand = mock(DrawCanvasCommand.class);
+        when(commandFactory.draw()).thenReturn(drawCommand);
+        canvasHandler.handle(canvas);
+        ((CanvasHandlerImpl) canvasHandler).setProgressiveDraw(true);
+        canvasHandler.draw(drawCallback);
+        verify(drawCommand, times(1)).execute(eq(canvasHandler), any(CanvasLoadingObserver.class), any(Consumer.class));
+        return drawCommand;
+    }
 }
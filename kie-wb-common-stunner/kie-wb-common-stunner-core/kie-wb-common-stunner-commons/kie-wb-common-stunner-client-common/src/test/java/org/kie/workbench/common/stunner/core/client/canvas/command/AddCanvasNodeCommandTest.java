@@ -29,7 +29,9 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -37,6 +39,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -109,4 +114,26 @@ public class AddCanvasNodeCommandTest extends AbstractCanvasCommandTest {
         assertEquals(50d, bounds.getWidth(), 0d);
         assertEquals(50d, bounds.getHeight(), 0d);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteAndSetViewBoundsUpdatesIndex() {
+        final MutableIndex mutableIndex = mock(MutableIndex.class);
+        when(canvasHandler.getGraphIndex()).thenReturn(mutableIndex);
+        when(content.getBounds()).thenReturn(Bounds.create(0d, 0d, 0d, 0d));
+        tested.execute(canvasHandler);
+        final InOrder inOrder = inOrder(content, mutableIndex);
+        inOrder.verify(content, times(1)).setBounds(any(Bounds.class));
+        inOrder.verify(mutableIndex, times(1)).updateNode(eq(candidate));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteDoesNotUpdateIndex() {
+        final MutableIndex mutableIndex = mock(MutableIndex.class);
+        when(canvasHandler.getGraphIndex()).thenReturn(mutableIndex);
+        when(content.getBounds()).thenReturn(Bounds.create(0d, 0d, 10d, 10d));
+        tested.execute(canvasHandler);
+        verify(mutableIndex, never()).updateNode(any());
+    }
 }
@@ -17,7 +17,10 @@
 package org.kie.workbench.common.stunner.core.client.canvas.command;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 import org.junit.Before;
@@ -27,27 +30,45 @@ import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
 import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvas;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.Transform;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLoadingObserver;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.client.shape.impl.ConnectorShape;
+import org.kie.workbench.common.stunner.core.client.shape.view.HasManageableControlPoints;
 import org.kie.workbench.common.stunner.core.client.shape.view.ShapeView;
 import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ViewTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -84,9 +105,21 @@ public class DrawCanvasCommandTest {
     @Mock
     private ConnectorShape connectorShape;
 
-    @Mock
+    @Mock(extraInterfaces = HasManageableControlPoints.class)
     private ShapeView shapeView;
 
+    @Mock
+    private CanvasLoadingObserver loadingObserver;
+
+    @Mock
+    private Consumer<CommandResult<CanvasViolation>> callback;
+
+    @Mock
+    private Transform transform;
+
+    @Captor
+    private ArgumentCaptor<CommandResult<CanvasViolation>> resultCaptor;
+
     @Before
     public void setUp() throws Exception {
         this.graphHolder = TestingGraphInstanceBuilder.newGraph4(new TestingGraphMockHandler());
@@ -108,6 +141,10 @@ public class DrawCanvasCommandTest {
 
         tested = spy(new DrawCanvasCommand(new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl()),
                                            new ViewTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl())));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(tested).scheduleFrame(any(Runnable.class));
     }
 
     @Test
@@ -127,4 +164,234 @@ public class DrawCanvasCommandTest {
         assertEquals(commandList.stream().filter(cmd -> cmd instanceof AddCanvasDockedNodeCommand).count(), 1);
         assertEquals(commandList.stream().filter(cmd -> cmd instanceof AddCanvasConnectorCommand).count(), 2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void executeProgressively() {
+        when(context.dock(any(), any())).thenReturn(true);
+
+        tested.execute(context, loadingObserver, callback);
+
+        verify(tested, never()).executeCommands(any(), any());
+        verify(tested, times(1)).scheduleFrame(any(Runnable.class));
+        verify(loadingObserver).loadingStarted();
+        verify(loadingObserver, never()).loadingProgress(anyInt(), anyInt());
+        verify(loadingObserver).loadingCompleted();
+        verify(callback).accept(resultCaptor.capture());
+        assertEquals(CommandResult.Type.INFO, resultCaptor.getValue().getType());
+    }
+
+    @Test
+    public void executeProgressivelyWithinFrameBudget() {
+        when(context.dock(any(), any())).thenReturn(true);
+        // Each command takes the whole frame budget.
+        final AtomicInteger frames = new AtomicInteger();
+        when(tested.now()).thenAnswer(invocation -> frames.getAndIncrement() * DrawCanvasCommand.FRAME_BUDGET);
+
+        tested.execute(context, loadingObserver, callback);
+
+        verify(tested, times(7)).scheduleFrame(any(Runnable.class));
+        for (int i = 1; i < 7; i++) {
+            verify(loadingObserver).loadingProgress(i, 7);
+        }
+        verify(loadingObserver).loadingCompleted();
+        verify(callback).accept(any());
+    }
+
+    @Test
+    public void executeProgressivelyStopsOnError() {
+        when(context.dock(any(), any())).thenReturn(false);
+
+        tested.execute(context, loadingObserver, callback);
+
+        verify(loadingObserver).loadingCompleted();
+        verify(callback).accept(resultCaptor.capture());
+        assertEquals(CommandResult.Type.ERROR, resultCaptor.getValue().getType());
+        verify(context, never()).register(any(String.class), eq(graphHolder.edge2));
+    }
+
+    @Test
+    public void executeProgressivelyUndoesOnError() {
+        when(context.dock(any(), any())).thenReturn(false);
+
+        tested.execute(context, loadingObserver, callback);
+
+        final ArgumentCaptor<Element> registered = ArgumentCaptor.forClass(Element.class);
+        final ArgumentCaptor<Element> deregistered = ArgumentCaptor.forClass(Element.class);
+        verify(context, atLeastOnce()).register(any(String.class), registered.capture());
+        verify(context, atLeastOnce()).deregister(deregistered.capture());
+        // The failed command is not undone, the previously executed ones are undone in reverse order.
+        final List<Element> executed = new ArrayList<>(registered.getAllValues());
+        executed.remove(executed.size() - 1);
+        Collections.reverse(executed);
+        assertEquals(executed, deregistered.getAllValues());
+        final InOrder inOrder = inOrder(context, loadingObserver, callback);
+        inOrder.verify(context).deregister(any(Element.class));
+        inOrder.verify(loadingObserver).loadingCompleted();
+        inOrder.verify(callback).accept(any());
+    }
+
+    @Test
+    public void executeProgressivelyCancelled() {
+        when(context.dock(any(), any())).thenReturn(true);
+        final List<Runnable> frames = new ArrayList<>();
+        doAnswer(invocation -> frames.add((Runnable) invocation.getArguments()[0]))
+                .when(tested).scheduleFrame(any(Runnable.class));
+        // Each command takes the whole frame budget.
+        final AtomicInteger time = new AtomicInteger();
+        when(tested.now()).thenAnswer(invocation -> time.getAndIncrement() * DrawCanvasCommand.FRAME_BUDGET);
+
+        tested.execute(context, loadingObserver, callback);
+        frames.get(0).run();
+        tested.cancel();
+        frames.get(1).run();
+
+        assertEquals(2, frames.size());
+        verify(context, times(1)).register(any(String.class), any(Element.class));
+        verify(loadingObserver).loadingCompleted();
+        verify(callback, never()).accept(any());
+    }
+
+    @Test
+    public void executeProgressivelyRestoresGraphOrder() {
+        when(context.dock(any(), any())).thenReturn(true);
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder = drawEndNodeLast();
+
+        tested.execute(context, loadingObserver, callback);
+
+        // The shapes up to the end node are drawn in the graph order, only the following ones are moved to the top.
+        final int moved = graphOrder.size() - indexOfCandidate(graphOrder, graphHolder.endNode) - 1;
+        final InOrder inOrder = inOrder(canvas, shapeView);
+        for (int i = graphOrder.size() - moved; i < graphOrder.size(); i++) {
+            inOrder.verify(canvas).getShape(elementOf(graphOrder.get(i)).getUUID());
+            inOrder.verify(shapeView).moveToTop();
+        }
+        verify(shapeView, times(moved)).moveToTop();
+        verify(callback).accept(any());
+    }
+
+    @Test
+    public void executeProgressivelyRestoresGraphOrderWithinFrameBudget() {
+        when(context.dock(any(), any())).thenReturn(true);
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder = drawEndNodeLast();
+        // Each command, and each shape moved, takes the whole frame budget.
+        final AtomicInteger time = new AtomicInteger();
+        when(tested.now()).thenAnswer(invocation -> time.getAndIncrement() * DrawCanvasCommand.FRAME_BUDGET);
+
+        tested.execute(context, loadingObserver, callback);
+
+        // The first shape is moved on the frame that draws the last command.
+        final int moved = graphOrder.size() - indexOfCandidate(graphOrder, graphHolder.endNode) - 1;
+        verify(tested, times(7 + moved - 1)).scheduleFrame(any(Runnable.class));
+        verify(shapeView, times(moved)).moveToTop();
+        verify(loadingObserver).loadingCompleted();
+        verify(callback).accept(any());
+    }
+
+    @Test
+    public void getOrderedPrefix() {
+        drawEndNodeLast();
+        final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> builder = tested.buildCommands(context);
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder = new ArrayList<>(builder.size());
+        for (int i = 0; i < builder.size(); i++) {
+            graphOrder.add(builder.get(i));
+        }
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> commands = tested.sortVisibleFirst(context, builder);
+
+        assertEquals(graphOrder.size(), DrawCanvasCommand.getOrderedPrefix(graphOrder, graphOrder));
+        assertEquals(indexOfCandidate(graphOrder, graphHolder.endNode) + 1, DrawCanvasCommand.getOrderedPrefix(commands, graphOrder));
+    }
+
+    @Test
+    public void executeProgressivelyKeepsGraphOrder() {
+        when(context.dock(any(), any())).thenReturn(true);
+
+        tested.execute(context, loadingObserver, callback);
+
+        verify(shapeView, never()).moveToTop();
+        verify(callback).accept(any());
+    }
+
+    @Test
+    public void sortVisibleFirst() {
+        when(canvas.getTransform()).thenReturn(transform);
+        when(canvas.getWidthPx()).thenReturn(800);
+        when(canvas.getHeightPx()).thenReturn(600);
+        when(transform.inverse(0, 0)).thenReturn(new Point2D(0, 0));
+        when(transform.inverse(800, 600)).thenReturn(new Point2D(800, 600));
+        ((View) graphHolder.endNode.getContent()).setBounds(Bounds.create(1000, 1000, 1100, 1100));
+
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> commands =
+                tested.sortVisibleFirst(context, tested.buildCommands(context));
+
+        assertEquals(7, commands.size());
+        final int endNode = indexOfCandidate(commands, graphHolder.endNode);
+        final int edge1 = indexOfConnector(commands, graphHolder.edge1);
+        final int edge2 = indexOfConnector(commands, graphHolder.edge2);
+        assertEquals(5, endNode);
+        assertEquals(4, edge1);
+        assertEquals(6, edge2);
+        assertTrue(commands.subList(0, 4).stream().noneMatch(cmd -> cmd instanceof AddCanvasConnectorCommand));
+        assertFalse(commands.subList(0, 4).stream().anyMatch(cmd -> cmd instanceof AddCanvasChildNodeCommand
+                && ((AddCanvasChildNodeCommand) cmd).getCandidate() == graphHolder.endNode));
+    }
+
+    @Test
+    public void sortVisibleFirstWhenNoTransform() {
+        final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> builder = tested.buildCommands(context);
+
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> commands = tested.sortVisibleFirst(context, builder);
+
+        for (int i = 0; i < builder.size(); i++) {
+            assertEquals(builder.get(i), commands.get(i));
+        }
+    }
+
+    // Draws the end node out of the visible area, so it is drawn after the visible elements.
+    private List<Command<AbstractCanvasHandler, CanvasViolation>> drawEndNodeLast() {
+        when(canvas.getTransform()).thenReturn(transform);
+        when(canvas.getWidthPx()).thenReturn(800);
+        when(canvas.getHeightPx()).thenReturn(600);
+        when(transform.inverse(0, 0)).thenReturn(new Point2D(0, 0));
+        when(transform.inverse(800, 600)).thenReturn(new Point2D(800, 600));
+        ((View) graphHolder.endNode.getContent()).setBounds(Bounds.create(1000, 1000, 1100, 1100));
+        final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> builder = tested.buildCommands(context);
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> graphOrder = new ArrayList<>(builder.size());
+        for (int i = 0; i < builder.size(); i++) {
+            graphOrder.add(builder.get(i));
+        }
+        return graphOrder;
+    }
+
+    private static Element elementOf(final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        if (command instanceof AddCanvasConnectorCommand) {
+            return ((AddCanvasConnectorCommand) command).getCandidate();
+        } else if (command instanceof AddCanvasDockedNodeCommand) {
+            return ((AddCanvasDockedNodeCommand) command).getCandidate();
+        }
+        return ((AbstractRegistrationCanvasNodeCommand) command).getCandidate();
+    }
+
+    private static int indexOfCandidate(final List<Command<AbstractCanvasHandler, CanvasViolation>> commands,
+                                        final Node node) {
+        for (int i = 0; i < commands.size(); i++) {
+            final Command<AbstractCanvasHandler, CanvasViolation> command = commands.get(i);
+            if (command instanceof AbstractRegistrationCanvasNodeCommand
+                    && ((AbstractRegistrationCanvasNodeCommand) command).getCandidate() == node) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfConnector(final List<Command<AbstractCanvasHandler, CanvasViolation>> commands,
+                                        final Object edge) {
+        for (int i = 0; i < commands.size(); i++) {
+            final Command<AbstractCanvasHandler, CanvasViolation> command = commands.get(i);
+            if (command instanceof AddCanvasConnectorCommand
+                    && ((AddCanvasConnectorCommand) command).getCandidate() == edge) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.components.layout;
+
+import java.util.Collections;
+
+import javax.enterprise.event.Event;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.HasBounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Layout;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.VertexPosition;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.workbench.events.NotificationEvent;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class OpenDiagramLayoutExecutorTest {
+
+    private static final String NODE_ID = "node1";
+
+    @Mock
+    private Event<NotificationEvent> event;
+
+    @Mock
+    private ClientTranslationService translationService;
+
+    @Mock
+    private Graph graph;
+
+    @Mock
+    private Node node;
+
+    @Mock
+    private HasBounds content;
+
+    @Mock
+    private VertexPosition position;
+
+    @InjectMocks
+    private OpenDiagramLayoutExecutor tested;
+
+    private Layout layout;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(graph.nodes()).thenReturn(Collections.singletonList(node));
+        when(node.getUUID()).thenReturn(NODE_ID);
+        when(node.getContent()).thenReturn(content);
+        when(position.getId()).thenReturn(NODE_ID);
+        when(position.getUpperLeft()).thenReturn(new Point2D(10, 20));
+        when(position.getBottomRight()).thenReturn(new Point2D(110, 70));
+        layout = new Layout();
+        layout.getNodePositions().add(position);
+    }
+
+    @Test
+    public void testApplyLayout() {
+        tested.applyLayout(layout, graph);
+
+        final ArgumentCaptor<Bounds> bounds = ArgumentCaptor.forClass(Bounds.class);
+        verify(content).setBounds(bounds.capture());
+        assertEquals(Bounds.create(10, 20, 110, 70), bounds.getValue());
+        verify(event).fire(any(NotificationEvent.class));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.validation.canvas;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionDestroyedEvent;
+import org.kie.workbench.common.stunner.core.client.validation.ClientDiagramValidator;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
+import org.kie.workbench.common.stunner.core.validation.impl.IncrementalDiagramValidator;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.mocks.EventSourceMock;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IncrementalCanvasDiagramValidatorTest {
+
+    private static final String CANVAS_HANDLER_UUID = "canvasHandler1";
+    private static final String CANVAS_HANDLER2_UUID = "canvasHandler2";
+    private static final String GRAPH_UUID = "graph1";
+
+    @Mock
+    private ClientDiagramValidator diagramValidator;
+
+    @Mock
+    private EventSourceMock<CanvasValidationSuccessEvent> successEvent;
+
+    @Mock
+    private EventSourceMock<CanvasValidationFailEvent> failEvent;
+
+    @Mock
+    private AbstractCanvasHandler canvasHandler;
+
+    @Mock
+    private AbstractCanvasHandler canvasHandler2;
+
+    @Mock
+    private Diagram diagram;
+
+    @Mock
+    private Graph graph;
+
+    @Mock
+    private IncrementalDiagramValidator validator;
+
+    @Mock
+    private Node node;
+
+    @Mock
+    private Edge edge;
+
+    @Mock
+    private Consumer<Collection<DiagramElementViolation<RuleViolation>>> callback;
+
+    private IncrementalCanvasDiagramValidator tested;
+
+    @Before
+    public void setUp() {
+        when(canvasHandler.getUuid()).thenReturn(CANVAS_HANDLER_UUID);
+        when(canvasHandler.getDiagram()).thenReturn(diagram);
+        when(diagram.getGraph()).thenReturn(graph);
+        when(graph.getUUID()).thenReturn(GRAPH_UUID);
+        when(canvasHandler2.getUuid()).thenReturn(CANVAS_HANDLER2_UUID);
+        tested = spy(new IncrementalCanvasDiagramValidator(diagramValidator,
+                                                           successEvent,
+                                                           failEvent));
+        doReturn(validator).when(tested).newValidator();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidate() {
+        tested.validate(canvasHandler, callback);
+        tested.validate(canvasHandler, callback);
+
+        verify(tested, times(1)).newValidator();
+        verify(validator, times(2)).validate(eq(diagram), any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidate() {
+        tested.validate(canvasHandler, callback);
+        tested.invalidate(canvasHandler);
+        tested.validate(canvasHandler, callback);
+
+        verify(tested, times(2)).newValidator();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMarkElementsDirty() {
+        tested.validate(canvasHandler, callback);
+
+        tested.onCanvasElementAdded(new CanvasElementAddedEvent(canvasHandler, node));
+        tested.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler, edge));
+        tested.onCanvasElementRemoved(new CanvasElementRemovedEvent(canvasHandler, node));
+
+        verify(validator, times(2)).markDirty(eq(node));
+        verify(validator).markDirty(eq(edge));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMarkElementsDirtyForNotValidatedCanvasHandler() {
+        tested.validate(canvasHandler, callback);
+
+        tested.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler2, node));
+
+        verify(validator, never()).markDirty(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCanvasElementsClear() {
+        tested.validate(canvasHandler, callback);
+
+        tested.onCanvasElementsClear(new CanvasElementsClearEvent(canvasHandler));
+        tested.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler, node));
+        tested.validate(canvasHandler, callback);
+
+        verify(validator, never()).markDirty(any());
+        verify(tested, times(2)).newValidator();
+    }
+
+    @Test
+    public void testSessionDestroyed() {
+        tested.validate(canvasHandler, callback);
+
+        tested.onSessionDestroyed(new SessionDestroyedEvent("session2", "diagram2", "graph2", null));
+        assertTrue(tested.isValidating(canvasHandler));
+
+        tested.onSessionDestroyed(new SessionDestroyedEvent("session1", "diagram1", GRAPH_UUID, null));
+        assertFalse(tested.isValidating(canvasHandler));
+    }
+}
@@ -60,11 +60,12 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
 
     @Override
     public DefinitionId getId(T pojo) {
-        final String fieldId = getBindings(pojo).getIdField();
+        final DefinitionAdapterBindings b = getBindings(pojo);
+        final String fieldId = b.getIdField();
         final String definitionId = getDefinitionId(pojo.getClass());
         if (null != fieldId) {
             final String id = BindableAdapterUtils.getDynamicDefinitionId(definitionId,
-                                                                          getFieldValue(pojo, fieldId));
+                                                                          getFieldValue(b, pojo, fieldId));
             return DefinitionId.build(id, definitionId.length());
         }
         return DefinitionId.build(definitionId);
@@ -72,14 +73,18 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
 
     @Override
     public String getCategory(T pojo) {
-        return getFieldValue(pojo,
-                             bindings.get(pojo.getClass()).getCategoryField());
+        final DefinitionAdapterBindings b = getBindings(pojo);
+        return getFieldValue(b,
+                             pojo,
+                             b.getCategoryField());
     }
 
     @Override
     public String getTitle(T pojo) {
-        String title = getFieldValue(pojo,
-                                     bindings.get(pojo.getClass()).getTitleField());
+        final DefinitionAdapterBindings b = getBindings(pojo);
+        String title = getFieldValue(b,
+                                     pojo,
+                                     b.getTitleField());
         if (isEmpty(title)) {
             return translationService.getDefinitionTitle(pojo.getClass().getName());
         }
@@ -88,8 +93,10 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
 
     @Override
     public String getDescription(T pojo) {
-        String description = getFieldValue(pojo,
-                                           bindings.get(pojo.getClass()).getDescriptionField());
+        final DefinitionAdapterBindings b = getBindings(pojo);
+        String description = getFieldValue(b,
+                                           pojo,
+                                           b.getDescriptionField());
         if (isEmpty(description)) {
             return translationService.getDefinitionDescription(pojo.getClass().getName());
         }
@@ -99,8 +106,8 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
     @Override
     @SuppressWarnings("all")
     public String[] getLabels(T pojo) {
-        final String fName = bindings.get(pojo.getClass()).getLabelsField();
-        final Object labels = getFieldValue(pojo, fName);
+        final DefinitionAdapterBindings b = getBindings(pojo);
+        final Object labels = getFieldValue(b, pojo, b.getLabelsField());
         if (labels instanceof Collection) {
             Collection<String> labelsCollection = (Collection<String>) labels;
             return labelsCollection.toArray(new String[labelsCollection.size()]);
@@ -119,11 +126,11 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
     @Override
     public Optional<?> getProperty(T pojo, String field) {
         DefinitionAdapterBindings b = bindings.get(pojo.getClass());
-        final int index = b.getPropertiesFieldNames().indexOf(field);
+        final int index = b.getPropertyIndex(field);
         if (index > -1) {
             final Boolean isTyped = b.getTypedPropertyFields().get(index);
             return isTyped ?
-                    Optional.ofNullable(getFieldValue(pojo, field)) :
+                    Optional.ofNullable(getFieldValue(b, pojo, field)) :
                     Optional.of(new DefinitionBindableProperty<>(pojo, field));
         } else {
             return Optional.empty();
@@ -188,8 +195,13 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
         return 0;
     }
 
+    // Prefers the generated getter of the field, if any, over the adapter functions.
     @SuppressWarnings("unchecked")
-    private <R> R getFieldValue(T pojo, String field) {
+    private <R> R getFieldValue(DefinitionAdapterBindings b, T pojo, String field) {
+        final int index = b.getFieldIndex(field);
+        if (index > -1) {
+            return (R) b.getFieldGetter(index).apply(pojo);
+        }
         return (R) functions.getValue(pojo, field);
     }
 
@@ -18,6 +18,8 @@ package org.kie.workbench.common.stunner.core.definition.adapter.binding;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
 
@@ -26,6 +28,8 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
     private final StunnerTranslationService translationService;
     private final BindableAdapterFunctions functions;
     private final Map<Class<?>, String> valueFields;
+    private final Map<Class<?>, Function<Object, Object>> valueGetters;
+    private final Map<Class<?>, BiConsumer<Object, Object>> valueSetters;
 
     public static BindablePropertyAdapterImpl<Object, Object> create(StunnerTranslationService translationService,
                                                                      BindableAdapterFunctions functions) {
@@ -44,6 +48,8 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
         this.translationService = translationService;
         this.functions = functions;
         this.valueFields = valueFields;
+        this.valueGetters = new HashMap<>(valueFields.size());
+        this.valueSetters = new HashMap<>(valueFields.size());
     }
 
     @Override
@@ -51,6 +57,20 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
         valueFields.put(type, valueField);
     }
 
+    @Override
+    public void addBinding(Class<?> type,
+                           String valueField,
+                           Function<Object, Object> valueGetter,
+                           BiConsumer<Object, Object> valueSetter) {
+        addBinding(type, valueField);
+        if (null != valueGetter) {
+            valueGetters.put(type, valueGetter);
+        }
+        if (null != valueSetter) {
+            valueSetters.put(type, valueSetter);
+        }
+    }
+
     @Override
     public String getId(T pojo) {
         return BindableAdapterUtils.getPropertyId(pojo.getClass());
@@ -62,12 +82,22 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public R getValue(T pojo) {
+        final Function<Object, Object> valueGetter = valueGetters.get(pojo.getClass());
+        if (null != valueGetter) {
+            return (R) valueGetter.apply(pojo);
+        }
         return getFieldValue(pojo, valueFields.get(pojo.getClass()));
     }
 
     @Override
     public void setValue(T pojo, R value) {
+        final BiConsumer<Object, Object> valueSetter = valueSetters.get(pojo.getClass());
+        if (null != valueSetter) {
+            valueSetter.accept(pojo, value);
+            return;
+        }
         setFieldValue(pojo,
                       valueFields.get(pojo.getClass()),
                       value);
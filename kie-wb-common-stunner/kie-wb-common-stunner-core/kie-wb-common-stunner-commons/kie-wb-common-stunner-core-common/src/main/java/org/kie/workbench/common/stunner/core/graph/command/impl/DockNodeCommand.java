@@ -77,6 +77,7 @@ public final class DockNodeCommand extends AbstractGraphCommand {
             parent.getOutEdges().add(edge);
             candidate.getInEdges().add(edge);
             getMutableIndex(context).addEdge(edge);
+            getMutableIndex(context).updateNode(candidate);
         }
         return results;
     }
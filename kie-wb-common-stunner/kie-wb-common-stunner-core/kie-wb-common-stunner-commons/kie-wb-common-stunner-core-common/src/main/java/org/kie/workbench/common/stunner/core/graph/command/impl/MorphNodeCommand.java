@@ -100,6 +100,7 @@ public final class MorphNodeCommand extends AbstractGraphCommand {
         for (String label : labels) {
             candidate.getLabels().add(label);
         }
+        getMutableIndex(context).updateNode(candidate);
         return results;
     }
 
@@ -89,6 +89,7 @@ public class RemoveChildrenCommand extends AbstractGraphCommand {
             parent.getOutEdges().remove(edge);
             candidate.getInEdges().remove(edge);
             getMutableIndex(context).removeEdge(edge);
+            getMutableIndex(context).updateNode(candidate);
         }
     }
 
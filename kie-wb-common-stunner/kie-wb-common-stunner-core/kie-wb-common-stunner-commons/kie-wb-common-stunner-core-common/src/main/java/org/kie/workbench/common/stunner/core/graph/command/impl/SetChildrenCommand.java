@@ -94,6 +94,7 @@ public class SetChildrenCommand extends AbstractGraphCommand {
         parent.getOutEdges().add(edge);
         candidate.getInEdges().add(edge);
         getMutableIndex(context).addEdge(edge);
+        getMutableIndex(context).updateNode(candidate);
     }
 
     @SuppressWarnings("unchecked")
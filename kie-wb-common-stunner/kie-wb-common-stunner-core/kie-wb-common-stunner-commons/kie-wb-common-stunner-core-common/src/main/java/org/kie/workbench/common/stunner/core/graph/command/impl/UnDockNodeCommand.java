@@ -82,6 +82,7 @@ public class UnDockNodeCommand extends AbstractGraphCommand {
         parent.getOutEdges().remove(edge);
         candidate.getInEdges().remove(edge);
         getMutableIndex(context).removeEdge(edge);
+        getMutableIndex(context).updateNode(candidate);
     }
 
     protected CommandResult<RuleViolation> check(final GraphCommandExecutionContext context) {
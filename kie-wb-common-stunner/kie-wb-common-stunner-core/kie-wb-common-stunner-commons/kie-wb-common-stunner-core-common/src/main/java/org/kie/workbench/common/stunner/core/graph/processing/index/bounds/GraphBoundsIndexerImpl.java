@@ -31,6 +31,8 @@ import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndex;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.AbstractChildrenTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
@@ -40,6 +42,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     ChildrenTraverseProcessor childrenTraverseProcessor;
     private Graph<View, Node<View, Edge>> graph;
+    private NodeBoundsGridIndex boundsIndex;
     private String rootUUID = null;
 
     @Inject
@@ -50,6 +53,17 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public GraphBoundsIndexerImpl build(final Graph<View, Node<View, Edge>> graph) {
         this.graph = graph;
+        this.boundsIndex = null;
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public GraphBoundsIndexerImpl build(final Index<?, ?> graphIndex) {
+        build((Graph) graphIndex.getGraph());
+        if (graphIndex instanceof MapIndex) {
+            this.boundsIndex = ((MapIndex) graphIndex).getBoundsIndex();
+        }
         return this;
     }
 
@@ -143,24 +157,21 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @SuppressWarnings("unchecked")
     public Node<View<?>, Edge> findElementAt(final double x,
                                              final double y) {
-        final Node[] result = new Node[1];
-        childrenTraverseProcessor.traverse(graph,
-                                           new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
+        final Node<View<?>, Edge> node = getBoundsIndex().findAt(x,
+                                                                 y);
+        if (null == node && null != rootUUID) {
+            // The root node, if present, contains any location.
+            return (Node) graph.getNode(rootUUID);
+        }
+        return node;
+    }
 
-                                               @Override
-                                               public void onNodeTraverse(final Node<View, Edge> node,
-                                                                          final double parentX,
-                                                                          final double parentY) {
-                                                   if (isNodeAt(node,
-                                                                parentX,
-                                                                parentY,
-                                                                x,
-                                                                y)) {
-                                                       result[0] = node;
-                                                   }
-                                               }
-                                           }));
-        return result[0];
+    @SuppressWarnings("unchecked")
+    private NodeBoundsGridIndex getBoundsIndex() {
+        if (null == boundsIndex) {
+            boundsIndex = new NodeBoundsGridIndex().build((Graph) graph);
+        }
+        return boundsIndex;
     }
 
     private Point2D getNodeCoordinates(final Node node) {
@@ -188,28 +199,6 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return new double[]{ulX, ulY, lrX, lrY};
     }
 
-    private boolean isNodeAt(final Node node,
-                             final double parentX,
-                             final double parentY,
-                             final double mouseX,
-                             final double mouseY) {
-        if (null != rootUUID && node.getUUID().equals(rootUUID)) {
-            return true;
-        }
-        final double[] absoluteCoords = getNodeAbsoluteCoordinates(node,
-                                                                   parentX,
-                                                                   parentY);
-        final double ulX = absoluteCoords[0];
-        final double ulY = absoluteCoords[1];
-        final double lrX = absoluteCoords[2];
-        final double lrY = absoluteCoords[3];
-        if (mouseX >= ulX && mouseX <= lrX &&
-                mouseY >= ulY && mouseY <= lrY) {
-            return true;
-        }
-        return false;
-    }
-
     @Override
     public GraphBoundsIndexer setRootUUID(final String uuid) {
         this.rootUUID = uuid;
@@ -219,6 +208,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public void destroy() {
         this.graph = null;
+        this.boundsIndex = null;
         this.rootUUID = null;
         this.childrenTraverseProcessor = null;
     }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bound;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+
+/**
+ * <p>A uniform grid based spatial index for the absolute bounds of the graph's nodes.</p>
+ * <p>Each node is bucketed into the fixed size cells its absolute bounds overlap, so point
+ * look-ups only check the nodes registered in the cells being queried, instead of traversing the whole graph.</p>
+ * <p>When several nodes match a point look-up, the one indexed last wins. Nodes are indexed in the same order
+ * as a children traversal visits them, and any (re)indexed node is also indexed again together with its children
+ * and docked nodes, so they always stay on top of it.</p>
+ * <p>The index is incremental: the graph commands notify the node changes (position, size or parent)
+ * through the graph index, see {@link org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex#updateNode(Node)}.</p>
+ */
+public class NodeBoundsGridIndex {
+
+    static final double DEFAULT_CELL_SIZE = 256d;
+
+    // Nodes spanning more cells than this are kept apart and checked on every look-up.
+    static final int MAX_CELLS_PER_NODE = 1024;
+
+    private final double cellSize;
+    private final Map<String, Entry> entries;
+    private final Map<Integer, Map<Integer, List<Entry>>> cells;
+    private final List<Entry> oversized;
+    private int sequence;
+
+    public NodeBoundsGridIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public NodeBoundsGridIndex(final double cellSize) {
+        this.cellSize = cellSize;
+        this.entries = new HashMap<>();
+        this.cells = new HashMap<>();
+        this.oversized = new ArrayList<>();
+        this.sequence = 0;
+    }
+
+    /**
+     * Indexes all the nodes in the graph, in the same order as a children traversal visits them.
+     */
+    @SuppressWarnings("unchecked")
+    public NodeBoundsGridIndex build(final Graph<?, Node> graph) {
+        clear();
+        for (final Node node : graph.nodes()) {
+            if (null == getParent(node, Child.class)) {
+                index(node);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Indexes, or re-indexes, the given node and all its children, as their absolute bounds depend on the node ones.
+     */
+    @SuppressWarnings("unchecked")
+    public NodeBoundsGridIndex index(final Node node) {
+        if (null == node || !(node.getContent() instanceof View)) {
+            return this;
+        }
+        final Node parent = getParent(node, Child.class);
+        final Point2D parentPosition = null != parent ? GraphUtils.getComputedPosition(parent) : null;
+        indexTree(node,
+                  null != parentPosition ? parentPosition.getX() : 0,
+                  null != parentPosition ? parentPosition.getY() : 0);
+        return this;
+    }
+
+    /**
+     * Removes the given node from the index. Its children, if any, are not removed.
+     */
+    public NodeBoundsGridIndex remove(final Node node) {
+        final Entry entry = entries.remove(node.getUUID());
+        if (null != entry) {
+            unregister(entry);
+        }
+        return this;
+    }
+
+    public boolean contains(final Node node) {
+        return entries.containsKey(node.getUUID());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the top-most node which bounds contain the given point, or <code>null</code> if none.
+     */
+    public Node findAt(final double x,
+                       final double y) {
+        Entry result = null;
+        final List<Entry> cell = getCell(toCell(x),
+                                         toCell(y));
+        if (null != cell) {
+            result = findAt(cell,
+                            x,
+                            y,
+                            result);
+        }
+        result = findAt(oversized,
+                        x,
+                        y,
+                        result);
+        return null != result ? result.node : null;
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+        oversized.clear();
+        sequence = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void indexTree(final Node node,
+                           final double parentX,
+                           final double parentY) {
+        if (!(node.getContent() instanceof View)) {
+            return;
+        }
+        final Bounds bounds = ((View) node.getContent()).getBounds();
+        final Bound ul = bounds.getUpperLeft();
+        final Bound lr = bounds.getLowerRight();
+        Entry entry = entries.get(node.getUUID());
+        if (null != entry) {
+            unregister(entry);
+        } else {
+            entry = new Entry(node);
+            entries.put(node.getUUID(),
+                        entry);
+        }
+        entry.order = sequence++;
+        entry.ulX = ul.getX() + parentX;
+        entry.ulY = ul.getY() + parentY;
+        entry.lrX = lr.getX() + parentX;
+        entry.lrY = lr.getY() + parentY;
+        register(entry);
+        final List<Edge> outEdges = node.getOutEdges();
+        if (null != outEdges) {
+            for (final Edge edge : outEdges) {
+                final Node target = edge.getTargetNode();
+                if (null != target) {
+                    if (edge.getContent() instanceof Child) {
+                        indexTree(target,
+                                  entry.ulX,
+                                  entry.ulY);
+                    } else if (edge.getContent() instanceof Dock) {
+                        // Docked nodes are positioned relative to their own parent, not to the docking one.
+                        index(target);
+                    }
+                }
+            }
+        }
+    }
+
+    private void register(final Entry entry) {
+        entry.minCellX = toCell(entry.ulX);
+        entry.maxCellX = toCell(entry.lrX);
+        entry.minCellY = toCell(entry.ulY);
+        entry.maxCellY = toCell(entry.lrY);
+        final long cellCount = ((long) (entry.maxCellX - entry.minCellX + 1)) * (entry.maxCellY - entry.minCellY + 1);
+        if (cellCount > MAX_CELLS_PER_NODE) {
+            entry.oversized = true;
+            oversized.add(entry);
+            return;
+        }
+        entry.oversized = false;
+        for (int i = entry.minCellX; i <= entry.maxCellX; i++) {
+            final Map<Integer, List<Entry>> column = cells.computeIfAbsent(i,
+                                                                           k -> new HashMap<>());
+            for (int j = entry.minCellY; j <= entry.maxCellY; j++) {
+                column.computeIfAbsent(j,
+                                       k -> new ArrayList<>(4)).add(entry);
+            }
+        }
+    }
+
+    private void unregister(final Entry entry) {
+        if (entry.oversized) {
+            oversized.remove(entry);
+            return;
+        }
+        for (int i = entry.minCellX; i <= entry.maxCellX; i++) {
+            final Map<Integer, List<Entry>> column = cells.get(i);
+            if (null != column) {
+                for (int j = entry.minCellY; j <= entry.maxCellY; j++) {
+                    final List<Entry> cell = column.get(j);
+                    if (null != cell) {
+                        cell.remove(entry);
+                        if (cell.isEmpty()) {
+                            column.remove(j);
+                        }
+                    }
+                }
+                if (column.isEmpty()) {
+                    cells.remove(i);
+                }
+            }
+        }
+    }
+
+    private List<Entry> getCell(final int x,
+                                final int y) {
+        final Map<Integer, List<Entry>> column = cells.get(x);
+        return null != column ? column.get(y) : null;
+    }
+
+    private int toCell(final double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static Entry findAt(final List<Entry> candidates,
+                                final double x,
+                                final double y,
+                                final Entry current) {
+        Entry result = current;
+        for (int i = 0; i < candidates.size(); i++) {
+            final Entry entry = candidates.get(i);
+            if (entry.contains(x, y) && (null == result || entry.isAbove(result))) {
+                result = entry;
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node getParent(final Node node,
+                                  final Class<?> relationshipType) {
+        final List<Edge> inEdges = node.getInEdges();
+        if (null != inEdges) {
+            for (final Edge edge : inEdges) {
+                if (relationshipType.isInstance(edge.getContent())) {
+                    return edge.getSourceNode();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static class Entry {
+
+        private final Node node;
+        private int order;
+        private double ulX;
+        private double ulY;
+        private double lrX;
+        private double lrY;
+        private boolean oversized;
+        private int minCellX;
+        private int maxCellX;
+        private int minCellY;
+        private int maxCellY;
+
+        private Entry(final Node node) {
+            this.node = node;
+        }
+
+        private boolean contains(final double x,
+                                 final double y) {
+            return x >= ulX && x <= lrX && y >= ulY && y <= lrY;
+        }
+
+        private boolean isAbove(final Entry other) {
+            return order > other.order;
+        }
+    }
+}
@@ -23,12 +23,19 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
+import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.NodeBoundsGridIndex;
 
+/**
+ * An index for the graph's elements, backed by maps. It's kept up to date by the graph commands, through
+ * the {@link MutableIndex} operations.
+ */
 public class MapIndex implements MutableIndex<Node, Edge> {
 
     final Graph<?, Node> graph;
     final Map<String, Node> nodes;
     final Map<String, Edge> edges;
+    NodeBoundsGridIndex boundsIndex;
+    NodeLabelsCounter labelsCounter;
 
     public MapIndex(final Graph<?, Node> graph,
                     final Map<String, Node> nodes,
@@ -62,16 +69,64 @@ public class MapIndex implements MutableIndex<Node, Edge> {
         return edges.get(uuid);
     }
 
+    /**
+     * Returns the spatial index for the absolute bounds of the graph's nodes.
+     * It's built on demand and then kept up to date by the graph commands.
+     */
+    public NodeBoundsGridIndex getBoundsIndex() {
+        if (null == boundsIndex) {
+            boundsIndex = new NodeBoundsGridIndex().build(graph);
+        }
+        return boundsIndex;
+    }
+
+    /**
+     * Returns the number of nodes for each label in the graph.
+     * It's built on demand and then kept up to date by the graph commands.
+     */
+    public NodeLabelsCounter getLabelsCounter() {
+        if (null == labelsCounter) {
+            labelsCounter = new NodeLabelsCounter().build(graph);
+        }
+        return labelsCounter;
+    }
+
     @Override
     public MutableIndex<Node, Edge> addNode(final Node node) {
         nodes.put(node.getUUID(),
                   node);
+        if (null != boundsIndex) {
+            boundsIndex.index(node);
+        }
+        if (null != labelsCounter) {
+            labelsCounter.add(node);
+        }
         return this;
     }
 
     @Override
     public MutableIndex<Node, Edge> removeNode(final Node node) {
         nodes.remove(node.getUUID());
+        if (null != boundsIndex) {
+            boundsIndex.remove(node);
+        }
+        if (null != labelsCounter) {
+            labelsCounter.remove(node);
+        }
+        return this;
+    }
+
+    @Override
+    public MutableIndex<Node, Edge> updateNode(final Node node) {
+        if (!nodes.containsKey(node.getUUID())) {
+            return this;
+        }
+        if (null != boundsIndex) {
+            boundsIndex.index(node);
+        }
+        if (null != labelsCounter) {
+            labelsCounter.update(node);
+        }
         return this;
     }
 
@@ -92,5 +147,13 @@ public class MapIndex implements MutableIndex<Node, Edge> {
     public void clear() {
         nodes.clear();
         edges.clear();
+        if (null != boundsIndex) {
+            boundsIndex.clear();
+            boundsIndex = null;
+        }
+        if (null != labelsCounter) {
+            labelsCounter.clear();
+            labelsCounter = null;
+        }
     }
 }
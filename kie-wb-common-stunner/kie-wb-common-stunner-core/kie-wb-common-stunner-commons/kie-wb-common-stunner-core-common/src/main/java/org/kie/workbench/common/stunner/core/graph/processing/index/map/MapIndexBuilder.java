@@ -33,19 +33,6 @@ public class MapIndexBuilder implements GraphIndexBuilder<MapIndex> {
     @Override
     public MapIndex build(final Graph<?, Node> graph) {
         assert graph != null;
-        return doWork(graph,
-                      null);
-    }
-
-    @Override
-    public void update(final MapIndex index,
-                       final Graph<?, Node> graph) {
-        doWork(graph,
-               index);
-    }
-
-    private MapIndex doWork(final Graph<?, Node> graph,
-                            final MapIndex current) {
         final Map<String, Node> nodes = new HashMap<>();
         final Map<String, Edge> edges = new HashMap<>();
         Iterable<Node> nodesIter = graph.nodes();
@@ -54,19 +41,9 @@ public class MapIndexBuilder implements GraphIndexBuilder<MapIndex> {
                         edges,
                         node);
         }
-        if (null == current) {
-            // Requesting a new index.
-            return new MapIndex(graph,
-                                nodes,
-                                edges);
-        } else {
-            // Updating an existing index.
-            current.nodes.clear();
-            current.nodes.putAll(nodes);
-            current.edges.clear();
-            current.edges.putAll(edges);
-            return current;
-        }
+        return new MapIndex(graph,
+                            nodes,
+                            edges);
     }
 
     @SuppressWarnings("unchecked")
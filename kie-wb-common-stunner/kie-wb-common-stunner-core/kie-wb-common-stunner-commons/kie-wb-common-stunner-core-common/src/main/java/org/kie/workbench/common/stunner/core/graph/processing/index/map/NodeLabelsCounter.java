@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.map;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+
+/**
+ * <p>Keeps the number of nodes in the graph for each label, so cardinality rules do not have to
+ * count the labels along the whole graph on each evaluation.</p>
+ * <p>The labels counted for each node are kept as well, so the counts are still right
+ * once the labels for a node change, see {@link #update(Node)}.</p>
+ */
+public class NodeLabelsCounter {
+
+    private final Map<String, Integer> counts;
+    private final Map<String, Set<String>> nodeLabels;
+
+    public NodeLabelsCounter() {
+        this.counts = new HashMap<>();
+        this.nodeLabels = new HashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    public NodeLabelsCounter build(final Graph<?, Node> graph) {
+        clear();
+        for (final Node node : graph.nodes()) {
+            add(node);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public NodeLabelsCounter add(final Node node) {
+        remove(node);
+        final Set<String> labels = null != node.getLabels() ? new HashSet<String>(node.getLabels()) : new HashSet<>();
+        nodeLabels.put(node.getUUID(),
+                       labels);
+        for (final String label : labels) {
+            final Integer count = counts.get(label);
+            counts.put(label,
+                       null != count ? count + 1 : 1);
+        }
+        return this;
+    }
+
+    public NodeLabelsCounter remove(final Node node) {
+        final Set<String> labels = nodeLabels.remove(node.getUUID());
+        if (null != labels) {
+            for (final String label : labels) {
+                final Integer count = counts.get(label);
+                if (null == count || count <= 1) {
+                    counts.remove(label);
+                } else {
+                    counts.put(label,
+                               count - 1);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Counts again the labels for the given node, if already counted.
+     */
+    public NodeLabelsCounter update(final Node node) {
+        if (nodeLabels.containsKey(node.getUUID())) {
+            add(node);
+        }
+        return this;
+    }
+
+    public int getCount(final String label) {
+        final Integer count = counts.get(label);
+        return null != count ? count : 0;
+    }
+
+    public Set<String> getLabels() {
+        return Collections.unmodifiableSet(counts.keySet());
+    }
+
+    public void clear() {
+        counts.clear();
+        nodeLabels.clear();
+    }
+}
@@ -16,7 +16,12 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step01;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.enterprise.inject.Default;
@@ -34,9 +39,13 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
 
     private LayeredGraph graph;
     private final HashSet<String> visitedVertices;
+    private final HashSet<String> finishedVertices;
+    private final Map<String, List<OrientedEdge>> outgoingEdges;
 
     public ReverseEdgesCycleBreaker() {
         this.visitedVertices = new HashSet<>();
+        this.finishedVertices = new HashSet<>();
+        this.outgoingEdges = new HashMap<>();
     }
 
     /**
@@ -46,6 +55,11 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
     @Override
     public void breakCycle(final ReorderedGraph graph) {
         this.graph = (LayeredGraph) graph;
+        this.finishedVertices.clear();
+        this.outgoingEdges.clear();
+        for (final OrientedEdge edge : this.graph.getEdges()) {
+            addOutgoingEdge(edge);
+        }
 
         for (final String vertex : this.graph.getVertices()) {
             visit(vertex);
@@ -54,6 +68,7 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
 
     /**
      * Visit a vertex searching for acyclic paths.
+     * A finished vertex is not visited again, as the cycles reachable from it are already broken.
      * @param vertex The vertex to visit.
      * @return true if the path is acyclic, false if is cyclic.
      */
@@ -62,37 +77,45 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
             // Found a cycle.
             return false;
         }
+        if (finishedVertices.contains(vertex)) {
+            return true;
+        }
         visitedVertices.add(vertex);
 
         final String[] verticesFromThis = getVerticesFrom(vertex);
         for (final String nextVertex : verticesFromThis) {
             if (!visit(nextVertex)) {
-                final OrientedEdge toReverse = this.graph.getEdges()
+                final List<OrientedEdge> edgesFromThis = outgoingEdges.get(vertex);
+                final OrientedEdge toReverse = edgesFromThis
                         .stream()
-                        .filter(edge -> Objects.equals(edge.getFromVertexId(), vertex)
-                                && Objects.equals(edge.getToVertexId(), nextVertex))
+                        .filter(edge -> Objects.equals(edge.getToVertexId(), nextVertex))
                         .findFirst()
                         .orElse(null);
 
                 if (toReverse != null) {
                     this.graph.getEdges().remove(toReverse);
+                    edgesFromThis.remove(toReverse);
                     final OrientedEdge reversed = new OrientedEdgeImpl(toReverse.getToVertexId(), toReverse.getFromVertexId());
                     this.graph.getEdges().add(reversed);
+                    addOutgoingEdge(reversed);
                 }
             }
         }
 
         visitedVertices.remove(vertex);
+        finishedVertices.add(vertex);
         return true;
     }
 
     private String[] getVerticesFrom(final String vertex) {
         final HashSet<String> verticesFrom = new HashSet<>();
-        for (final OrientedEdge edge : this.graph.getEdges()) {
-            if (Objects.equals(edge.getFromVertexId(), vertex)) {
-                verticesFrom.add(edge.getToVertexId());
-            }
+        for (final OrientedEdge edge : outgoingEdges.getOrDefault(vertex, Collections.emptyList())) {
+            verticesFrom.add(edge.getToVertexId());
         }
         return verticesFrom.toArray(new String[0]);
     }
-}
\ No newline at end of file
+
+    private void addOutgoingEdge(final OrientedEdge edge) {
+        outgoingEdges.computeIfAbsent(edge.getFromVertexId(), v -> new ArrayList<>()).add(edge);
+    }
+}
@@ -16,8 +16,12 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step02;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -28,6 +32,7 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayerImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
 /**
  * Assign each vertex in a graph to a layer, using the longest path algorithm.
@@ -37,10 +42,14 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
 
     private Vertex[] vertices;
     private final HashMap<String, Integer> vertexHeight;
+    private final Map<String, Vertex> verticesById;
+    private final Map<String, List<String>> verticesFrom;
     private LayeredGraph graph;
 
     public LongestPathVertexLayerer() {
         this.vertexHeight = new HashMap<>();
+        this.verticesById = new HashMap<>();
+        this.verticesFrom = new HashMap<>();
     }
 
     /**
@@ -51,11 +60,18 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
     public void createLayers(final ReorderedGraph graph) {
         this.graph = (LayeredGraph) graph;
         this.vertices = new Vertex[this.graph.getVertices().size()];
+        this.verticesById.clear();
+        this.verticesFrom.clear();
 
         for (int i = 0; i < this.graph.getVertices().size(); i++) {
             final String v = this.graph.getVertices().get(i);
             this.vertices[i] = new Vertex(v);
             this.vertexHeight.put(v, -1);
+            this.verticesById.putIfAbsent(v, this.vertices[i]);
+        }
+
+        for (final OrientedEdge edge : this.graph.getEdges()) {
+            this.verticesFrom.computeIfAbsent(edge.getFromVertexId(), v -> new ArrayList<>()).add(edge.getToVertexId());
         }
 
         for (final Vertex vertex : this.vertices) {
@@ -71,15 +87,13 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
 
         int maxHeight = 1;
 
-        final String[] verticesFromHere = graph.getVerticesFrom(vertex.getId());
+        final String[] verticesFromHere = getVerticesFrom(vertex.getId());
         for (final String nextVertex : verticesFromHere) {
             if (!Objects.equals(nextVertex, vertex.getId())) {
-                final Vertex next = Arrays.stream(this.vertices)
-                        .filter(f -> Objects.equals(f.getId(), nextVertex))
-                        .findFirst()
-                        .orElseThrow(() -> new NoSuchElementException(
-                                "Can not found the vertex pointed in other side of the OrientedEdge."
-                        ));
+                final Vertex next = verticesById.get(nextVertex);
+                if (null == next) {
+                    throw new NoSuchElementException("Can not found the vertex pointed in other side of the OrientedEdge.");
+                }
 
                 final int targetHeight = visit(next);
                 maxHeight = Math.max(maxHeight, targetHeight + 1);
@@ -90,6 +104,18 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
         return maxHeight;
     }
 
+    /**
+     * Same as {@link LayeredGraph#getVerticesFrom(String)}, but using the vertices indexed from the edges, so it
+     * does not go through all the edges for each vertex.
+     */
+    private String[] getVerticesFrom(final String vertex) {
+        final HashSet<String> verticesFromThis = new HashSet<>();
+        for (final String next : verticesFrom.getOrDefault(vertex, Collections.emptyList())) {
+            verticesFromThis.add(next);
+        }
+        return verticesFromThis.toArray(new String[0]);
+    }
+
     private void addToLayer(final Vertex vertex,
                             final int height) {
         for (int i = this.graph.getLayers().size(); i < height; i++) {
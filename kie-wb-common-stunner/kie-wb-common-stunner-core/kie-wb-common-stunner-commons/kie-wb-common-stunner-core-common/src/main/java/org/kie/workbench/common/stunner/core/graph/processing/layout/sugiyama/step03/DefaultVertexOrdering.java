@@ -17,9 +17,13 @@
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.Set;
 
 import javax.enterprise.inject.Default;
 import javax.inject.Inject;
@@ -31,8 +35,6 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.Gr
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Order vertices inside layers trying to reduce crossing between edges.
  */
@@ -66,6 +68,7 @@ public final class DefaultVertexOrdering implements VertexOrdering {
 
     /**
      * Reorder the vertices to reduce edges crossing.
+     * It stops as soon as an iteration does not reduce the crossings.
      * @param graph The graph.
      */
     @Override
@@ -73,23 +76,17 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         final LayeredGraph layered = (LayeredGraph) graph;
         final List<OrientedEdge> edges = graph.getEdges();
         final List<GraphLayer> virtualized = createVirtual(edges, layered);
+        final VerticesAdjacency adjacency = new VerticesAdjacency(edges);
         List<GraphLayer> best = clone(virtualized);
+        int bestCrossing = this.crossingCount.crossing(best, adjacency);
 
-        final Object[][] nestedBestRanks = new Object[virtualized.size()][];
-        // Starts with the current order
-        for (int i = 0; i < nestedBestRanks.length; i++) {
-            final GraphLayer layer = best.get(i);
-            nestedBestRanks[i] = new Object[layer.getVertices().size()];
-            for (int j = 0; j < layer.getVertices().size(); j++) {
-                nestedBestRanks[i][j] = layer.getVertices().get(j);
-            }
-        }
-
-        for (int i = 0; i < MAX_ITERATIONS; i++) {
+        for (int i = 0; i < MAX_ITERATIONS && bestCrossing > 0; i++) {
             this.vertexPositioning.positionVertices(virtualized, edges, i);
             this.verticesTransposer.transpose(virtualized, edges, i);
-            if (this.crossingCount.crossing(best, edges) > this.crossingCount.crossing(virtualized, edges)) {
+            final int crossing = this.crossingCount.crossing(virtualized, adjacency);
+            if (bestCrossing > crossing) {
                 best = clone(virtualized);
+                bestCrossing = crossing;
             } else {
                 break;
             }
@@ -117,55 +114,101 @@ public final class DefaultVertexOrdering implements VertexOrdering {
                                            final LayeredGraph graph) {
         int virtualIndex = 0;
         final List<GraphLayer> virtualized = clone(graph.getLayers());
+        final Map<String, Integer> layerNumbers = new HashMap<>();
+        for (final GraphLayer layer : virtualized) {
+            for (final Vertex vertex : layer.getVertices()) {
+                layerNumbers.putIfAbsent(vertex.getId(), layer.getLevel());
+            }
+        }
+        final Map<String, List<OrientedEdge>> outgoingEdges = new HashMap<>();
+        final Map<String, List<OrientedEdge>> incomingEdges = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            index(edge, outgoingEdges, incomingEdges);
+        }
+        final Set<OrientedEdge> removed = Collections.newSetFromMap(new IdentityHashMap<>());
 
         for (int i = 0; i < virtualized.size() - 1; i++) {
             final GraphLayer currentLayer = virtualized.get(i);
             final GraphLayer nextLayer = virtualized.get(i + 1);
             for (final Vertex vertex : currentLayer.getVertices()) {
+                final int layerNumber = getLayerNumber(vertex.getId(), layerNumbers);
 
-                final List<OrientedEdge> outgoing = edges.stream()
-                        .filter(e -> Objects.equals(e.getFromVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getToVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<OrientedEdge> outgoing = new ArrayList<>();
+                for (final OrientedEdge e : outgoingEdges.getOrDefault(vertex.getId(), Collections.emptyList())) {
+                    if (Math.abs(getLayerNumber(e.getToVertexId(), layerNumbers) - layerNumber) > 1) {
+                        outgoing.add(e);
+                    }
+                }
 
-                final List<OrientedEdge> incoming = edges.stream()
-                        .filter(e -> Objects.equals(e.getToVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getFromVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<OrientedEdge> incoming = new ArrayList<>();
+                for (final OrientedEdge e : incomingEdges.getOrDefault(vertex.getId(), Collections.emptyList())) {
+                    if (Math.abs(getLayerNumber(e.getFromVertexId(), layerNumbers) - layerNumber) > 1) {
+                        incoming.add(e);
+                    }
+                }
 
                 for (final OrientedEdge edge : outgoing) {
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
-                    edges.remove(edge);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
+                    remove(edge, outgoingEdges, incomingEdges);
+                    removed.add(edge);
                     final OrientedEdge v1 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
-                    edges.add(v1);
-                    edges.add(v2);
+                    add(v1, edges, outgoingEdges, incomingEdges);
+                    add(v2, edges, outgoingEdges, incomingEdges);
                 }
 
                 for (final OrientedEdge edge : incoming) {
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
-                    edges.remove(edge);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
+                    remove(edge, outgoingEdges, incomingEdges);
+                    removed.add(edge);
                     final OrientedEdge v1 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
-                    edges.add(v1);
-                    edges.add(v2);
+                    add(v1, edges, outgoingEdges, incomingEdges);
+                    add(v2, edges, outgoingEdges, incomingEdges);
                 }
             }
         }
 
+        // Removing each replaced edge from the list as it is found would take linear time each time.
+        if (!removed.isEmpty()) {
+            edges.removeIf(removed::contains);
+        }
+
         return virtualized;
     }
 
+    private static void add(final OrientedEdge edge,
+                            final List<OrientedEdge> edges,
+                            final Map<String, List<OrientedEdge>> outgoingEdges,
+                            final Map<String, List<OrientedEdge>> incomingEdges) {
+        edges.add(edge);
+        index(edge, outgoingEdges, incomingEdges);
+    }
+
+    private static void index(final OrientedEdge edge,
+                              final Map<String, List<OrientedEdge>> outgoingEdges,
+                              final Map<String, List<OrientedEdge>> incomingEdges) {
+        outgoingEdges.computeIfAbsent(edge.getFromVertexId(), v -> new ArrayList<>()).add(edge);
+        incomingEdges.computeIfAbsent(edge.getToVertexId(), v -> new ArrayList<>()).add(edge);
+    }
+
+    private static void remove(final OrientedEdge edge,
+                               final Map<String, List<OrientedEdge>> outgoingEdges,
+                               final Map<String, List<OrientedEdge>> incomingEdges) {
+        outgoingEdges.get(edge.getFromVertexId()).removeIf(e -> e == edge);
+        incomingEdges.get(edge.getToVertexId()).removeIf(e -> e == edge);
+    }
+
     private int getLayerNumber(final String vertex,
-                               final List<GraphLayer> layers) {
-        final GraphLayer layer = layers
-                .stream()
-                .filter(l -> l.getVertices().stream().anyMatch(v -> Objects.equals(v.getId(), vertex)))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Can not found the layer of the vertex."));
-
-        return layer.getLevel();
+                               final Map<String, Integer> layerNumbers) {
+        final Integer layerNumber = layerNumbers.get(vertex);
+        if (null == layerNumber) {
+            throw new NoSuchElementException("Can not found the layer of the vertex.");
+        }
+        return layerNumber;
     }
-}
\ No newline at end of file
+}
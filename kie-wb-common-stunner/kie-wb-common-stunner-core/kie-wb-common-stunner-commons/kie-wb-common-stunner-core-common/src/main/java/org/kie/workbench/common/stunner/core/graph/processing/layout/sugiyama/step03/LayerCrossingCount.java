@@ -16,15 +16,18 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
 /**
  * Counts the edges crossing.
+ * It uses the accumulator tree method (Barth, Juenger and Mutzel 2002), so counting the crossings between
+ * two layers takes O(e log v), where e is the number of edges between the layers and v the number of
+ * vertices in the south layer.
  */
 public class LayerCrossingCount {
 
@@ -43,8 +46,32 @@ public class LayerCrossingCount {
     public int crossing(final List<OrientedEdge> edges,
                         final GraphLayer north,
                         final GraphLayer south) {
+        return crossing(new VerticesAdjacency(edges), north, south);
+    }
+
+    /**
+     * Counts the total of edges crossing in all layers.
+     * @param layers Existing layers.
+     * @param edges Existing edges.
+     * @return The sum of edges crossing between all layers.
+     */
+    int crossing(final List<GraphLayer> layers,
+                 final List<OrientedEdge> edges) {
+        return crossing(layers, new VerticesAdjacency(edges));
+    }
+
+    int crossing(final List<GraphLayer> layers,
+                 final VerticesAdjacency adjacency) {
+        int crossingCount = 0;
+        for (int i = 1; i < layers.size(); i++) {
+            crossingCount += crossing(adjacency, layers.get(i - 1), layers.get(i));
+        }
+        return crossingCount;
+    }
 
-        final Object[] entries = flat(edges, north, south);
+    int crossing(final VerticesAdjacency adjacency,
+                 final GraphLayer north,
+                 final GraphLayer south) {
 
         int firstIndex = 1;
         while (firstIndex < south.getVertices().size()) {
@@ -54,63 +81,47 @@ public class LayerCrossingCount {
         firstIndex -= 1;
         final int[] tree = new int[treeSize];
 
+        final Map<String, Integer> southPositions = VerticesAdjacency.getPositions(south);
         int crossings = 0;
 
-        for (final Object entry : entries) {
-            int index = ((Integer) entry) + firstIndex;
-            if (index < 0) {
-                continue;
-            }
-            tree[index] += DEFAULT_VERTEX_WEIGHT;
-            int weightSum = 0;
-            while (index > 0) {
-                if (index % 2 != 0) {
-                    weightSum += tree[index + 1];
-                }
-                index = (index - 1) >> 1;
+        // The edges are inserted sorted by their north position first, and then by their south position.
+        for (final Vertex vertex : north.getVertices()) {
+            for (final int position : adjacency.getAdjacentPositions(vertex.getId(), southPositions)) {
+                int index = position + firstIndex;
                 tree[index] += DEFAULT_VERTEX_WEIGHT;
+                int weightSum = 0;
+                while (index > 0) {
+                    if (index % 2 != 0) {
+                        weightSum += tree[index + 1];
+                    }
+                    index = (index - 1) >> 1;
+                    tree[index] += DEFAULT_VERTEX_WEIGHT;
+                }
+                crossings += DEFAULT_VERTEX_WEIGHT * weightSum;
             }
-            crossings += DEFAULT_VERTEX_WEIGHT * weightSum;
         }
 
         return crossings;
     }
 
     /**
-     * Counts the total of edges crossing in all layers.
-     * @param layers Existing layers.
-     * @param edges Existing edges.
-     * @return The sum of edges crossing between all layers.
+     * Counts the crossings between the edges of two neighbour vertices of the same layer, the left one being
+     * connected to the given left positions in the neighbour layer, and the right one to the right positions.
+     * @param leftPositions The positions connected to the left vertex, in ascending order.
+     * @param rightPositions The positions connected to the right vertex, in ascending order.
+     * @return The number of crossings between the edges of both vertices.
      */
-    int crossing(final List<GraphLayer> layers,
-                 final List<OrientedEdge> edges) {
-        int crossingCount = 0;
-        for (int i = 1; i < layers.size(); i++) {
-            crossingCount += crossing(edges, layers.get(i - 1), layers.get(i));
-        }
-        return crossingCount;
-    }
-
-    private Object[] flat(final List<OrientedEdge> edges,
-                          final GraphLayer north,
-                          final GraphLayer south) {
-
-        final ArrayList<String> southPos = new ArrayList<>(south.getVertices().size());
-        for (int i = 0; i < south.getVertices().size(); i++) {
-            southPos.add(south.getVertices().get(i).getId());
+    int crossing(final int[] leftPositions,
+                 final int[] rightPositions) {
+        // Every edge from the left vertex crosses the edges from the right vertex reaching a lower position.
+        int crossings = 0;
+        int lower = 0;
+        for (final int position : leftPositions) {
+            while (lower < rightPositions.length && rightPositions[lower] < position) {
+                lower++;
+            }
+            crossings += lower;
         }
-
-        return north.getVertices().stream().flatMap(v -> {
-            List<OrientedEdge> connectedEdges = edges.stream()
-                    .filter(e -> (e.getToVertexId().equals(v.getId()) || e.getFromVertexId().equals(v.getId())))
-                    .collect(Collectors.toList());
-
-            return connectedEdges.stream().map(e -> {
-                if (southPos.contains(e.getToVertexId())) {
-                    return southPos.indexOf(e.getToVertexId());
-                }
-                return southPos.indexOf(e.getFromVertexId());
-            }).sorted();
-        }).toArray();
+        return crossings;
     }
-}
\ No newline at end of file
+}
@@ -16,10 +16,9 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
 
 import javax.enterprise.inject.Default;
 
@@ -45,12 +44,14 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
                                  final List<OrientedEdge> edges,
                                  final int currentIteration) {
 
+        final VerticesAdjacency adjacency = new VerticesAdjacency(edges);
         if ((currentIteration % 2 == 0)) {
             for (int j = layers.size() - 1; j >= 1; j--) {
                 final GraphLayer currentLayer = layers.get(j);
+                final Map<String, Integer> positions = VerticesAdjacency.getPositions(layers.get(j - 1));
                 for (final Vertex vertex : currentLayer.getVertices()) {
                     //positionVertices value of vertices in rank r-1 connected to v
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j - 1), edges);
+                    final double median = calculateMedian(vertex.getId(), positions, adjacency);
                     vertex.setMedian(median);
                 }
 
@@ -60,9 +61,10 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
         } else {
             for (int j = 0; j < layers.size() - 1; j++) {
                 final GraphLayer currentLayer = layers.get(j);
+                final Map<String, Integer> positions = VerticesAdjacency.getPositions(layers.get(j + 1));
 
                 for (final Vertex vertex : layers.get(j).getVertices()) {
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j + 1), edges);
+                    final double median = calculateMedian(vertex.getId(), positions, adjacency);
                     vertex.setMedian(median);
                 }
 
@@ -81,41 +83,49 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
     public double calculateMedianOfVerticesConnectedTo(final String vertex,
                                                        final GraphLayer layer,
                                                        final List<OrientedEdge> edges) {
-        final List<Integer> connectedVerticesIndex = new ArrayList<>();
-        final List<Vertex> vertices = layer.getVertices();
-        for (int i = 0; i < vertices.size(); i++) {
-            final Vertex vertexInLayer = vertices.get(i);
+        return calculateMedian(vertex,
+                               VerticesAdjacency.getPositions(layer),
+                               new VerticesAdjacency(edges));
+    }
 
-            final boolean hasConnection = edges.stream()
-                    .anyMatch(e -> e.isLinkedWithVertexId(vertexInLayer.getId()) && e.isLinkedWithVertexId(vertex));
+    private static double calculateMedian(final String vertex,
+                                          final Map<String, Integer> layerPositions,
+                                          final VerticesAdjacency adjacency) {
+        final int[] connectedVerticesIndex = distinct(adjacency.getAdjacentPositions(vertex, layerPositions));
 
-            if (hasConnection) {
-                connectedVerticesIndex.add(i);
-            }
-        }
-
-        final int size = connectedVerticesIndex.size();
+        final int size = connectedVerticesIndex.length;
 
         if (size == 0) {
-            final Optional<Vertex> first = layer.getVertices()
-                    .stream()
-                    .filter(v -> Objects.equals(v.getId(), vertex))
-                    .findFirst();
-            return first.map(vertex1 -> layer.getVertices().indexOf(vertex1)).orElse(-1);
+            return layerPositions.getOrDefault(vertex, -1);
         }
 
         if (size == 1) {
-            return connectedVerticesIndex.get(0);
+            return connectedVerticesIndex[0];
         }
 
         final double median;
 
         if (size % 2 == 0) {
-            median = ((double) connectedVerticesIndex.get(size / 2) + (double) connectedVerticesIndex.get(size / 2 - 1)) / 2;
+            median = ((double) connectedVerticesIndex[size / 2] + (double) connectedVerticesIndex[size / 2 - 1]) / 2;
         } else {
-            median = (double) connectedVerticesIndex.get(size / 2);
+            median = (double) connectedVerticesIndex[size / 2];
         }
 
         return median;
     }
-}
\ No newline at end of file
+
+    /**
+     * Removes the repeated values, as a vertex can be connected to another one through several edges.
+     * @param sorted The values, in ascending order.
+     * @return The distinct values, in ascending order.
+     */
+    private static int[] distinct(final int[] sorted) {
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
+
+/**
+ * Index of the vertices connected to each vertex, regardless of the edges direction.
+ * It is built once from the edges, so looking for the vertices connected to a vertex does not
+ * require to go through all the edges.
+ */
+final class VerticesAdjacency {
+
+    private final Map<String, List<String>> adjacentVertices;
+
+    VerticesAdjacency(final List<OrientedEdge> edges) {
+        this.adjacentVertices = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            add(edge.getFromVertexId(), edge.getToVertexId());
+            add(edge.getToVertexId(), edge.getFromVertexId());
+        }
+    }
+
+    /**
+     * Returns the vertices connected to a vertex, once per connecting edge.
+     * @param vertex The vertex.
+     * @return The connected vertices.
+     */
+    List<String> getAdjacentVertices(final String vertex) {
+        return adjacentVertices.getOrDefault(vertex, Collections.emptyList());
+    }
+
+    /**
+     * Returns the positions of the vertices connected to a vertex inside a layer, once per connecting edge.
+     * @param vertex The vertex.
+     * @param layerPositions The positions of the vertices in the layer, see {@link #getPositions(GraphLayer)}.
+     * @return The positions, in ascending order.
+     */
+    int[] getAdjacentPositions(final String vertex,
+                               final Map<String, Integer> layerPositions) {
+        final List<String> adjacent = getAdjacentVertices(vertex);
+        final int[] positions = new int[adjacent.size()];
+        int count = 0;
+        for (final String adjacentVertex : adjacent) {
+            final Integer position = layerPositions.get(adjacentVertex);
+            if (null != position) {
+                positions[count++] = position;
+            }
+        }
+        final int[] result = count == positions.length ? positions : Arrays.copyOf(positions, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the position of each vertex inside a layer.
+     * @param layer The layer.
+     * @return The position by vertex id.
+     */
+    static Map<String, Integer> getPositions(final GraphLayer layer) {
+        final List<Vertex> vertices = layer.getVertices();
+        final Map<String, Integer> positions = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            positions.putIfAbsent(vertices.get(i).getId(), i);
+        }
+        return positions;
+    }
+
+    private void add(final String vertex,
+                     final String adjacentVertex) {
+        adjacentVertices.computeIfAbsent(vertex, v -> new ArrayList<>()).add(adjacentVertex);
+    }
+}
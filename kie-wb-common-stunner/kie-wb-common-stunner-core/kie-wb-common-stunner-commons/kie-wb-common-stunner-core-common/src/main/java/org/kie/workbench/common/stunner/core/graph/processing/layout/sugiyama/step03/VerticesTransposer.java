@@ -16,8 +16,10 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -46,6 +48,8 @@ public class VerticesTransposer {
                    final List<OrientedEdge> edges,
                    final int currentIteration) {
 
+        final VerticesAdjacency adjacency = new VerticesAdjacency(edges);
+        final LayersState state = new LayersState(layers.size());
         boolean improved = true;
         final boolean bottomUp = (currentIteration % 2) == 0;
 
@@ -54,43 +58,125 @@ public class VerticesTransposer {
 
             if (bottomUp) {
                 for (int index = layers.size() - 1; index > 0; index--) {
-                    final GraphLayer current;
-                    final GraphLayer previous;
-                    current = layers.get(index - 1);
-                    previous = layers.get(index);
-                    improved = doTranspose(current, previous, edges);
+                    improved = doTranspose(layers, index - 1, index, adjacency, state);
                 }
             } else {
                 for (int index = 1; index < layers.size(); index++) {
-                    final GraphLayer current;
-                    final GraphLayer previous;
-                    current = layers.get(index);
-                    previous = layers.get(index - 1);
-                    improved = doTranspose(current, previous, edges);
+                    improved = doTranspose(layers, index, index - 1, adjacency, state);
                 }
             }
         }
     }
 
-    private boolean doTranspose(final GraphLayer current,
-                                final GraphLayer previous,
-                                final List<OrientedEdge> edges) {
+    /**
+     * Transposes the vertices of a layer unless neither the layer nor the previous one changed since the last
+     * time the layer was transposed without any swap, in which case there is nothing to swap again.
+     */
+    private boolean doTranspose(final List<GraphLayer> layers,
+                                final int current,
+                                final int previous,
+                                final VerticesAdjacency adjacency,
+                                final LayersState state) {
+        if (state.isUnchanged(current, previous)) {
+            return false;
+        }
+
+        int[][] connectedPositions = state.getConnectedPositions(current, previous);
+        if (null == connectedPositions) {
+            connectedPositions = getConnectedPositions(layers.get(current), layers.get(previous), adjacency);
+            state.setConnectedPositions(current, previous, connectedPositions);
+        }
+
+        final boolean improved = doTranspose(layers.get(current).getVertices(), connectedPositions);
+        state.transposed(current, previous, improved);
+        return improved;
+    }
 
+    private static int[][] getConnectedPositions(final GraphLayer current,
+                                                 final GraphLayer previous,
+                                                 final VerticesAdjacency adjacency) {
         final List<Vertex> vertices = current.getVertices();
+        final Map<String, Integer> previousPositions = VerticesAdjacency.getPositions(previous);
+        final int[][] connectedPositions = new int[vertices.size()][];
+        for (int i = 0; i < vertices.size(); i++) {
+            connectedPositions[i] = adjacency.getAdjacentPositions(vertices.get(i).getId(), previousPositions);
+        }
+        return connectedPositions;
+    }
+
+    /**
+     * Swaps neighbour vertices when it reduces the crossings with the previous layer. Swapping two
+     * neighbour vertices only changes the crossings between their own edges, so only those are counted.
+     * The connected positions are swapped along, so they stay valid while the previous layer does not change.
+     */
+    private boolean doTranspose(final List<Vertex> vertices,
+                                final int[][] connectedPositions) {
         boolean improved = false;
         for (int i = 1; i < vertices.size(); i++) {
 
-            final int currentCrossing = this.crossingCount.crossing(edges, previous, current);
-
-            Collections.swap(vertices, i, i - 1);
+            final int currentCrossing = this.crossingCount.crossing(connectedPositions[i - 1], connectedPositions[i]);
+            final int newCrossing = this.crossingCount.crossing(connectedPositions[i], connectedPositions[i - 1]);
 
-            final int newCrossing = this.crossingCount.crossing(edges, previous, current);
-            if (newCrossing >= currentCrossing) {
-                Collections.swap(vertices, i - 1, i);
-            } else {
+            if (newCrossing < currentCrossing) {
+                Collections.swap(vertices, i, i - 1);
+                final int[] swapped = connectedPositions[i];
+                connectedPositions[i] = connectedPositions[i - 1];
+                connectedPositions[i - 1] = swapped;
                 improved = true;
             }
         }
         return improved;
     }
-}
\ No newline at end of file
+
+    /**
+     * Keeps track of the changes of each layer, of the layers seen by its last transposition without swaps,
+     * and of the positions its vertices are connected to in the previous layer.
+     */
+    private static class LayersState {
+
+        private final int[] versions;
+        private final int[] transposedVersions;
+        private final int[] transposedPreviousVersions;
+        private final int[][][] connectedPositions;
+        private final int[] connectedPreviousVersions;
+
+        private LayersState(final int layers) {
+            this.versions = new int[layers];
+            this.transposedVersions = new int[layers];
+            this.transposedPreviousVersions = new int[layers];
+            this.connectedPositions = new int[layers][][];
+            this.connectedPreviousVersions = new int[layers];
+            Arrays.fill(transposedVersions, -1);
+        }
+
+        private boolean isUnchanged(final int current,
+                                    final int previous) {
+            return transposedVersions[current] == versions[current]
+                    && transposedPreviousVersions[current] == versions[previous];
+        }
+
+        private int[][] getConnectedPositions(final int current,
+                                              final int previous) {
+            return connectedPreviousVersions[current] == versions[previous] ? connectedPositions[current] : null;
+        }
+
+        private void setConnectedPositions(final int current,
+                                           final int previous,
+                                           final int[][] positions) {
+            connectedPositions[current] = positions;
+            connectedPreviousVersions[current] = versions[previous];
+        }
+
+        private void transposed(final int current,
+                                final int previous,
+                                final boolean swapped) {
+            if (swapped) {
+                versions[current]++;
+                transposedVersions[current] = -1;
+            } else {
+                transposedVersions[current] = versions[current];
+                transposedPreviousVersions[current] = versions[previous];
+            }
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -164,13 +166,7 @@ public class DefaultVertexPositioning implements VertexPositioning {
                                          final Set<Vertex> vertices) {
         final Set<String> ids = vertices.stream().map(Vertex::getId).collect(Collectors.toSet());
         for (final GraphLayer layer : layers) {
-            for (int i = 0; i < layer.getVertices().size(); i++) {
-                final Vertex existingVertex = layer.getVertices().get(i);
-                if (!ids.contains(existingVertex.getId())) {
-                    layer.getVertices().remove(existingVertex);
-                    i--;
-                }
-            }
+            layer.getVertices().removeIf(existingVertex -> !ids.contains(existingVertex.getId()));
         }
     }
 
@@ -243,14 +239,58 @@ public class DefaultVertexPositioning implements VertexPositioning {
         return false;
     }
 
+    /**
+     * Replaces every chain of edges passing through virtual vertices, like A->V1->V2->B, by a single
+     * edge A->B and removes the virtual vertices from the given set. Edges are indexed by their source
+     * vertex, so each chain is walked once instead of rescanning the whole edge list per virtual vertex.
+     */
     public void removeVirtualVertices(final List<OrientedEdge> edges,
                                       final Set<Vertex> vertices) {
-        while (vertices.stream().anyMatch(Vertex::isVirtual)) {
-            for (int i = 0; i < edges.size(); i++) {
-                if (removeVirtualVertex(edges.get(i), edges, vertices)) {
-                    i--;
-                }
+        final Set<String> virtualVertices = vertices.stream()
+                .filter(Vertex::isVirtual)
+                .map(Vertex::getId)
+                .collect(Collectors.toSet());
+        if (virtualVertices.isEmpty()) {
+            return;
+        }
+
+        final Map<String, OrientedEdge> edgeFromVirtual = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            if (virtualVertices.contains(edge.getFromVertexId())) {
+                edgeFromVirtual.putIfAbsent(edge.getFromVertexId(), edge);
+            }
+        }
+
+        final List<OrientedEdge> realEdges = new ArrayList<>(edges.size());
+        for (final OrientedEdge edge : edges) {
+            if (virtualVertices.contains(edge.getFromVertexId())) {
+                continue;
+            }
+
+            if (virtualVertices.contains(edge.getToVertexId())) {
+                realEdges.add(new OrientedEdgeImpl(edge.getFromVertexId(),
+                                                   getRealToVertex(edge.getToVertexId(), edgeFromVirtual, virtualVertices)));
+            } else {
+                realEdges.add(edge);
+            }
+        }
+
+        edges.clear();
+        edges.addAll(realEdges);
+        vertices.removeIf(Vertex::isVirtual);
+    }
+
+    private static String getRealToVertex(final String virtualVertex,
+                                          final Map<String, OrientedEdge> edgeFromVirtual,
+                                          final Set<String> virtualVertices) {
+        String current = virtualVertex;
+        while (virtualVertices.contains(current)) {
+            final OrientedEdge next = edgeFromVirtual.get(current);
+            if (next == null) {
+                throw new IllegalStateException("The virtual vertex " + current + " has no outgoing edge.");
             }
+            current = next.getToVertexId();
         }
+        return current;
     }
-}
\ No newline at end of file
+}
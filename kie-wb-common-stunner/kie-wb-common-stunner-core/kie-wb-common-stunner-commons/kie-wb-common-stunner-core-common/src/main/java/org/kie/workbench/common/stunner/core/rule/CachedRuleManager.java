@@ -29,6 +29,15 @@ import javax.enterprise.inject.Typed;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.registry.rule.RuleHandlerRegistry;
+import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.CardinalityEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.DockingEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.violations.EmptyRuleViolations;
 
 @Dependent
 @Typed(CachedRuleManager.class)
@@ -36,11 +45,23 @@ public class CachedRuleManager implements RuleManager {
 
     private final RuleManagerImpl ruleManager;
     private final Map<String, CachedContextRules> cachedContextRules;
+    private boolean compiled;
 
     @Inject
     public CachedRuleManager(final RuleManagerImpl ruleManager) {
         this.ruleManager = ruleManager;
         this.cachedContextRules = new HashMap<>(4);
+        this.compiled = true;
+    }
+
+    /**
+     * When enabled, the containment, docking, connection and occurrences rules are compiled into
+     * lookup tables, so allowed evaluations for those contexts do not go through the rule handlers.
+     * Enabled by default.
+     */
+    public CachedRuleManager setCompiled(final boolean compiled) {
+        this.compiled = compiled;
+        return this;
     }
 
     @PostConstruct
@@ -64,6 +85,13 @@ public class CachedRuleManager implements RuleManager {
     @Override
     public RuleViolations evaluate(final RuleSet ruleSet,
                                    final RuleEvaluationContext context) {
+        if (compiled) {
+            final RuleViolations violations = getCachedContextRules(ruleSet).evaluateCompiled(ruleSet,
+                                                                                              context);
+            if (null != violations) {
+                return violations;
+            }
+        }
         return ruleManager.evaluate(ruleSet,
                                     context);
     }
@@ -76,22 +104,70 @@ public class CachedRuleManager implements RuleManager {
 
     private Collection<Rule> getRulesByContext(final RuleSet ruleSet,
                                                final RuleEvaluationContext context) {
+        return getCachedContextRules(ruleSet).getRulesByContext(ruleSet,
+                                                                context);
+    }
+
+    private CachedContextRules getCachedContextRules(final RuleSet ruleSet) {
         CachedContextRules crs = cachedContextRules.get(ruleSet.getName());
         if (null == crs) {
             crs = new CachedContextRules();
             cachedContextRules.put(ruleSet.getName(),
                                    crs);
         }
-        return crs.getRulesByContext(ruleSet,
-                                     context);
+        return crs;
     }
 
     private class CachedContextRules {
 
         private final Map<Class<? extends RuleEvaluationContext>, List<Rule>> rulesByContent;
+        private final Map<Class<?>, Boolean> compiledByContextType;
+        private final Map<Class<? extends RuleEvaluationContext>, RuleDecisionTables> decisionTablesByContext;
 
         public CachedContextRules() {
             this.rulesByContent = new HashMap<>(15);
+            this.compiledByContextType = new HashMap<>(15);
+            this.decisionTablesByContext = new HashMap<>(15);
+        }
+
+        /**
+         * Returns the resulting violations for allowed evaluations, or <code>null</code> if the evaluation
+         * must be done by the rule handlers.
+         */
+        public RuleViolations evaluateCompiled(final RuleSet ruleSet,
+                                               final RuleEvaluationContext context) {
+            if (!isCompiled(context.getType())) {
+                return null;
+            }
+            RuleDecisionTables decisionTables = decisionTablesByContext.get(context.getClass());
+            if (null == decisionTables) {
+                decisionTables = RuleDecisionTables.compile(getRulesByContext(ruleSet,
+                                                                              context));
+                decisionTablesByContext.put(context.getClass(),
+                                            decisionTables);
+            }
+            final RuleDecisionTables.Decision decision = decisionTables.decide(context);
+            final boolean allowed = RuleDecisionTables.Decision.ALLOWED.equals(decision) ||
+                    (RuleDecisionTables.Decision.NO_RULES.equals(decision) && !context.isDefaultDeny());
+            if (!allowed) {
+                return null;
+            }
+            return decisionTables.hasExtensions() ?
+                    ruleManager.evaluateExtensions(getRulesByContext(ruleSet, context), context) :
+                    EmptyRuleViolations.INSTANCE;
+        }
+
+        // The tables only replace the default rule handlers.
+        private boolean isCompiled(final Class<?> contextType) {
+            Boolean result = compiledByContextType.get(contextType);
+            if (null == result) {
+                final Class<?> handlerType = getDefaultHandlerType(contextType);
+                final Collection<RuleEvaluationHandler> handlers = registry().getHandlersByContext(contextType);
+                result = null != handlerType && handlers.stream().allMatch(handlerType::isInstance);
+                compiledByContextType.put(contextType,
+                                          result);
+            }
+            return result;
         }
 
         public Collection<Rule> getRulesByContext(final RuleSet ruleSet,
@@ -117,6 +193,24 @@ public class CachedRuleManager implements RuleManager {
 
         public void clear() {
             rulesByContent.clear();
+            compiledByContextType.clear();
+            decisionTablesByContext.clear();
+        }
+
+        private Class<?> getDefaultHandlerType(final Class<?> contextType) {
+            if (ContainmentContext.class.equals(contextType)) {
+                return ContainmentEvaluationHandler.class;
+            }
+            if (DockingContext.class.equals(contextType)) {
+                return DockingEvaluationHandler.class;
+            }
+            if (ConnectionContext.class.equals(contextType)) {
+                return ConnectionEvaluationHandler.class;
+            }
+            if (CardinalityContext.class.equals(contextType)) {
+                return CardinalityEvaluationHandler.class;
+            }
+            return null;
         }
 
         private boolean accepts(final Collection<RuleEvaluationHandler> handlers,
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.rule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.ext.RuleExtension;
+import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
+import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.impl.CanDock;
+import org.kie.workbench.common.stunner.core.rule.impl.Occurrences;
+
+/**
+ * <p>The containment, docking, connection and occurrences rules, compiled into lookup tables
+ * keyed by role, so the evaluations for the domain contexts can be resolved without going through the
+ * rule handlers.</p>
+ * <p>The tables produce the same decisions as the
+ * {@link org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler},
+ * {@link org.kie.workbench.common.stunner.core.rule.handler.impl.DockingEvaluationHandler},
+ * {@link org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluationHandler} and
+ * {@link org.kie.workbench.common.stunner.core.rule.handler.impl.CardinalityEvaluationHandler} ones,
+ * but they do not build any violations, so denied evaluations must still be delegated to the handlers.</p>
+ */
+class RuleDecisionTables {
+
+    enum Decision {
+        /**
+         * Some rules apply and all of them allow the evaluation.
+         */
+        ALLOWED,
+        /**
+         * No rules apply for the evaluation.
+         */
+        NO_RULES,
+        /**
+         * Some rule denies the evaluation.
+         */
+        DENIED,
+        /**
+         * The context type is not supported by the tables.
+         */
+        UNKNOWN
+    }
+
+    // Parent role -> allowed candidate roles, for each rule.
+    private final Map<String, List<Set<String>>> containment;
+    private final Map<String, List<Set<String>>> docking;
+    // Connector role -> start role -> allowed end roles, for each rule.
+    private final Map<String, List<Map<String, Set<String>>>> connection;
+    // Role -> { min, max }, for each rule.
+    private final Map<String, List<int[]>> occurrences;
+    private final boolean hasExtensions;
+
+    private RuleDecisionTables(final Map<String, List<Set<String>>> containment,
+                               final Map<String, List<Set<String>>> docking,
+                               final Map<String, List<Map<String, Set<String>>>> connection,
+                               final Map<String, List<int[]>> occurrences,
+                               final boolean hasExtensions) {
+        this.containment = containment;
+        this.docking = docking;
+        this.connection = connection;
+        this.occurrences = occurrences;
+        this.hasExtensions = hasExtensions;
+    }
+
+    static RuleDecisionTables compile(final Collection<Rule> rules) {
+        final Map<String, List<Set<String>>> containment = new HashMap<>();
+        final Map<String, List<Set<String>>> docking = new HashMap<>();
+        final Map<String, List<Map<String, Set<String>>>> connection = new HashMap<>();
+        final Map<String, List<int[]>> occurrences = new HashMap<>();
+        boolean hasExtensions = false;
+        for (final Rule rule : rules) {
+            final Class<?> type = rule.getClass();
+            if (rule instanceof RuleExtension) {
+                hasExtensions = true;
+            } else if (CanContain.class.equals(type)) {
+                final CanContain canContain = (CanContain) rule;
+                getOrPut(containment, canContain.getRole()).add(new HashSet<>(canContain.getAllowedRoles()));
+            } else if (CanDock.class.equals(type)) {
+                final CanDock canDock = (CanDock) rule;
+                getOrPut(docking, canDock.getRole()).add(new HashSet<>(canDock.getAllowedRoles()));
+            } else if (CanConnect.class.equals(type)) {
+                final CanConnect canConnect = (CanConnect) rule;
+                final Map<String, Set<String>> permitted = new HashMap<>();
+                for (final CanConnect.PermittedConnection pc : canConnect.getPermittedConnections()) {
+                    permitted.computeIfAbsent(pc.getStartRole(), role -> new HashSet<>()).add(pc.getEndRole());
+                }
+                getOrPut(connection, canConnect.getRole()).add(permitted);
+            } else if (Occurrences.class.equals(type)) {
+                final Occurrences occurrence = (Occurrences) rule;
+                getOrPut(occurrences, occurrence.getRole()).add(new int[]{occurrence.getMinOccurrences(),
+                        occurrence.getMaxOccurrences()});
+            }
+        }
+        return new RuleDecisionTables(containment,
+                                      docking,
+                                      connection,
+                                      occurrences,
+                                      hasExtensions);
+    }
+
+    boolean hasExtensions() {
+        return hasExtensions;
+    }
+
+    Decision decide(final RuleEvaluationContext context) {
+        final Class<?> type = context.getType();
+        if (ContainmentContext.class.equals(type)) {
+            final ContainmentContext containmentContext = (ContainmentContext) context;
+            return decideByRoles(containment,
+                                 containmentContext.getParentRoles(),
+                                 containmentContext.getCandidateRoles());
+        }
+        if (DockingContext.class.equals(type)) {
+            final DockingContext dockingContext = (DockingContext) context;
+            return decideByRoles(docking,
+                                 dockingContext.getParentRoles(),
+                                 dockingContext.getCandidateRoles());
+        }
+        if (ConnectionContext.class.equals(type)) {
+            return decideConnection((ConnectionContext) context);
+        }
+        if (CardinalityContext.class.equals(type)) {
+            return decideCardinality((CardinalityContext) context);
+        }
+        return Decision.UNKNOWN;
+    }
+
+    private static Decision decideByRoles(final Map<String, List<Set<String>>> table,
+                                          final Set<String> parentRoles,
+                                          final Set<String> candidateRoles) {
+        boolean accepted = false;
+        for (final String parentRole : parentRoles) {
+            final List<Set<String>> rules = table.get(parentRole);
+            if (null != rules) {
+                accepted = true;
+                for (int i = 0; i < rules.size(); i++) {
+                    if (!containsAny(rules.get(i), candidateRoles)) {
+                        return Decision.DENIED;
+                    }
+                }
+            }
+        }
+        return accepted ? Decision.ALLOWED : Decision.NO_RULES;
+    }
+
+    private Decision decideConnection(final ConnectionContext context) {
+        final List<Map<String, Set<String>>> rules = connection.get(context.getConnectorRole());
+        if (null == rules) {
+            return Decision.NO_RULES;
+        }
+        final Set<String> sourceRoles = context.getSourceRoles().orElse(Collections.emptySet());
+        final Set<String> targetRoles = context.getTargetRoles().orElse(Collections.emptySet());
+        for (int i = 0; i < rules.size(); i++) {
+            if (!isConnectionPermitted(rules.get(i), sourceRoles, targetRoles)) {
+                return Decision.DENIED;
+            }
+        }
+        return Decision.ALLOWED;
+    }
+
+    private static boolean isConnectionPermitted(final Map<String, Set<String>> permitted,
+                                                 final Set<String> sourceRoles,
+                                                 final Set<String> targetRoles) {
+        for (final String sourceRole : sourceRoles) {
+            final Set<String> endRoles = permitted.get(sourceRole);
+            if (null != endRoles && containsAny(endRoles, targetRoles)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Decision decideCardinality(final CardinalityContext context) {
+        final Optional<CardinalityContext.Operation> operation = context.getOperation();
+        final int count = !operation.isPresent() ?
+                context.getCurrentCount() :
+                (CardinalityContext.Operation.ADD.equals(operation.get()) ?
+                        context.getCurrentCount() + context.getCandidateCount() :
+                        context.getCurrentCount() - context.getCandidateCount());
+        boolean accepted = false;
+        for (final String role : context.getRoles()) {
+            final List<int[]> rules = occurrences.get(role);
+            if (null != rules) {
+                accepted = true;
+                for (int i = 0; i < rules.size(); i++) {
+                    final int[] minMax = rules.get(i);
+                    if (count < minMax[0] || (minMax[1] > -1 && count > minMax[1])) {
+                        return Decision.DENIED;
+                    }
+                }
+            }
+        }
+        return accepted ? Decision.ALLOWED : Decision.NO_RULES;
+    }
+
+    private static boolean containsAny(final Set<String> allowed,
+                                       final Collection<String> roles) {
+        for (final String role : roles) {
+            if (allowed.contains(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> List<T> getOrPut(final Map<String, List<T>> table,
+                                        final String role) {
+        return table.computeIfAbsent(role, r -> new ArrayList<>(1));
+    }
+}
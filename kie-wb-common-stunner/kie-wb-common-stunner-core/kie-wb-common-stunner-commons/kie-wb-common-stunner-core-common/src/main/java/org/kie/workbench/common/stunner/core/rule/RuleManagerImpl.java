@@ -105,13 +105,24 @@ public class RuleManagerImpl implements RuleManager {
                 .forEach(results::addViolations);
 
         // Populate resulting violations with the ones from extension handlers' evaluation results.
+        results.addViolations(evaluateExtensions(rules,
+                                                 context));
+
+        return results;
+    }
+
+    /**
+     * Evaluates only the rule extensions present in the given rules.
+     */
+    public RuleViolations evaluateExtensions(final Collection<Rule> rules,
+                                             final RuleEvaluationContext context) {
+        final DefaultRuleViolations results = new DefaultRuleViolations();
         rules.stream()
                 .filter(rule -> isRuleExtension().test(rule))
                 .map(rule -> evaluateExtension((RuleExtension) rule, context))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .forEach(results::addViolations);
-
         return results;
     }
 
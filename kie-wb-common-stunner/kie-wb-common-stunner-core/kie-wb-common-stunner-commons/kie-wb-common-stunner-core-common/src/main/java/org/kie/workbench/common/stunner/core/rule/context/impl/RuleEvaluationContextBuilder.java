@@ -27,6 +27,7 @@ import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
 import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
 import org.kie.workbench.common.stunner.core.rule.context.ConnectorCardinalityContext;
@@ -197,6 +198,10 @@ public class RuleEvaluationContextBuilder {
             this(new StatefulGraphEvaluationState(graph));
         }
 
+        public StatefulGraphContextBuilder(final Index<?, ?> graphIndex) {
+            this(new StatefulGraphEvaluationState(graphIndex));
+        }
+
         public StatefulGraphContextBuilder(final StatefulGraphEvaluationState state) {
             super(state);
         }
@@ -23,7 +23,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -33,6 +36,9 @@ import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndex;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.NodeLabelsCounter;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.context.NodeContainmentContext;
 
@@ -45,8 +51,23 @@ public class StatefulGraphEvaluationState extends AbstractGraphEvaluationState {
     private final StatefulDockingState docking;
 
     public StatefulGraphEvaluationState(final Graph<?, ? extends Node> graph) {
+        this(graph,
+             null);
+    }
+
+    /**
+     * When the given index keeps the labels count for the graph's nodes, cardinality
+     * evaluations use it instead of counting the labels along the whole graph.
+     */
+    public StatefulGraphEvaluationState(final Index<?, ?> graphIndex) {
+        this(graphIndex.getGraph(),
+             graphIndex instanceof MapIndex ? ((MapIndex) graphIndex)::getLabelsCounter : null);
+    }
+
+    private StatefulGraphEvaluationState(final Graph<?, ? extends Node> graph,
+                                         final Supplier<NodeLabelsCounter> labelsCounter) {
         super(graph);
-        this.cardinality = new StatefulCardinalityState();
+        this.cardinality = new StatefulCardinalityState(labelsCounter);
         this.connectorCardinality = new StatefulConnectorCardinalityState();
         this.connection = new StatefulConnectionState();
         this.containment = new StatefulContainmentState();
@@ -104,10 +125,16 @@ public class StatefulGraphEvaluationState extends AbstractGraphEvaluationState {
 
         private final Collection<Element<? extends View<?>>> added;
         private final Collection<Element<? extends View<?>>> deleted;
+        private final Supplier<NodeLabelsCounter> labelsCounter;
 
         public StatefulCardinalityState() {
+            this(null);
+        }
+
+        StatefulCardinalityState(final Supplier<NodeLabelsCounter> labelsCounter) {
             this.added = new HashSet<>();
             this.deleted = new HashSet<>();
+            this.labelsCounter = labelsCounter;
         }
 
         boolean add(final Element<? extends View<?>> element) {
@@ -133,6 +160,51 @@ public class StatefulGraphEvaluationState extends AbstractGraphEvaluationState {
                                                           this::appendAddedNodes));
         }
 
+        /**
+         * Same results as counting the labels for the {@link #nodes()}, but starting from the counts
+         * kept by the graph index, so only the added and deleted elements have to be processed.
+         */
+        @Override
+        public Optional<Map<String, Integer>> getLabelsCount(final Set<String> roleFilter) {
+            if (null == labelsCounter) {
+                return Optional.empty();
+            }
+            final NodeLabelsCounter counter = labelsCounter.get();
+            final Set<String> roles = null != roleFilter ? roleFilter : counter.getLabels();
+            final Map<String, Integer> labelsCount = new HashMap<>();
+            for (final String role : roles) {
+                final int count = counter.getCount(role)
+                        - countLabel(role, deleted, true)
+                        + countLabel(role, added, false);
+                if (count > 0) {
+                    labelsCount.put(role, count);
+                }
+            }
+            // Labels only present in the added elements.
+            if (null == roleFilter) {
+                added.stream()
+                        .filter(e -> Objects.nonNull(e.asNode()))
+                        .flatMap(e -> GraphUtils.getLabels(e).stream())
+                        .filter(role -> !labelsCount.containsKey(role))
+                        .forEach(role -> labelsCount.put(role, countLabel(role, added, false)));
+            }
+            return Optional.of(labelsCount);
+        }
+
+        private int countLabel(final String role,
+                               final Collection<Element<? extends View<?>>> elements,
+                               final boolean onlyInGraph) {
+            int count = 0;
+            for (final Element<? extends View<?>> element : elements) {
+                if (null != element.asNode()
+                        && GraphUtils.getLabels(element).contains(role)
+                        && (!onlyInGraph || null != getGraph().getNode(element.getUUID()))) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
         private Collection<Node> appendAddedNodes(final Collection<Node> nodes) {
             getAddedElements().stream()
                     .filter(e -> Objects.nonNull(e.asNode()))
@@ -147,11 +147,15 @@ public class ElementCardinalityEvaluationHandler implements RuleEvaluationHandle
     Map<String, Integer> countLabels(final GraphEvaluationState state,
                                      final Set<String> roleFilter) {
         final GraphEvaluationState.CardinalityState cardinalityState = state.getCardinalityState();
-
+        final Optional<Map<String, Integer>> labelsCount = cardinalityState.getLabelsCount(roleFilter);
+        if (labelsCount.isPresent()) {
+            return labelsCount.get();
+        }
+        // Fallback to count the labels along the whole graph.
         final Iterable<Node> nodes = cardinalityState.nodes();
-        final Map<String, Integer> labelsCount = new HashMap<>();
+        final Map<String, Integer> result = new HashMap<>();
         StreamSupport.stream(nodes.spliterator(), false)
-                .forEach(node -> GraphUtils.computeLabelsCount(node, labelsCount, roleFilter));
-        return labelsCount;
+                .forEach(node -> GraphUtils.computeLabelsCount(node, result, roleFilter));
+        return result;
     }
 }
@@ -25,15 +25,16 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.jboss.errai.ioc.client.api.ManagedInstance;
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessor;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -88,27 +89,57 @@ public abstract class AbstractDiagramValidator
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void validate(final Diagram diagram,
                          final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
-        final Graph graph = diagram.getGraph();
         final List<DiagramElementViolation<RuleViolation>> violations = new LinkedList<>();
+        validate(diagram,
+                 Optional.empty(),
+                 violations::addAll,
+                 (element, violation) -> violation.ifPresent(violations::add),
+                 // At this point all violations have been already consumed, so no need
+                 // to use the resulting ones here.
+                 () -> resultConsumer.accept(violations));
+    }
 
-        final Collection<DiagramElementViolation<RuleViolation>> diagramElementViolations = validateDomain(diagram);
-        violations.addAll(diagramElementViolations);
-
-        graphValidator.validate(graph,
-                                Optional.empty(),
-                                Optional.of((g, v) -> consumeBeanAndViolations(() -> violations).accept(g, v)),
-                                Optional.of((n, v) -> consumeBeanAndViolations(() -> violations).accept(n, v)),
-                                Optional.of((e, v) -> consumeBeanAndViolations(() -> violations).accept(e, v)),
-                                // At this point all violations have been already consumed, so no need
-                                // to use the resulting ones here.
-                                vs -> resultConsumer.accept(violations)
-        );
+    /**
+     * Validates the domain and either the whole graph, or only the given elements of it.
+     * @param diagram The diagram to validate.
+     * @param elements The graph elements to validate. If not present, the whole graph is validated.
+     * @param domainConsumer The consumer for the domain violations.
+     * @param elementConsumer The consumer for each validated element along with its violation, if any.
+     * @param completeCallback Called once all the violations have been consumed.
+     */
+    @SuppressWarnings("unchecked")
+    void validate(final Diagram diagram,
+                  final Optional<Collection<? extends Element>> elements,
+                  final Consumer<Collection<DiagramElementViolation<RuleViolation>>> domainConsumer,
+                  final BiConsumer<Element, Optional<DiagramElementViolation<RuleViolation>>> elementConsumer,
+                  final Runnable completeCallback) {
+        final Graph graph = diagram.getGraph();
+        domainConsumer.accept(validateDomain(diagram));
+        final BiConsumer<Element, Collection<RuleViolation>> beanAndViolationsConsumer = consumeBeanAndViolations(elementConsumer);
+        final Optional<BiConsumer<Graph, Collection<RuleViolation>>> graphConsumer = Optional.of(beanAndViolationsConsumer::accept);
+        final Optional<BiConsumer<Node, Collection<RuleViolation>>> nodeConsumer = Optional.of(beanAndViolationsConsumer::accept);
+        final Optional<BiConsumer<Edge, Collection<RuleViolation>>> edgeConsumer = Optional.of(beanAndViolationsConsumer::accept);
+        if (elements.isPresent()) {
+            graphValidator.validate(graph,
+                                    Optional.empty(),
+                                    elements.get(),
+                                    graphConsumer,
+                                    nodeConsumer,
+                                    edgeConsumer,
+                                    vs -> completeCallback.run());
+        } else {
+            graphValidator.validate(graph,
+                                    Optional.empty(),
+                                    graphConsumer,
+                                    nodeConsumer,
+                                    edgeConsumer,
+                                    vs -> completeCallback.run());
+        }
     }
 
-    private BiConsumer<Element, Collection<RuleViolation>> consumeBeanAndViolations(final Supplier<List<DiagramElementViolation<RuleViolation>>> violations) {
+    private BiConsumer<Element, Collection<RuleViolation>> consumeBeanAndViolations(final BiConsumer<Element, Optional<DiagramElementViolation<RuleViolation>>> violations) {
         return (element, ruleViolations) -> {
             if (Optional.ofNullable(element.getContent()).isPresent()) {
                 // If the underlying bean is a Definition, it accomplishes JSR303 validations.
@@ -117,23 +148,31 @@ public abstract class AbstractDiagramValidator
 
                                             if ((Objects.nonNull(ruleViolations) && !ruleViolations.isEmpty()) || (Objects.nonNull(modelViolations) && !modelViolations.isEmpty())) {
                                                 //Don't add a ElementViolation if there are no rule or model violations
-                                                violations.get().add(new ElementViolationImpl.Builder()
-                                                                             .setUuid(element.getUUID())
-                                                                             .setGraphViolations(ruleViolations)
-                                                                             .setModelViolations(modelViolations)
-                                                                             .build());
+                                                violations.accept(element,
+                                                                  Optional.of(new ElementViolationImpl.Builder()
+                                                                                      .setUuid(element.getUUID())
+                                                                                      .setGraphViolations(ruleViolations)
+                                                                                      .setModelViolations(modelViolations)
+                                                                                      .build()));
+                                            } else {
+                                                violations.accept(element,
+                                                                  Optional.empty());
                                             }
                                         });
             } else {
                 // Otherwise, no need not perform bean validation.
                 if (Objects.nonNull(ruleViolations) && !ruleViolations.isEmpty()) {
                     //Don't add a ElementViolation if there are no rule or model violations
-                    violations.get().add(new ElementViolationImpl.Builder()
-                                                 .setUuid(element.getUUID())
-                                                 .setGraphViolations(ruleViolations)
-                                                 .build());
+                    violations.accept(element,
+                                      Optional.of(new ElementViolationImpl.Builder()
+                                                          .setUuid(element.getUUID())
+                                                          .setGraphViolations(ruleViolations)
+                                                          .build()));
+                } else {
+                    violations.accept(element,
+                                      Optional.empty());
                 }
             }
         };
     }
-}
\ No newline at end of file
+}
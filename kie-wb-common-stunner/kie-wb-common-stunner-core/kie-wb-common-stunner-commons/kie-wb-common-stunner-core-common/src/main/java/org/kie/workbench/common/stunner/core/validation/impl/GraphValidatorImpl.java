@@ -39,6 +39,7 @@ import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.AbstractTreeTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessor;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleSet;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -137,54 +138,12 @@ public class GraphValidatorImpl
                               @Override
                               public boolean startEdgeTraversal(final Edge edge) {
                                   super.startEdgeTraversal(edge);
-                                  final Object content = edge.getContent();
-                                  final ViolationsSet edgeViolations =
-                                          new ViolationsSet();
-                                  if (content instanceof Child) {
+                                  if (edge.getContent() instanceof Child) {
                                       this.currentParents.push(edge.getSourceNode());
-                                  } else if (content instanceof View) {
-                                      final Optional<Node<? extends View<?>, ? extends Edge>> sourceOpt =
-                                              Optional.ofNullable(edge.getSourceNode());
-                                      final Optional<Node<? extends View<?>, ? extends Edge>> targetOpt =
-                                              Optional.ofNullable(edge.getTargetNode());
-                                      // Check not empty connections.
-                                      final Optional<RuleViolation> emptyConnectionViolation =
-                                              evaluateNotEmptyConnections(edge,
-                                                                          sourceOpt,
-                                                                          targetOpt);
-                                      emptyConnectionViolation.ifPresent(edgeViolations::add);
-                                      // Evaluate connection rules.
-                                      edgeViolations.addViolations(
-                                              evaluateConnection(contextBuilder,
-                                                                 ruleSet,
-                                                                 edge,
-                                                                 sourceOpt,
-                                                                 targetOpt)
-                                      );
-                                      // Evaluate connector cardinality rules for this edge.
-                                      if (null != edge.getTargetNode()) {
-                                          edgeViolations.addViolations(
-                                                  evaluateIncomingEdgeCardinality(contextBuilder,
-                                                                                  ruleSet,
-                                                                                  edge)
-                                          );
-                                      }
-                                      if (null != edge.getSourceNode()) {
-                                          edgeViolations.addViolations(
-                                                  evaluateOutgoingEdgeCardinality(contextBuilder,
-                                                                                  ruleSet,
-                                                                                  edge)
-                                          );
-                                      }
-                                  } else if (content instanceof Dock) {
-                                      final Node parent = edge.getSourceNode();
-                                      final Node docked = edge.getTargetNode();
-                                      // Evaluate docking rules for the source & target nodes.
-                                      edgeViolations.addViolations(evaluateDocking(contextBuilder,
-                                                                                   ruleSet,
-                                                                                   parent,
-                                                                                   docked));
                                   }
+                                  final ViolationsSet edgeViolations = evaluateEdge(contextBuilder,
+                                                                                    ruleSet,
+                                                                                    edge);
                                   edgeValidatorConsumer.ifPresent(c -> c.accept(edge,
                                                                                 edgeViolations));
                                   violations.addAll(edgeViolations);
@@ -231,6 +190,116 @@ public class GraphValidatorImpl
                           });
     }
 
+    /**
+     * Performs the validation only for the given <code>elements</code> of the <code>graph</code>, along with
+     * the graph's cardinality rules, instead of walking the whole graph.
+     * <p>
+     * The containment rules for each node are evaluated against its actual parent, or the graph if it has none.
+     * Elements that are not nodes or edges are skipped.
+     * @param graph The graph instance the elements belong to.
+     * @param aRuleSet An optional rule set instance to validate against it. If not present, the default
+     * rule set for the the graph will be used.
+     * @param elements The nodes and edges to validate.
+     * @param graphValidatorConsumer An optional consumer for the graph instance when is being validated.
+     * @param nodeValidatorConsumer An optional consumer each node instance when being validated.
+     * @param edgeValidatorConsumer An optional consumer each edge instance when being validated.
+     * @param resultConsumer The consumer for all the resulting validation violations.
+     */
+    @SuppressWarnings("unchecked")
+    void validate(final Graph graph,
+                  final Optional<RuleSet> aRuleSet,
+                  final Collection<? extends Element> elements,
+                  final Optional<BiConsumer<Graph, Collection<RuleViolation>>> graphValidatorConsumer,
+                  final Optional<BiConsumer<Node, Collection<RuleViolation>>> nodeValidatorConsumer,
+                  final Optional<BiConsumer<Edge, Collection<RuleViolation>>> edgeValidatorConsumer,
+                  final Consumer<Collection<RuleViolation>> resultConsumer) {
+        final RuleSet ruleSet = aRuleSet.orElse(getRuleSet(graph));
+        final ViolationsSet violations = new ViolationsSet();
+        final StatelessGraphContextBuilder contextBuilder =
+                new StatelessGraphContextBuilder(graph);
+        // Evaluate the graph's cardinality rules.
+        final Set<RuleViolation> graphCardinalityViolations =
+                violations.addViolations(evaluateCardinality(contextBuilder,
+                                                             ruleSet));
+        graphValidatorConsumer.ifPresent(g -> g.accept(graph,
+                                                       graphCardinalityViolations));
+        for (final Element element : elements) {
+            if (element instanceof Node) {
+                final Node node = (Node) element;
+                final Element parent = GraphUtils.getParent(node);
+                final Collection<RuleViolation> nodeViolations =
+                        violations.addViolations(evaluateContainment(ruleSet,
+                                                                     contextBuilder,
+                                                                     null != parent ? parent : graph,
+                                                                     node));
+                nodeValidatorConsumer.ifPresent(c -> c.accept(node,
+                                                              nodeViolations));
+            } else if (element instanceof Edge) {
+                final Edge edge = (Edge) element;
+                final ViolationsSet edgeViolations = evaluateEdge(contextBuilder,
+                                                                  ruleSet,
+                                                                  edge);
+                edgeValidatorConsumer.ifPresent(c -> c.accept(edge,
+                                                              edgeViolations));
+                violations.addAll(edgeViolations);
+            }
+        }
+        resultConsumer.accept(violations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ViolationsSet evaluateEdge(final StatelessGraphContextBuilder contextBuilder,
+                                       final RuleSet ruleSet,
+                                       final Edge edge) {
+        final Object content = edge.getContent();
+        final ViolationsSet edgeViolations =
+                new ViolationsSet();
+        if (content instanceof View) {
+            final Optional<Node<? extends View<?>, ? extends Edge>> sourceOpt =
+                    Optional.ofNullable(edge.getSourceNode());
+            final Optional<Node<? extends View<?>, ? extends Edge>> targetOpt =
+                    Optional.ofNullable(edge.getTargetNode());
+            // Check not empty connections.
+            final Optional<RuleViolation> emptyConnectionViolation =
+                    evaluateNotEmptyConnections(edge,
+                                                sourceOpt,
+                                                targetOpt);
+            emptyConnectionViolation.ifPresent(edgeViolations::add);
+            // Evaluate connection rules.
+            edgeViolations.addViolations(
+                    evaluateConnection(contextBuilder,
+                                       ruleSet,
+                                       edge,
+                                       sourceOpt,
+                                       targetOpt)
+            );
+            // Evaluate connector cardinality rules for this edge.
+            if (null != edge.getTargetNode()) {
+                edgeViolations.addViolations(
+                        evaluateIncomingEdgeCardinality(contextBuilder,
+                                                        ruleSet,
+                                                        edge)
+                );
+            }
+            if (null != edge.getSourceNode()) {
+                edgeViolations.addViolations(
+                        evaluateOutgoingEdgeCardinality(contextBuilder,
+                                                        ruleSet,
+                                                        edge)
+                );
+            }
+        } else if (content instanceof Dock) {
+            final Node parent = edge.getSourceNode();
+            final Node docked = edge.getTargetNode();
+            // Evaluate docking rules for the source & target nodes.
+            edgeViolations.addViolations(evaluateDocking(contextBuilder,
+                                                         ruleSet,
+                                                         parent,
+                                                         docked));
+        }
+        return edgeViolations;
+    }
+
     private RuleSet getRuleSet(final Graph<? extends DefinitionSet, ?> graph) {
         final String defSetId = graph.getContent().getDefinition();
         final Object definitionSet = definitionManager.definitionSets().getDefinitionSetById(defSetId);
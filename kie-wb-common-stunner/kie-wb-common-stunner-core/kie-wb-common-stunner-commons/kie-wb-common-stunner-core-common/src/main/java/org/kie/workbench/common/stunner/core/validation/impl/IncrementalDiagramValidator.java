@@ -0,0 +1,234 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.validation.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
+import org.kie.workbench.common.stunner.core.validation.DiagramValidator;
+
+/**
+ * A diagram validator that keeps the violations found for each graph element, so once the whole diagram has
+ * been validated, the next validations only evaluate again the elements marked as dirty.
+ * <p>
+ * Marking an element as dirty also marks its parent, its docked nodes and its connected edges, as their
+ * rules depend on it. The nodes connected by each edge are recorded when the edge is validated or marked, as
+ * the connector commands disconnect an edge from its nodes before the edge removal is notified.
+ * The domain validations and the graph's cardinality rules apply to the whole diagram,
+ * so they are evaluated on every validation.
+ * <p>
+ * An instance keeps the state for a single diagram: validating a different diagram, or calling
+ * {@link #invalidate()}, performs a full validation again.
+ */
+public class IncrementalDiagramValidator implements DiagramValidator<Diagram, RuleViolation> {
+
+    private static final String[] NO_NODES = new String[2];
+
+    private final AbstractDiagramValidator validator;
+    private final Map<String, DiagramElementViolation<RuleViolation>> elementViolations;
+    private final Map<String, Element> dirtyElements;
+    private final Map<String, String[]> edgeNodes;
+    private Collection<DiagramElementViolation<RuleViolation>> domainViolations;
+    private Diagram diagram;
+
+    public IncrementalDiagramValidator(final AbstractDiagramValidator validator) {
+        this.validator = validator;
+        this.elementViolations = new LinkedHashMap<>();
+        this.dirtyElements = new LinkedHashMap<>();
+        this.edgeNodes = new HashMap<>();
+        this.domainViolations = Collections.emptyList();
+    }
+
+    @Override
+    public void validate(final Diagram diagram,
+                         final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
+        final Optional<Collection<? extends Element>> elements;
+        if (diagram != this.diagram) {
+            this.diagram = diagram;
+            elementViolations.clear();
+            edgeNodes.clear();
+            elements = Optional.empty();
+        } else {
+            elements = Optional.of(getDirtyElements(diagram.getGraph()));
+        }
+        dirtyElements.clear();
+        validator.validate(diagram,
+                           elements,
+                           violations -> domainViolations = violations,
+                           (element, violation) -> {
+                               if (element instanceof Edge) {
+                                   recordNodes((Edge) element);
+                               }
+                               if (violation.isPresent()) {
+                                   elementViolations.put(element.getUUID(),
+                                                         violation.get());
+                               } else {
+                                   elementViolations.remove(element.getUUID());
+                               }
+                           },
+                           () -> resultConsumer.accept(getViolations()));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void markDirty(final Element element) {
+        if (null == diagram || null == element) {
+            return;
+        }
+        if (element instanceof Node) {
+            markNodeDirty((Node<?, Edge>) element);
+        } else if (element instanceof Edge) {
+            final Edge edge = (Edge) element;
+            // The cardinality rules for the connectors of both nodes depend on this edge. The nodes recorded
+            // for it are marked too, as the edge may have been disconnected or reconnected since then.
+            final String[] nodes = edgeNodes.getOrDefault(edge.getUUID(), NO_NODES);
+            final String formerSource = nodes[0];
+            final String formerTarget = nodes[1];
+            addDirty(edge);
+            markNodeDirty(edge.getSourceNode());
+            markNodeDirty(edge.getTargetNode());
+            markNodeDirty(getNode(formerSource));
+            markNodeDirty(getNode(formerTarget));
+        }
+    }
+
+    /**
+     * Discards the violations kept, so the next validation is performed for the whole diagram.
+     */
+    public void invalidate() {
+        diagram = null;
+        elementViolations.clear();
+        dirtyElements.clear();
+        edgeNodes.clear();
+        domainViolations = Collections.emptyList();
+    }
+
+    boolean isDirty(final String uuid) {
+        return dirtyElements.containsKey(uuid);
+    }
+
+    private void markNodeDirty(final Node<?, Edge> node) {
+        if (null == node) {
+            return;
+        }
+        addDirty(node);
+        if (null != node.getInEdges()) {
+            for (final Edge edge : node.getInEdges()) {
+                addDirty(edge);
+                if (isChildOrDock(edge)) {
+                    addDirty(edge.getSourceNode());
+                }
+            }
+        }
+        if (null != node.getOutEdges()) {
+            for (final Edge edge : node.getOutEdges()) {
+                addDirty(edge);
+                if (isChildOrDock(edge)) {
+                    addDirty(edge.getTargetNode());
+                }
+            }
+        }
+    }
+
+    private void addDirty(final Element element) {
+        if (null != element) {
+            dirtyElements.put(element.getUUID(),
+                              element);
+            if (element instanceof Edge) {
+                recordNodes((Edge) element);
+            }
+        }
+    }
+
+    private void recordNodes(final Edge edge) {
+        final Node source = edge.getSourceNode();
+        final Node target = edge.getTargetNode();
+        if (null == source && null == target) {
+            return;
+        }
+        final String[] nodes = edgeNodes.computeIfAbsent(edge.getUUID(), uuid -> new String[2]);
+        if (null != source) {
+            nodes[0] = source.getUUID();
+        }
+        if (null != target) {
+            nodes[1] = target.getUUID();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<?, Edge> getNode(final String uuid) {
+        return null != uuid ? diagram.getGraph().getNode(uuid) : null;
+    }
+
+    // Elements no longer in the graph are not validated, and their violations are discarded.
+    private List<Element> getDirtyElements(final Graph graph) {
+        final List<Element> elements = new ArrayList<>(dirtyElements.size());
+        for (final Element element : dirtyElements.values()) {
+            if (isInGraph(graph,
+                          element)) {
+                elements.add(element);
+            } else {
+                elementViolations.remove(element.getUUID());
+                edgeNodes.remove(element.getUUID());
+            }
+        }
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isInGraph(final Graph graph,
+                                     final Element element) {
+        if (element instanceof Node) {
+            return null != graph.getNode(element.getUUID());
+        }
+        if (element instanceof Edge) {
+            final Edge edge = (Edge) element;
+            final Node source = edge.getSourceNode();
+            final Node target = edge.getTargetNode();
+            return (null != source && isInGraph(graph, source) && null != source.getOutEdges() && source.getOutEdges().contains(edge)) ||
+                    (null != target && isInGraph(graph, target) && null != target.getInEdges() && target.getInEdges().contains(edge));
+        }
+        return false;
+    }
+
+    private static boolean isChildOrDock(final Edge edge) {
+        return edge.getContent() instanceof Child || edge.getContent() instanceof Dock;
+    }
+
+    private Collection<DiagramElementViolation<RuleViolation>> getViolations() {
+        final List<DiagramElementViolation<RuleViolation>> violations = new LinkedList<>(domainViolations);
+        violations.addAll(elementViolations.values());
+        return violations;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.definition.adapter.binding;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.factory.graph.NodeFactory;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the property read throughput of the adapter when the values are looked up by field name on each read,
+ * as the adapter functions do, with the throughput when they are read through the generated field getters.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=BindableDefinitionAdapterImplBenchmarkTest</code>
+ * </p>
+ */
+public class BindableDefinitionAdapterImplBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BindableDefinitionAdapterImplBenchmarkTest.class.getName());
+
+    private static final int PROPERTIES = 30;
+
+    private static final int READS = 2_000_000;
+
+    private List<String> fields;
+
+    @Before
+    public void setUp() {
+        fields = new ArrayList<>(PROPERTIES);
+        for (int i = 0; i < PROPERTIES; i++) {
+            fields.add("general.p" + i);
+        }
+    }
+
+    @Test
+    public void benchmark() {
+        final BindableDefinitionAdapterImpl<Object> byName = BindableDefinitionAdapterImpl.create(null, new FieldNameFunctions());
+        byName.addBindings(Definition.class, newBindings());
+        final BindableDefinitionAdapterImpl<Object> byGetters = BindableDefinitionAdapterImpl.create(null, new FieldNameFunctions());
+        final DefinitionAdapterBindings bindings = newBindings();
+        for (int i = 0; i < PROPERTIES; i++) {
+            final int index = i;
+            bindings.addFieldGetter(fields.get(i), pojo -> {
+                final Properties general = ((Definition) pojo).getGeneral();
+                return null != general ? general.getValues()[index] : null;
+            });
+        }
+        byGetters.addBindings(Definition.class, bindings);
+
+        final Definition definition = new Definition();
+        for (int round = 0; round < 3; round++) {
+            final long byNameNanos = read(byName, definition);
+            final long byGettersNanos = read(byGetters, definition);
+            LOGGER.info(String.format("%d properties, %d reads: by field name %d ms (%d reads/ms), generated getters %d ms (%d reads/ms)",
+                                      PROPERTIES, READS,
+                                      byNameNanos / 1_000_000, throughput(byNameNanos),
+                                      byGettersNanos / 1_000_000, throughput(byGettersNanos)));
+        }
+    }
+
+    private long read(final BindableDefinitionAdapterImpl<Object> adapter,
+                      final Definition definition) {
+        int found = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            if (adapter.getProperty(definition, fields.get(i % PROPERTIES)).isPresent()) {
+                found++;
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+        assertEquals(READS, found);
+        return nanos;
+    }
+
+    private static long throughput(final long nanos) {
+        return READS / Math.max(1, nanos / 1_000_000);
+    }
+
+    private DefinitionAdapterBindings newBindings() {
+        return new DefinitionAdapterBindings()
+                .setGraphFactory(NodeFactory.class)
+                .setCategoryField("category")
+                .setLabelsField("labels")
+                .setPropertiesFieldNames(fields)
+                .setTypedPropertyFields(Collections.nCopies(PROPERTIES, true))
+                .setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse("-1,-1,-1,-1,-1"));
+    }
+
+    // Resolves each segment of the field path by name, on every read.
+    private static class FieldNameFunctions implements BindableAdapterFunctions {
+
+        @Override
+        public Object getValue(Object pojo, String fieldName) {
+            Object value = pojo;
+            for (String name : fieldName.split("\\.")) {
+                if (null == value) {
+                    return null;
+                }
+                value = getFieldValue(value, name);
+            }
+            return value;
+        }
+
+        @Override
+        public void setValue(Object pojo, String field, Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        private static Object getFieldValue(Object pojo, String name) {
+            if (pojo instanceof Properties && name.startsWith("p")) {
+                return ((Properties) pojo).getValues()[Integer.parseInt(name.substring(1))];
+            }
+            try {
+                final Field field = pojo.getClass().getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(pojo);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    public static class Definition {
+
+        private final Properties general = new Properties();
+
+        public Properties getGeneral() {
+            return general;
+        }
+    }
+
+    public static class Properties {
+
+        private final BindableTestProperty1[] values = new BindableTestProperty1[PROPERTIES];
+
+        public Properties() {
+            for (int i = 0; i < PROPERTIES; i++) {
+                values[i] = new BindableTestProperty1();
+            }
+        }
+
+        public BindableTestProperty1[] getValues() {
+            return values;
+        }
+    }
+}
@@ -35,24 +35,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class BindableDefinitionAdapterImplTest {
 
     private static final BindableTestBean1 BEAN1 = new BindableTestBean1();
-    private static final DefinitionAdapterBindings BEAN1_BINDINGS = new DefinitionAdapterBindings()
-            .setBaseType(BindableTestProperty1.class)
-            .setGraphFactory(NodeFactory.class)
-            .setIdField("idField")
-            .setCategoryField("categoryField")
-            .setTitleField("titleField")
-            .setDescriptionField("descriptionField")
-            .setLabelsField("labelsField")
-            .setPropertiesFieldNames(Arrays.asList("nameField", "stringField", "propertyField"))
-            .setTypedPropertyFields(Arrays.asList(false, false, true))
-            .setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse("0,-1,-1,-1,-1"));
+    private static final DefinitionAdapterBindings BEAN1_BINDINGS = newBean1Bindings();
 
     @Mock
     private StunnerTranslationService translationService;
@@ -162,6 +156,37 @@ public class BindableDefinitionAdapterImplTest {
         assertEquals(property, propertyField.get());
     }
 
+    @Test
+    public void testGetValuesFromFieldGetters() {
+        BindableTestBean1 bean = new BindableTestBean1();
+        bean.categoryField = "categoryValue";
+        bean.titleField = "titleValue";
+        bean.labelsField = new String[]{"label1"};
+        bean.propertyField = new BindableTestProperty1();
+        tested.addBindings(BindableTestBean1.class,
+                           newBean1Bindings()
+                                   .addFieldGetter("categoryField", pojo -> ((BindableTestBean1) pojo).categoryField)
+                                   .addFieldGetter("titleField", pojo -> ((BindableTestBean1) pojo).titleField)
+                                   .addFieldGetter("labelsField", pojo -> ((BindableTestBean1) pojo).labelsField)
+                                   .addFieldGetter("propertyField", pojo -> ((BindableTestBean1) pojo).propertyField));
+        assertEquals("categoryValue", tested.getCategory(bean));
+        assertEquals("titleValue", tested.getTitle(bean));
+        assertArrayEquals(new String[]{"label1"}, tested.getLabels(bean));
+        assertEquals(bean.propertyField, tested.getProperty(bean, "propertyField").get());
+        verify(functions, never()).getValue(any(), anyString());
+    }
+
+    @Test
+    public void testGetValuesWithoutFieldGetters() {
+        tested.addBindings(BindableTestBean1.class,
+                           newBean1Bindings()
+                                   .addFieldGetter("titleField", pojo -> "titleValue"));
+        when(functions.getValue(eq(BEAN1), eq("categoryField"))).thenReturn("categoryValue");
+        assertEquals("titleValue", tested.getTitle(BEAN1));
+        assertEquals("categoryValue", tested.getCategory(BEAN1));
+        verify(functions, never()).getValue(any(), eq("titleField"));
+    }
+
     @Test
     public void testGetMetaTypes() {
         String nameField = tested.getMetaPropertyField(BEAN1, PropertyMetaTypes.NAME);
@@ -175,4 +200,18 @@ public class BindableDefinitionAdapterImplTest {
         String idField = tested.getMetaPropertyField(BEAN1, PropertyMetaTypes.ID);
         assertNull(idField);
     }
+
+    private static DefinitionAdapterBindings newBean1Bindings() {
+        return new DefinitionAdapterBindings()
+                .setBaseType(BindableTestProperty1.class)
+                .setGraphFactory(NodeFactory.class)
+                .setIdField("idField")
+                .setCategoryField("categoryField")
+                .setTitleField("titleField")
+                .setDescriptionField("descriptionField")
+                .setLabelsField("labelsField")
+                .setPropertiesFieldNames(Arrays.asList("nameField", "stringField", "propertyField"))
+                .setTypedPropertyFields(Arrays.asList(false, false, true))
+                .setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse("0,-1,-1,-1,-1"));
+    }
 }
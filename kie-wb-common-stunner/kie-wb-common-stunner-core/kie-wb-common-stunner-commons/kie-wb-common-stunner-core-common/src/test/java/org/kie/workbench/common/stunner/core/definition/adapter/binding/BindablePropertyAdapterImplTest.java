@@ -24,7 +24,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -87,4 +90,31 @@ public class BindablePropertyAdapterImplTest {
         verify(functions, times(1)).setValue(eq(PROPERTY_1), eq("value"), eq("newValue1"));
         verify(functions, times(1)).setValue(eq(PROPERTY_2), eq("someValue"), eq("newValue2"));
     }
+
+    @Test
+    public void testGetValueByAccessor() {
+        tested.addBinding(BindableTestProperty1.class, "value", pojo -> ((BindableTestProperty1) pojo).value, null);
+        final BindableTestProperty1 property = new BindableTestProperty1();
+        property.value = "p1Value";
+        assertEquals("p1Value", tested.getValue(property));
+        verify(functions, never()).getValue(any(), anyString());
+    }
+
+    @Test
+    public void testSetValueByAccessor() {
+        tested.addBinding(BindableTestProperty1.class, "value", null, (pojo, value) -> ((BindableTestProperty1) pojo).value = (String) value);
+        final BindableTestProperty1 property = new BindableTestProperty1();
+        tested.setValue(property, "newValue1");
+        assertEquals("newValue1", property.value);
+        verify(functions, never()).setValue(any(), anyString(), any());
+    }
+
+    @Test
+    public void testAccessorsFallbackToFunctions() {
+        tested.addBinding(BindableTestProperty1.class, "value", null, null);
+        when(functions.getValue(PROPERTY_1, "value")).thenReturn("p1Value");
+        assertEquals("p1Value", tested.getValue(PROPERTY_1));
+        tested.setValue(PROPERTY_1, "newValue1");
+        verify(functions, times(1)).setValue(eq(PROPERTY_1), eq("value"), eq("newValue1"));
+    }
 }
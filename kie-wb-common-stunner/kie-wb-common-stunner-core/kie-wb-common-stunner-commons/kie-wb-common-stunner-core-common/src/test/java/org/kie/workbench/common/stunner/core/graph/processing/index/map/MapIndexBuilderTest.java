@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+
+import static org.junit.Assert.assertEquals;
+
+public class MapIndexBuilderTest {
+
+    private Graph<?, Node> graph;
+    private Node lane;
+    private Node task;
+    private Edge laneTask;
+    private MapIndexBuilder tested;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        graph = new GraphImpl<>("graph",
+                                new GraphNodeStoreImpl());
+        lane = newNode("lane", 100, 100, 1100, 600);
+        task = newNode("task", 50, 50, 150, 100);
+        laneTask = setChild(lane, task);
+        tested = new MapIndexBuilder();
+    }
+
+    @Test
+    public void testBuild() {
+        final MapIndex index = tested.build(graph);
+        assertEquals(graph, index.getGraph());
+        assertEquals(lane, index.getNode("lane"));
+        assertEquals(task, index.getNode("task"));
+        assertEquals(laneTask, index.getEdge("lane-task"));
+        assertEquals(laneTask, index.get("lane-task"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node newNode(final String uuid,
+                         final double ulX,
+                         final double ulY,
+                         final double lrX,
+                         final double lrY) {
+        final Node node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(new Object(),
+                                       Bounds.create(ulX, ulY, lrX, lrY)));
+        graph.addNode(node);
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Edge setChild(final Node parent,
+                                 final Node child) {
+        final Edge edge = new EdgeImpl<>(parent.getUUID() + "-" + child.getUUID());
+        edge.setContent(new Child());
+        edge.setSourceNode(parent);
+        edge.setTargetNode(child);
+        parent.getOutEdges().add(edge);
+        child.getInEdges().add(edge);
+        return edge;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.graph.processing.indexing.bounds;
+
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.NodeBoundsGridIndex;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the point look-ups of the bounds grid index with a walk of the whole graph on each look-up, as
+ * the <code>GraphBoundsIndexer</code> did before, on graphs of 100, 1,000 and 10,000 nodes. The walk is a plain
+ * recursion, so its timings are a lower bound of the former children traversal ones.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=GraphBoundsIndexerBenchmarkTest</code>
+ * </p>
+ */
+public class GraphBoundsIndexerBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(GraphBoundsIndexerBenchmarkTest.class.getName());
+
+    private static final int[] SIZES = {100, 1_000, 10_000};
+
+    private static final int QUERIES = 1_000;
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int ROUNDS = 10;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void benchmark() {
+        for (final int size : SIZES) {
+            final Random random = new Random(size);
+            final double extent = 300 * Math.sqrt(size);
+            final Graph<View, Node<View, Edge>> graph = newGraph(random, size, extent);
+            final double[] xs = new double[QUERIES];
+            final double[] ys = new double[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                xs[i] = random.nextDouble() * extent;
+                ys[i] = random.nextDouble() * extent;
+            }
+
+            long build = 0;
+            long indexed = 0;
+            long traversed = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                final long start = System.nanoTime();
+                final NodeBoundsGridIndex index = new NodeBoundsGridIndex().build((Graph) graph);
+                final long built = System.nanoTime();
+                final Node[] found = new Node[QUERIES];
+                for (int i = 0; i < QUERIES; i++) {
+                    found[i] = index.findAt(xs[i], ys[i]);
+                }
+                final long queried = System.nanoTime();
+                for (int i = 0; i < QUERIES; i++) {
+                    assertEquals(found[i], findByTraversal(graph, xs[i], ys[i]));
+                }
+                final long walked = System.nanoTime();
+                if (round >= WARMUP_ROUNDS) {
+                    build += built - start;
+                    indexed += queried - built;
+                    traversed += walked - queried;
+                }
+            }
+
+            LOGGER.info(String.format("%d nodes, %d look-ups: grid index build %.3f ms, grid index %.3f us per look-up, traversal %.3f us per look-up",
+                                      size, QUERIES,
+                                      build / (ROUNDS * 1e6),
+                                      indexed / (ROUNDS * QUERIES * 1e3),
+                                      traversed / (ROUNDS * QUERIES * 1e3)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node findByTraversal(final Graph<View, Node<View, Edge>> graph,
+                                        final double x,
+                                        final double y) {
+        final Node[] result = new Node[1];
+        for (final Node<View, Edge> node : graph.nodes()) {
+            if (node.getInEdges().isEmpty()) {
+                findByTraversal(node, 0, 0, x, y, result);
+            }
+        }
+        return result[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void findByTraversal(final Node<View, Edge> node,
+                                        final double parentX,
+                                        final double parentY,
+                                        final double x,
+                                        final double y,
+                                        final Node[] result) {
+        final Bounds bounds = node.getContent().getBounds();
+        final double ulX = bounds.getUpperLeft().getX() + parentX;
+        final double ulY = bounds.getUpperLeft().getY() + parentY;
+        if (x >= ulX && x <= bounds.getLowerRight().getX() + parentX &&
+                y >= ulY && y <= bounds.getLowerRight().getY() + parentY) {
+            result[0] = node;
+        }
+        for (final Edge edge : node.getOutEdges()) {
+            findByTraversal(edge.getTargetNode(), ulX, ulY, x, y, result);
+        }
+    }
+
+    // A tenth of the nodes are containers, such as lanes, spread over the area, the others are their children.
+    @SuppressWarnings("unchecked")
+    private static Graph<View, Node<View, Edge>> newGraph(final Random random,
+                                                          final int size,
+                                                          final double extent) {
+        final Graph graph = new GraphImpl<>("graph",
+                                            new GraphNodeStoreImpl());
+        final Node[] containers = new Node[size / 10];
+        for (int i = 0; i < containers.length; i++) {
+            final double x = random.nextDouble() * (extent - 1000);
+            final double y = random.nextDouble() * (extent - 500);
+            containers[i] = newNode(graph, "container" + i, x, y, x + 1000, y + 500);
+        }
+        for (int i = containers.length; i < size; i++) {
+            final double x = random.nextInt(900);
+            final double y = random.nextInt(450);
+            final Node node = newNode(graph, "node" + i, x, y, x + 100, y + 50);
+            final Node parent = containers[random.nextInt(containers.length)];
+            final Edge edge = new EdgeImpl<>(parent.getUUID() + "-" + node.getUUID());
+            edge.setContent(new Child());
+            edge.setSourceNode(parent);
+            edge.setTargetNode(node);
+            parent.getOutEdges().add(edge);
+            node.getInEdges().add(edge);
+        }
+        return graph;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node newNode(final Graph graph,
+                                final String uuid,
+                                final double ulX,
+                                final double ulY,
+                                final double lrX,
+                                final double lrY) {
+        final Node node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(new Object(),
+                                       Bounds.create(ulX, ulY, lrX, lrY)));
+        graph.addNode(node);
+        return node;
+    }
+}
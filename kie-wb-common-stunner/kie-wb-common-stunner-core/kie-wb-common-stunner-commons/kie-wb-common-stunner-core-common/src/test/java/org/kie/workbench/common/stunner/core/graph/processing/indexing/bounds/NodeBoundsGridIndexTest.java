@@ -0,0 +1,244 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.indexing.bounds;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.GraphBoundsIndexerImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.NodeBoundsGridIndex;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndex;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndexBuilder;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NodeBoundsGridIndexTest {
+
+    private Graph<?, Node> graph;
+    private Node lane;
+    private Node task;
+    private Node event;
+    private Node boundaryEvent;
+    private NodeBoundsGridIndex tested;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        graph = new GraphImpl<>("graph",
+                                new GraphNodeStoreImpl());
+        lane = newNode("lane", 100, 100, 1100, 600);
+        task = newNode("task", 50, 50, 150, 100);
+        event = newNode("event", 2000, 2000, 2050, 2050);
+        boundaryEvent = newNode("boundaryEvent", 190, 140, 210, 160);
+        setChild(lane, task);
+        setChild(lane, boundaryEvent);
+        dock(task, boundaryEvent);
+        tested = new NodeBoundsGridIndex().build(graph);
+    }
+
+    @Test
+    public void testBuild() {
+        assertEquals(4, tested.size());
+        assertTrue(tested.contains(lane));
+        assertTrue(tested.contains(task));
+        assertTrue(tested.contains(event));
+        assertTrue(tested.contains(boundaryEvent));
+    }
+
+    @Test
+    public void testFindAt() {
+        assertEquals(lane, tested.findAt(110, 110));
+        assertEquals(task, tested.findAt(160, 160));
+        assertEquals(event, tested.findAt(2025, 2025));
+        assertNull(tested.findAt(1500, 1500));
+    }
+
+    @Test
+    public void testFindAtDockedNode() {
+        assertEquals(boundaryEvent, tested.findAt(300, 245));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexMovedNode() {
+        ((View) lane.getContent()).setBounds(Bounds.create(3000, 3000, 4000, 3500));
+        tested.index(lane);
+        assertNull(tested.findAt(160, 160));
+        assertEquals(task, tested.findAt(3060, 3060));
+        assertEquals(lane, tested.findAt(3010, 3010));
+    }
+
+    @Test
+    public void testRemove() {
+        tested.remove(event);
+        assertFalse(tested.contains(event));
+        assertNull(tested.findAt(2025, 2025));
+    }
+
+    @Test
+    public void testOversizedNode() {
+        final Node pool = newNode("pool", -50000, -50000, 50000, -40000);
+        tested.index(pool);
+        assertEquals(pool, tested.findAt(0, -45000));
+        assertEquals(task, tested.findAt(160, 160));
+    }
+
+    @Test
+    public void testClear() {
+        tested.clear();
+        assertEquals(0, tested.size());
+        assertNull(tested.findAt(110, 110));
+    }
+
+    @Test
+    public void testMapIndexUpdates() {
+        final MapIndex index = new MapIndexBuilder().build(graph);
+        final NodeBoundsGridIndex boundsIndex = index.getBoundsIndex();
+        assertEquals(4, boundsIndex.size());
+        final Node other = newNode("other", 5000, 5000, 5100, 5100);
+        index.addNode(other);
+        assertEquals(other, boundsIndex.findAt(5050, 5050));
+        ((View) other.getContent()).setBounds(Bounds.create(6000, 6000, 6100, 6100));
+        index.updateNode(other);
+        assertNull(boundsIndex.findAt(5050, 5050));
+        assertEquals(other, boundsIndex.findAt(6050, 6050));
+        index.removeNode(other);
+        assertNull(boundsIndex.findAt(6050, 6050));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSameResultsAsTraversal() {
+        final Random random = new Random(7);
+        final Graph<View, Node<View, Edge>> largeGraph = newRandomGraph(random, 1000);
+        final NodeBoundsGridIndex index = new NodeBoundsGridIndex().build((Graph) largeGraph);
+        final GraphBoundsIndexerImpl graphBoundsIndexer = new GraphBoundsIndexerImpl(new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl()));
+        graphBoundsIndexer.build(largeGraph);
+        for (int i = 0; i < 500; i++) {
+            final double x = random.nextInt(10000);
+            final double y = random.nextInt(10000);
+            assertEquals(findByTraversal(largeGraph, x, y), index.findAt(x, y));
+            assertEquals(index.findAt(x, y), graphBoundsIndexer.getAt(x, y));
+        }
+    }
+
+    // Reference implementation, same as the former children traversal based look-up.
+    @SuppressWarnings("unchecked")
+    private static Node findByTraversal(final Graph<View, Node<View, Edge>> graph,
+                                        final double x,
+                                        final double y) {
+        final Node[] result = new Node[1];
+        for (final Node<View, Edge> node : graph.nodes()) {
+            if (node.getInEdges().isEmpty()) {
+                findByTraversal(node, 0, 0, x, y, result);
+            }
+        }
+        return result[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void findByTraversal(final Node<View, Edge> node,
+                                        final double parentX,
+                                        final double parentY,
+                                        final double x,
+                                        final double y,
+                                        final Node[] result) {
+        final Bounds bounds = node.getContent().getBounds();
+        final double ulX = bounds.getUpperLeft().getX() + parentX;
+        final double ulY = bounds.getUpperLeft().getY() + parentY;
+        if (x >= ulX && x <= bounds.getLowerRight().getX() + parentX &&
+                y >= ulY && y <= bounds.getLowerRight().getY() + parentY) {
+            result[0] = node;
+        }
+        for (final Edge edge : node.getOutEdges()) {
+            findByTraversal(edge.getTargetNode(), ulX, ulY, x, y, result);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Graph<View, Node<View, Edge>> newRandomGraph(final Random random,
+                                                         final int size) {
+        graph = new GraphImpl<>("large",
+                                new GraphNodeStoreImpl());
+        final Node[] containers = new Node[size / 10];
+        for (int i = 0; i < containers.length; i++) {
+            final double x = random.nextInt(9000);
+            final double y = random.nextInt(9000);
+            containers[i] = newNode("container" + i, x, y, x + 1000, y + 500);
+        }
+        for (int i = containers.length; i < size; i++) {
+            final double x = random.nextInt(900);
+            final double y = random.nextInt(400);
+            final Node node = newNode("node" + i, x, y, x + 100, y + 50);
+            setChild(containers[random.nextInt(containers.length)], node);
+        }
+        return (Graph) graph;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node newNode(final String uuid,
+                         final double ulX,
+                         final double ulY,
+                         final double lrX,
+                         final double lrY) {
+        final Node node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(new Object(),
+                                       Bounds.create(ulX, ulY, lrX, lrY)));
+        graph.addNode(node);
+        return node;
+    }
+
+    private static void setChild(final Node parent,
+                                 final Node child) {
+        connect(parent, child, new Child());
+    }
+
+    private static void dock(final Node parent,
+                             final Node docked) {
+        connect(parent, docked, new Dock());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void connect(final Node source,
+                                final Node target,
+                                final Object content) {
+        final Edge edge = new EdgeImpl<>(source.getUUID() + "-" + target.getUUID());
+        edge.setContent(content);
+        edge.setSourceNode(source);
+        edge.setTargetNode(target);
+        source.getOutEdges().add(edge);
+        target.getInEdges().add(edge);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama;
+
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step01.ReverseEdgesCycleBreaker;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step02.LongestPathVertexLayerer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.DefaultVertexOrdering;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.LayerCrossingCount;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.MedianVertexLayerPositioning;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.VerticesTransposer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.DefaultVertexPositioning;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.LayerArrangement;
+
+/**
+ * Measures the time spent by each step of the Sugiyama layout on generated graphs of 500 to 5,000 vertices,
+ * shaped like large process diagrams: a spanning tree plus extra edges, some of them backwards, between
+ * vertices close to each other.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=SugiyamaLayoutBenchmarkTest</code>
+ * </p>
+ */
+public class SugiyamaLayoutBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(SugiyamaLayoutBenchmarkTest.class.getName());
+
+    private static final int[] SIZES = {500, 1_000, 2_000, 5_000};
+
+    private static final int EDGE_REACH = 20;
+
+    @Test
+    public void benchmark() {
+        for (int round = 0; round < 2; round++) {
+            for (final int size : SIZES) {
+                final LayeredGraph graph = createGraph(size);
+                final LayerCrossingCount crossingCount = new LayerCrossingCount();
+                final DefaultVertexOrdering vertexOrdering = new DefaultVertexOrdering(new MedianVertexLayerPositioning(),
+                                                                                       crossingCount,
+                                                                                       new VerticesTransposer(crossingCount));
+
+                final long start = System.nanoTime();
+                new ReverseEdgesCycleBreaker().breakCycle(graph);
+                final long cycleBroken = System.nanoTime();
+                new LongestPathVertexLayerer().createLayers(graph);
+                final long layered = System.nanoTime();
+                vertexOrdering.orderVertices(graph);
+                final long ordered = System.nanoTime();
+                new DefaultVertexPositioning().calculateVerticesPositions(graph, LayerArrangement.BottomUp);
+                final long positioned = System.nanoTime();
+
+                LOGGER.info(String.format("%d vertices, %d edges, %d layers: total %d ms (cycles %d ms, layers %d ms, ordering %d ms, positions %d ms)",
+                                          size, graph.getEdges().size(), graph.getLayers().size(),
+                                          millis(positioned - start),
+                                          millis(cycleBroken - start),
+                                          millis(layered - cycleBroken),
+                                          millis(ordered - layered),
+                                          millis(positioned - ordered)));
+            }
+        }
+    }
+
+    private static LayeredGraph createGraph(final int size) {
+        final Random random = new Random(size);
+        final LayeredGraph graph = new LayeredGraph();
+        for (int i = 1; i < size; i++) {
+            graph.addEdge("v" + (i - 1 - random.nextInt(Math.min(i, EDGE_REACH))), "v" + i);
+        }
+        for (int i = 0; i < size / 2; i++) {
+            final int from = random.nextInt(size);
+            final int to = Math.max(0, Math.min(size - 1, from + random.nextInt(2 * EDGE_REACH) - EDGE_REACH / 2));
+            if (from != to) {
+                graph.addEdge("v" + from, "v" + to);
+            }
+        }
+        return graph;
+    }
+
+    private static long millis(final long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -415,4 +415,45 @@ public class VertexOrderingTest {
 
         assertEquals(0, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEdgesOutsideTheLayersAreNotCounted() {
+
+        /*
+         * 1 crossing, the edges to X are in other layers
+         * A    B    X
+         *  \  /
+         *   \/
+         *   /         *  /           * C    D
+         */
+        final GraphLayerImpl top = new GraphLayerImpl(0);
+        top.addNewVertex("A");
+        top.addNewVertex("B");
+
+        final GraphLayerImpl bottom = new GraphLayerImpl(1);
+        bottom.addNewVertex("C");
+        bottom.addNewVertex("D");
+
+        final List<OrientedEdge> edges = new ArrayList<>();
+        edges.add(new OrientedEdgeImpl("A", "D"));
+        edges.add(new OrientedEdgeImpl("B", "C"));
+        edges.add(new OrientedEdgeImpl("A", "X"));
+        edges.add(new OrientedEdgeImpl("X", "D"));
+
+        final LayerCrossingCount cc = new LayerCrossingCount();
+        final int result = cc.crossing(edges, top, bottom);
+
+        assertEquals(1, result);
+    }
+
+    @Test
+    public void testCrossingBetweenTwoVertices() {
+        final LayerCrossingCount cc = new LayerCrossingCount();
+
+        assertEquals(0, cc.crossing(new int[]{0, 1}, new int[]{1, 2}));
+        assertEquals(1, cc.crossing(new int[]{1}, new int[]{0}));
+        assertEquals(3, cc.crossing(new int[]{1, 2}, new int[]{0, 1}));
+        assertEquals(5, cc.crossing(new int[]{2, 3}, new int[]{0, 1, 2}));
+        assertEquals(0, cc.crossing(new int[]{}, new int[]{0, 1}));
+    }
+}
@@ -36,6 +36,7 @@ import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -124,4 +125,48 @@ public class CachedRuleManagerTest {
         verify(containmentHandler, never()).evaluate(any(CanContain.class),
                                                      any(ContainmentContext.class));
     }
+
+    @Test
+    public void testEvaluateCompiledContainmentContext() {
+        final ContainmentContext allowedContext = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                                       Collections.singleton("role2"));
+        final RuleViolations violations = tested.evaluate(ruleSet,
+                                                          allowedContext);
+        assertFalse(violations.violations().iterator().hasNext());
+        verify(containmentHandler, never()).evaluate(any(CanContain.class),
+                                                     any(ContainmentContext.class));
+    }
+
+    @Test
+    public void testEvaluateCompiledContainmentContextDenied() {
+        final ContainmentContext deniedContext = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                                      Collections.singleton("role3"));
+        tested.evaluate(ruleSet,
+                        deniedContext);
+        verify(containmentHandler, times(1)).evaluate(eq(containmentRule),
+                                                      eq(deniedContext));
+    }
+
+    @Test
+    public void testEvaluateCompiledConnectionContext() {
+        final ConnectionContext allowedContext = RuleEvaluationContextBuilder.DomainContexts.connection("role1",
+                                                                                                     Optional.of(Collections.singleton("role1")),
+                                                                                                     Optional.of(Collections.singleton("role2")));
+        final RuleViolations violations = tested.evaluate(ruleSet,
+                                                          allowedContext);
+        assertFalse(violations.violations().iterator().hasNext());
+        verify(connectionHandler, never()).evaluate(any(CanConnect.class),
+                                                    any(ConnectionContext.class));
+    }
+
+    @Test
+    public void testEvaluateNotCompiled() {
+        final ContainmentContext allowedContext = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                                       Collections.singleton("role2"));
+        tested.setCompiled(false);
+        tested.evaluate(ruleSet,
+                        allowedContext);
+        verify(containmentHandler, times(1)).evaluate(eq(containmentRule),
+                                                      eq(allowedContext));
+    }
 }
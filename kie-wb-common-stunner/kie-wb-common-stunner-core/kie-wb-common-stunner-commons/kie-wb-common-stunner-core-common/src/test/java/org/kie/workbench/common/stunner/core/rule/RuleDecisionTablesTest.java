@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.rule;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.registry.impl.RuleHandlerRegistryImpl;
+import org.kie.workbench.common.stunner.core.registry.rule.RuleHandlerRegistry;
+import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
+import org.kie.workbench.common.stunner.core.rule.context.impl.RuleEvaluationContextBuilder;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.CardinalityEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.DockingEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
+import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.impl.CanDock;
+import org.kie.workbench.common.stunner.core.rule.impl.Occurrences;
+
+import static org.junit.Assert.assertEquals;
+
+public class RuleDecisionTablesTest {
+
+    private static final String[] ROLES = {"role1", "role2", "role3", "role4", "role5", "role6"};
+
+    private Random random;
+    private List<Rule> rules;
+    private RuleManagerImpl ruleManager;
+    private RuleSet ruleSet;
+    private RuleDecisionTables tested;
+
+    @Before
+    public void setUp() {
+        random = new Random(11);
+        rules = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rules.add(new CanContain("cont" + i, randomRole(), randomRoles()));
+            rules.add(new CanDock("dock" + i, randomRole(), randomRoles()));
+            final List<CanConnect.PermittedConnection> permittedConnections = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                permittedConnections.add(new CanConnect.PermittedConnection(randomRole(), randomRole()));
+            }
+            rules.add(new CanConnect("conn" + i, randomRole(), permittedConnections));
+            rules.add(new Occurrences("occ" + i, randomRole(), random.nextInt(2), random.nextInt(4) - 1));
+        }
+        final RuleHandlerRegistry registry = new RuleHandlerRegistryImpl();
+        registry.register(new ContainmentEvaluationHandler());
+        registry.register(new DockingEvaluationHandler());
+        registry.register(new ConnectionEvaluationHandler());
+        registry.register(new CardinalityEvaluationHandler());
+        ruleManager = new RuleManagerImpl(registry);
+        ruleSet = new RuleSetImpl("testRuleSet", rules);
+        tested = RuleDecisionTables.compile(rules);
+    }
+
+    @Test
+    public void testContainmentDecisions() {
+        for (int i = 0; i < 500; i++) {
+            assertSameDecision(RuleEvaluationContextBuilder.DomainContexts.containment(randomRoles(),
+                                                                                       randomRoles()));
+        }
+    }
+
+    @Test
+    public void testDockingDecisions() {
+        for (int i = 0; i < 500; i++) {
+            assertSameDecision(RuleEvaluationContextBuilder.DomainContexts.docking(randomRoles(),
+                                                                                   randomRoles()));
+        }
+    }
+
+    @Test
+    public void testConnectionDecisions() {
+        for (int i = 0; i < 500; i++) {
+            assertSameDecision(RuleEvaluationContextBuilder.DomainContexts.connection(randomRole(),
+                                                                                      Optional.of(randomRoles()),
+                                                                                      Optional.of(randomRoles())));
+        }
+    }
+
+    @Test
+    public void testCardinalityDecisions() {
+        final CardinalityContext.Operation[] operations = CardinalityContext.Operation.values();
+        for (int i = 0; i < 500; i++) {
+            final Optional<CardinalityContext.Operation> operation = random.nextBoolean() ?
+                    Optional.of(operations[random.nextInt(operations.length)]) :
+                    Optional.empty();
+            assertSameDecision(RuleEvaluationContextBuilder.DomainContexts.cardinality(randomRoles(),
+                                                                                       random.nextInt(4),
+                                                                                       random.nextInt(2),
+                                                                                       operation));
+        }
+    }
+
+    private void assertSameDecision(final RuleEvaluationContext context) {
+        final boolean allowed = !ruleManager.evaluate(ruleSet, context).violations().iterator().hasNext();
+        final RuleDecisionTables.Decision decision = tested.decide(context);
+        final boolean compiledAllowed = RuleDecisionTables.Decision.ALLOWED.equals(decision) ||
+                (RuleDecisionTables.Decision.NO_RULES.equals(decision) && !context.isDefaultDeny());
+        assertEquals(allowed, compiledAllowed);
+    }
+
+    private String randomRole() {
+        return ROLES[random.nextInt(ROLES.length)];
+    }
+
+    private Set<String> randomRoles() {
+        final Set<String> roles = new HashSet<>();
+        final int size = random.nextInt(3);
+        for (int i = 0; i < size; i++) {
+            roles.add(randomRole());
+        }
+        return roles;
+    }
+}
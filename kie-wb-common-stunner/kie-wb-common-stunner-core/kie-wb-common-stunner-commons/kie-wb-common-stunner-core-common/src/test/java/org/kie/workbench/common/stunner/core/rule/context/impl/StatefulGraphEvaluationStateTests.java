@@ -17,6 +17,9 @@
 package org.kie.workbench.common.stunner.core.rule.context.impl;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -31,9 +34,13 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
 import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndex;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndexBuilder;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -76,6 +83,31 @@ public class StatefulGraphEvaluationStateTests {
         assertTrue(nodes.contains(someNewNode));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCardinalityStateLabelsCount() {
+        assertFalse(tested.getCardinalityState().getLabelsCount(null).isPresent());
+        final MapIndex index = new MapIndexBuilder().build(graphInstance.graph);
+        tested = new StatefulGraphEvaluationState(index);
+        StatefulGraphEvaluationState.StatefulCardinalityState cardinalityState = tested.getCardinalityState();
+        NodeImpl someNewNode = new NodeImpl<>("someNewNodeUUID");
+        someNewNode.getLabels().add("all");
+        someNewNode.getLabels().add("someNewNodeLabel");
+        cardinalityState.add(someNewNode);
+        cardinalityState.delete(graphInstance.nodeA);
+        final Map<String, Integer> expected = new HashMap<>();
+        cardinalityState.nodes().forEach(node -> GraphUtils.computeLabelsCount(node, expected, null));
+        assertEquals(expected, cardinalityState.getLabelsCount(null).get());
+        assertEquals(Collections.singletonMap("all", 6), cardinalityState.getLabelsCount(Collections.singleton("all")).get());
+        assertTrue(cardinalityState.getLabelsCount(Collections.singleton("nodeALabel")).get().isEmpty());
+        // Counts are kept up to date by the index.
+        index.removeNode(graphInstance.startNode);
+        assertEquals(Collections.singletonMap("all", 5), cardinalityState.getLabelsCount(Collections.singleton("all")).get());
+        graphInstance.endNode.getLabels().add("otherLabel");
+        index.updateNode(graphInstance.endNode);
+        assertEquals(Collections.singletonMap("otherLabel", 1), cardinalityState.getLabelsCount(Collections.singleton("otherLabel")).get());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testConnectorCardinalityState() {
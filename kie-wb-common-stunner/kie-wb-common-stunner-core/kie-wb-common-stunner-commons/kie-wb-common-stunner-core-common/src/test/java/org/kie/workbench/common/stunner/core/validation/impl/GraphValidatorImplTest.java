@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.stunner.core.validation.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -240,6 +241,51 @@ public class GraphValidatorImplTest {
                         });
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateGraph2Elements() {
+        final RuleManager ruleManager = graphTestHandler.getRuleManager();
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        final TestingGraphInstanceBuilder.TestGraph2 testGraph2 = TestingGraphInstanceBuilder.newGraph2(graphTestHandler);
+        tested.validate(graph,
+                        Optional.of(ruleSet),
+                        Arrays.asList(testGraph2.intermNode,
+                                      testGraph2.edge2),
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.empty(),
+                        this::assertNoError);
+        final int evalCount = testGraph2.evaluationsCount + 5;
+        final ArgumentCaptor<RuleEvaluationContext> contextCaptor = ArgumentCaptor.forClass(RuleEvaluationContext.class);
+        verify(ruleManager,
+               times(evalCount)).evaluate(eq(ruleSet),
+                                          contextCaptor.capture());
+        final List<RuleEvaluationContext> contexts = contextCaptor.getAllValues();
+        int cindex = testGraph2.evaluationsCount;
+        verifyCardinality((ElementCardinalityContext) contexts.get(cindex++),
+                          graph);
+        verifyContainment((NodeContainmentContext) contexts.get(cindex++),
+                          testGraph2.parentNode,
+                          testGraph2.intermNode);
+        verifyConnection((GraphConnectionContext) contexts.get(cindex++),
+                         testGraph2.edge2,
+                         testGraph2.intermNode,
+                         testGraph2.endNode);
+        verifyConnectorCardinality((ConnectorCardinalityContext) contexts.get(cindex++),
+                                   graph,
+                                   testGraph2.endNode,
+                                   testGraph2.edge2,
+                                   EdgeCardinalityContext.Direction.INCOMING,
+                                   Optional.empty());
+        verifyConnectorCardinality((ConnectorCardinalityContext) contexts.get(cindex++),
+                                   graph,
+                                   testGraph2.intermNode,
+                                   testGraph2.edge2,
+                                   EdgeCardinalityContext.Direction.OUTGOING,
+                                   Optional.empty());
+    }
+
     private void assertNoError(final Collection<RuleViolation> violations) {
         assertFalse(violations.stream()
                             .filter(v -> Violation.Type.ERROR.equals(v.getViolationType()))
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.validation.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.jboss.errai.ioc.client.api.ManagedInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
+import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolations;
+import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
+import org.kie.workbench.common.stunner.core.validation.DomainValidator;
+import org.kie.workbench.common.stunner.core.validation.ModelBeanViolation;
+import org.kie.workbench.common.stunner.core.validation.ModelValidator;
+import org.kie.workbench.common.stunner.core.validation.Violation;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder.EDGE1_UUID;
+import static org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder.EDGE2_UUID;
+import static org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder.END_NODE_UUID;
+import static org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder.INTERM_NODE_UUID;
+import static org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder.PARENT_NODE_UUID;
+import static org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder.START_NODE_UUID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class IncrementalDiagramValidatorTest {
+
+    @Mock
+    private ModelValidator modelValidator;
+
+    @Mock
+    private ManagedInstance<DomainValidator> validators;
+
+    @Mock
+    private Diagram diagram;
+
+    @Mock
+    private Metadata metadata;
+
+    @Mock
+    private RuleViolation ruleViolation;
+
+    private TestingGraphMockHandler graphTestHandler;
+    private IncrementalDiagramValidator tested;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        graphTestHandler = new TestingGraphMockHandler();
+        when(diagram.getMetadata()).thenReturn(metadata);
+        when(diagram.getGraph()).thenReturn(graphTestHandler.graph);
+        when(validators.spliterator()).thenAnswer(invocation -> Collections.<DomainValidator>emptyList().spliterator());
+        when(ruleViolation.getViolationType()).thenReturn(Violation.Type.ERROR);
+        doAnswer(invocation -> {
+            ((Consumer<Collection<ModelBeanViolation>>) invocation.getArguments()[1]).accept(Collections.emptyList());
+            return null;
+        }).when(modelValidator).validate(any(),
+                                         any(Consumer.class));
+        tested = new IncrementalDiagramValidator(new AbstractDiagramValidator(graphTestHandler.getDefinitionManager(),
+                                                                              graphTestHandler.getRuleManager(),
+                                                                              new TreeWalkTraverseProcessorImpl(),
+                                                                              modelValidator,
+                                                                              validators) {
+        });
+    }
+
+    @Test
+    public void testFirstValidationIsFull() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> assertTrue(violations.isEmpty()));
+        verifyValidated(graphTestHandler.graph,
+                        graph1.startNode,
+                        graph1.intermNode,
+                        graph1.endNode,
+                        graph1.edge1,
+                        graph1.edge2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOnlyDirtyElementsAreValidatedAgain() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        tested.markDirty(graph1.endNode);
+        assertTrue(tested.isDirty(END_NODE_UUID));
+        assertTrue(tested.isDirty(EDGE2_UUID));
+        assertFalse(tested.isDirty(INTERM_NODE_UUID));
+        clearInvocations();
+        tested.validate(diagram,
+                        violations -> assertTrue(violations.isEmpty()));
+        verifyValidated(graphTestHandler.graph,
+                        graph1.endNode,
+                        graph1.edge2);
+        verify(modelValidator,
+               never()).validate(eq(graph1.startNode),
+                                 any(Consumer.class));
+        verify(modelValidator,
+               never()).validate(eq(graph1.intermNode),
+                                 any(Consumer.class));
+        verify(modelValidator,
+               never()).validate(eq(graph1.edge1),
+                                 any(Consumer.class));
+        assertFalse(tested.isDirty(END_NODE_UUID));
+    }
+
+    @Test
+    public void testMarkEdgeDirty() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        tested.markDirty(graph1.edge1);
+        assertTrue(tested.isDirty(EDGE1_UUID));
+        assertTrue(tested.isDirty(START_NODE_UUID));
+        assertTrue(tested.isDirty(INTERM_NODE_UUID));
+        // The intermediate node's connectors cardinality depends on the edge.
+        assertTrue(tested.isDirty(EDGE2_UUID));
+        assertFalse(tested.isDirty(END_NODE_UUID));
+    }
+
+    @Test
+    public void testMarkChildNodeDirty() {
+        TestingGraphInstanceBuilder.newGraph2(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        tested.markDirty(graphTestHandler.graph.getNode(INTERM_NODE_UUID));
+        assertTrue(tested.isDirty(INTERM_NODE_UUID));
+        assertTrue(tested.isDirty(PARENT_NODE_UUID));
+        assertTrue(tested.isDirty(EDGE1_UUID));
+        assertTrue(tested.isDirty(EDGE2_UUID));
+        assertFalse(tested.isDirty(START_NODE_UUID));
+        assertFalse(tested.isDirty(END_NODE_UUID));
+    }
+
+    @Test
+    public void testNothingIsDirtyBeforeFirstValidation() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.markDirty(graph1.endNode);
+        assertFalse(tested.isDirty(END_NODE_UUID));
+    }
+
+    @Test
+    public void testViolationsAreKeptForCleanElements() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        when(graphTestHandler.getRuleManager().evaluate(any(),
+                                                        any())).thenReturn(new DefaultRuleViolations().addViolation(ruleViolation));
+        tested.validate(diagram,
+                        violations -> assertEquals(asSet(TestingGraphMockHandler.GRAPH_UUID,
+                                                         START_NODE_UUID,
+                                                         INTERM_NODE_UUID,
+                                                         END_NODE_UUID,
+                                                         EDGE1_UUID,
+                                                         EDGE2_UUID),
+                                                   uuids(violations)));
+
+        when(graphTestHandler.getRuleManager().evaluate(any(),
+                                                        any())).thenReturn(new DefaultRuleViolations());
+        tested.markDirty(graph1.endNode);
+        tested.validate(diagram,
+                        violations -> assertEquals(asSet(START_NODE_UUID,
+                                                         INTERM_NODE_UUID,
+                                                         EDGE1_UUID),
+                                                   uuids(violations)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRemovedElementsViolationsAreDiscarded() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        when(graphTestHandler.getRuleManager().evaluate(any(),
+                                                        any())).thenReturn(new DefaultRuleViolations().addViolation(ruleViolation));
+        tested.validate(diagram,
+                        violations -> {
+                        });
+
+        // The connector is disconnected from both nodes before the canvas notifies its removal.
+        disconnect(graph1.edge2);
+        graphTestHandler.graph.removeNode(END_NODE_UUID);
+        tested.markDirty(graph1.edge2);
+        tested.markDirty(graph1.endNode);
+        clearInvocations();
+        tested.validate(diagram,
+                        violations -> assertEquals(asSet(TestingGraphMockHandler.GRAPH_UUID,
+                                                         START_NODE_UUID,
+                                                         INTERM_NODE_UUID,
+                                                         EDGE1_UUID),
+                                                   uuids(violations)));
+        verify(modelValidator,
+               never()).validate(eq(graph1.endNode),
+                                 any(Consumer.class));
+        verify(modelValidator,
+               never()).validate(eq(graph1.edge2),
+                                 any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeletedConnectorMarksItsFormerNodes() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> {
+                        });
+
+        disconnect(graph1.edge2);
+        tested.markDirty(graph1.edge2);
+        assertTrue(tested.isDirty(INTERM_NODE_UUID));
+        assertTrue(tested.isDirty(END_NODE_UUID));
+        assertTrue(tested.isDirty(EDGE1_UUID));
+        assertFalse(tested.isDirty(START_NODE_UUID));
+
+        clearInvocations();
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        verifyValidated(graphTestHandler.graph,
+                        graph1.intermNode,
+                        graph1.endNode,
+                        graph1.edge1);
+        verify(modelValidator,
+               never()).validate(eq(graph1.edge2),
+                                 any(Consumer.class));
+    }
+
+    @Test
+    public void testInvalidate() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        tested.invalidate();
+        clearInvocations();
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        verifyValidated(graphTestHandler.graph,
+                        graph1.startNode,
+                        graph1.intermNode,
+                        graph1.endNode,
+                        graph1.edge1,
+                        graph1.edge2);
+    }
+
+    @Test
+    public void testAnotherDiagramIsFullyValidated() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        tested.validate(diagram,
+                        violations -> {
+                        });
+        final Diagram anotherDiagram = mock(Diagram.class);
+        when(anotherDiagram.getMetadata()).thenReturn(metadata);
+        when(anotherDiagram.getGraph()).thenReturn(graphTestHandler.graph);
+        clearInvocations();
+        tested.validate(anotherDiagram,
+                        violations -> {
+                        });
+        verifyValidated(graphTestHandler.graph,
+                        graph1.startNode,
+                        graph1.intermNode,
+                        graph1.endNode,
+                        graph1.edge1,
+                        graph1.edge2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void clearInvocations() {
+        reset(modelValidator);
+        doAnswer(invocation -> {
+            ((Consumer<Collection<ModelBeanViolation>>) invocation.getArguments()[1]).accept(Collections.emptyList());
+            return null;
+        }).when(modelValidator).validate(any(),
+                                         any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyValidated(final Element... elements) {
+        for (Element element : elements) {
+            verify(modelValidator,
+                   times(1)).validate(eq(element),
+                                      any(Consumer.class));
+        }
+    }
+
+    private static Set<String> uuids(final Collection<DiagramElementViolation<RuleViolation>> violations) {
+        return violations.stream().map(DiagramElementViolation::getUUID).collect(Collectors.toSet());
+    }
+
+    private static Set<String> asSet(final String... uuids) {
+        return new HashSet<>(Arrays.asList(uuids));
+    }
+
+    // Same order as the connector deletion: the graph command disconnects the edge from both nodes.
+    @SuppressWarnings("unchecked")
+    private static void disconnect(final Edge edge) {
+        edge.getSourceNode().getOutEdges().remove(edge);
+        edge.getTargetNode().getInEdges().remove(edge);
+        edge.setSourceNode(null);
+        edge.setTargetNode(null);
+    }
+}
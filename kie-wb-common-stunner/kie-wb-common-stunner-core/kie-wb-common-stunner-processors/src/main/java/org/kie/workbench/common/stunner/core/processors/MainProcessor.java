@@ -17,6 +17,7 @@
 package org.kie.workbench.common.stunner.core.processors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -58,6 +59,7 @@ import org.kie.workbench.common.stunner.core.definition.annotation.morph.MorphBa
 import org.kie.workbench.common.stunner.core.definition.annotation.morph.MorphProperty;
 import org.kie.workbench.common.stunner.core.definition.builder.VoidBuilder;
 import org.kie.workbench.common.stunner.core.processors.definition.BindableDefinitionAdapterGenerator;
+import org.kie.workbench.common.stunner.core.processors.definition.DefinitionFieldGetters;
 import org.kie.workbench.common.stunner.core.processors.definition.TypeConstructor;
 import org.kie.workbench.common.stunner.core.processors.definitionset.BindableDefinitionSetAdapterGenerator;
 import org.kie.workbench.common.stunner.core.processors.definitionset.DefinitionSetProxyGenerator;
@@ -472,6 +474,18 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
             processingContext.getDefinitionAnnotations().getTypedPropertyFields().put(defintionClassName, typedPropertyFields);
             processingContext.getMetaPropertyTypesFields().put(defintionClassName, defMetaTypes);
 
+            // Field getters.
+            final ProcessingDefinitionAnnotations definitionAnnotations = processingContext.getDefinitionAnnotations();
+            final List<String> accessedFields = new ArrayList<>(Arrays.asList(definitionAnnotations.getIdFieldNames().get(defintionClassName),
+                                                                              definitionAnnotations.getCategoryFieldNames().get(defintionClassName),
+                                                                              definitionAnnotations.getTitleFieldNames().get(defintionClassName),
+                                                                              definitionAnnotations.getDescriptionFieldNames().get(defintionClassName),
+                                                                              definitionAnnotations.getLabelsFieldNames().get(defintionClassName)));
+            accessedFields.addAll(propertyFieldNames);
+            definitionAnnotations.getFieldGetters().put(defintionClassName,
+                                                        new DefinitionFieldGetters(processingEnv).generate(classElement,
+                                                                                                           accessedFields));
+
             // -- Morphing annotations --
             MorphBase morphBaseAnn = e.getAnnotation(MorphBase.class);
             Morph morphAnn = e.getAnnotation(Morph.class);
@@ -684,11 +698,27 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
                 }
             }
             // Value fields.
+            final ProcessingPropertyAnnotations propertyAnnotations = processingContext.getPropertyAnnotations();
             processFieldName(classElement,
                              propertyClassName,
                              ANNOTATION_PROPERTY_VALUE,
-                             processingContext.getPropertyAnnotations().getValueFieldNames(),
+                             propertyAnnotations.getValueFieldNames(),
                              true);
+            // Value field accessors.
+            final String valueField = propertyAnnotations.getValueFieldNames().get(propertyClassName);
+            final DefinitionFieldGetters fieldGetters = new DefinitionFieldGetters(processingEnv);
+            final String valueGetter = fieldGetters.generateValueGetter(classElement,
+                                                                        valueField);
+            if (null != valueGetter) {
+                propertyAnnotations.getValueFieldGetters().put(propertyClassName,
+                                                               valueGetter);
+            }
+            final String valueSetter = fieldGetters.generateValueSetter(classElement,
+                                                                        valueField);
+            if (null != valueSetter) {
+                propertyAnnotations.getValueFieldSetters().put(propertyClassName,
+                                                               valueSetter);
+            }
         }
         return false;
     }
@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.stunner.core.processors.definition;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,8 @@ public class BindableDefinitionAdapterGenerator extends AbstractBindableAdapterG
             List<Boolean> typedPropertyFields = processingDefinitionAnnotations.getTypedPropertyFields().get(type);
             String typedPropertyFieldsArray = typedPropertyFields.stream().map(Object::toString).collect(Collectors.joining(","));
             DefinitionAdapterBindings.PropertyMetaTypes metaTypes = processingContext.getMetaPropertyTypesFields().get(type);
+            String fieldGetters = DefinitionFieldGetters.toBindings(processingDefinitionAnnotations.getFieldGetters()
+                                                                            .getOrDefault(type, Collections.emptyMap()));
             defAdapterBindings.put(type,
                                    "new DefinitionAdapterBindings()" +
                                            ".setBaseType(" + baseType + ".class)" +
@@ -79,7 +82,8 @@ public class BindableDefinitionAdapterGenerator extends AbstractBindableAdapterG
                                            ".setDescriptionField(" + descriptionField + ")" +
                                            ".setPropertiesFieldNames(Arrays.asList(" + propertyFieldsArray + "))" +
                                            ".setTypedPropertyFields(Arrays.asList(" + typedPropertyFieldsArray + "))" +
-                                           ".setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse(\"" + metaTypes.format() + "\"))"
+                                           ".setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse(\"" + metaTypes.format() + "\"))" +
+                                           fieldGetters
             );
         });
         addFields("bindings",
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.processors.definition;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Generates the getters registered on the definition adapter bindings, which read the fields of a
+ * definition through its public getters instead of the adapter functions. It also generates the
+ * accessors of the value field of the properties, registered on the property adapter.
+ */
+public class DefinitionFieldGetters {
+
+    private final ProcessingEnvironment processingEnv;
+
+    public DefinitionFieldGetters(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Returns the source of the getter lambda for each of the given fields, by field name. The fields
+     * with no accessible getter are left out.
+     */
+    public Map<String, String> generate(final TypeElement classElement,
+                                        final List<String> fields) {
+        final Map<String, String> getters = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (null != field && !getters.containsKey(field)) {
+                final String getter = getFieldGetter(classElement,
+                                                     field);
+                if (null != getter) {
+                    getters.put(field,
+                                getter);
+                }
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * Returns the source of the getter lambda for the value field of a property, or null if the field
+     * has no accessible getter.
+     */
+    public String generateValueGetter(final TypeElement classElement,
+                                      final String field) {
+        return getFieldGetter(classElement,
+                              field);
+    }
+
+    /**
+     * Returns the source of the setter lambda for the value field of a property, or null if the field
+     * has no accessible setter, or if it takes a primitive value, so it is written by the adapter
+     * functions instead.
+     */
+    public String generateValueSetter(final TypeElement classElement,
+                                      final String field) {
+        if (!classElement.getModifiers().contains(Modifier.PUBLIC)) {
+            return null;
+        }
+        final DeclaredType owner = (DeclaredType) classElement.asType();
+        final ExecutableElement setter = findSetter(classElement,
+                                                    field);
+        if (null == setter) {
+            return null;
+        }
+        final TypeMirror valueType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(owner,
+                                                                                               setter)).getParameterTypes().get(0);
+        if (valueType.getKind().isPrimitive()) {
+            return null;
+        }
+        return "(pojo, value) -> ((" + classElement.getQualifiedName() + ") pojo)." + setter.getSimpleName() +
+                "((" + processingEnv.getTypeUtils().erasure(valueType) + ") value)";
+    }
+
+    /**
+     * Returns the calls that register the given getters on a DefinitionAdapterBindings instance.
+     */
+    public static String toBindings(final Map<String, String> getters) {
+        final StringBuilder bindings = new StringBuilder();
+        getters.forEach((field, getter) -> bindings.append(".addFieldGetter(\"").append(field).append("\", ").append(getter).append(")"));
+        return bindings.toString();
+    }
+
+    /**
+     * Returns the source of a lambda that reads the given field, which may be nested (eg: "general.name"),
+     * through the public getters of the definition. Returns null if some field in the path has no
+     * accessible getter, so its value is read by the adapter functions instead.
+     */
+    private String getFieldGetter(final TypeElement classElement,
+                                  final String field) {
+        if (!classElement.getModifiers().contains(Modifier.PUBLIC)) {
+            return null;
+        }
+        final String[] path = field.split("\\.");
+        final StringBuilder body = new StringBuilder();
+        DeclaredType owner = (DeclaredType) classElement.asType();
+        String target = "((" + classElement.getQualifiedName() + ") pojo)";
+        for (int i = 0; i < path.length; i++) {
+            final ExecutableElement getter = findGetter((TypeElement) owner.asElement(),
+                                                        path[i]);
+            if (null == getter) {
+                return null;
+            }
+            final String value = target + "." + getter.getSimpleName() + "()";
+            if (i == path.length - 1) {
+                return path.length == 1 ?
+                        "pojo -> " + value :
+                        "pojo -> { " + body + "return " + value + "; }";
+            }
+            // Resolves the type arguments of generic definitions (eg: a property set declared as a type variable).
+            final TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(owner,
+                                                                                                    getter)).getReturnType();
+            if (returnType.getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+            owner = (DeclaredType) returnType;
+            if (!owner.asElement().getModifiers().contains(Modifier.PUBLIC)) {
+                return null;
+            }
+            target = "v" + i;
+            body.append("final ").append(processingEnv.getTypeUtils().erasure(returnType)).append(" ").append(target)
+                    .append(" = ").append(value).append("; ")
+                    .append("if (null == ").append(target).append(") { return null; } ");
+        }
+        return null;
+    }
+
+    private ExecutableElement findGetter(final TypeElement classElement,
+                                         final String fieldName) {
+        final String suffix = StringUtils.capitalize(fieldName);
+        final List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(classElement));
+        for (ExecutableElement method : methods) {
+            final String methodName = method.getSimpleName().toString();
+            if ((methodName.equals("get" + suffix) || methodName.equals("is" + suffix)) &&
+                    method.getParameters().isEmpty() &&
+                    method.getReturnType().getKind() != TypeKind.VOID &&
+                    method.getModifiers().contains(Modifier.PUBLIC) &&
+                    !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(final TypeElement classElement,
+                                         final String fieldName) {
+        final String methodName = "set" + StringUtils.capitalize(fieldName);
+        final List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(classElement));
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(methodName) &&
+                    method.getParameters().size() == 1 &&
+                    method.getModifiers().contains(Modifier.PUBLIC) &&
+                    !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
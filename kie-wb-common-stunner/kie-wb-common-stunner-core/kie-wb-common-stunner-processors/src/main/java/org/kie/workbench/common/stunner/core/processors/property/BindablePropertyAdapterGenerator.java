@@ -43,9 +43,15 @@ public class BindablePropertyAdapterGenerator extends AbstractBindableAdapterGen
                  className);
         root.put("generatedByClassName",
                  BindablePropertyAdapterGenerator.class.getName());
+        // The value field of each property, along with its accessors, if any.
+        final Map<String, String> valueBindings = new HashMap<>();
+        processingPropertyAnnotations.getValueFieldNames().forEach((type, field) -> valueBindings.put(type,
+                                                                                                      "\"" + field + "\", " +
+                                                                                                              processingPropertyAnnotations.getValueFieldGetters().get(type) + ", " +
+                                                                                                              processingPropertyAnnotations.getValueFieldSetters().get(type)));
         addFields("valuePropNames",
                   root,
-                  processingPropertyAnnotations.getValueFieldNames());
+                  valueBindings);
         //Generate code
         return writeTemplate(packageName,
                              className,
@@ -41,7 +41,7 @@ public class ${className} extends PropertyAdapterWrapper<Object, Object, Bindabl
     @PostConstruct
     public void init() {
         <#list valuePropNames as valuePropName>
-            adapter.addBinding(${valuePropName.className}.class, "${valuePropName.methodName}");
+            adapter.addBinding(${valuePropName.className}.class, ${valuePropName.methodName});
         </#list>
     }
 
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.core.processors.definition;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.DefinitionAdapterBindings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DefinitionFieldGettersTest {
+
+    private static final String SAMPLE = "package test;\n" +
+            "public class Sample {\n" +
+            "    private final String name;\n" +
+            "    private final boolean enabled;\n" +
+            "    private final String hidden = \"hidden\";\n" +
+            "    private final General general;\n" +
+            "    public Sample(String name, boolean enabled, General general) {\n" +
+            "        this.name = name;\n" +
+            "        this.enabled = enabled;\n" +
+            "        this.general = general;\n" +
+            "    }\n" +
+            "    public String getName() { return name; }\n" +
+            "    public boolean isEnabled() { return enabled; }\n" +
+            "    public General getGeneral() { return general; }\n" +
+            "    public void setName(String name) { }\n" +
+            "    public void setEnabled(boolean enabled) { }\n" +
+            "    public static class General {\n" +
+            "        public String getDocumentation() { return \"documentation\"; }\n" +
+            "    }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Map<String, String> getters;
+    private Map<String, String> setters;
+
+    @Before
+    public void setup() throws Exception {
+        getters = new HashMap<>();
+        setters = new HashMap<>();
+        compile(new GettersProcessor(), source("test.Sample", SAMPLE));
+    }
+
+    @Test
+    public void testFieldWithGetter() {
+        assertEquals("pojo -> ((test.Sample) pojo).getName()",
+                     getters.get("name"));
+    }
+
+    @Test
+    public void testBooleanFieldWithIsGetter() {
+        assertEquals("pojo -> ((test.Sample) pojo).isEnabled()",
+                     getters.get("enabled"));
+    }
+
+    @Test
+    public void testFieldWithoutGetter() {
+        assertFalse(getters.containsKey("hidden"));
+        assertFalse(getters.containsKey("general.hidden"));
+    }
+
+    @Test
+    public void testNestedField() {
+        assertEquals("pojo -> { final test.Sample.General v0 = ((test.Sample) pojo).getGeneral(); " +
+                             "if (null == v0) { return null; } return v0.getDocumentation(); }",
+                     getters.get("general.documentation"));
+    }
+
+    @Test
+    public void testValueSetter() {
+        assertEquals("(pojo, value) -> ((test.Sample) pojo).setName((java.lang.String) value)",
+                     setters.get("name"));
+    }
+
+    @Test
+    public void testValueSetterNotGenerated() {
+        // Primitive values are written by the adapter functions, as well as the fields with no setter.
+        assertFalse(setters.containsKey("enabled"));
+        assertFalse(setters.containsKey("hidden"));
+    }
+
+    @Test
+    public void testGeneratedBindings() throws Exception {
+        final String bindings = "package test;\n" +
+                "public class Bindings {\n" +
+                "    public static " + DefinitionAdapterBindings.class.getName() + " create() {\n" +
+                "        return new " + DefinitionAdapterBindings.class.getName() + "()" + DefinitionFieldGetters.toBindings(getters) + ";\n" +
+                "    }\n" +
+                "}\n";
+        compile(null, source("test.Sample", SAMPLE), source("test.Bindings", bindings));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()},
+                                                             getClass().getClassLoader())) {
+            final DefinitionAdapterBindings adapterBindings = (DefinitionAdapterBindings) classLoader.loadClass("test.Bindings")
+                    .getMethod("create")
+                    .invoke(null);
+            final Class<?> general = classLoader.loadClass("test.Sample$General");
+            final Object sample = classLoader.loadClass("test.Sample")
+                    .getConstructor(String.class, boolean.class, general)
+                    .newInstance("sample", true, general.newInstance());
+            final Object withoutGeneral = classLoader.loadClass("test.Sample")
+                    .getConstructor(String.class, boolean.class, general)
+                    .newInstance("sample", false, null);
+
+            assertEquals("sample", get(adapterBindings, "name", sample));
+            assertEquals(true, get(adapterBindings, "enabled", sample));
+            assertEquals("documentation", get(adapterBindings, "general.documentation", sample));
+            assertNull(get(adapterBindings, "general.documentation", withoutGeneral));
+            assertEquals(-1, adapterBindings.getFieldIndex("hidden"));
+        }
+    }
+
+    private static Object get(final DefinitionAdapterBindings bindings,
+                              final String field,
+                              final Object pojo) {
+        final int index = bindings.getFieldIndex(field);
+        assertTrue(index >= 0);
+        return bindings.getFieldGetter(index).apply(pojo);
+    }
+
+    private void compile(final AbstractProcessor processor,
+                         final JavaFileObject... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                                   null,
+                                                                   diagnostics,
+                                                                   Arrays.asList(null == processor ? "-proc:none" : "-proc:only",
+                                                                                 "-d", folder.getRoot().getAbsolutePath(),
+                                                                                 "-classpath", System.getProperty("java.class.path") + File.pathSeparator + folder.getRoot().getAbsolutePath()),
+                                                                   null,
+                                                                   Arrays.asList(sources));
+        if (null != processor) {
+            task.setProcessors(Collections.singletonList(processor));
+        }
+        assertTrue(diagnostics.getDiagnostics().toString(),
+                   task.call());
+    }
+
+    private static JavaFileObject source(final String className,
+                                         final String source) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                                        JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private class GettersProcessor extends AbstractProcessor {
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return Collections.singleton("*");
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations,
+                               final RoundEnvironment roundEnv) {
+            if (!roundEnv.processingOver()) {
+                final TypeElement sample = processingEnv.getElementUtils().getTypeElement("test.Sample");
+                getters.putAll(new DefinitionFieldGetters(processingEnv).generate(sample,
+                                                                                  Arrays.asList("name",
+                                                                                                "enabled",
+                                                                                                "hidden",
+                                                                                                null,
+                                                                                                "name",
+                                                                                                "general.documentation",
+                                                                                                "general.hidden")));
+                final DefinitionFieldGetters fieldGetters = new DefinitionFieldGetters(processingEnv);
+                for (String field : Arrays.asList("name", "enabled", "hidden")) {
+                    final String setter = fieldGetters.generateValueSetter(sample,
+                                                                           field);
+                    if (null != setter) {
+                        setters.put(field,
+                                    setter);
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -16,7 +16,11 @@
 
 package org.kie.workbench.common.stunner.forms.client.widgets.container;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -38,17 +42,32 @@ import org.kie.workbench.common.stunner.forms.client.event.FormFieldChanged;
 import org.kie.workbench.common.stunner.forms.client.widgets.container.displayer.FormDisplayer;
 import org.uberfire.backend.vfs.Path;
 
+/**
+ * Keeps a form displayer for each of the most recently rendered elements, up to a maximum. When an element is
+ * not in the cache, the form of a previously evicted element of the same definition type is re-bound to it,
+ * rather than rendered again, and a new displayer is only created when none of them is pooled.
+ */
 @Dependent
 public class FormsContainer implements IsElement {
 
     private static Logger LOGGER = Logger.getLogger(FormsContainer.class.getName());
 
+    static final int DEFAULT_MAX_DISPLAYERS = 20;
+    static final int DEFAULT_MAX_POOLED_DISPLAYERS = 2;
+
     private final FormsContainerView view;
     protected final ManagedInstance<FormDisplayer> displayersInstance;
     protected final Map<FormDisplayerKey, FormDisplayer> formDisplayers;
+    private final Map<FormDisplayerKey, String> displayerTypes;
+    private final Map<String, Deque<FormDisplayer>> pooledDisplayers;
     private final Event<FormFieldChanged> formFieldChangedEvent;
 
     private FormDisplayer currentDisplayer;
+    private int maxDisplayers;
+    private int maxPooledDisplayers;
+    private int cacheHits;
+    private int cacheMisses;
+    private int pooledDisplayerHits;
 
     @Inject
     public FormsContainer(final FormsContainerView view,
@@ -57,7 +76,27 @@ public class FormsContainer implements IsElement {
         this.view = view;
         this.displayersInstance = displayersInstance;
         this.formFieldChangedEvent = formFieldChangedEvent;
-        this.formDisplayers = new HashMap<>();
+        // Access ordered, so the first entry is always the least recently used displayer.
+        this.formDisplayers = new LinkedHashMap<>(16, 0.75f, true);
+        this.displayerTypes = new HashMap<>();
+        this.pooledDisplayers = new HashMap<>();
+        this.maxDisplayers = DEFAULT_MAX_DISPLAYERS;
+        this.maxPooledDisplayers = DEFAULT_MAX_POOLED_DISPLAYERS;
+    }
+
+    /**
+     * Sets the maximum number of element forms kept rendered. The least recently used ones are evicted first.
+     */
+    public void setMaxDisplayers(final int maxDisplayers) {
+        this.maxDisplayers = Math.max(1, maxDisplayers);
+        evictDisplayers(currentDisplayer);
+    }
+
+    /**
+     * Sets the maximum number of evicted displayers kept for each definition type, to be re-bound to other elements.
+     */
+    public void setMaxPooledDisplayers(final int maxPooledDisplayers) {
+        this.maxPooledDisplayers = Math.max(0, maxPooledDisplayers);
     }
 
     public void render(final String graphUuid,
@@ -66,9 +105,17 @@ public class FormsContainer implements IsElement {
                        final Path diagramPath,
                        final FieldChangeHandler changeHandler,
                        final RenderMode renderMode) {
-        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID);
+        final String definitionType = getDefinitionType(domainObject);
+        final boolean pooled = !formDisplayers.containsKey(new FormDisplayerKey(graphUuid, domainObjectUUID))
+                && hasPooledDisplayer(definitionType);
+
+        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID, definitionType);
 
-        displayer.render(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
+        if (pooled) {
+            displayer.bind(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
+        } else {
+            displayer.render(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
+        }
 
         if (null != currentDisplayer && !displayer.equals(currentDisplayer)) {
             currentDisplayer.hide();
@@ -76,6 +123,7 @@ public class FormsContainer implements IsElement {
 
         displayer.show();
         currentDisplayer = displayer;
+        evictDisplayers(currentDisplayer);
 
         currentDisplayer.getRenderer().addFieldChangeHandler((name, value) -> {
             formFieldChangedEvent.fire(new FormFieldChanged(name, value, domainObjectUUID));
@@ -84,26 +132,111 @@ public class FormsContainer implements IsElement {
 
     protected FormDisplayer getDisplayer(final String graphUuid,
                                          final String elementUuid) {
+        return getDisplayer(graphUuid, elementUuid, null);
+    }
+
+    protected FormDisplayer getDisplayer(final String graphUuid,
+                                         final String elementUuid,
+                                         final String definitionType) {
         FormDisplayerKey key = new FormDisplayerKey(graphUuid, elementUuid);
         FormDisplayer displayer = formDisplayers.get(key);
 
         LOGGER.fine("Getting form displayer for : " + key);
 
         if (displayer != null) {
+            cacheHits++;
             return displayer;
         }
 
-        LOGGER.fine("Creating new form displayer for : " + key);
+        cacheMisses++;
+        displayer = pollPooledDisplayer(definitionType);
+        if (displayer != null) {
+            pooledDisplayerHits++;
+            LOGGER.fine("Reusing pooled form displayer for : " + key);
+        } else {
+            LOGGER.fine("Creating new form displayer for : " + key);
 
-        displayer = displayersInstance.get();
-        displayer.hide();
-        view.addDisplayer(displayer);
+            displayer = displayersInstance.get();
+            displayer.hide();
+            view.addDisplayer(displayer);
+        }
+        LOGGER.fine("Form displayers cache hits: " + cacheHits + ", misses: " + cacheMisses
+                            + ", pooled displayers reused: " + pooledDisplayerHits);
 
-        formDisplayers.put(new FormDisplayerKey(graphUuid, elementUuid), displayer);
+        formDisplayers.put(key, displayer);
+        if (null != definitionType) {
+            displayerTypes.put(key, definitionType);
+        }
+        evictDisplayers(displayer);
 
         return displayer;
     }
 
+    private boolean hasPooledDisplayer(final String definitionType) {
+        final Deque<FormDisplayer> pool = null != definitionType ? pooledDisplayers.get(definitionType) : null;
+        return null != pool && !pool.isEmpty();
+    }
+
+    private FormDisplayer pollPooledDisplayer(final String definitionType) {
+        if (null == definitionType) {
+            return null;
+        }
+        final Deque<FormDisplayer> pool = pooledDisplayers.get(definitionType);
+        return null != pool ? pool.poll() : null;
+    }
+
+    /**
+     * Evicts the least recently used displayers above the maximum, but never the current one nor the given one.
+     */
+    private void evictDisplayers(final FormDisplayer keep) {
+        final Iterator<Map.Entry<FormDisplayerKey, FormDisplayer>> eldest = formDisplayers.entrySet().iterator();
+        while (formDisplayers.size() > maxDisplayers && eldest.hasNext()) {
+            final Map.Entry<FormDisplayerKey, FormDisplayer> entry = eldest.next();
+            final FormDisplayer displayer = entry.getValue();
+            if (displayer.equals(currentDisplayer) || displayer.equals(keep)) {
+                continue;
+            }
+
+            eldest.remove();
+            LOGGER.fine("Evicting form displayer for : " + entry.getKey());
+            releaseDisplayer(displayer, displayerTypes.remove(entry.getKey()));
+        }
+    }
+
+    /**
+     * Keeps an evicted displayer, with its form still rendered, to be re-bound to other elements of the same
+     * definition type, or destroys it when there is no room left for that type.
+     */
+    private void releaseDisplayer(final FormDisplayer displayer,
+                                  final String definitionType) {
+        displayer.hide();
+        if (null != definitionType) {
+            final Deque<FormDisplayer> pool = pooledDisplayers.computeIfAbsent(definitionType, type -> new ArrayDeque<>());
+            if (pool.size() < maxPooledDisplayers) {
+                pool.push(displayer);
+                return;
+            }
+        }
+        view.removeDisplayer(displayer);
+        displayersInstance.destroy(displayer);
+    }
+
+    static String getDefinitionType(final Object domainObject) {
+        return null != domainObject ? domainObject.getClass().getName() : null;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public int getPooledDisplayerHits() {
+        return pooledDisplayerHits;
+    }
+
     public void clearDiagramDisplayers(final String graphUuid) {
         LOGGER.fine("Clearing properties forms for graph: " + graphUuid);
         List<FormDisplayerKey> keys = formDisplayers.keySet()
@@ -131,6 +264,7 @@ public class FormsContainer implements IsElement {
 
     private void clearDisplayer(final FormDisplayerKey key) {
         FormDisplayer displayer = formDisplayers.remove(key);
+        displayerTypes.remove(key);
         LOGGER.fine("Clearing form displayer for element: " + key.getElementUid());
         view.removeDisplayer(displayer);
         displayer.hide();
@@ -151,6 +285,8 @@ public class FormsContainer implements IsElement {
         currentDisplayer = null;
         displayersInstance.destroyAll();
         formDisplayers.clear();
+        displayerTypes.clear();
+        pooledDisplayers.clear();
         currentDisplayer = null;
     }
 }
@@ -18,7 +18,10 @@ package org.kie.workbench.common.stunner.forms.client.widgets.container.displaye
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +42,8 @@ import org.kie.workbench.common.forms.dynamic.service.shared.FormRenderingContex
 import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
 import org.kie.workbench.common.forms.dynamic.service.shared.adf.DynamicFormModelGenerator;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.StaticModelFormRenderingContext;
+import org.kie.workbench.common.forms.model.FieldDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
 import org.kie.workbench.common.forms.processing.engine.handling.FormField;
 import org.kie.workbench.common.stunner.forms.client.formFilters.FormFiltersProviderFactory;
@@ -55,6 +60,11 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
     private final DynamicFormRenderer renderer;
     private final DynamicFormModelGenerator modelGenerator;
 
+    // The fields of the forms rendered for the current element, by form id, and how they were rendered.
+    private Map<String, List<String>> renderedForms;
+    private Path renderedPath;
+    private RenderMode renderedMode;
+
     @Inject
     public FormDisplayer(final FormDisplayerView view,
                          final DynamicFormRenderer renderer,
@@ -77,13 +87,66 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
 
         LOGGER.fine("Rendering form for element: " + domainObjectUUID);
 
-        doRender(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
+        doRender(getContextForModel(domainObjectUUID, domainObject), diagramPath, changeHandler, renderMode);
 
         show();
     }
 
-    private void doRender(final String domainObjectUUID,
-                          final Object domainObject,
+    /**
+     * Binds the form rendered for a previous element to the given one, so the form is not built again. The form is only
+     * rendered when the forms generated for the given element, once filtered, have other fields than the rendered ones.
+     */
+    public void bind(final String domainObjectUUID,
+                     final Object domainObject,
+                     final Path diagramPath,
+                     final FieldChangeHandler changeHandler,
+                     final RenderMode renderMode) {
+
+        final StaticModelFormRenderingContext generatedCtx = getContextForModel(domainObjectUUID, domainObject);
+
+        if (renderer.isInitialized()
+                && Objects.equals(diagramPath, renderedPath)
+                && Objects.equals(renderMode, renderedMode)
+                && getFormFields(generatedCtx).equals(renderedForms)) {
+
+            LOGGER.fine("Binding the rendered form to element: " + domainObjectUUID);
+
+            renderer.bind(generatedCtx.getModel());
+            renderer.addFieldChangeHandler(changeHandler);
+        } else {
+            LOGGER.fine("Rendering form for element: " + domainObjectUUID);
+
+            doRender(generatedCtx, diagramPath, changeHandler, renderMode);
+        }
+
+        show();
+    }
+
+    private StaticModelFormRenderingContext getContextForModel(final String domainObjectUUID,
+                                                               final Object domainObject) {
+        Collection<FormElementFilter> filters = FormFiltersProviderFactory.getFilterForDefinition(domainObjectUUID, domainObject);
+
+        final BindableProxy<?> proxy = (BindableProxy<?>) BindableProxyFactory.getBindableProxy(domainObject);
+        return modelGenerator.getContextForModel(proxy.deepUnwrap(), filters.stream().toArray(FormElementFilter[]::new));
+    }
+
+    private static Map<String, List<String>> getFormFields(final StaticModelFormRenderingContext context) {
+        final Map<String, List<String>> forms = new HashMap<>();
+        addFormFields(forms, context.getRootForm());
+        context.getAvailableForms().values().forEach(form -> addFormFields(forms, form));
+        return forms;
+    }
+
+    private static void addFormFields(final Map<String, List<String>> forms,
+                                      final FormDefinition form) {
+        if (null != form) {
+            forms.put(form.getId(), form.getFields().stream()
+                    .map(FieldDefinition::getName)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private void doRender(final StaticModelFormRenderingContext generatedCtx,
                           final Path diagramPath,
                           final FieldChangeHandler changeHandler,
                           final RenderMode renderMode) {
@@ -104,15 +167,15 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
 
         LOGGER.fine("Rendering a new form for element");
 
-        Collection<FormElementFilter> filters = FormFiltersProviderFactory.getFilterForDefinition(domainObjectUUID, domainObject);
-
-        final BindableProxy<?> proxy = (BindableProxy<?>) BindableProxyFactory.getBindableProxy(domainObject);
-        final StaticModelFormRenderingContext generatedCtx = modelGenerator.getContextForModel(proxy.deepUnwrap(), filters.stream().toArray(FormElementFilter[]::new));
         final FormRenderingContext<?> pathAwareCtx = new PathAwareFormContext<>(generatedCtx, diagramPath);
         pathAwareCtx.setRenderMode(renderMode);
 
         renderer.render(pathAwareCtx);
 
+        renderedForms = getFormFields(generatedCtx);
+        renderedPath = diagramPath;
+        renderedMode = renderMode;
+
         syncCollapses(previousExpandedCollapses);
 
         renderer.addFieldChangeHandler(changeHandler);
@@ -159,6 +222,7 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
 
     public void dispose() {
         renderer.unBind();
+        renderedForms = null;
     }
 
     @Override
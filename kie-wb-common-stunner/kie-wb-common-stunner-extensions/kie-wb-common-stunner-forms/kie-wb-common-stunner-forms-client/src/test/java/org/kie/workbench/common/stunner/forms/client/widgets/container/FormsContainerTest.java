@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.forms.client.widgets.container;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.errai.ioc.client.api.ManagedInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.client.DynamicFormRenderer;
+import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
+import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
+import org.kie.workbench.common.stunner.forms.client.event.FormFieldChanged;
+import org.kie.workbench.common.stunner.forms.client.widgets.container.displayer.FormDisplayer;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FormsContainerTest {
+
+    private static final String GRAPH_UUID = "graph";
+
+    @Mock
+    private FormsContainerView view;
+
+    @Mock
+    private ManagedInstance<FormDisplayer> displayersInstance;
+
+    @Mock
+    private Event<FormFieldChanged> formFieldChangedEvent;
+
+    @Mock
+    private Path path;
+
+    @Mock
+    private FieldChangeHandler changeHandler;
+
+    private FormDisplayer renderedDisplayer;
+
+    private FormsContainer tested;
+
+    @Before
+    public void setUp() {
+        when(displayersInstance.get()).thenAnswer(invocation -> {
+            final FormDisplayer displayer = mock(FormDisplayer.class);
+            when(displayer.getRenderer()).thenReturn(mock(DynamicFormRenderer.class));
+            doAnswer(render -> renderedDisplayer = displayer).when(displayer).render(any(), any(), any(), any(), any());
+            doAnswer(bind -> renderedDisplayer = displayer).when(displayer).bind(any(), any(), any(), any(), any());
+            return displayer;
+        });
+        tested = new FormsContainer(view, displayersInstance, formFieldChangedEvent);
+    }
+
+    @Test
+    public void testRenderSameElementTwice() {
+        final FormDisplayer displayer = render("e1", new FirstDefinition());
+        assertSame(displayer, render("e1", new FirstDefinition()));
+
+        verify(displayersInstance, times(1)).get();
+        verify(view, times(1)).addDisplayer(displayer);
+        verify(displayer, times(2)).render(any(), any(), any(), any(), any());
+        assertEquals(1, tested.getCacheHits());
+        assertEquals(1, tested.getCacheMisses());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedDisplayerToPool() {
+        tested.setMaxDisplayers(2);
+
+        final FormDisplayer displayer1 = render("e1", new FirstDefinition());
+        final FormDisplayer displayer2 = render("e2", new FirstDefinition());
+        render("e1", new FirstDefinition());
+        render("e3", new FirstDefinition());
+
+        // e2 is the least recently used one, its form is kept to be re-bound
+        verify(displayer2, never()).dispose();
+        verify(displayer1, never()).dispose();
+        verify(displayersInstance, never()).destroy(any());
+        verify(view, never()).removeDisplayer(any());
+
+        final FormDisplayer displayer4 = render("e4", new FirstDefinition());
+        assertSame(displayer2, displayer4);
+        verify(displayersInstance, times(3)).get();
+        assertEquals(1, tested.getCacheHits());
+        assertEquals(4, tested.getCacheMisses());
+        assertEquals(1, tested.getPooledDisplayerHits());
+    }
+
+    @Test
+    public void testPooledDisplayerIsBoundInsteadOfRendered() {
+        tested.setMaxDisplayers(1);
+
+        final FirstDefinition definition = new FirstDefinition();
+        final FormDisplayer displayer1 = render("e1", new FirstDefinition());
+        render("e2", new SecondDefinition());
+
+        assertSame(displayer1, render("e3", definition));
+        verify(displayer1, times(1)).render(any(), any(), any(), any(), any());
+        verify(displayer1).bind("e3", definition, path, changeHandler, RenderMode.EDIT_MODE);
+        assertEquals(1, tested.getPooledDisplayerHits());
+
+        // Once re-bound, the displayer is cached for the element and rendered as usual
+        render("e3", definition);
+        verify(displayer1, times(2)).render(any(), any(), any(), any(), any());
+        verify(displayer1, times(1)).bind(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testPooledDisplayerIsNotReusedForOtherTypes() {
+        tested.setMaxDisplayers(1);
+
+        final FormDisplayer displayer1 = render("e1", new FirstDefinition());
+        final FormDisplayer displayer2 = render("e2", new SecondDefinition());
+
+        assertNotSame(displayer1, displayer2);
+        verify(displayer1, never()).dispose();
+        assertEquals(0, tested.getPooledDisplayerHits());
+
+        assertSame(displayer1, render("e3", new FirstDefinition()));
+        assertEquals(1, tested.getPooledDisplayerHits());
+    }
+
+    @Test
+    public void testDestroyEvictedDisplayerWhenPoolIsFull() {
+        tested.setMaxDisplayers(1);
+        tested.setMaxPooledDisplayers(0);
+
+        final FormDisplayer displayer1 = render("e1", new FirstDefinition());
+        render("e2", new FirstDefinition());
+
+        verify(view).removeDisplayer(displayer1);
+        verify(displayersInstance).destroy(displayer1);
+    }
+
+    @Test
+    public void testClearDiagramDisplayers() {
+        final FormDisplayer displayer1 = render("e1", new FirstDefinition());
+        final FormDisplayer displayer2 = render("e2", new SecondDefinition());
+
+        tested.clearDiagramDisplayers(GRAPH_UUID);
+
+        verify(view).removeDisplayer(displayer1);
+        verify(view).removeDisplayer(displayer2);
+        verify(displayersInstance).destroy(displayer1);
+        verify(displayersInstance).destroy(displayer2);
+        assertNotSame(displayer1, render("e1", new FirstDefinition()));
+    }
+
+    @Test
+    public void testDestroyAllClearsPool() {
+        tested.setMaxDisplayers(1);
+        final FormDisplayer displayer1 = render("e1", new FirstDefinition());
+        render("e2", new SecondDefinition());
+
+        tested.destroyAll();
+
+        verify(view).clear();
+        verify(displayersInstance).destroyAll();
+        assertNotSame(displayer1, render("e3", new FirstDefinition()));
+        assertEquals(0, tested.getPooledDisplayerHits());
+    }
+
+    private FormDisplayer render(final String elementUuid,
+                                 final Object definition) {
+        tested.render(GRAPH_UUID, elementUuid, definition, path, changeHandler, RenderMode.EDIT_MODE);
+        return renderedDisplayer;
+    }
+
+    private static class FirstDefinition {
+
+    }
+
+    private static class SecondDefinition {
+
+    }
+}
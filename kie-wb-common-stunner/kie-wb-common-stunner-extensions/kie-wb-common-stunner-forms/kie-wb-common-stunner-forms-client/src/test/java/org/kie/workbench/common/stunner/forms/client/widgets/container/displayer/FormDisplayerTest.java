@@ -29,6 +29,8 @@ import org.kie.workbench.common.forms.dynamic.client.rendering.formGroups.impl.n
 import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
 import org.kie.workbench.common.forms.dynamic.service.shared.adf.DynamicFormModelGenerator;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.StaticModelFormRenderingContext;
+import org.kie.workbench.common.forms.model.FieldDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
 import org.kie.workbench.common.forms.processing.engine.handling.Form;
 import org.kie.workbench.common.forms.processing.engine.handling.FormField;
@@ -103,6 +105,15 @@ public class FormDisplayerTest {
     @Mock
     private StaticModelFormRenderingContext renderingContext;
 
+    @Mock
+    private FormDefinition formDefinition;
+
+    @Mock
+    private FieldDefinition fieldDefinition1;
+
+    @Mock
+    private FieldDefinition fieldDefinition2;
+
     private int renderedCount = 0;
 
     private FormDisplayer displayer;
@@ -140,6 +151,12 @@ public class FormDisplayerTest {
 
         when(formRenderer.getCurrentForm()).thenReturn(form);
         when(dynamicFormModelGenerator.getContextForModel(any(), anyVararg())).thenReturn(renderingContext);
+        when(renderingContext.getModel()).thenReturn(elementDefinition);
+        when(renderingContext.getRootForm()).thenReturn(formDefinition);
+        when(formDefinition.getId()).thenReturn("form");
+        when(formDefinition.getFields()).thenReturn(Arrays.asList(fieldDefinition1, fieldDefinition2));
+        when(fieldDefinition1.getName()).thenReturn(FIELD1);
+        when(fieldDefinition2.getName()).thenReturn(FIELD2);
 
         displayer = new FormDisplayer(view, formRenderer, dynamicFormModelGenerator);
     }
@@ -245,6 +262,55 @@ public class FormDisplayerTest {
         verify(containerField2, times(1)).expand();
     }
 
+    @Test
+    public void testBindToRenderedForm() {
+        RenderMode renderMode = RenderMode.EDIT_MODE;
+        testRender(1, 1, 1, 0, 1, renderMode);
+        when(formRenderer.isInitialized()).thenReturn(true);
+
+        displayer.bind(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, renderMode);
+
+        verify(formRenderer).bind(elementDefinition);
+        verify(formRenderer, times(1)).render(any(PathAwareFormContext.class));
+        verify(formRenderer, never()).unBind();
+        verify(formRenderer, times(2)).addFieldChangeHandler(fieldChangeHandler);
+        verify(view, times(2)).show();
+    }
+
+    @Test
+    public void testBindRendersOtherForms() {
+        RenderMode renderMode = RenderMode.EDIT_MODE;
+        testRender(1, 1, 1, 0, 1, renderMode);
+        when(formRenderer.isInitialized()).thenReturn(true);
+        when(formDefinition.getFields()).thenReturn(Arrays.asList(fieldDefinition1));
+
+        displayer.bind(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, renderMode);
+
+        verify(formRenderer, never()).bind(any());
+        verify(formRenderer).unBind();
+        verify(formRenderer, times(2)).render(any(PathAwareFormContext.class));
+    }
+
+    @Test
+    public void testBindRendersInOtherMode() {
+        testRender(1, 1, 1, 0, 1, RenderMode.EDIT_MODE);
+        when(formRenderer.isInitialized()).thenReturn(true);
+
+        displayer.bind(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, RenderMode.READ_ONLY_MODE);
+
+        verify(formRenderer, never()).bind(any());
+        verify(formRenderer, times(2)).render(any(PathAwareFormContext.class));
+    }
+
+    @Test
+    public void testBindRendersWhenNotRendered() {
+        displayer.bind(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, RenderMode.EDIT_MODE);
+
+        verify(formRenderer, never()).bind(any());
+        verify(formRenderer).render(any(PathAwareFormContext.class));
+        verify(view).show();
+    }
+
     private void testRender(int renderingTimes, int initializedTimes, int newContextTimes, int boundTimes, int viewTimes, RenderMode renderMode) {
         displayer.render(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, renderMode);
 
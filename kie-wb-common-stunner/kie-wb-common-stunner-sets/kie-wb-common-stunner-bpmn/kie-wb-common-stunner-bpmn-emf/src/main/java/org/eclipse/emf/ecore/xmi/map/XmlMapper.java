@@ -24,7 +24,6 @@ import com.google.gwt.xml.client.XMLParser;
 import org.eclipse.emf.common.util.Callback;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.xmi.XMLResource;
-import org.eclipse.emf.ecore.xmi.resource.xml.XMLDOMHandler;
 
 public class XmlMapper extends AbstractMapper {
 
@@ -60,10 +59,6 @@ public class XmlMapper extends AbstractMapper {
 
         XMLResource xmlResource = (XMLResource) resource;
 
-        Document document = XMLParser.createDocument();
-
-        xmlResource.save(document, options, new XMLDOMHandler());
-
-        return document.toString();
+        return xmlResource.saveToString(options);
     }
 }
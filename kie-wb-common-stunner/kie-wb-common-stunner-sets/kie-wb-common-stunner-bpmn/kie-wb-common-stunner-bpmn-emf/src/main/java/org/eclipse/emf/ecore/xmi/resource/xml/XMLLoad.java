@@ -30,6 +30,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.ExtendedMetaData;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.util.GwtDOMHandler;
+import org.eclipse.emf.ecore.xmi.util.XMLPullParser;
 
 /**
  * This class begins parsing with the given input stream using the XML
@@ -102,6 +103,68 @@ public class XMLLoad {
         handleErrors();
     }
 
+    /**
+     * Loads the given XML contents by pulling the parser events and feeding them directly into the handler,
+     * so no DOM is built for the contents. The handler receives the same events as when traversing the
+     * DOM for the same contents.
+     */
+    public void load(XMLResource resource, String contents, Map<?, ?> options) throws IOException {
+        this.resource = resource;
+        this.options = options;
+        this.namespaceAware = Boolean.FALSE.equals(options.get(XMLResource.OPTION_USE_DEPRECATED_METHODS));
+        XMLHandler handler = makeDefaultHandler();
+
+        XMLPullParser parser = new XMLPullParser(contents);
+        AttributesImpl attributes = new AttributesImpl();
+        try {
+            for (int event = parser.next(); event != XMLPullParser.END_DOCUMENT; event = parser.next()) {
+                switch (event) {
+                    case XMLPullParser.START_DOCUMENT:
+                        handler.startDocument();
+                        break;
+                    case XMLPullParser.START_ELEMENT:
+                        attributes.clear();
+                        for (int i = 0, length = parser.getAttributeCount(); i < length; i++) {
+                            String qname = parser.getAttributeName(i);
+                            String value = parser.getAttributeValue(i);
+                            if (parser.isNamespaceAttribute(i)) {
+                                if (namespaceAware) {
+                                    handler.startPrefixMapping(qname.indexOf(':') < 0 ? "" : parser.getAttributeLocalName(i), value);
+                                } else {
+                                    attributes.addAttribute("", "", qname, "CDATA", value);
+                                }
+                            } else {
+                                attributes.addAttribute(parser.getAttributeNamespaceURI(i), parser.getAttributeLocalName(i), qname, "CDATA", value);
+                            }
+                        }
+                        handler.startElement(parser.getNamespaceURI(), parser.getLocalName(), parser.getName(), attributes);
+                        break;
+                    case XMLPullParser.END_ELEMENT:
+                        handler.endElement(parser.getNamespaceURI(), parser.getLocalName(), parser.getName());
+                        break;
+                    case XMLPullParser.CHARACTERS:
+                        char[] chars = parser.getText().toCharArray();
+                        handler.characters(chars, 0, chars.length);
+                        break;
+                    case XMLPullParser.PROCESSING_INSTRUCTION:
+                        handler.processingInstruction(parser.getName(), parser.getText());
+                        break;
+                }
+            }
+            handler.endDocument();
+        } catch (XMIException e) {
+            resource.getErrors().add(e);
+        } catch (XMLParseException e) {
+            // ignore
+        }
+
+        attributes = null;
+        handler = null;
+        helper = null;
+
+        handleErrors();
+    }
+
     /**
      * Special case: traversing root element using namespaces in scope
      */
@@ -93,7 +93,7 @@ public class XMLSave {
 
     protected static final int INDEX_LOOKUP = 0;
 
-    final StringBuffer buffer = new StringBuffer();
+    final StringBuilder buffer = new StringBuilder();
 
     protected XMLHelper helper;
     protected XMLString doc;
@@ -231,6 +231,31 @@ public class XMLSave {
         return gwtDocumentHandler.getDocument();
     }
 
+    /**
+     * Serializes the resource straight into the {@link XMLString} segments, without building a DOM,
+     * and copies them once into the resulting string.
+     */
+    public String save(XMLResource resource, Map<?, ?> options) {
+        toDOM = false;
+        this.xmlResource = resource;
+
+        init(resource, options);
+        @SuppressWarnings("unchecked")
+        List<? extends EObject> contents = roots = (List<? extends EObject>) options.get(XMLResource.OPTION_ROOT_OBJECTS);
+        if (contents == null) {
+            contents = resource.getContents();
+        }
+        traverse(contents);
+        String result = new String(toChar());
+
+        try {
+            endSave(contents);
+        } finally {
+            xmlResource = null;
+        }
+        return result;
+    }
+
     protected void endSave(List<? extends EObject> contents) {
         if (extendedMetaData != null && contents.size() >= 1) {
             EObject root = contents.get(0);
@@ -461,7 +486,9 @@ public class XMLSave {
     public void traverse(List<? extends EObject> contents) {
         if (!toDOM && declareXML) {
             doc.add("<?xml version=\"" + xmlVersion + "\" encoding=\"" + encoding + "\"?>");
-            doc.addLine();
+            if (!doc.isUnformatted()) {
+                doc.addLine();
+            }
         }
 
         int size = contents.size();
@@ -476,9 +503,10 @@ public class XMLSave {
             mark = writeTopObjects(contents);
         }
         if (!toDOM) {
-            // Go back and add all the XMLNS stuff.
+            // Go back and add all the XMLNS stuff, after the attributes of the root element.
             //
-            doc.resetToMark(mark);
+            Object firstElementEndMark = doc.getFirstElementEndMark();
+            doc.resetToMark(firstElementEndMark != null ? firstElementEndMark : mark);
         } else {
             currentNode = getGwtDOMHandler().getDocument().getDocumentElement();
         }
@@ -591,7 +619,7 @@ public class XMLSave {
         EPackage noNamespacePackage = helper.getNoNamespacePackage();
         EPackage[] packages = helper.packages();
         buffer.setLength(0);
-        StringBuffer xsiSchemaLocation = buffer;
+        StringBuilder xsiSchemaLocation = buffer;
         String xsiNoNamespaceSchemaLocation = null;
         if (declareSchemaLocation) {
             Map<String, String> handledBySchemaLocationMap = Collections.emptyMap();
@@ -685,9 +713,15 @@ public class XMLSave {
             }
         }
 
+        String schemaLocation = xsiSchemaLocation.length() > 0 ? xsiSchemaLocation.toString() : null;
+
+        // The declarations are collected and added as a single run of attributes.
+        StringBuilder declarations = buffer;
+        declarations.setLength(0);
+
         if (declareXSI) {
             if (!toDOM) {
-                doc.addAttribute(XSI_XMLNS, XMLResource.XSI_URI);
+                appendAttribute(declarations, XSI_XMLNS, XMLResource.XSI_URI);
             } else {
                 getGwtDOMHandler().setAttributeNS(currentNode, ExtendedMetaData.XMLNS_URI, XSI_XMLNS, XMLResource.XSI_URI);
             }
@@ -708,10 +742,10 @@ public class XMLSave {
                         if (!toDOM) {
                             if (nsPrefix != null && nsPrefix.length() > 0) {
                                 if (!declareXSI || !"xsi".equals(nsPrefix)) {
-                                    doc.addAttributeNS(XMLResource.XML_NS, nsPrefix, nsURI);
+                                    appendAttribute(declarations, XMLResource.XML_NS + ":" + nsPrefix, nsURI);
                                 }
                             } else {
-                                doc.addAttribute(XMLResource.XML_NS, nsURI);
+                                appendAttribute(declarations, XMLResource.XML_NS, nsURI);
                             }
                         } else {
                             if (nsPrefix != null && nsPrefix.length() > 0) {
@@ -727,21 +761,35 @@ public class XMLSave {
             }
         }
 
-        if (xsiSchemaLocation.length() > 0) {
+        if (schemaLocation != null) {
             if (!toDOM) {
-                doc.addAttribute(XSI_SCHEMA_LOCATION, xsiSchemaLocation.toString());
+                appendAttribute(declarations, XSI_SCHEMA_LOCATION, schemaLocation);
             } else {
-                getGwtDOMHandler().setAttributeNS(currentNode, XMLResource.XSI_URI, XSI_SCHEMA_LOCATION, xsiSchemaLocation.toString());
+                getGwtDOMHandler().setAttributeNS(currentNode, XMLResource.XSI_URI, XSI_SCHEMA_LOCATION, schemaLocation);
             }
         }
 
         if (xsiNoNamespaceSchemaLocation != null) {
             if (!toDOM) {
-                doc.addAttribute(XSI_NO_NAMESPACE_SCHEMA_LOCATION, xsiNoNamespaceSchemaLocation);
+                appendAttribute(declarations, XSI_NO_NAMESPACE_SCHEMA_LOCATION, xsiNoNamespaceSchemaLocation);
             } else {
                 getGwtDOMHandler().setAttributeNS(currentNode, XMLResource.XSI_URI, XSI_NO_NAMESPACE_SCHEMA_LOCATION, xsiNoNamespaceSchemaLocation);
             }
         }
+
+        if (!toDOM && declarations.length() > 0) {
+            doc.addAttributes(declarations.toString());
+        }
+    }
+
+    private static void appendAttribute(StringBuilder attributes, String name, String value) {
+        if (attributes.length() > 0) {
+            attributes.append(' ');
+        }
+        attributes.append(name);
+        attributes.append("=\"");
+        attributes.append(value);
+        attributes.append('"');
     }
 
     protected void addDoctypeInformation() {
@@ -1390,28 +1438,36 @@ public class XMLSave {
             EDataType d = (EDataType) f.getEType();
             EPackage ePackage = d.getEPackage();
             EFactory fac = ePackage.getEFactoryInstance();
-            StringBuffer stringValues = new StringBuffer();
-            for (int i = 0; i < size; ++i) {
-                Object value = values.get(i);
-                if (value != null) {
-                    String svalue = helper.convertToString(fac, d, value);
-                    if (escape != null) {
-                        svalue = escape.convert(svalue);
-                    }
-                    if (i > 0) {
-                        stringValues.append(' ');
-                    }
-                    stringValues.append(svalue);
-                }
-            }
             if (!toDOM) {
                 String name = helper.getQName(f);
                 doc.startAttribute(name);
-                doc.addAttributeContent(stringValues.toString());
+                for (int i = 0; i < size; ++i) {
+                    Object value = values.get(i);
+                    if (value != null) {
+                        String svalue = helper.convertToString(fac, d, value);
+                        if (escape != null) {
+                            svalue = escape.convert(svalue);
+                        }
+                        if (i > 0) {
+                            doc.addAttributeContent(" ");
+                        }
+                        doc.addAttributeContent(svalue);
+                    }
+                }
                 doc.endAttribute();
             } else {
+                buffer.setLength(0);
+                for (int i = 0; i < size; ++i) {
+                    Object value = values.get(i);
+                    if (value != null) {
+                        if (i > 0) {
+                            buffer.append(' ');
+                        }
+                        buffer.append(helper.convertToString(fac, d, value));
+                    }
+                }
                 helper.populateNameInfo(nameInfo, f);
-                String value = stringValues.toString();
+                String value = buffer.toString();
                 Attr attr = getGwtDOMHandler().createAttributeNS(nameInfo.getNamespaceURI(), nameInfo.getQualifiedName());
                 attr.setNodeValue(value);
                 getGwtDOMHandler().setAttributeNodeNS(currentNode, attr);
@@ -1426,25 +1482,27 @@ public class XMLSave {
             String id = helper.getHREF(value);
             if (id != null) {
                 id = convertURI(id);
-                buffer.setLength(0);
+                String typeName = null;
                 if (!id.startsWith("#")) {
                     EClass eClass = value.eClass();
                     EClass expectedType = (EClass) f.getEType();
                     if (saveTypeInfo ? xmlTypeInfo.shouldSaveType(eClass, expectedType, f) : eClass != expectedType && (expectedType.isAbstract() || f.getEGenericType().getETypeParameter() != null)) {
-                        buffer.append(helper.getQName(eClass));
-                        buffer.append(' ');
+                        typeName = helper.getQName(eClass);
                     }
                 }
-                buffer.append(id);
                 if (!toDOM) {
                     String name = helper.getQName(f);
                     doc.startAttribute(name);
-                    doc.addAttributeContent(buffer.toString());
+                    if (typeName != null) {
+                        doc.addAttributeContent(typeName);
+                        doc.addAttributeContent(" ");
+                    }
+                    doc.addAttributeContent(id);
                     doc.endAttribute();
                 } else {
                     helper.populateNameInfo(nameInfo, f);
                     Attr attr = getGwtDOMHandler().createAttributeNS(nameInfo.getNamespaceURI(), nameInfo.getQualifiedName());
-                    attr.setNodeValue(buffer.toString());
+                    attr.setNodeValue(typeName == null ? id : typeName + " " + id);
                     getGwtDOMHandler().setAttributeNodeNS(currentNode, attr);
                     handler.recordValues(attr, o, f, value);
                 }
@@ -1528,7 +1586,7 @@ public class XMLSave {
         InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) helper.getValue(o, f);
         if (!values.isEmpty()) {
             buffer.setLength(0);
-            StringBuffer ids = buffer;
+            StringBuilder ids = buffer;
             boolean failure = false;
             for (Iterator<? extends EObject> i = values.basicIterator(); ; ) {
                 EObject value = i.next();
@@ -1637,7 +1695,7 @@ public class XMLSave {
         @SuppressWarnings("unchecked")
         InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) helper.getValue(o, f);
         buffer.setLength(0);
-        StringBuffer result = buffer;
+        StringBuilder result = buffer;
         int size = values.size();
         String href = null;
         boolean failure = false;
@@ -1724,7 +1782,7 @@ public class XMLSave {
         @SuppressWarnings("unchecked")
         InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) helper.getValue(o, f);
         buffer.setLength(0);
-        StringBuffer result = buffer;
+        StringBuilder result = buffer;
         boolean failure = false;
         for (int i = 0, size = values.size(); i < size; i++) {
             String idref = helper.getIDREF(values.basicGet(i));
@@ -2538,6 +2596,10 @@ public class XMLSave {
             this.allowControlCharacters = allowControlCharacters;
         }
 
+        protected boolean isCDATA(String input) {
+            return input.startsWith("<![CDATA[") && input.endsWith("]]>");
+        }
+
         public void setUseCDATA(boolean useCDATA) {
             this.useCDATA = useCDATA;
         }
@@ -2552,11 +2614,16 @@ public class XMLSave {
          *  \r to &#xD;
          */
         public String convert(String input) {
-            boolean changed = false;
             int inputLength = input.length();
+            int inputPos = skipUnchanged(input, false);
+            if (inputPos == inputLength) {
+                return input;
+            }
+            boolean changed = false;
             grow(inputLength);
-            int outputPos = 0;
-            int inputPos = 0;
+            input.getChars(0, inputPos, value, 0);
+            int outputPos = inputPos;
+            inputLength -= inputPos;
             char ch = 0;
             while (inputLength-- > 0) {
                 ch = input.charAt(inputPos++); // value[outputPos];
@@ -2676,14 +2743,25 @@ public class XMLSave {
          *  " to &quot;
          *  \n to line separator
          *  \r should be escaped to &xD;
+         *
+         *  Values already wrapped in a CDATA section are kept as they are, as the DOM
+         *  handler writes them as CDATA sections.
          */
         public String convertText(String input) {
+            if (isCDATA(input)) {
+                return input;
+            }
+            int inputLength = input.length();
+            int inputPos = skipUnchanged(input, true);
+            if (inputPos == inputLength) {
+                return input;
+            }
             boolean changed = false;
             boolean cdataCloseBracket = false;
-            int inputLength = input.length();
             grow(inputLength);
-            int outputPos = 0;
-            int inputPos = 0;
+            input.getChars(0, inputPos, value, 0);
+            int outputPos = inputPos;
+            inputLength -= inputPos;
             char ch;
             while (inputLength-- > 0) {
                 ch = input.charAt(inputPos++); // value[outputPos];
@@ -2806,6 +2884,9 @@ public class XMLSave {
          *  \n to line separator
          */
         public String convertLines(String input) {
+            if (input.indexOf('\n') == -1) {
+                return input;
+            }
             boolean changed = false;
             int inputLength = input.length();
             grow(inputLength);
@@ -2829,6 +2910,21 @@ public class XMLSave {
             return changed ? new String(value, 0, outputPos) : input;
         }
 
+        /*
+         *  Returns the length of the leading run of characters that are written as they are,
+         *  so values that need no escaping are returned without being copied.
+         */
+        protected int skipUnchanged(String input, boolean text) {
+            int inputLength = input.length();
+            for (int i = 0; i < inputLength; i++) {
+                char ch = input.charAt(i);
+                if (ch < 0x20 || ch >= 0xD800 || ch > mappableLimit || ch == '&' || ch == '<' || ch == '"' || (text && ch == '>')) {
+                    return i;
+                }
+            }
+            return inputLength;
+        }
+
         protected int replaceChars(int pos, char[] replacement, int inputLength) {
             int rlen = replacement.length;
             int newPos = pos + rlen;
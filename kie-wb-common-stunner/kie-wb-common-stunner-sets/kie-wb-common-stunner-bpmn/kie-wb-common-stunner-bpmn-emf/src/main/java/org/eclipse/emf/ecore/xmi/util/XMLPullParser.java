@@ -0,0 +1,545 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.emf.ecore.xmi.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.ExtendedMetaData;
+import org.eclipse.emf.ecore.xmi.resource.xml.XMIException;
+
+/**
+ * A pull based XML parser, which reads the XML contents one event at a time, without building any DOM.
+ * <p>
+ * It produces the same events as traversing the document element of the DOM for the same contents:
+ * the prolog, comments and the document type declaration are skipped, entity and character references
+ * are resolved, and line breaks and attribute values are normalized as the XML specification states.
+ * It does not validate the document, nor resolves external entities.
+ * <p>
+ * It only relies on the String API, so it runs both on the JVM and on the browser.
+ */
+public class XMLPullParser {
+
+    public static final int START_DOCUMENT = 0;
+    public static final int END_DOCUMENT = 1;
+    public static final int START_ELEMENT = 2;
+    public static final int END_ELEMENT = 3;
+    public static final int CHARACTERS = 4;
+    public static final int PROCESSING_INSTRUCTION = 5;
+
+    private static final String XML_PREFIX = "xml";
+    private static final String XML_URI = "http://www.w3.org/XML/1998/namespace";
+    private static final String XMLNS_PREFIX = "xmlns";
+
+    private final String source;
+    private final int length;
+    private int position;
+    private int event;
+    private boolean rootFound;
+    private boolean pendingEnd;
+
+    // The qualified names for the open elements.
+    private final List<String> elements;
+    // The namespace declarations in scope, and the number of them declared by each open element.
+    private final List<String> namespacePrefixes;
+    private final List<String> namespaceURIs;
+    private int[] namespaceCounts;
+
+    private String name;
+    private String localName;
+    private String namespaceURI;
+    private final List<String> attributeNames;
+    private final List<String> attributeValues;
+    private final List<String> attributeURIs;
+    private String text;
+    private String piTarget;
+
+    public XMLPullParser(final String source) {
+        this.source = source;
+        this.length = source.length();
+        this.position = 0;
+        this.event = -1;
+        this.rootFound = false;
+        this.pendingEnd = false;
+        this.elements = new ArrayList<>();
+        this.namespacePrefixes = new ArrayList<>();
+        this.namespaceURIs = new ArrayList<>();
+        this.namespaceCounts = new int[16];
+        this.attributeNames = new ArrayList<>();
+        this.attributeValues = new ArrayList<>();
+        this.attributeURIs = new ArrayList<>();
+    }
+
+    /**
+     * Reads the next event.
+     * @return the event type.
+     * @throws XMIException if the contents are not well-formed.
+     */
+    public int next() throws XMIException {
+        if (event == -1) {
+            return event = START_DOCUMENT;
+        }
+        if (event == END_DOCUMENT) {
+            return END_DOCUMENT;
+        }
+        if (pendingEnd) {
+            pendingEnd = false;
+            return endElement();
+        }
+        while (position < length) {
+            final char c = source.charAt(position);
+            if (c != '<') {
+                int end = source.indexOf('<', position);
+                end = end < 0 ? length : end;
+                if (elements.isEmpty()) {
+                    checkWhitespace(position, end);
+                    position = end;
+                    continue;
+                }
+                text = decode(position, end, false);
+                position = end;
+                return event = CHARACTERS;
+            }
+            if (source.startsWith("<?", position)) {
+                final int end = indexOf("?>", position + 2, "processing instruction");
+                final boolean inRoot = !elements.isEmpty();
+                readProcessingInstruction(position + 2, end);
+                position = end + 2;
+                if (inRoot) {
+                    return event = PROCESSING_INSTRUCTION;
+                }
+            } else if (source.startsWith("<!--", position)) {
+                position = indexOf("-->", position + 4, "comment") + 3;
+            } else if (source.startsWith("<![CDATA[", position)) {
+                if (elements.isEmpty()) {
+                    throw error("CDATA section outside the document element");
+                }
+                final int end = indexOf("]]>", position + 9, "CDATA section");
+                text = normalizeLineBreaks(source.substring(position + 9, end));
+                position = end + 3;
+                return event = CHARACTERS;
+            } else if (source.startsWith("<!", position)) {
+                if (rootFound) {
+                    throw error("Markup declaration after the document element start");
+                }
+                skipDocumentType();
+            } else if (source.startsWith("</", position)) {
+                readEndTag();
+                return endElement();
+            } else {
+                readStartTag();
+                return event = START_ELEMENT;
+            }
+        }
+        if (!elements.isEmpty()) {
+            throw error("Element '" + elements.get(elements.size() - 1) + "' is not closed");
+        }
+        if (!rootFound) {
+            throw error("No document element found");
+        }
+        return event = END_DOCUMENT;
+    }
+
+    public int getEventType() {
+        return event;
+    }
+
+    /**
+     * The qualified name for the current element, or the target for the current processing instruction.
+     */
+    public String getName() {
+        return event == PROCESSING_INSTRUCTION ? piTarget : name;
+    }
+
+    public String getLocalName() {
+        return localName;
+    }
+
+    /**
+     * The namespace URI for the current element, or an empty string if not in a namespace.
+     */
+    public String getNamespaceURI() {
+        return namespaceURI;
+    }
+
+    /**
+     * The character data for the current characters event, or the data for the current processing instruction.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public int getAttributeCount() {
+        return attributeNames.size();
+    }
+
+    public String getAttributeName(final int index) {
+        return attributeNames.get(index);
+    }
+
+    public String getAttributeLocalName(final int index) {
+        return localName(attributeNames.get(index));
+    }
+
+    /**
+     * The namespace URI for the attribute at the given index, or an empty string if not in a namespace.
+     */
+    public String getAttributeNamespaceURI(final int index) {
+        return attributeURIs.get(index);
+    }
+
+    public String getAttributeValue(final int index) {
+        return attributeValues.get(index);
+    }
+
+    /**
+     * Whether the attribute at the given index is a namespace declaration.
+     */
+    public boolean isNamespaceAttribute(final int index) {
+        return ExtendedMetaData.XMLNS_URI.equals(attributeURIs.get(index));
+    }
+
+    public static String localName(final String qualifiedName) {
+        final int i = qualifiedName.indexOf(':');
+        return i < 0 ? qualifiedName : qualifiedName.substring(i + 1);
+    }
+
+    private void readStartTag() throws XMIException {
+        if (rootFound && elements.isEmpty()) {
+            throw error("Only one document element is allowed");
+        }
+        rootFound = true;
+        position++;
+        name = readName();
+        attributeNames.clear();
+        attributeValues.clear();
+        attributeURIs.clear();
+        int namespaces = 0;
+        while (true) {
+            final boolean whitespace = skipWhitespace();
+            if (position >= length) {
+                throw error("Unexpected end of contents in element '" + name + "'");
+            }
+            final char c = source.charAt(position);
+            if (c == '>') {
+                position++;
+                break;
+            }
+            if (c == '/') {
+                if (position + 1 >= length || source.charAt(position + 1) != '>') {
+                    throw error("Expected '>' in element '" + name + "'");
+                }
+                position += 2;
+                pendingEnd = true;
+                break;
+            }
+            if (!whitespace) {
+                throw error("Expected whitespace in element '" + name + "'");
+            }
+            final String attributeName = readName();
+            skipWhitespace();
+            expect('=');
+            skipWhitespace();
+            final String attributeValue = readAttributeValue();
+            if (attributeNames.contains(attributeName)) {
+                throw error("Attribute '" + attributeName + "' is duplicated in element '" + name + "'");
+            }
+            attributeNames.add(attributeName);
+            attributeValues.add(attributeValue);
+            if (XMLNS_PREFIX.equals(attributeName)) {
+                declareNamespace("", attributeValue);
+                namespaces++;
+            } else if (attributeName.startsWith(XMLNS_PREFIX + ":")) {
+                declareNamespace(attributeName.substring(XMLNS_PREFIX.length() + 1), attributeValue);
+                namespaces++;
+            }
+        }
+        elements.add(name);
+        if (elements.size() > namespaceCounts.length) {
+            final int[] counts = new int[namespaceCounts.length * 2];
+            System.arraycopy(namespaceCounts, 0, counts, 0, namespaceCounts.length);
+            namespaceCounts = counts;
+        }
+        namespaceCounts[elements.size() - 1] = namespaces;
+        localName = localName(name);
+        namespaceURI = resolveNamespace(name, true);
+        for (int i = 0; i < attributeNames.size(); i++) {
+            final String attributeName = attributeNames.get(i);
+            if (XMLNS_PREFIX.equals(attributeName) || attributeName.startsWith(XMLNS_PREFIX + ":")) {
+                attributeURIs.add(ExtendedMetaData.XMLNS_URI);
+            } else {
+                attributeURIs.add(resolveNamespace(attributeName, false));
+            }
+        }
+    }
+
+    private void readEndTag() throws XMIException {
+        position += 2;
+        final String endName = readName();
+        skipWhitespace();
+        expect('>');
+        if (elements.isEmpty()) {
+            throw error("Unexpected end tag '" + endName + "'");
+        }
+        final String startName = elements.get(elements.size() - 1);
+        if (!startName.equals(endName)) {
+            throw error("End tag '" + endName + "' does not match the start tag '" + startName + "'");
+        }
+    }
+
+    private int endElement() {
+        final int index = elements.size() - 1;
+        name = elements.remove(index);
+        localName = localName(name);
+        namespaceURI = resolveNamespace(name, true);
+        // The namespaces declared by the element are still in scope for its end tag.
+        for (int i = namespaceCounts[index]; i > 0; i--) {
+            namespacePrefixes.remove(namespacePrefixes.size() - 1);
+            namespaceURIs.remove(namespaceURIs.size() - 1);
+        }
+        return event = END_ELEMENT;
+    }
+
+    private void declareNamespace(final String prefix,
+                                  final String uri) {
+        namespacePrefixes.add(prefix);
+        namespaceURIs.add(uri);
+    }
+
+    private String resolveNamespace(final String qualifiedName,
+                                    final boolean useDefault) {
+        final int i = qualifiedName.indexOf(':');
+        if (i < 0 && !useDefault) {
+            return "";
+        }
+        final String prefix = i < 0 ? "" : qualifiedName.substring(0, i);
+        if (XML_PREFIX.equals(prefix)) {
+            return XML_URI;
+        }
+        for (int j = namespacePrefixes.size() - 1; j >= 0; j--) {
+            if (namespacePrefixes.get(j).equals(prefix)) {
+                return namespaceURIs.get(j);
+            }
+        }
+        return "";
+    }
+
+    private void readProcessingInstruction(final int start,
+                                           final int end) {
+        int i = start;
+        while (i < end && !isWhitespace(source.charAt(i))) {
+            i++;
+        }
+        piTarget = source.substring(start, i);
+        while (i < end && isWhitespace(source.charAt(i))) {
+            i++;
+        }
+        text = source.substring(i, end);
+    }
+
+    private void skipDocumentType() throws XMIException {
+        // Skip up to the closing '>', including any internal subset within brackets.
+        int brackets = 0;
+        for (int i = position + 2; i < length; i++) {
+            final char c = source.charAt(i);
+            if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == '>' && brackets == 0) {
+                position = i + 1;
+                return;
+            }
+        }
+        throw error("Unexpected end of contents in markup declaration");
+    }
+
+    private String readName() throws XMIException {
+        final int start = position;
+        while (position < length) {
+            final char c = source.charAt(position);
+            if (isWhitespace(c) || c == '>' || c == '/' || c == '=' || c == '<' || c == '"' || c == '\'') {
+                break;
+            }
+            position++;
+        }
+        if (start == position) {
+            throw error("Expected a name");
+        }
+        return source.substring(start, position);
+    }
+
+    private String readAttributeValue() throws XMIException {
+        if (position >= length) {
+            throw error("Expected an attribute value");
+        }
+        final char quote = source.charAt(position);
+        if (quote != '"' && quote != '\'') {
+            throw error("Expected a quoted attribute value");
+        }
+        final int start = position + 1;
+        final int end = source.indexOf(quote, start);
+        if (end < 0) {
+            throw error("Attribute value not closed");
+        }
+        final int lt = source.indexOf('<', start);
+        if (lt > -1 && lt < end) {
+            throw error("The '<' character is not allowed in attribute values");
+        }
+        position = end + 1;
+        return decode(start, end, true);
+    }
+
+    private void expect(final char expected) throws XMIException {
+        if (position >= length || source.charAt(position) != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    private boolean skipWhitespace() {
+        final int start = position;
+        while (position < length && isWhitespace(source.charAt(position))) {
+            position++;
+        }
+        return position > start;
+    }
+
+    private void checkWhitespace(final int start,
+                                 final int end) throws XMIException {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(source.charAt(i))) {
+                position = i;
+                throw error("Content is not allowed outside the document element");
+            }
+        }
+    }
+
+    /**
+     * Resolves the references and normalizes the line breaks for the given range of characters.
+     * For attribute values, the whitespace characters are normalized to spaces as well.
+     */
+    private String decode(final int start,
+                          final int end,
+                          final boolean attribute) throws XMIException {
+        int i = start;
+        while (i < end) {
+            final char c = source.charAt(i);
+            if (c == '&' || c == '\r' || (attribute && (c == '\n' || c == '\t'))) {
+                break;
+            }
+            i++;
+        }
+        if (i == end) {
+            return source.substring(start, end);
+        }
+        final StringBuilder builder = new StringBuilder(end - start);
+        builder.append(source, start, i);
+        while (i < end) {
+            final char c = source.charAt(i);
+            if (c == '&') {
+                final int semicolon = source.indexOf(';', i);
+                if (semicolon < 0 || semicolon >= end) {
+                    position = i;
+                    throw error("Reference not terminated");
+                }
+                appendReference(builder, source.substring(i + 1, semicolon), i);
+                i = semicolon + 1;
+            } else if (c == '\r') {
+                builder.append(attribute ? ' ' : '\n');
+                i += (i + 1 < end && source.charAt(i + 1) == '\n') ? 2 : 1;
+            } else if (attribute && (c == '\n' || c == '\t')) {
+                builder.append(' ');
+                i++;
+            } else {
+                builder.append(c);
+                i++;
+            }
+        }
+        return builder.toString();
+    }
+
+    private void appendReference(final StringBuilder builder,
+                                 final String reference,
+                                 final int at) throws XMIException {
+        switch (reference) {
+            case "lt":
+                builder.append('<');
+                return;
+            case "gt":
+                builder.append('>');
+                return;
+            case "amp":
+                builder.append('&');
+                return;
+            case "quot":
+                builder.append('"');
+                return;
+            case "apos":
+                builder.append('\'');
+                return;
+        }
+        if (reference.length() > 1 && reference.charAt(0) == '#') {
+            try {
+                final int codePoint = reference.charAt(1) == 'x' ?
+                        Integer.parseInt(reference.substring(2), 16) :
+                        Integer.parseInt(reference.substring(1));
+                builder.appendCodePoint(codePoint);
+                return;
+            } catch (IllegalArgumentException e) {
+                // Reported below.
+            }
+        }
+        position = at;
+        throw error("Unknown reference '&" + reference + ";'");
+    }
+
+    private static String normalizeLineBreaks(final String value) {
+        if (value.indexOf('\r') < 0) {
+            return value;
+        }
+        return value.replace("\r\n", "\n").replace('\r', '\n');
+    }
+
+    private int indexOf(final String token,
+                        final int from,
+                        final String construct) throws XMIException {
+        final int index = source.indexOf(token, from);
+        if (index < 0) {
+            throw error("Unexpected end of contents in " + construct);
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+    }
+
+    private XMIException error(final String message) {
+        int line = 1;
+        int column = 1;
+        for (int i = 0; i < position && i < length; i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        return new XMIException(message, "", line, column);
+    }
+}
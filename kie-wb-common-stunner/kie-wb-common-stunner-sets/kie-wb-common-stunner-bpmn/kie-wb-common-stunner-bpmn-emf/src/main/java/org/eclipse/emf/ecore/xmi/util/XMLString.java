@@ -52,6 +52,8 @@ public class XMLString extends StringSegment {
 
     protected Object firstElementMark;
 
+    protected Object firstElementEndMark;
+
     protected boolean seenRoot;
 
     protected boolean saveDoctype;
@@ -120,6 +122,7 @@ public class XMLString extends StringSegment {
         this.lineWidth = lineWidth;
         currentLineWidth = 0;
         firstElementMark = null;
+        firstElementEndMark = null;
     }
 
     public void startElement(String name) {
@@ -283,6 +286,17 @@ public class XMLString extends StringSegment {
         this.isUnformatted = isUnformatted;
     }
 
+    public boolean isUnformatted() {
+        return isUnformatted;
+    }
+
+    /**
+     * The mark at the end of the attributes of the first element, or null if its start tag is not closed yet.
+     */
+    public Object getFirstElementEndMark() {
+        return firstElementEndMark;
+    }
+
     public void addAttribute(String name, String value) {
         if (currentLineWidth > lineWidth) {
             addLine();
@@ -296,6 +310,19 @@ public class XMLString extends StringSegment {
         add("\"");
     }
 
+    /**
+     * Adds several attributes at once, already serialized and separated by spaces.
+     */
+    public void addAttributes(String attributes) {
+        if (currentLineWidth > lineWidth) {
+            addLine();
+            add(getAttributeIndent());
+        } else {
+            add(" ");
+        }
+        add(attributes);
+    }
+
     public void addAttributeNS(String prefix, String localName, String value) {
         if (currentLineWidth > lineWidth) {
             addLine();
@@ -331,6 +358,7 @@ public class XMLString extends StringSegment {
     }
 
     protected void closeStartElement() {
+        markFirstElementEnd();
         add(">");
         if (!isMixed) {
             addLine();
@@ -340,6 +368,7 @@ public class XMLString extends StringSegment {
 
     public void endEmptyElement() {
         removeLast();
+        markFirstElementEnd();
         add("/>");
         if (!isMixed) {
             addLine();
@@ -348,6 +377,7 @@ public class XMLString extends StringSegment {
     }
 
     public void endContentElement(String content) {
+        markFirstElementEnd();
         add(">");
         add(content);
         add("</");
@@ -381,6 +411,14 @@ public class XMLString extends StringSegment {
         }
     }
 
+    protected void markFirstElementEnd() {
+        if (firstElementMark != null && firstElementEndMark == null) {
+            int width = currentLineWidth;
+            firstElementEndMark = mark();
+            currentLineWidth = width;
+        }
+    }
+
     protected String removeLast() {
         int end = elementNames.size();
         isMixed = mixed.remove(end - 1);
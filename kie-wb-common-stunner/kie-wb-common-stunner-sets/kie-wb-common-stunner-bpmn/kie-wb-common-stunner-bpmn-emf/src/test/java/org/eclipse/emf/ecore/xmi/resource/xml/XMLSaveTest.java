@@ -31,6 +31,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -91,4 +93,32 @@ public class XMLSaveTest {
         verify(gwtDOMHandler, times(1)).setAttributeNodeNS(eq(currentNode), eq(attr));
         verify(xmldomHandler, times(1)).recordValues(eq(attr), eq(obj), eq(null), eq(obj));
     }
+
+    @Test
+    public void testEscapeUnchangedValues() {
+        XMLSave.Escape escape = new XMLSave.Escape();
+        escape.setMappingLimit(0x10FFFF);
+        String value = "Some task > 1 'quoted'";
+        assertSame(value, escape.convert(value));
+        assertSame(value, escape.convertText(value));
+        assertSame(value, escape.convertLines(value));
+    }
+
+    @Test
+    public void testEscapeChangedValues() {
+        XMLSave.Escape escape = new XMLSave.Escape();
+        escape.setMappingLimit(0x7F);
+        assertEquals("a &amp; &lt;b> &quot;c&quot;&#xA;&#xe9;", escape.convert("a & <b> \"c\"\n\u00e9"));
+        assertEquals("a &amp; &lt;b> ]]&gt;", escape.convertText("a & <b> ]]>"));
+    }
+
+    @Test
+    public void testEscapeCDATAText() {
+        XMLSave.Escape escape = new XMLSave.Escape();
+        escape.setMappingLimit(0x10FFFF);
+        String value = "<![CDATA[a & <b>]]>";
+        assertSame(value, escape.convertText(value));
+        assertEquals("&lt;![CDATA[a &amp; &lt;b>", escape.convertText("<![CDATA[a & <b>"));
+        assertEquals("&lt;![CDATA[a &amp; &lt;b>]]>", escape.convert(value));
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.emf.ecore.xmi.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.ExtendedMetaData;
+import org.eclipse.emf.ecore.xmi.resource.xml.XMIException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class XMLPullParserTest {
+
+    @Test
+    public void testEvents() throws Exception {
+        List<String> events = parse("<?xml version=\"1.0\"?>\n" +
+                                            "<!DOCTYPE root [<!ELEMENT root ANY>]>\n" +
+                                            "<!-- comment -->\n" +
+                                            "<root a=\"1\">" +
+                                            "<child/>" +
+                                            "text<!-- comment -->more" +
+                                            "<?target some data?>" +
+                                            "</root>\n");
+        assertEquals("start-document, start:root[a=1], start:child, end:child, text:text, text:more, pi:target=some data, end:root",
+                     String.join(", ", events));
+    }
+
+    @Test
+    public void testReferencesAndNormalization() throws Exception {
+        XMLPullParser tested = new XMLPullParser("<root a=\"&lt;&#65;&#x42;&amp;&quot;&apos;&gt;\" b='x\ty\r\nz'>a&amp;b\r\nc<![CDATA[<&amp;>\r]]></root>");
+        assertEquals(XMLPullParser.START_DOCUMENT, tested.next());
+        assertEquals(XMLPullParser.START_ELEMENT, tested.next());
+        assertEquals("<AB&\"'>", tested.getAttributeValue(0));
+        assertEquals("x y z", tested.getAttributeValue(1));
+        assertEquals(XMLPullParser.CHARACTERS, tested.next());
+        assertEquals("a&b\nc", tested.getText());
+        assertEquals(XMLPullParser.CHARACTERS, tested.next());
+        assertEquals("<&amp;>\n", tested.getText());
+        assertEquals(XMLPullParser.END_ELEMENT, tested.next());
+        assertEquals(XMLPullParser.END_DOCUMENT, tested.next());
+        assertEquals(XMLPullParser.END_DOCUMENT, tested.next());
+    }
+
+    @Test
+    public void testNamespaces() throws Exception {
+        XMLPullParser tested = new XMLPullParser("<p:root xmlns:p=\"urn:p\" xmlns=\"urn:default\" p:a=\"1\" b=\"2\">" +
+                                                         "<child xmlns:p=\"urn:other\" p:c=\"3\"/>" +
+                                                         "<p:child/>" +
+                                                         "</p:root>");
+        tested.next();
+        assertEquals(XMLPullParser.START_ELEMENT, tested.next());
+        assertEquals("p:root", tested.getName());
+        assertEquals("root", tested.getLocalName());
+        assertEquals("urn:p", tested.getNamespaceURI());
+        assertEquals(4, tested.getAttributeCount());
+        assertTrue(tested.isNamespaceAttribute(0));
+        assertEquals(ExtendedMetaData.XMLNS_URI, tested.getAttributeNamespaceURI(1));
+        assertEquals("urn:p", tested.getAttributeNamespaceURI(2));
+        assertEquals("a", tested.getAttributeLocalName(2));
+        assertFalse(tested.isNamespaceAttribute(3));
+        assertEquals("", tested.getAttributeNamespaceURI(3));
+        assertEquals(XMLPullParser.START_ELEMENT, tested.next());
+        assertEquals("urn:default", tested.getNamespaceURI());
+        assertEquals("urn:other", tested.getAttributeNamespaceURI(1));
+        assertEquals(XMLPullParser.END_ELEMENT, tested.next());
+        assertEquals("urn:default", tested.getNamespaceURI());
+        assertEquals(XMLPullParser.START_ELEMENT, tested.next());
+        assertEquals("urn:p", tested.getNamespaceURI());
+    }
+
+    @Test
+    public void testMalformed() {
+        assertMalformed("");
+        assertMalformed("<root>");
+        assertMalformed("<root></other>");
+        assertMalformed("<root a=\"1\" a=\"2\"/>");
+        assertMalformed("<root a=1/>");
+        assertMalformed("<root>&unknown;</root>");
+        assertMalformed("<root/><root/>");
+        assertMalformed("text<root/>");
+    }
+
+    @Test
+    public void testErrorLocation() {
+        try {
+            parse("<root>\n  <child>\n</root>");
+            fail();
+        } catch (XMIException e) {
+            assertEquals(3, e.getLine());
+        }
+    }
+
+    private static void assertMalformed(String contents) {
+        try {
+            parse(contents);
+            fail("Expected an error for: " + contents);
+        } catch (XMIException e) {
+            // Expected.
+        }
+    }
+
+    private static List<String> parse(String contents) throws XMIException {
+        List<String> events = new ArrayList<>();
+        XMLPullParser parser = new XMLPullParser(contents);
+        for (int event = parser.next(); event != XMLPullParser.END_DOCUMENT; event = parser.next()) {
+            switch (event) {
+                case XMLPullParser.START_DOCUMENT:
+                    events.add("start-document");
+                    break;
+                case XMLPullParser.START_ELEMENT:
+                    StringBuilder attributes = new StringBuilder();
+                    for (int i = 0; i < parser.getAttributeCount(); i++) {
+                        attributes.append(parser.getAttributeName(i)).append('=').append(parser.getAttributeValue(i));
+                    }
+                    events.add("start:" + parser.getName() + (attributes.length() > 0 ? "[" + attributes + "]" : ""));
+                    break;
+                case XMLPullParser.END_ELEMENT:
+                    events.add("end:" + parser.getName());
+                    break;
+                case XMLPullParser.CHARACTERS:
+                    events.add("text:" + parser.getText());
+                    break;
+                case XMLPullParser.PROCESSING_INSTRUCTION:
+                    events.add("pi:" + parser.getName() + "=" + parser.getText());
+                    break;
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.jbpm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import static org.eclipse.jbpm.Bpmn2ResourceSaveTest.load;
+import static org.eclipse.jbpm.Bpmn2ResourceSaveTest.newProcess;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the time and, when the JVM reports it, the bytes allocated to save processes of 100, 1,000 and
+ * 5,000 tasks, connected by sequence flows and laid out in the diagram. Each process is loaded once and saved
+ * repeatedly, as autosave does, and every saved document must load and save back to the same output.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=Bpmn2ResourceSaveBenchmarkTest</code>
+ * </p>
+ */
+public class Bpmn2ResourceSaveBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(Bpmn2ResourceSaveBenchmarkTest.class.getName());
+
+    private static final int[] SIZES = {100, 1_000, 5_000};
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int ROUNDS = 10;
+
+    @Test
+    public void benchmark() throws Exception {
+        for (final int size : SIZES) {
+            final Bpmn2Resource resource = load(newProcess(size));
+            String saved = null;
+            long nanos = 0;
+            long bytes = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                final long allocatedBefore = allocatedBytes();
+                final long start = System.nanoTime();
+                saved = resource.toBPMN2();
+                final long elapsed = System.nanoTime() - start;
+                final long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+                if (round >= WARMUP_ROUNDS) {
+                    nanos += elapsed;
+                    bytes += allocated;
+                }
+            }
+            assertEquals(saved, load(saved).toBPMN2());
+
+            LOGGER.info(String.format("%d tasks: %d characters saved in %.3f ms, %s",
+                                      size,
+                                      saved.length(),
+                                      nanos / (ROUNDS * 1e6),
+                                      bytes < 0 ? "allocation not reported" : String.format("%.1f KB allocated", bytes / (ROUNDS * 1024d))));
+        }
+    }
+
+    // Returns the bytes allocated so far by the current thread, or a negative value when the JVM does not report them.
+    private static long allocatedBytes() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
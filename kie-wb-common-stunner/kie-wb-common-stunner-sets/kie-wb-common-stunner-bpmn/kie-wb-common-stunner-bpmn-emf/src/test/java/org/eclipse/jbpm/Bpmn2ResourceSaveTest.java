@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.jbpm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.bpmn2.DocumentRoot;
+import org.eclipse.bpmn2.Process;
+import org.eclipse.bpmn2.ScriptTask;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Saves real resources, so it does not run with the GwtMockito runner, which
+ * cannot load the {@link JBPMXMLSave} lookup subclass.
+ */
+public class Bpmn2ResourceSaveTest {
+
+    private static final String SOME_PROCESS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<bpmn2:definitions" +
+            " id=\"_GUUj8KUCEemjtN0xRqbezg\"" +
+            " exporter=\"jBPM Process Modeler\"" +
+            " exporterVersion=\"2.0\"" +
+            " targetNamespace=\"http://www.omg.org/bpmn20\"" +
+            " xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"" +
+            " xmlns:bpmndi=\"http://www.omg.org/spec/BPMN/20100524/DI\"" +
+            " xmlns:dc=\"http://www.omg.org/spec/DD/20100524/DC\"" +
+            " xmlns:drools=\"http://www.jboss.org/drools\">" +
+            "<bpmn2:process id=\"test.process1\" drools:packageName=\"com.myspace.test\" drools:version=\"1.0\" name=\"process1 &amp; &lt;co> &quot;q&quot;\" isExecutable=\"true\">" +
+            "<bpmn2:startEvent id=\"_B801DDDE-29E9-41C2-BF36-0045EA55F573\"/>" +
+            "</bpmn2:process>" +
+            "<bpmndi:BPMNDiagram id=\"_GUUj8aUCEemjtN0xRqbezg\">" +
+            "<bpmndi:BPMNPlane id=\"_GUUj8qUCEemjtN0xRqbezg\" bpmnElement=\"test.process1\">" +
+            "<bpmndi:BPMNShape id=\"shape__B801DDDE-29E9-41C2-BF36-0045EA55F573\" bpmnElement=\"_B801DDDE-29E9-41C2-BF36-0045EA55F573\">" +
+            "<dc:Bounds height=\"56.0\" width=\"56.0\" x=\"100.0\" y=\"100.0\"/>" +
+            "</bpmndi:BPMNShape>" +
+            "</bpmndi:BPMNPlane>" +
+            "</bpmndi:BPMNDiagram>" +
+            "</bpmn2:definitions>";
+
+    @Test
+    public void testSaveSomeProcess() throws Exception {
+        final Bpmn2Resource resource = load(SOME_PROCESS);
+        final Process process = (Process) ((DocumentRoot) resource.getContents().get(0)).getDefinitions().getRootElements().get(0);
+        assertEquals("process1 & <co> \"q\"", process.getName());
+        assertEquals(SOME_PROCESS, resource.toBPMN2());
+    }
+
+    @Test
+    public void testSaveFixture() throws Exception {
+        final String fixture = read("basic-process.bpmn2");
+        assertEquals(fixture, load(fixture).toBPMN2());
+    }
+
+    @Test
+    public void testSaveCDATAScript() throws Exception {
+        final Bpmn2Resource resource = load(read("basic-process.bpmn2"));
+        final Process process = (Process) ((DocumentRoot) resource.getContents().get(0)).getDefinitions().getRootElements().get(2);
+        final ScriptTask scriptTask = (ScriptTask) process.getFlowElements().get(0);
+        scriptTask.setScript("<![CDATA[if (user.getId() < 10 && valid) { }]]>");
+
+        final String saved = resource.toBPMN2();
+        assertTrue(saved.contains("<bpmn2:script><![CDATA[if (user.getId() < 10 && valid) { }]]></bpmn2:script>"));
+        assertFalse(saved.contains("&lt;![CDATA["));
+    }
+
+    @Test
+    public void testSaveLargeProcesses() throws Exception {
+        for (final int size : new int[]{100, 1000}) {
+            final String saved = load(newProcess(size)).toBPMN2();
+            assertTrue(saved.contains("name=\"Task " + (size - 1) + " &amp; &lt;more>\""));
+            assertTrue(saved.contains("<bpmn2:documentation>Line 1\nLine &amp;amp; 2</bpmn2:documentation>"));
+            assertEquals(saved, load(saved).toBPMN2());
+        }
+    }
+
+    static Bpmn2Resource load(final String contents) throws Exception {
+        final Bpmn2Resource resource = Bpmn2ResourceFactory.getInstance().create();
+        resource.load(contents);
+        return resource;
+    }
+
+    private static String read(final String name) throws Exception {
+        try (InputStream in = Bpmn2ResourceSaveTest.class.getResourceAsStream(name);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static String newProcess(final int size) {
+        final StringBuilder process = new StringBuilder();
+        final StringBuilder diagram = new StringBuilder();
+        process.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<bpmn2:definitions id=\"_defs\"")
+                .append(" xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"")
+                .append(" xmlns:bpmndi=\"http://www.omg.org/spec/BPMN/20100524/DI\"")
+                .append(" xmlns:dc=\"http://www.omg.org/spec/DD/20100524/DC\"")
+                .append(" xmlns:di=\"http://www.omg.org/spec/DD/20100524/DI\"")
+                .append(" xmlns:drools=\"http://www.jboss.org/drools\">")
+                .append("<bpmn2:process id=\"large\" drools:packageName=\"com.myspace.test\" name=\"large\" isExecutable=\"true\">");
+        diagram.append("<bpmndi:BPMNDiagram id=\"_diagram\"><bpmndi:BPMNPlane id=\"_plane\" bpmnElement=\"large\">");
+        for (int i = 0; i < size; i++) {
+            final String id = "_task" + i;
+            process.append("<bpmn2:task id=\"").append(id).append("\" name=\"Task ").append(i).append(" &amp; &lt;more&gt;\">")
+                    .append("<bpmn2:documentation><![CDATA[Line 1\nLine &amp; 2]]></bpmn2:documentation>");
+            if (i > 0) {
+                process.append("<bpmn2:incoming>_flow").append(i - 1).append("</bpmn2:incoming>");
+            }
+            if (i < size - 1) {
+                process.append("<bpmn2:outgoing>_flow").append(i).append("</bpmn2:outgoing>");
+            }
+            process.append("</bpmn2:task>");
+            diagram.append("<bpmndi:BPMNShape id=\"shape").append(id).append("\" bpmnElement=\"").append(id).append("\">")
+                    .append("<dc:Bounds height=\"102.0\" width=\"154.0\" x=\"").append(i * 200).append(".0\" y=\"100.0\"/>")
+                    .append("</bpmndi:BPMNShape>");
+            if (i < size - 1) {
+                final String flowId = "_flow" + i;
+                process.append("<bpmn2:sequenceFlow id=\"").append(flowId).append("\" sourceRef=\"").append(id)
+                        .append("\" targetRef=\"_task").append(i + 1).append("\"/>");
+                diagram.append("<bpmndi:BPMNEdge id=\"edge").append(flowId).append("\" bpmnElement=\"").append(flowId).append("\">")
+                        .append("<di:waypoint x=\"").append(i * 200 + 154).append(".0\" y=\"151.0\"/>")
+                        .append("<di:waypoint x=\"").append(i * 200 + 200).append(".0\" y=\"151.0\"/>")
+                        .append("</bpmndi:BPMNEdge>");
+            }
+        }
+        process.append("</bpmn2:process>");
+        diagram.append("</bpmndi:BPMNPlane></bpmndi:BPMNDiagram>");
+        return process.append(diagram).append("</bpmn2:definitions>").toString();
+    }
+}
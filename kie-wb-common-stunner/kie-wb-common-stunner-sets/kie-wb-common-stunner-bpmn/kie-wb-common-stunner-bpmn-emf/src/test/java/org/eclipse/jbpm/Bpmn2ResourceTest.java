@@ -16,14 +16,17 @@
 
 package org.eclipse.jbpm;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Map;
 
 import bpsim.BpsimPackage;
-import com.google.gwt.xml.client.Document;
-import com.google.gwt.xml.client.XMLParser;
+import com.google.gwt.xml.client.Node;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.eclipse.bpmn2.Bpmn2Package;
+import org.eclipse.bpmn2.DocumentRoot;
+import org.eclipse.bpmn2.Process;
+import org.eclipse.bpmn2.StartEvent;
 import org.eclipse.bpmn2.di.BpmnDiPackage;
 import org.eclipse.dd.dc.DcPackage;
 import org.eclipse.dd.di.DiPackage;
@@ -38,16 +41,31 @@ import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
 public class Bpmn2ResourceTest {
 
+    private static final String SOME_PROCESS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<!-- A comment -->\n" +
+            "<bpmn2:definitions id=\"_GUUj8KUCEemjtN0xRqbezg\"" +
+            " xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"" +
+            " xmlns:drools=\"http://www.jboss.org/drools\">\n" +
+            "  <bpmn2:process id=\"test.process1\" drools:packageName=\"com.myspace.test\" name=\"process1 &amp; &lt;co&gt;\">\n" +
+            "    <bpmn2:startEvent id=\"_B801DDDE-29E9-41C2-BF36-0045EA55F573\">\n" +
+            "      <bpmn2:documentation><![CDATA[a\r\nb]]></bpmn2:documentation>\n" +
+            "    </bpmn2:startEvent>\n" +
+            "  </bpmn2:process>\n" +
+            "</bpmn2:definitions>\n";
+
     private Bpmn2Resource tested;
 
     @Before
@@ -57,12 +75,28 @@ public class Bpmn2ResourceTest {
 
     @Test
     public void testLoad() throws Exception {
-        XMLParser p = mock(XMLParser.class);
-        when(tested.createParser()).thenReturn(p);
-        Document doc = mock(Document.class);
-        when(p.parse(eq("someContent"))).thenReturn(doc);
+        doNothing().when(tested).doLoad(anyString(), any());
         tested.load("someContent");
-        verify(tested, times(1)).load(eq(doc));
+        verify(tested, times(1)).doLoad(eq("someContent"), any());
+        verify(tested, never()).doLoad(any(Node.class), any());
+    }
+
+    @Test
+    public void testLoadContents() throws Exception {
+        tested.load(SOME_PROCESS);
+        DocumentRoot root = (DocumentRoot) tested.getContents().get(0);
+        Process process = (Process) root.getDefinitions().getRootElements().get(0);
+        assertEquals("test.process1", process.getId());
+        assertEquals("process1 & <co>", process.getName());
+        assertEquals(1, process.getFlowElements().size());
+        StartEvent startEvent = (StartEvent) process.getFlowElements().get(0);
+        assertEquals("_B801DDDE-29E9-41C2-BF36-0045EA55F573", startEvent.getId());
+        assertEquals("a\nb", startEvent.getDocumentation().get(0).getMixed().getValue(0));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadMalformedContents() throws Exception {
+        tested.load("<bpmn2:definitions><bpmn2:process></bpmn2:definitions>");
     }
 
     @Test
@@ -124,8 +158,9 @@ public class Bpmn2ResourceTest {
     }
 
     private void assertCreateSaveOptions(Map<Object, Object> options) {
-        assertEquals(10, options.size());
+        assertEquals(11, options.size());
         assertTrue((Boolean) options.get(XMLResource.OPTION_DECLARE_XML));
+        assertEquals(Boolean.FALSE, options.get(XMLResource.OPTION_FORMATTED));
         assertTrue((Boolean) options.get(XMLResource.OPTION_USE_ENCODED_ATTRIBUTE_STYLE));
         assertTrue(options.get(XMLResource.OPTION_EXTENDED_META_DATA) instanceof XmlExtendedMetadata);
         assertTrue((Boolean) options.get(XMLResource.OPTION_DEFER_IDREF_RESOLUTION));
@@ -34,15 +34,18 @@ import org.kie.workbench.common.stunner.client.widgets.editor.EditorSessionComma
 import org.kie.workbench.common.stunner.client.widgets.editor.StunnerEditor;
 import org.kie.workbench.common.stunner.client.widgets.presenters.session.SessionPresenter;
 import org.kie.workbench.common.stunner.client.widgets.resources.i18n.StunnerWidgetsConstants;
+import org.kie.workbench.common.stunner.client.widgets.views.LoadingBox;
 import org.kie.workbench.common.stunner.core.client.ReadOnlyProvider;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandlerImpl;
 import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLoadingObserver;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
 import org.kie.workbench.common.stunner.core.client.service.ClientRuntimeError;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
 import org.kie.workbench.common.stunner.core.client.util.WindowJSType;
-import org.kie.workbench.common.stunner.core.client.validation.canvas.CanvasDiagramValidator;
+import org.kie.workbench.common.stunner.core.client.validation.canvas.IncrementalCanvasDiagramValidator;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -76,7 +79,8 @@ public class BPMNDiagramEditor {
     private final DiagramEditorPropertiesDock diagramPropertiesDock;
     private final FormsFlushManager formsFlushManager;
     private final EditorSessionCommands commands;
-    private CanvasDiagramValidator<AbstractCanvasHandler> validator;
+    private final LoadingBox loadingBox;
+    private IncrementalCanvasDiagramValidator validator;
 
     private static final Map<Violation.Type, String> validationSeverityTable = new HashMap<Violation.Type, String>() {{
         put(Violation.Type.INFO, NotificationSeverity.INFO);
@@ -95,7 +99,8 @@ public class BPMNDiagramEditor {
                              DiagramEditorPropertiesDock diagramPropertiesDock,
                              FormsFlushManager formsFlushManager,
                              EditorSessionCommands commands,
-                             final CanvasDiagramValidator<AbstractCanvasHandler> validator) {
+                             LoadingBox loadingBox,
+                             final IncrementalCanvasDiagramValidator validator) {
         this.promises = promises;
         this.readOnlyProvider = readOnlyProvider;
         this.stunnerEditor = stunnerEditor;
@@ -106,6 +111,7 @@ public class BPMNDiagramEditor {
         this.diagramPropertiesDock = diagramPropertiesDock;
         this.formsFlushManager = formsFlushManager;
         this.commands = commands;
+        this.loadingBox = loadingBox;
         this.validator = validator;
     }
 
@@ -124,6 +130,12 @@ public class BPMNDiagramEditor {
     }
 
     private void close() {
+        if (!stunnerEditor.isClosed()) {
+            final CanvasHandler canvasHandler = stunnerEditor.getCanvasHandler();
+            if (canvasHandler instanceof AbstractCanvasHandler) {
+                validator.invalidate((AbstractCanvasHandler) canvasHandler);
+            }
+        }
         commands.clear();
         docksClose();
         stunnerEditor.close();
@@ -153,6 +165,8 @@ public class BPMNDiagramEditor {
 
         List<Notification> violationMessages = new ArrayList<>();
 
+        // Validations requested by the host, as the ones on save, cover the whole diagram.
+        validator.invalidate((AbstractCanvasHandler) canvasHandler);
         validator.validate((AbstractCanvasHandler) canvasHandler, violations -> {
 
             if (!violations.isEmpty()) {
@@ -196,6 +210,11 @@ public class BPMNDiagramEditor {
                                               stunnerEditor
                                                       .close()
                                                       .open(diagram, new SessionPresenter.SessionPresenterCallback() {
+                                                          @Override
+                                                          public void afterCanvasInitialized() {
+                                                              initProgressiveDraw();
+                                                          }
+
                                                           @Override
                                                           public void onSuccess() {
                                                               onDiagramOpenSuccess();
@@ -218,6 +237,27 @@ public class BPMNDiagramEditor {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    void initProgressiveDraw() {
+        final CanvasHandler canvasHandler = stunnerEditor.getCanvasHandler();
+        if (canvasHandler instanceof CanvasHandlerImpl) {
+            ((CanvasHandlerImpl) canvasHandler)
+                    .setProgressiveDraw(true)
+                    .getLoadingObserver()
+                    .setLoadingObserverCallback(new CanvasLoadingObserver.Callback() {
+                        @Override
+                        public void onLoadingStarted() {
+                            loadingBox.show();
+                        }
+
+                        @Override
+                        public void onLoadingCompleted() {
+                            loadingBox.hide();
+                        }
+                    });
+        }
+    }
+
     private void onDiagramOpenSuccess() {
         Metadata metadata = stunnerEditor.getCanvasHandler().getDiagram().getMetadata();
         String title = metadata.getTitle();
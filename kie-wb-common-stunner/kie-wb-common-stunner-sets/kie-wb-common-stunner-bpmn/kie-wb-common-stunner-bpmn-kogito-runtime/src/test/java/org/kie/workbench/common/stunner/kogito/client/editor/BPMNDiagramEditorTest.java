@@ -25,13 +25,18 @@ import org.junit.runner.RunWith;
 import org.kie.workbench.common.stunner.client.widgets.editor.EditorSessionCommands;
 import org.kie.workbench.common.stunner.client.widgets.editor.StunnerEditor;
 import org.kie.workbench.common.stunner.client.widgets.presenters.Viewer;
+import org.kie.workbench.common.stunner.client.widgets.presenters.session.SessionDiagramPresenter;
+import org.kie.workbench.common.stunner.client.widgets.presenters.session.SessionPresenter;
+import org.kie.workbench.common.stunner.client.widgets.views.LoadingBox;
 import org.kie.workbench.common.stunner.core.client.ReadOnlyProvider;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandlerImpl;
 import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLoadingObserver;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
 import org.kie.workbench.common.stunner.core.client.session.ClientSession;
-import org.kie.workbench.common.stunner.core.client.validation.canvas.CanvasDiagramValidator;
+import org.kie.workbench.common.stunner.core.client.validation.canvas.IncrementalCanvasDiagramValidator;
 import org.kie.workbench.common.stunner.core.diagram.DiagramImpl;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
@@ -40,6 +45,7 @@ import org.kie.workbench.common.stunner.forms.client.widgets.FormsFlushManager;
 import org.kie.workbench.common.stunner.kogito.client.docks.DiagramEditorPreviewAndExplorerDock;
 import org.kie.workbench.common.stunner.kogito.client.docks.DiagramEditorPropertiesDock;
 import org.kie.workbench.common.stunner.kogito.client.service.AbstractKogitoClientDiagramService;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.uberfire.client.promise.Promises;
@@ -85,7 +91,13 @@ public class BPMNDiagramEditorTest {
     @Mock
     private AbstractCanvasHandler canvasHandler;
     @Mock
-    private CanvasDiagramValidator<AbstractCanvasHandler> validator;
+    private IncrementalCanvasDiagramValidator validator;
+    @Mock
+    private LoadingBox loadingBox;
+    @Mock
+    private CanvasHandlerImpl canvasHandlerImpl;
+    @Mock
+    private CanvasLoadingObserver loadingObserver;
 
     private BPMNDiagramEditor tested;
     private Promises promises;
@@ -118,6 +130,7 @@ public class BPMNDiagramEditorTest {
                                        diagramPropertiesDock,
                                        formsFlushManager,
                                        commands,
+                                       loadingBox,
                                        validator);
     }
 
@@ -145,12 +158,22 @@ public class BPMNDiagramEditorTest {
     @Test
     public void testOnClose() {
         tested.onClose();
+        verify(validator, times(1)).invalidate(eq(canvasHandler));
         verify(commands, times(1)).clear();
         verify(diagramPropertiesDock, times(1)).close();
         verify(diagramPreviewAndExplorerDock, times(1)).close();
         verify(stunnerEditor, times(1)).close();
     }
 
+    @Test
+    public void testValidateWholeDiagram() {
+        when(stunnerEditor.getPresenter()).thenReturn(mock(SessionDiagramPresenter.class));
+        tested.validate();
+        final InOrder validationOrder = inOrder(validator);
+        validationOrder.verify(validator).invalidate(eq(canvasHandler));
+        validationOrder.verify(validator).validate(eq(canvasHandler), any());
+    }
+
     @Test
     public void testAsWidget() {
         IsWidget w = mock(IsWidget.class);
@@ -202,6 +225,32 @@ public class BPMNDiagramEditorTest {
         verify(diagramPropertiesDock, times(1)).open();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testProgressiveDrawOnSetContent() {
+        when(stunnerEditor.getCanvasHandler()).thenReturn(canvasHandlerImpl);
+        when(canvasHandlerImpl.setProgressiveDraw(true)).thenReturn(canvasHandlerImpl);
+        when(canvasHandlerImpl.getLoadingObserver()).thenReturn(loadingObserver);
+        doAnswer(invocation -> {
+            ServiceCallback callback = (ServiceCallback) invocation.getArguments()[2];
+            callback.onSuccess(diagram);
+            return null;
+        }).when(diagramServices).transform(any(), any(), any());
+        doAnswer(invocation -> {
+            ((SessionPresenter.SessionPresenterCallback) invocation.getArguments()[1]).afterCanvasInitialized();
+            return null;
+        }).when(stunnerEditor).open(eq(diagram), any());
+        tested.setContent("", "");
+        verify(canvasHandlerImpl, times(1)).setProgressiveDraw(eq(true));
+        final ArgumentCaptor<CanvasLoadingObserver.Callback> callbackCaptor =
+                ArgumentCaptor.forClass(CanvasLoadingObserver.Callback.class);
+        verify(loadingObserver, times(1)).setLoadingObserverCallback(callbackCaptor.capture());
+        callbackCaptor.getValue().onLoadingStarted();
+        verify(loadingBox, times(1)).show();
+        callbackCaptor.getValue().onLoadingCompleted();
+        verify(loadingBox, times(1)).hide();
+    }
+
     @Test
     public void testSuperOnCloseOnSetContent() {
         //First setContent call context
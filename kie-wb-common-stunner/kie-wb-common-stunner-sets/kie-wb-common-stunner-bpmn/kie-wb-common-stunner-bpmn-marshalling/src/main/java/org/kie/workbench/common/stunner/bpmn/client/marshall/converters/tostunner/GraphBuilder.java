@@ -44,10 +44,16 @@ import org.kie.workbench.common.stunner.core.graph.content.definition.Definition
 import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
 import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndex;
 import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndexBuilder;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.util.UUID;
 
 /**
  * A wrapper for graph command execution,
@@ -69,6 +75,11 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * once all the conversions have took place: it traverses the entire directed graph described by the `BPMNNode`s
  * starting from the "root node", which represents the root of the diagram, and visiting
  * the parent/child relations in each BPMNNode and the `BPMNEdge` they may contain.
+ * <p>
+ * When in trusted mode, see {@link GraphBuilder#setTrusted(boolean)}, the nodes and edges are wired
+ * directly into the graph and its index, producing the same graph as the commands would, but without
+ * creating and executing a command for each element. No rules are checked while building the graph,
+ * so it's only meant for content known to be valid.
  */
 public class GraphBuilder {
 
@@ -76,6 +87,8 @@ public class GraphBuilder {
     private final GraphCommandFactory commandFactory;
     private final GraphCommandManager commandManager;
     private final Graph<DefinitionSet, Node> graph;
+    private final MapIndex graphIndex;
+    private boolean trusted;
 
     public GraphBuilder(
             Graph<DefinitionSet, Node> graph,
@@ -85,12 +98,28 @@ public class GraphBuilder {
             GraphCommandFactory commandFactory,
             GraphCommandManager commandManager) {
         this.graph = graph;
+        this.graphIndex = new MapIndexBuilder().build(graph);
         this.executionContext = new DirectGraphCommandExecutionContext(
                 definitionManager,
                 typedFactoryManager.untyped(),
-                new MapIndexBuilder().build(graph));
+                graphIndex);
         this.commandFactory = commandFactory;
         this.commandManager = commandManager;
+        this.trusted = false;
+    }
+
+    /**
+     * Enables or disables the trusted mode. When enabled, the graph elements
+     * are added directly into the graph, instead of by executing graph commands.
+     * It's meant for bulk loads of content that is known to be valid, such as on unmarshalling.
+     */
+    public GraphBuilder setTrusted(boolean trusted) {
+        this.trusted = trusted;
+        return this;
+    }
+
+    public boolean isTrusted() {
+        return trusted;
     }
 
     /**
@@ -145,7 +174,13 @@ public class GraphBuilder {
         return prioritized;
     }
 
+    @SuppressWarnings("unchecked")
     private void addDockedNode(Node parent, Node candidate) {
+        if (trusted) {
+            registerNode(candidate);
+            connect(parent, candidate, new EdgeImpl<>(UUID.uuid()), new Dock());
+            return;
+        }
         AddDockedNodeCommand addNodeCommand = commandFactory.addDockedNode(parent, candidate);
         execute(addNodeCommand);
     }
@@ -174,7 +209,13 @@ public class GraphBuilder {
         return Point2D.create(xFactor, yFactor);
     }
 
+    @SuppressWarnings("unchecked")
     private void addChildNode(Node<? extends View, ?> parent, Node<? extends View, ?> child) {
+        if (trusted) {
+            registerNode(child);
+            connect((Node) parent, (Node) child, new EdgeImpl<>(UUID.uuid()), new Child());
+            return;
+        }
         AddChildNodeCommand addChildNodeCommand = commandFactory.addChildNode(parent, child);
         execute(addChildNodeCommand);
     }
@@ -196,13 +237,23 @@ public class GraphBuilder {
         updatePosition(node, coords);
     }
 
+    @SuppressWarnings("unchecked")
     private void updatePosition(Node node, Point2D position) {
+        if (trusted) {
+            ((View) node.getContent()).setBounds(UpdateElementPositionCommand.computeCandidateBounds(node, position));
+            graphIndex.updateNode(node);
+            return;
+        }
         UpdateElementPositionCommand updateElementPositionCommand =
                 commandFactory.updatePosition(node, position);
         execute(updateElementPositionCommand);
     }
 
     private void addNode(Node node) {
+        if (trusted) {
+            registerNode(node);
+            return;
+        }
         AddNodeCommand addNodeCommand = commandFactory.addNode(node);
         execute(addNodeCommand);
     }
@@ -215,6 +266,10 @@ public class GraphBuilder {
             List<Point2D> controlPoints,
             Node target,
             Connection targetConnection) {
+        if (trusted) {
+            addConnector(edge, source, sourceConnection, controlPoints, target, targetConnection);
+            return;
+        }
         final DeferredCompositeCommand.Builder<GraphCommandExecutionContext, RuleViolation> commandBuilder =
                 new DeferredCompositeCommand.Builder<>();
         addConnector(commandBuilder, source, edge, sourceConnection);
@@ -227,6 +282,36 @@ public class GraphBuilder {
         execute(commandBuilder.build());
     }
 
+    @SuppressWarnings("unchecked")
+    private void addConnector(final Edge<? extends View<?>, Node> edge,
+                              final Node source,
+                              final Connection sourceConnection,
+                              final List<Point2D> controlPoints,
+                              final Node target,
+                              final Connection targetConnection) {
+        graphIndex.addEdge(edge);
+        final ViewConnector<?> connector = (ViewConnector<?>) edge.getContent();
+        source.getOutEdges().add(edge);
+        edge.setSourceNode(source);
+        connector.setSourceConnection(sourceConnection);
+        if (!controlPoints.isEmpty()) {
+            // Same as adding each control point at its position, keeping the existing ones after them.
+            final ControlPoint[] existing = connector.getControlPoints();
+            final int size = null != existing ? existing.length : 0;
+            final ControlPoint[] cps = new ControlPoint[controlPoints.size() + size];
+            for (int i = 0; i < controlPoints.size(); i++) {
+                cps[i] = ControlPoint.build(controlPoints.get(i));
+            }
+            for (int i = 0; i < size; i++) {
+                cps[controlPoints.size() + i] = existing[i];
+            }
+            connector.setControlPoints(cps);
+        }
+        target.getInEdges().add(edge);
+        edge.setTargetNode(target);
+        connector.setTargetConnection(targetConnection);
+    }
+
     private void addConnector(final DeferredCompositeCommand.Builder<GraphCommandExecutionContext, RuleViolation> commandBuilder,
                               final Node<? extends View<?>, Edge> sourceNode,
                               final Edge<? extends View<?>, Node> edge,
@@ -252,8 +337,30 @@ public class GraphBuilder {
         return commandManager.execute(executionContext, command);
     }
 
-    private CommandResult<RuleViolation> clearGraph() {
-        return commandManager.execute(executionContext, commandFactory.clearGraph());
+    @SuppressWarnings("unchecked")
+    private void registerNode(Node node) {
+        graph.addNode(node);
+        graphIndex.addNode(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C> void connect(Node parent, Node candidate, Edge<C, Node> edge, C content) {
+        edge.setContent(content);
+        edge.setSourceNode(parent);
+        edge.setTargetNode(candidate);
+        parent.getOutEdges().add(edge);
+        candidate.getInEdges().add(edge);
+        graphIndex.addEdge(edge);
+        graphIndex.updateNode(candidate);
+    }
+
+    private void clearGraph() {
+        if (trusted) {
+            graph.clear();
+            graphIndex.clear();
+        } else {
+            commandManager.execute(executionContext, commandFactory.clearGraph());
+        }
     }
 
     private void addEdge(BpmnEdge edge) {
@@ -149,6 +149,8 @@ public class BPMNClientMarshalling {
                         ruleManager,
                         commandFactory,
                         commandManager);
+        // The converted elements are wired directly into the graph, no need for executing commands.
+        graphBuilder.setTrusted(true);
         graphBuilder.render(diagramRoot);
 
         return graph;
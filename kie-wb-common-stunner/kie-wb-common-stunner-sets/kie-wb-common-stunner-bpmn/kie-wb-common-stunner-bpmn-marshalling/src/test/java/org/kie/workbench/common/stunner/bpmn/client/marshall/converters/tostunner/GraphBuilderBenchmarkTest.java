@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.TypedFactoryManager;
+import org.kie.workbench.common.stunner.bpmn.definition.BPMNViewDefinition;
+import org.kie.workbench.common.stunner.core.api.DefinitionManager;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManagerImpl;
+import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnectorImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the time to build the graph of diagrams of 500, 2,000 and 5,000 elements by executing a graph command
+ * for each element, with the time taken by the trusted mode. The diagrams are generated, with sub-processes,
+ * tasks, boundary events and sequence flows between the tasks of the same parent.
+ * <p>
+ * Left out of the default test runs, run it with: <code>mvn test -Dbenchmark -Dtest=GraphBuilderBenchmarkTest</code>
+ * </p>
+ */
+public class GraphBuilderBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(GraphBuilderBenchmarkTest.class.getName());
+
+    private static final int[] SIZES = {500, 2_000, 5_000};
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int ROUNDS = 10;
+
+    private final BPMNViewDefinition definition = mock(BPMNViewDefinition.class);
+
+    private final TypedFactoryManager typedFactoryManager = new TypedFactoryManager(mock(FactoryManager.class));
+
+    @Test
+    public void benchmark() {
+        for (final int size : SIZES) {
+            long commands = 0;
+            long trusted = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                final long byCommands = build(size, false);
+                final long byTrusted = build(size, true);
+                if (round >= WARMUP_ROUNDS) {
+                    commands += byCommands;
+                    trusted += byTrusted;
+                }
+            }
+
+            LOGGER.info(String.format("%d elements: graph commands %.3f ms, trusted mode %.3f ms",
+                                      size,
+                                      commands / (ROUNDS * 1e6),
+                                      trusted / (ROUNDS * 1e6)));
+        }
+    }
+
+    // Returns the nanoseconds taken to build the graph, the diagram is generated before.
+    private long build(final int size,
+                       final boolean trusted) {
+        final BpmnNode root = newDiagram(size);
+        final Graph<DefinitionSet, Node> graph = newGraph();
+        final GraphBuilder graphBuilder = new GraphBuilder(graph,
+                                                           mock(DefinitionManager.class),
+                                                           typedFactoryManager,
+                                                           mock(RuleManager.class),
+                                                           new GraphCommandFactory(),
+                                                           new GraphCommandManagerImpl(null, null, null))
+                .setTrusted(trusted);
+        final long start = System.nanoTime();
+        graphBuilder.render(root);
+        final long nanos = System.nanoTime() - start;
+        int nodes = 0;
+        for (final Node node : graph.nodes()) {
+            nodes++;
+        }
+        assertEquals(size, nodes);
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Graph<DefinitionSet, Node> newGraph() {
+        return new GraphImpl<>("graph", new GraphNodeStoreImpl());
+    }
+
+    // One element in twenty is a sub-process and one in ten a boundary event, most of the tasks have an incoming flow.
+    private BpmnNode newDiagram(final int size) {
+        final Random random = new Random(size);
+        final BpmnNode root = BpmnNode.of(newNode("root", 0, 0), null);
+        final List<BpmnNode> containers = new ArrayList<>(Collections.singletonList(root));
+        final List<BpmnNode> tasks = new ArrayList<>();
+        int count = 1;
+        while (count < size) {
+            final BpmnNode parent = containers.get(random.nextInt(containers.size()));
+            final String uuid = "node" + count++;
+            final int kind = random.nextInt(20);
+            if (kind < 2 && !tasks.isEmpty()) {
+                final BpmnNode host = tasks.get(random.nextInt(tasks.size()));
+                final BpmnNode docked = BpmnNode.of(newNode(uuid, random.nextInt(1000), random.nextInt(1000)), null).docked();
+                docked.setParent(host.getParent());
+                host.getParent().addEdge(BpmnEdge.docked(host, docked));
+                continue;
+            }
+            final BpmnNode node = BpmnNode.of(newNode(uuid, random.nextInt(1000), random.nextInt(1000)), null);
+            node.setParent(parent);
+            if (kind == 2) {
+                containers.add(node);
+                continue;
+            }
+            final BpmnNode previous = findLastTask(tasks, parent);
+            if (null != previous) {
+                parent.addEdge(BpmnEdge.of(newEdge("edge" + count),
+                                           previous,
+                                           MagnetConnection.Builder.atCenter(previous.value()),
+                                           Collections.emptyList(),
+                                           node,
+                                           MagnetConnection.Builder.atCenter(node.value()),
+                                           null));
+            }
+            tasks.add(node);
+        }
+        return root;
+    }
+
+    private static BpmnNode findLastTask(final List<BpmnNode> tasks,
+                                         final BpmnNode parent) {
+        for (int i = tasks.size() - 1; i >= Math.max(0, tasks.size() - 20); i--) {
+            if (tasks.get(i).getParent() == parent) {
+                return tasks.get(i);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<? extends View<? extends BPMNViewDefinition>, ?> newNode(final String uuid,
+                                                                        final double x,
+                                                                        final double y) {
+        final NodeImpl node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(definition, Bounds.create(x, y, x + 100, y + 50)));
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Edge<? extends View<?>, Node> newEdge(final String uuid) {
+        final EdgeImpl edge = new EdgeImpl<>(uuid);
+        edge.setContent(new ViewConnectorImpl<>(definition, Bounds.create(0, 0, 10, 10)));
+        return edge;
+    }
+}
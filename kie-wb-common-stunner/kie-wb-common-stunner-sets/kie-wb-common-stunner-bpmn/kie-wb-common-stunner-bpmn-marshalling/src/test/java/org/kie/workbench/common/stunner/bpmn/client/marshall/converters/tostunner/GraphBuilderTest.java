@@ -0,0 +1,230 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.TypedFactoryManager;
+import org.kie.workbench.common.stunner.bpmn.definition.BPMNViewDefinition;
+import org.kie.workbench.common.stunner.core.api.DefinitionManager;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManagerImpl;
+import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnectorImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleManager;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GraphBuilderTest {
+
+    @Mock
+    private DefinitionManager definitionManager;
+
+    @Mock
+    private FactoryManager factoryManager;
+
+    @Mock
+    private RuleManager ruleManager;
+
+    @Mock
+    private BPMNViewDefinition definition;
+
+    private TypedFactoryManager typedFactoryManager;
+    private GraphCommandFactory commandFactory;
+    private GraphCommandManagerImpl commandManager;
+
+    @Before
+    public void setUp() {
+        typedFactoryManager = new TypedFactoryManager(factoryManager);
+        commandFactory = new GraphCommandFactory();
+        commandManager = new GraphCommandManagerImpl(null, null, null);
+    }
+
+    @Test
+    public void testNotTrustedByDefault() {
+        final GraphBuilder tested = newGraphBuilder(newGraph());
+        assertFalse(tested.isTrusted());
+        assertTrue(tested.setTrusted(true).isTrusted());
+    }
+
+    @Test
+    public void testTrustedBuildsSameGraph() {
+        // Roughly the element counts for small, medium and large diagrams.
+        for (final int size : new int[]{500, 2000, 5000}) {
+            final Graph<DefinitionSet, Node> commandsGraph = newGraph();
+            newGraphBuilder(commandsGraph).render(newDiagram(size));
+            final Graph<DefinitionSet, Node> trustedGraph = newGraph();
+            newGraphBuilder(trustedGraph).setTrusted(true).render(newDiagram(size));
+            assertEquals(describe(commandsGraph), describe(trustedGraph));
+        }
+    }
+
+    @Test
+    public void testTrustedClearsGraph() {
+        final Graph<DefinitionSet, Node> graph = newGraph();
+        graph.addNode(newNode("previous", 0, 0));
+        newGraphBuilder(graph).setTrusted(true).render(newDiagram(10));
+        assertEquals(null, graph.getNode("previous"));
+        assertTrue(graph.getNode("root") != null);
+    }
+
+    private GraphBuilder newGraphBuilder(final Graph<DefinitionSet, Node> graph) {
+        return new GraphBuilder(graph,
+                                definitionManager,
+                                typedFactoryManager,
+                                ruleManager,
+                                commandFactory,
+                                commandManager);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Graph<DefinitionSet, Node> newGraph() {
+        return new GraphImpl<>("graph", new GraphNodeStoreImpl());
+    }
+
+    /**
+     * Builds a synthetic diagram with nested sub-processes, tasks, boundary events and sequence flows,
+     * always producing the same elements for the given size.
+     */
+    private BpmnNode newDiagram(final int size) {
+        final Random random = new Random(size);
+        final BpmnNode root = BpmnNode.of(newNode("root", 0, 0), null);
+        final List<BpmnNode> containers = new ArrayList<>();
+        final List<BpmnNode> tasks = new ArrayList<>();
+        containers.add(root);
+        int count = 1;
+        while (count < size) {
+            final BpmnNode parent = containers.get(random.nextInt(containers.size()));
+            final String uuid = "node" + count++;
+            final BpmnNode node = BpmnNode.of(newNode(uuid, random.nextInt(1000), random.nextInt(1000)), null);
+            node.setParent(parent);
+            final int kind = random.nextInt(10);
+            if (kind == 0) {
+                containers.add(node);
+            } else if (kind == 1 && !tasks.isEmpty()) {
+                final BpmnNode host = tasks.get(random.nextInt(tasks.size()));
+                final BpmnNode docked = BpmnNode.of(newNode(uuid + "-docked", random.nextInt(1000), random.nextInt(1000)), null).docked();
+                docked.setParent(host.getParent());
+                host.getParent().addEdge(BpmnEdge.docked(host, docked));
+                count++;
+            } else {
+                if (!tasks.isEmpty()) {
+                    final BpmnNode source = tasks.get(random.nextInt(tasks.size()));
+                    final String edgeUuid = "edge" + count++;
+                    parent.addEdge(BpmnEdge.of(newEdge(edgeUuid),
+                                               source,
+                                               MagnetConnection.Builder.atCenter(source.value()),
+                                               newControlPoints(random),
+                                               node,
+                                               MagnetConnection.Builder.atCenter(node.value()),
+                                               null));
+                }
+                tasks.add(node);
+            }
+        }
+        return root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<? extends View<? extends BPMNViewDefinition>, ?> newNode(final String uuid,
+                                                                        final double x,
+                                                                        final double y) {
+        final NodeImpl node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(definition, Bounds.create(x, y, x + 100, y + 50)));
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Edge<? extends View<?>, Node> newEdge(final String uuid) {
+        final EdgeImpl edge = new EdgeImpl<>(uuid);
+        edge.setContent(new ViewConnectorImpl<>(definition, Bounds.create(0, 0, 10, 10)));
+        return edge;
+    }
+
+    private static List<Point2D> newControlPoints(final Random random) {
+        final int size = random.nextInt(3);
+        final List<Point2D> controlPoints = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            controlPoints.add(Point2D.create(random.nextInt(1000), random.nextInt(1000)));
+        }
+        return controlPoints;
+    }
+
+    /**
+     * A description of the graph structure, with the nodes and edges sorted, as the
+     * uuids for the parent-child and dock relationships are generated.
+     */
+    @SuppressWarnings("unchecked")
+    private static String describe(final Graph<DefinitionSet, Node> graph) {
+        final TreeSet<String> lines = new TreeSet<>();
+        for (final Node<View<?>, Edge> node : graph.nodes()) {
+            final Bounds bounds = node.getContent().getBounds();
+            lines.add("node " + node.getUUID() + " " + bounds.getX() + "," + bounds.getY() + " " + bounds.getWidth() + "x" + bounds.getHeight()
+                              + " in=" + node.getInEdges().size());
+            for (final Edge edge : node.getOutEdges()) {
+                lines.add(describe(edge));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static String describe(final Edge<?, Node> edge) {
+        final String link = edge.getSourceNode().getUUID() + "->" + edge.getTargetNode().getUUID();
+        if (edge.getContent() instanceof Child) {
+            return "child " + link;
+        }
+        if (edge.getContent() instanceof Dock) {
+            return "dock " + link;
+        }
+        final ViewConnector<?> connector = (ViewConnector<?>) edge.getContent();
+        final ControlPoint[] controlPoints = connector.getControlPoints();
+        return "edge " + edge.getUUID() + " " + link
+                + " " + connector.getSourceConnection().map(Object::toString).orElse("")
+                + " " + connector.getTargetConnection().map(Object::toString).orElse("")
+                + " " + (null != controlPoints ? Arrays.toString(controlPoints) : Collections.emptyList());
+    }
+}
@@ -15,8 +15,12 @@
  */
 package com.ait.lienzo.client.core.animation;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.ait.lienzo.client.core.animation.AnimationScheduler.AnimationCallback;
 import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import elemental2.dom.HTMLElement;
 import jsinterop.base.Js;
@@ -29,6 +33,10 @@ public final class LayerRedrawManager {
 
     private NFastArrayList<Layer> m_layers = new NFastArrayList<>();
 
+    // The dirty regions of the scheduled layers that only need a partial redraw. A scheduled
+    // layer without regions is fully redrawn.
+    private Map<Layer, NFastArrayList<BoundingBox>> m_regions = new HashMap<>();
+
     public static final LayerRedrawManager get() {
         return INSTANCE;
     }
@@ -40,16 +48,60 @@ public final class LayerRedrawManager {
             if (size > 0) {
                 final NFastArrayList<Layer> list = m_layers;
 
+                final Map<Layer, NFastArrayList<BoundingBox>> regions = m_regions;
+
                 m_layers = new NFastArrayList<Layer>();
 
+                m_regions = new HashMap<>();
+
                 for (int i = 0; i < size; i++) {
-                    list.get(i).unBatchScheduled().draw();
+                    final Layer layer = list.get(i).unBatchScheduled();
+
+                    final NFastArrayList<BoundingBox> dirty = regions.get(layer);
+
+                    if (null == dirty) {
+                        layer.draw();
+                    } else {
+                        layer.draw(merge(dirty));
+                    }
                 }
             }
         };
     }
 
     public final Layer schedule(final Layer layer) {
+        if (null != layer) {
+            m_regions.remove(layer);
+        }
+        return doSchedule(layer);
+    }
+
+    /**
+     * Schedules the redraw of a region of the layer, in layer coordinates. The regions scheduled for
+     * a layer during an animation frame are merged and only those are repainted, unless the whole
+     * layer is scheduled for redraw too.
+     */
+    public final Layer schedule(final Layer layer, final BoundingBox region) {
+        if ((null == layer) || (null == region)) {
+            return schedule(layer);
+        }
+        NFastArrayList<BoundingBox> dirty = m_regions.get(layer);
+
+        if (null == dirty) {
+            if (layer.isBatchScheduled()) {
+                // The whole layer is already scheduled for redraw.
+                return layer;
+            }
+            dirty = new NFastArrayList<>();
+
+            m_regions.put(layer, dirty);
+        }
+        dirty.add(region);
+
+        return doSchedule(layer);
+    }
+
+    private Layer doSchedule(final Layer layer) {
         if ((null != layer) && (!layer.isBatchScheduled())) {
             if (!m_layers.contains(layer)) {
                 m_layers.add(layer.doBatchScheduled());
@@ -59,6 +111,40 @@ public final class LayerRedrawManager {
         return layer;
     }
 
+    /**
+     * Merges the overlapping regions, so no area is repainted twice.
+     */
+    static NFastArrayList<BoundingBox> merge(final NFastArrayList<BoundingBox> regions) {
+        final NFastArrayList<BoundingBox> merged = new NFastArrayList<>();
+
+        final int size = regions.size();
+
+        for (int i = 0; i < size; i++) {
+            BoundingBox region = BoundingBox.fromBoundingBox(regions.get(i));
+
+            boolean changed = true;
+
+            // Growing a region may make it overlap others that were already merged.
+            while (changed) {
+                changed = false;
+
+                for (int j = merged.size() - 1; j >= 0; j--) {
+                    final BoundingBox other = merged.get(j);
+
+                    if (region.intersects(other)) {
+                        region.addBoundingBox(other);
+
+                        merged.remove(other);
+
+                        changed = true;
+                    }
+                }
+            }
+            merged.add(region);
+        }
+        return merged;
+    }
+
     private void kick(HTMLElement layerElement) {
         if (!m_layers.isEmpty()) {
             AnimationScheduler.get().requestAnimationFrame(m_redraw, Js.uncheckedCast(layerElement));
@@ -142,6 +142,10 @@ public abstract class AbstractMultiPathPartShape<T extends AbstractMultiPathPart
 
     public void resetBoundingBox() {
         m_box = null;
+
+        if (getIndexedAncestors() > 0) {
+            refreshStorage();
+        }
     }
 
     @Override
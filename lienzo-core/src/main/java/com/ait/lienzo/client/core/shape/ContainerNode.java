@@ -90,14 +90,63 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
 
     @Override
     public T setStorageEngine(final IStorageEngine<M> storage) {
+        final int indexed = getIndexedChildAncestors();
+
         if ((null != storage) && (null != m_stor)) {
             storage.migrate(m_stor);
         }
         m_stor = storage;
 
+        if (indexed != getIndexedChildAncestors()) {
+            setChildrenIndexedAncestors();
+        }
         return cast();
     }
 
+    private boolean isSpatiallyIndexed() {
+        return (null != m_stor) && (m_stor.isSpatiallyIndexed());
+    }
+
+    @Override
+    void setIndexedAncestors(final int indexed) {
+        if (indexed != getIndexedAncestors()) {
+            super.setIndexedAncestors(indexed);
+
+            setChildrenIndexedAncestors();
+        }
+    }
+
+    @Override
+    int getIndexedChildAncestors() {
+        return isSpatiallyIndexed() ? getIndexedAncestors() + 1 : getIndexedAncestors();
+    }
+
+    private void setChildrenIndexedAncestors() {
+        if (null == m_stor) {
+            return;
+        }
+        final int indexed = getIndexedChildAncestors();
+
+        final NFastArrayList<M> list = m_stor.getChildren();
+
+        final int size = list.size();
+
+        for (int i = 0; i < size; i++) {
+            list.get(i).asNode().setIndexedAncestors(indexed);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    boolean refreshStorage(final Node<?> child) {
+        if (isSpatiallyIndexed()) {
+            m_stor.refresh((M) child);
+
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public T setStorageBounds(BoundingBox bounds) {
         m_bbox = bounds;
@@ -125,6 +174,9 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
 
         getStorageEngine().add(child);
 
+        if (getIndexedAncestors() > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -143,6 +195,9 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
 
         getStorageEngine().remove(child);
 
+        if (getIndexedAncestors() > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -155,8 +210,21 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
      */
     @Override
     public T removeAll() {
+        if (getIndexedChildAncestors() > 0) {
+            final NFastArrayList<M> list = getStorageEngine().getChildren();
+
+            final int size = list.size();
+
+            for (int i = 0; i < size; i++) {
+                list.get(i).asNode().setIndexedAncestors(0);
+            }
+        }
         getStorageEngine().clear();
 
+        if (getIndexedAncestors() > 0) {
+            refreshStorage();
+        }
+
         return cast();
     }
 
@@ -32,7 +32,9 @@ import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
 import com.ait.lienzo.client.core.types.OnLayerAfterDraw;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
+import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.client.core.util.GeometryException;
 import com.ait.lienzo.shared.core.types.DataURLType;
 import com.ait.lienzo.shared.core.types.LayerClearMode;
 import com.ait.lienzo.shared.core.types.NodeType;
@@ -53,6 +55,11 @@ import elemental2.dom.HTMLDivElement;
  */
 public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
+    private static final double REGION_PADDING = 2;
+
+    // Beyond this many stale regions the selection layer is drawn as a whole.
+    private static final int MAX_SELECTION_REGIONS = 64;
+
     private int m_wide = 0;
 
     private int m_high = 0;
@@ -75,6 +82,16 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
     private boolean clearLayerBeforeDraw = true;
 
+    private boolean m_selectionOnDemand = false;
+
+    private boolean m_selectionStale = false;
+
+    private NFastArrayList<BoundingBox> m_selectionRegions = null;
+
+    private long m_selectionDeferred = 0L;
+
+    private long m_selectionDrawn = 0L;
+
     private boolean transformable = true;
 
     private final ColorKeyRotor m_c_rotor = new ColorKeyRotor();
@@ -166,6 +183,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
             final SelectionLayer selection = getSelectionLayer();
 
             if (null != selection) {
+                drawStaleSelectionLayer(selection);
+
                 final ImageDataPixelColor rgba = selection.getContext().getImageDataPixelColor(x, y);// x,y is adjusted to canvas coordinates in event dispatch
 
                 if (null != rgba) {
@@ -375,6 +394,10 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                 doShowSelectionLayer(false);
             }
             m_select = null;
+
+            m_selectionStale = false;
+
+            m_selectionRegions = null;
         }
         return this;
     }
@@ -494,6 +517,48 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return this;
     }
 
+    /**
+     * Returns whether the {@link SelectionLayer} is only drawn when a shape is looked up at a point.
+     *
+     * @return boolean
+     */
+    public boolean isSelectionLayerOnDemand() {
+        return m_selectionOnDemand;
+    }
+
+    /**
+     * Sets whether the {@link SelectionLayer} is only drawn when a shape is looked up at a point.
+     * Drawing the layer then just marks the selection layer, or the drawn regions of it, as stale,
+     * and it is redrawn by the next {@link #findShapeAtPoint(int, int)}. The selection layer is
+     * still drawn along with the layer while it is shown.
+     *
+     * @param onDemand
+     * @return Layer
+     */
+    public Layer setSelectionLayerOnDemand(final boolean onDemand) {
+        m_selectionOnDemand = onDemand;
+        return this;
+    }
+
+    /**
+     * Returns how many times the {@link SelectionLayer} was redrawn on demand.
+     *
+     * @return long
+     */
+    public long getSelectionLayerDraws() {
+        return m_selectionDrawn;
+    }
+
+    /**
+     * Returns how many draws of the {@link SelectionLayer} were avoided, as the layer was drawn again,
+     * or no shape was looked up, before the selection layer was needed.
+     *
+     * @return long
+     */
+    public long getAvoidedSelectionLayerDraws() {
+        return m_selectionDeferred - m_selectionDrawn - (m_selectionStale ? 1 : 0);
+    }
+
     /**
      * Return the {@link CanvasElement}.
      *
@@ -577,7 +642,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     if (null != transform) {
                         context.transform(transform);
                     }
-                    final BoundingBox bbox = getStorageBounds();
+                    // Only the layer canvas is culled to the viewport, other contexts, such as exports, get the whole layer.
+                    final BoundingBox bbox = (context == getContext()) ? getDrawBounds(viewport, transform) : getStorageBounds();
 
                     IPathClipper vclp = null;
 
@@ -603,31 +669,256 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     final SelectionLayer selection = getSelectionLayer();
 
                     if (null != selection) {
-                        selection.clear();
+                        if (isSelectionLayerDeferred()) {
+                            deferSelectionLayer(null);
+                        } else {
+                            m_selectionStale = false;
 
-                        context = selection.getContext();
+                            m_selectionRegions = null;
 
-                        context.save();
-
-                        if (null != transform) {
-                            context.transform(transform);
-                        }
-                        if ((null != vclp) && (vclp.isActive())) {
-                            vclp.clip(context);
-                        }
-                        if ((null != lclp) && (lclp.isActive())) {
-                            lclp.clip(context);
+                            drawSelectionLayer(selection, transform, bbox);
                         }
-                        drawWithTransforms(context, 1, bbox);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Redraws only the given regions of the layer, in layer coordinates, on both its context and the
+     * selection layer. The primitives are clipped to the regions, so the rest of the layer is kept as is.
+     * Drawing only takes place if the layer is visible.
+     */
+    public Layer draw(final NFastArrayList<BoundingBox> regions) {
+        if ((null == regions) || (regions.isEmpty())) {
+            return draw();
+        }
+        if (LienzoCore.IS_CANVAS_SUPPORTED) {
+            Transform transform = null;
+
+            final Viewport viewport = getViewport();
+
+            if ((isTransformable()) && (null != viewport)) {
+                transform = viewport.getTransform();
+            }
+            if (isVisible()) {
+                boolean draw = true;
+
+                if (null != m_olbd) {
+                    draw = m_olbd.onLayerBeforeDraw(this);
+                }
+                if (draw) {
+                    drawRegions(getContext(), transform, regions, isClearLayerBeforeDraw());
 
-                        context.restore();
+                    if (null != m_olad) {
+                        m_olad.onLayerAfterDraw(this);
+                    }
+                    final SelectionLayer selection = getSelectionLayer();
+
+                    if (null != selection) {
+                        if (isSelectionLayerDeferred()) {
+                            deferSelectionLayer(regions);
+                        } else {
+                            drawRegions(selection.getContext(), transform, regions, true);
+                        }
                     }
                 }
+            } else if (isClearLayerBeforeDraw()) {
+                clearRegions(getContext(), transform, regions);
             }
         }
         return this;
     }
 
+    private boolean isSelectionLayerDeferred() {
+        return isSelectionLayerOnDemand() && (!isShowSelectionLayer());
+    }
+
+    /**
+     * Marks the given regions of the selection layer as stale, or the whole of it if no regions are given.
+     */
+    private void deferSelectionLayer(final NFastArrayList<BoundingBox> regions) {
+        m_selectionDeferred++;
+
+        if ((null == regions) || (m_selectionStale && (null == m_selectionRegions))) {
+            m_selectionRegions = null;
+        } else {
+            if (null == m_selectionRegions) {
+                m_selectionRegions = new NFastArrayList<>();
+            }
+            final int size = regions.size();
+
+            for (int i = 0; i < size; i++) {
+                m_selectionRegions.add(regions.get(i));
+            }
+            if (m_selectionRegions.size() > MAX_SELECTION_REGIONS) {
+                m_selectionRegions = null;
+            }
+        }
+        m_selectionStale = true;
+    }
+
+    private void drawStaleSelectionLayer(final SelectionLayer selection) {
+        if (!m_selectionStale) {
+            return;
+        }
+        final NFastArrayList<BoundingBox> regions = m_selectionRegions;
+
+        m_selectionStale = false;
+
+        m_selectionRegions = null;
+
+        m_selectionDrawn++;
+
+        Transform transform = null;
+
+        final Viewport viewport = getViewport();
+
+        if ((isTransformable()) && (null != viewport)) {
+            transform = viewport.getTransform();
+        }
+        if (null == regions) {
+            drawSelectionLayer(selection, transform, getDrawBounds(viewport, transform));
+        } else {
+            drawRegions(selection.getContext(), transform, regions, true);
+        }
+    }
+
+    private void drawSelectionLayer(final SelectionLayer selection, final Transform transform, final BoundingBox bbox) {
+        selection.clear();
+
+        final Context2D context = selection.getContext();
+
+        context.save();
+
+        if (null != transform) {
+            context.transform(transform);
+        }
+        final Viewport viewport = getViewport();
+
+        if (null != viewport) {
+            final IPathClipper vclp = viewport.getPathClipper();
+
+            if ((null != vclp) && (vclp.isActive())) {
+                vclp.clip(context);
+            }
+        }
+        final IPathClipper lclp = getPathClipper();
+
+        if ((null != lclp) && (lclp.isActive())) {
+            lclp.clip(context);
+        }
+        drawWithTransforms(context, 1, bbox);
+
+        context.restore();
+    }
+
+    /**
+     * Draws the given regions, clearing them first when asked. The selection layer is always cleared, as
+     * it is when it is drawn whole, since the color keys of the primitives that moved away must not remain.
+     */
+    private void drawRegions(final Context2D context, final Transform transform, final NFastArrayList<BoundingBox> regions, final boolean clear) {
+        if (null == context) {
+            return;
+        }
+        final Viewport viewport = getViewport();
+
+        final IPathClipper vclp = (null != viewport) ? viewport.getPathClipper() : null;
+
+        final IPathClipper lclp = getPathClipper();
+
+        final int size = regions.size();
+
+        for (int i = 0; i < size; i++) {
+            final BoundingBox region = getRegion(regions.get(i));
+
+            context.save();
+
+            if (null != transform) {
+                context.transform(transform);
+            }
+            if ((null != vclp) && (vclp.isActive())) {
+                vclp.clip(context);
+            }
+            if ((null != lclp) && (lclp.isActive())) {
+                lclp.clip(context);
+            }
+            context.beginPath();
+
+            context.rect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+
+            context.clip();
+
+            if (clear) {
+                context.clearRect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+            }
+            drawWithTransforms(context, 1, (null != getStorageBounds()) ? getStorageBounds() : region);
+
+            context.restore();
+        }
+    }
+
+    private void clearRegions(final Context2D context, final Transform transform, final NFastArrayList<BoundingBox> regions) {
+        if (null == context) {
+            return;
+        }
+        final int size = regions.size();
+
+        for (int i = 0; i < size; i++) {
+            final BoundingBox region = getRegion(regions.get(i));
+
+            context.save();
+
+            if (null != transform) {
+                context.transform(transform);
+            }
+            context.clearRect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+
+            context.restore();
+        }
+    }
+
+    /**
+     * Pads a dirty region, so the anti-aliased edges of the primitives around it are repainted too.
+     */
+    private static BoundingBox getRegion(final BoundingBox region) {
+        return BoundingBox.fromDoubles(region.getMinX() - REGION_PADDING,
+                                       region.getMinY() - REGION_PADDING,
+                                       region.getMaxX() + REGION_PADDING,
+                                       region.getMaxY() + REGION_PADDING);
+    }
+
+    /**
+     * Returns the bounds used to select the primitives to draw. Unless storage bounds were set, a spatially
+     * indexed storage engine is given the area of the layer that is visible through the viewport.
+     */
+    private BoundingBox getDrawBounds(final Viewport viewport, final Transform transform) {
+        final BoundingBox bbox = getStorageBounds();
+
+        if ((null != bbox) || (null == viewport) || (!getStorageEngine().isSpatiallyIndexed())) {
+            return bbox;
+        }
+        final double wide = viewport.getWidth();
+
+        final double high = viewport.getHeight();
+
+        final Point2D[] corners = new Point2D[]{new Point2D(0, 0), new Point2D(wide, 0), new Point2D(wide, high), new Point2D(0, high)};
+
+        if (null != transform) {
+            try {
+                final Transform inverse = transform.getInverse();
+
+                for (final Point2D corner : corners) {
+                    inverse.transform(corner, corner);
+                }
+            } catch (final GeometryException e) {
+                return null;
+            }
+        }
+        return BoundingBox.fromArrayOfPoint2D(corners);
+    }
+
     /**
      * Performs batch updates to the Layer, that is, drawing is deferred till the next AnimationFrame,
      * to cut down on redraws on rapid event dispatch.
@@ -639,6 +930,19 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return LayerRedrawManager.get().schedule(this);
     }
 
+    /**
+     * Performs a batch update of a region of the Layer, in layer coordinates. Only the regions batched
+     * till the next AnimationFrame are redrawn, unless the whole Layer is batched too.
+     * <p>
+     * When a primitive is moved or resized, both its previous and its new bounds must be batched.
+     *
+     * @param region
+     * @return Layer
+     */
+    public Layer batch(final BoundingBox region) {
+        return LayerRedrawManager.get().schedule(this, region);
+    }
+
     /**
      * Sets whether this object is visible.
      *
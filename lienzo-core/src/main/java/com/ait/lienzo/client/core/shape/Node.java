@@ -110,6 +110,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     private Node<?> m_parent;
 
+    // How many ancestors keep this Node, or the child of theirs holding it, in a spatially indexed storage engine.
+    private int m_indexed;
+
     @JsProperty
     private double x;
 
@@ -237,11 +240,17 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setX(final double x) {
         this.x = x;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
     public final T setY(final double y) {
         this.y = y;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -261,6 +270,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setRotation(final double radians) {
         this.rotation = radians;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -270,6 +282,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setRotationDegrees(final double degrees) {
         this.rotation = Geometry.toRadians(degrees);
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -306,6 +321,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setScale(final Point2D scale) {
         this.scale = scale;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -330,6 +348,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setShear(final Point2D shear) {
         this.shear = shear;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -339,6 +360,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setOffset(final Point2D offset) {
         this.offset = offset;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
@@ -495,11 +519,43 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     @Override
     public T refresh() {
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
     protected void setParent(final Node<?> parent) {
         m_parent = parent;
+
+        setIndexedAncestors((null != parent) ? parent.getIndexedChildAncestors() : 0);
+    }
+
+    /**
+     * Returns how many ancestors keep this Node, or the child of theirs holding it, spatially indexed.
+     */
+    final int getIndexedAncestors() {
+        return m_indexed;
+    }
+
+    void setIndexedAncestors(final int indexed) {
+        m_indexed = indexed;
+    }
+
+    /**
+     * Returns how many ancestors of the children of this Node keep them spatially indexed.
+     */
+    int getIndexedChildAncestors() {
+        return m_indexed;
+    }
+
+    /**
+     * Refreshes the storage entry of the given child, if this Node keeps its children spatially indexed.
+     *
+     * @return whether the storage of this Node is spatially indexed
+     */
+    boolean refreshStorage(final Node<?> child) {
+        return false;
     }
 
     public final boolean isAnimating() {
@@ -519,6 +575,27 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
         return m_parent;
     }
 
+    /**
+     * Lets the spatially indexed ancestors know that the geometry of this Node, or of the child holding it, has changed.
+     * Only the Nodes that have such ancestors walk up their parents, so the other Nodes are not slowed down.
+     */
+    final void refreshStorage() {
+        int indexed = m_indexed;
+
+        Node<?> child = this;
+
+        Node<?> parent = m_parent;
+
+        while ((indexed > 0) && (null != parent)) {
+            if (parent.refreshStorage(child)) {
+                indexed--;
+            }
+            child = parent;
+
+            parent = parent.m_parent;
+        }
+    }
+
     /**
      * Returns the Layer that this Node is on.
      *
@@ -825,6 +902,58 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
         return null;
     }
 
+    /**
+     * Batches the redraw of the area this node covers on its layer, rather than the whole layer.
+     * Call it before and after a change that moves or resizes the node, so both areas are redrawn.
+     *
+     * @return T
+     */
+    public T batchBounds() {
+        final Layer layer = getLayer();
+
+        if (null != layer) {
+            final BoundingBox bbox = getLayerBoundingBox();
+
+            if (null != bbox) {
+                layer.batch(bbox);
+            } else {
+                layer.batch();
+            }
+        }
+        return cast();
+    }
+
+    /**
+     * Returns the area this node covers, in the coordinates of its layer.
+     *
+     * @return BoundingBox
+     */
+    protected BoundingBox getLayerBoundingBox() {
+        final BoundingBox bbox = getBoundingBox();
+
+        if ((null == bbox) || (bbox.getMinX() > bbox.getMaxX()) || (bbox.getMinY() > bbox.getMaxY())) {
+            return null;
+        }
+        final Transform xfrm = new Transform();
+
+        getLayerTransformFromParents(this, xfrm);
+
+        return new BoundingPoints(bbox).transform(xfrm).getBoundingBox();
+    }
+
+    private static void getLayerTransformFromParents(final Node<?> node, final Transform xfrm) {
+        if ((null == node) || (NodeType.LAYER == node.getNodeType())) {
+            return;
+        }
+        getLayerTransformFromParents(node.getParent(), xfrm);
+
+        final Transform temp = node.getPossibleNodeTransform();
+
+        if (temp != null) {
+            xfrm.multiply(temp);
+        }
+    }
+
     @Override
     public T setUserData(final Object data) {
         m_opts.setUserData(data);
@@ -916,6 +1045,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public T setTransform(final Transform transform) {
         this.transform = transform;
+        if (m_indexed > 0) {
+            refreshStorage();
+        }
         return cast();
     }
 
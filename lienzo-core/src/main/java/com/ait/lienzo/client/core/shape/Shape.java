@@ -34,6 +34,7 @@ import com.ait.lienzo.client.core.types.FillGradient;
 import com.ait.lienzo.client.core.types.LinearGradient;
 import com.ait.lienzo.client.core.types.PathPartList;
 import com.ait.lienzo.client.core.types.PatternGradient;
+import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.RadialGradient;
 import com.ait.lienzo.client.core.types.Shadow;
 import com.ait.lienzo.client.widget.DefaultDragConstraintEnforcer;
@@ -133,6 +134,37 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
         return cast();
     }
 
+    /**
+     * Returns the area this shape covers on its layer, including its stroke and shadow.
+     *
+     * @return BoundingBox
+     */
+    @Override
+    protected BoundingBox getLayerBoundingBox() {
+        final BoundingBox bbox = super.getLayerBoundingBox();
+
+        if (null == bbox) {
+            return null;
+        }
+        double pad = Math.max(getStrokeWidth(), 0);
+
+        final Shadow shadow = getShadow();
+
+        if (null != shadow) {
+            final Point2D offset = shadow.getOffset();
+
+            pad += shadow.getBlur();
+
+            if (null != offset) {
+                pad += Math.max(Math.abs(offset.getX()), Math.abs(offset.getY()));
+            }
+        }
+        if (pad <= 0) {
+            return bbox;
+        }
+        return BoundingBox.fromDoubles(bbox.getMinX() - pad, bbox.getMinY() - pad, bbox.getMaxX() + pad, bbox.getMaxY() + pad);
+    }
+
     /**
      * Only sub-classes that wish to extend a Shape should use this.
      *
@@ -313,6 +313,10 @@ public class Text extends Shape<Text> {
     /**
      * Returns TextMetrics, which includes an approximate value for
      * height. As close as we can estimate it at this time.
+     * <p>
+     * It is not served by the {@link TextMetricsCache}, which only keeps widths, while the metrics
+     * returned by the given context may be used for more than the width. The layout and the bounding
+     * boxes go through {@link TextUtils}, which uses the cache.
      *
      * @param context
      * @return TextMetric or null if the text is empty or null
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.util.ScratchPad;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.FontFaceSet;
+import elemental2.dom.HTMLDocument;
+
+/**
+ * A bounded cache of the text widths measured by {@link TextUtils}, shared by all the texts and
+ * their wrappers, so the labels that do not change are not measured again on every layout and draw.
+ * <p>
+ * The widths are kept by font and string, and the least recently used ones are discarded once the
+ * cache is full. The widths measured before a web font is loaded are the ones of its fallback font,
+ * so the shared cache is cleared when the document fonts are ready and whenever they finish loading.
+ * <p>
+ * When character widths are enabled, the width of a string of printable ASCII characters is the sum
+ * of the widths of its characters, which are measured once per font. It saves measuring the strings,
+ * but it ignores the kerning between characters, so it is disabled by default.
+ */
+public final class TextMetricsCache {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final char FIRST_CHARACTER = ' ';
+
+    private static final char LAST_CHARACTER = '~';
+
+    private static TextMetricsCache INSTANCE;
+
+    private final Context2D m_context;
+
+    private final Map<String, Double> m_widths;
+
+    private final Map<String, double[]> m_characterWidths = new HashMap<>();
+
+    private String m_font;
+
+    private boolean m_characterWidthsEnabled = false;
+
+    private int m_measures = 0;
+
+    public static TextMetricsCache get() {
+        if (null == INSTANCE) {
+            INSTANCE = new TextMetricsCache(new ScratchPad(1, 1).getContext(), DEFAULT_CAPACITY);
+
+            final HTMLDocument document = DomGlobal.document;
+
+            if (null != document) {
+                INSTANCE.clearOnFontsLoaded(document.fonts);
+            }
+        }
+        return INSTANCE;
+    }
+
+    TextMetricsCache(final Context2D context, final int capacity) {
+        m_context = context;
+
+        m_widths = new LinkedHashMap<String, Double>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Double> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the width of the given string in the given font.
+     *
+     * @param font the font, as returned by {@link TextUtils#getFontString}
+     * @param text the string
+     * @return the width
+     */
+    public double getWidth(final String font, final String text) {
+        if ((null == text) || text.isEmpty()) {
+            return 0;
+        }
+        final String key = font + '\n' + text;
+
+        final Double width = m_widths.get(key);
+
+        if (null != width) {
+            return width;
+        }
+        final double measured = (m_characterWidthsEnabled && isCharacterRange(text)) ? getCharacterWidths(font, text) : measure(font, text);
+
+        m_widths.put(key, measured);
+
+        return measured;
+    }
+
+    public TextMetricsCache setCharacterWidthsEnabled(final boolean enabled) {
+        m_characterWidthsEnabled = enabled;
+
+        return this;
+    }
+
+    public boolean isCharacterWidthsEnabled() {
+        return m_characterWidthsEnabled;
+    }
+
+    /**
+     * Discards all the widths, so they are measured again.
+     */
+    public void clear() {
+        m_widths.clear();
+
+        m_characterWidths.clear();
+
+        m_font = null;
+    }
+
+    /**
+     * Clears the cache when the given fonts are ready and every time they finish loading, as the
+     * widths measured until then may be the ones of the fallback fonts.
+     *
+     * @param fonts the fonts of the document, or null when the browser does not support them
+     */
+    void clearOnFontsLoaded(final FontFaceSet fonts) {
+        if (null == fonts) {
+            return;
+        }
+        fonts.addEventListener("loadingdone", event -> clear());
+
+        fonts.getReady().then(ready -> {
+            clear();
+
+            return null;
+        });
+    }
+
+    public int size() {
+        return m_widths.size();
+    }
+
+    /**
+     * Returns how many times the text has been measured in a canvas context.
+     */
+    public int getMeasures() {
+        return m_measures;
+    }
+
+    private double getCharacterWidths(final String font, final String text) {
+        double[] widths = m_characterWidths.get(font);
+
+        if (null == widths) {
+            widths = new double[LAST_CHARACTER - FIRST_CHARACTER + 1];
+
+            for (char c = FIRST_CHARACTER; c <= LAST_CHARACTER; c++) {
+                widths[c - FIRST_CHARACTER] = measure(font, String.valueOf(c));
+            }
+            m_characterWidths.put(font, widths);
+        }
+        double width = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            width += widths[text.charAt(i) - FIRST_CHARACTER];
+        }
+        return width;
+    }
+
+    private double measure(final String font, final String text) {
+        if (null == m_context) {
+            return 0;
+        }
+        if (!font.equals(m_font)) {
+            m_context.setTextFont(font);
+
+            m_font = font;
+        }
+        m_measures++;
+
+        return m_context.measureText(text).width;
+    }
+
+    private static boolean isCharacterRange(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+
+            if ((c < FIRST_CHARACTER) || (c > LAST_CHARACTER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -32,9 +32,10 @@ import elemental2.core.Uint8ClampedArray;
  */
 public class TextUtils {
 
-    private ScratchPad FORBOUNDS = new ScratchPad(1, 1);
+    // Shared by all the instances, as the offsets only depend on the font and the baseline.
+    private static ScratchPad FORBOUNDS;
 
-    private NFastStringMap<NFastDoubleArray> OFFSCACHE = new NFastStringMap<>();
+    private static final NFastStringMap<NFastDoubleArray> OFFSCACHE = new NFastStringMap<>();
 
     private NFastDoubleArray getTextOffsets(Uint8ClampedArray data, int wide, int high, int base) {
 
@@ -69,6 +70,9 @@ public class TextUtils {
     }
 
     private final NFastDoubleArray getTextOffsets(final String font, final TextBaseLine baseline) {
+        if (null == FORBOUNDS) {
+            FORBOUNDS = new ScratchPad(1, 1);
+        }
         if (FORBOUNDS.getContext() == null) {
             throw new Error();
         }
@@ -124,13 +128,7 @@ public class TextUtils {
             return BoundingBox.fromDoubles(0, 0, 0, 0);
         }
 
-        FORBOUNDS.getContext().setTextFont(font);
-
-        FORBOUNDS.getContext().setTextAlign(TextAlign.LEFT);
-
-        FORBOUNDS.getContext().setTextBaseline(TextBaseLine.ALPHABETIC);
-
-        final double wide = FORBOUNDS.getContext().measureText(text).width;
+        final double wide = TextMetricsCache.get().getWidth(font, text);
 
         final BoundingBox bbox = new BoundingBox().addY(offs.get(0)).addY(offs.get(1));
 
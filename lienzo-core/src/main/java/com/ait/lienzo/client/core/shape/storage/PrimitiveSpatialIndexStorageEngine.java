@@ -0,0 +1,386 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+
+/**
+ * A storage engine that indexes the bounds of its primitives in a uniform grid, so
+ * {@link #getChildren(BoundingBox)} only visits the primitives in the cells the given bounds
+ * cover. The primitives are still returned in drawing order.
+ * <p>
+ * The bounds are taken in the coordinates of the container, so this engine is meant for layers.
+ * The entry of a primitive is refreshed when it, or any node inside it, is moved, rotated, scaled,
+ * sheared, offset or transformed, when its path is rebuilt or refreshed, and when nodes are added to
+ * or removed from it. Other changes to its geometry, such as the size of a Rectangle, must be followed
+ * by {@link #refresh(IPrimitive)}.
+ */
+public class PrimitiveSpatialIndexStorageEngine extends AbstractFastArrayStorageEngine<IPrimitive<?>> {
+
+    public static final double DEFAULT_CELL_SIZE = 256;
+
+    public static final double DEFAULT_PADDING = 16;
+
+    // Primitives covering more cells than this are not indexed, they are always candidates.
+    private static final int MAX_INDEXED_CELLS = 64;
+
+    private final double m_cell;
+
+    private final double m_padding;
+
+    private final Map<IPrimitive<?>, Entry> m_entries = new HashMap<>();
+
+    private final Map<Integer, List<Entry>> m_cells = new HashMap<>();
+
+    private final List<Entry> m_unindexed = new ArrayList<>();
+
+    private final Set<Entry> m_dirty = new HashSet<>();
+
+    private double m_top = 0;
+
+    private double m_bottom = 0;
+
+    private boolean m_ordered = true;
+
+    public PrimitiveSpatialIndexStorageEngine() {
+        this(DEFAULT_CELL_SIZE, DEFAULT_PADDING);
+    }
+
+    public PrimitiveSpatialIndexStorageEngine(final double cellSize, final double padding) {
+        super(StorageEngineType.PRIMITIVE_SPATIAL_INDEX_STORAGE_ENGINE);
+
+        m_cell = cellSize;
+
+        m_padding = padding;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+
+        m_entries.clear();
+
+        m_cells.clear();
+
+        m_unindexed.clear();
+
+        m_dirty.clear();
+
+        m_top = 0;
+
+        m_bottom = 0;
+
+        m_ordered = true;
+    }
+
+    @Override
+    public void add(final IPrimitive<?> item) {
+        final Entry previous = m_entries.get(item);
+
+        if (null != previous) {
+            unindex(previous);
+        }
+        super.add(item);
+
+        final Entry entry = new Entry(item);
+
+        entry.order = ++m_top;
+
+        m_entries.put(item, entry);
+
+        m_dirty.add(entry);
+    }
+
+    @Override
+    public void remove(final IPrimitive<?> item) {
+        super.remove(item);
+
+        final Entry entry = m_entries.remove(item);
+
+        if (null != entry) {
+            unindex(entry);
+        }
+    }
+
+    @Override
+    public void refresh(final IPrimitive<?> item) {
+        final Entry entry = m_entries.get(item);
+
+        if (null != entry) {
+            m_dirty.add(entry);
+        }
+    }
+
+    @Override
+    public void refresh() {
+        m_dirty.addAll(m_entries.values());
+    }
+
+    @Override
+    public NFastArrayList<IPrimitive<?>> getChildren(final BoundingBox bounds) {
+        if (null == bounds) {
+            return getChildren();
+        }
+        index();
+
+        final BoundingBox query = BoundingBox.fromDoubles(bounds.getMinX() - m_padding,
+                                                          bounds.getMinY() - m_padding,
+                                                          bounds.getMaxX() + m_padding,
+                                                          bounds.getMaxY() + m_padding);
+        final NFastArrayList<IPrimitive<?>> list = getChildren();
+
+        final int minx = cell(query.getMinX());
+        final int miny = cell(query.getMinY());
+        final int maxx = cell(query.getMaxX());
+        final int maxy = cell(query.getMaxY());
+
+        // Looking up more cells than there are primitives is slower than filtering them all.
+        if ((((double) (maxx - minx + 1)) * (maxy - miny + 1)) > list.size()) {
+            final NFastArrayList<IPrimitive<?>> visible = new NFastArrayList<>();
+
+            final int size = list.size();
+
+            for (int i = 0; i < size; i++) {
+                final IPrimitive<?> item = list.get(i);
+
+                if (isVisible(m_entries.get(item), query)) {
+                    visible.add(item);
+                }
+            }
+            return visible;
+        }
+        final Set<Entry> candidates = new HashSet<>(m_unindexed);
+
+        for (int x = minx; x <= maxx; x++) {
+            for (int y = miny; y <= maxy; y++) {
+                final List<Entry> entries = m_cells.get(key(x, y));
+
+                if (null != entries) {
+                    candidates.addAll(entries);
+                }
+            }
+        }
+        final List<Entry> visible = new ArrayList<>(candidates.size());
+
+        for (final Entry entry : candidates) {
+            if (isVisible(entry, query)) {
+                visible.add(entry);
+            }
+        }
+        if (!m_ordered) {
+            reorder();
+        }
+        Collections.sort(visible, (a, b) -> Double.compare(a.order, b.order));
+
+        final NFastArrayList<IPrimitive<?>> result = new NFastArrayList<>();
+
+        for (final Entry entry : visible) {
+            result.add(entry.item);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isSpatiallyIndexed() {
+        return true;
+    }
+
+    @Override
+    public void moveUp(final IPrimitive<?> item) {
+        super.moveUp(item);
+
+        m_ordered = false;
+    }
+
+    @Override
+    public void moveDown(final IPrimitive<?> item) {
+        super.moveDown(item);
+
+        m_ordered = false;
+    }
+
+    @Override
+    public void moveToTop(final IPrimitive<?> item) {
+        super.moveToTop(item);
+
+        final Entry entry = m_entries.get(item);
+
+        if (null != entry) {
+            entry.order = ++m_top;
+        }
+    }
+
+    @Override
+    public void moveToBottom(final IPrimitive<?> item) {
+        super.moveToBottom(item);
+
+        final Entry entry = m_entries.get(item);
+
+        if (null != entry) {
+            entry.order = --m_bottom;
+        }
+    }
+
+    private static boolean isVisible(final Entry entry, final BoundingBox query) {
+        return (null == entry) || (null == entry.bounds) || entry.bounds.intersects(query);
+    }
+
+    private void reorder() {
+        final NFastArrayList<IPrimitive<?>> list = getChildren();
+
+        final int size = list.size();
+
+        for (int i = 0; i < size; i++) {
+            final Entry entry = m_entries.get(list.get(i));
+
+            if (null != entry) {
+                entry.order = i;
+            }
+        }
+        m_bottom = 0;
+
+        m_top = size;
+
+        m_ordered = true;
+    }
+
+    private void index() {
+        if (m_dirty.isEmpty()) {
+            return;
+        }
+        final List<Entry> dirty = new ArrayList<>(m_dirty);
+
+        m_dirty.clear();
+
+        for (final Entry entry : dirty) {
+            unindex(entry);
+
+            entry.bounds = bounds(entry.item);
+
+            if (null == entry.bounds) {
+                m_unindexed.add(entry);
+
+                continue;
+            }
+            entry.minx = cell(entry.bounds.getMinX());
+            entry.miny = cell(entry.bounds.getMinY());
+            entry.maxx = cell(entry.bounds.getMaxX());
+            entry.maxy = cell(entry.bounds.getMaxY());
+
+            if ((((double) (entry.maxx - entry.minx + 1)) * (entry.maxy - entry.miny + 1)) > MAX_INDEXED_CELLS) {
+                m_unindexed.add(entry);
+
+                continue;
+            }
+            for (int x = entry.minx; x <= entry.maxx; x++) {
+                for (int y = entry.miny; y <= entry.maxy; y++) {
+                    m_cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(entry);
+                }
+            }
+            entry.indexed = true;
+        }
+    }
+
+    private void unindex(final Entry entry) {
+        m_dirty.remove(entry);
+
+        if (entry.indexed) {
+            for (int x = entry.minx; x <= entry.maxx; x++) {
+                for (int y = entry.miny; y <= entry.maxy; y++) {
+                    final Integer key = key(x, y);
+
+                    final List<Entry> entries = m_cells.get(key);
+
+                    if (null != entries) {
+                        entries.remove(entry);
+
+                        if (entries.isEmpty()) {
+                            m_cells.remove(key);
+                        }
+                    }
+                }
+            }
+            entry.indexed = false;
+        } else {
+            m_unindexed.remove(entry);
+        }
+    }
+
+    private static BoundingBox bounds(final IPrimitive<?> item) {
+        final BoundingPoints points = item.getBoundingPoints();
+
+        if (null == points) {
+            return null;
+        }
+        final BoundingBox bbox = points.getBoundingBox();
+
+        // Empty groups have infinite bounds, which would not fit in the grid.
+        if ((null == bbox) || (!isFinite(bbox.getMinX())) || (!isFinite(bbox.getMinY())) || (!isFinite(bbox.getMaxX())) || (!isFinite(bbox.getMaxY()))) {
+            return null;
+        }
+        if ((bbox.getMinX() > bbox.getMaxX()) || (bbox.getMinY() > bbox.getMaxY())) {
+            return null;
+        }
+        return bbox;
+    }
+
+    private static boolean isFinite(final double value) {
+        return (!Double.isNaN(value)) && (!Double.isInfinite(value)) && (Math.abs(value) < Double.MAX_VALUE);
+    }
+
+    private int cell(final double value) {
+        return (int) Math.floor(value / m_cell);
+    }
+
+    // Different cells may share a key, which only adds candidates that are filtered out by their bounds.
+    private static Integer key(final int x, final int y) {
+        return (x * 92821) ^ y;
+    }
+
+    private static class Entry {
+
+        private final IPrimitive<?> item;
+
+        private BoundingBox bounds;
+
+        private boolean indexed;
+
+        private int minx;
+
+        private int miny;
+
+        private int maxx;
+
+        private int maxy;
+
+        private double order;
+
+        private Entry(final IPrimitive<?> item) {
+            this.item = item;
+        }
+    }
+}
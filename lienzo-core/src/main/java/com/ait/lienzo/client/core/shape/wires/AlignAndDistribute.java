@@ -45,7 +45,8 @@ import com.ait.lienzo.client.core.types.Point2DArray;
  * It's possible to control the style of the guideline when drawn. By using the style setter methods of this class.
  * <p>
  * The circa property controls the number of pixes to search from the current position. For instance a circle of 4, will search 4 pixels
- * above and 4 pixels below the current y position, as well as 4 pixels to the left and 4 pixels to the right. As soon as the first index has a match, the search stops and snapping is done to that offset.
+ * above and 4 pixels below the current y position, as well as 4 pixels to the left and 4 pixels to the right. Snapping is done to the nearest offset that has a match in any index,
+ * the one after the current position first. The indexes are sorted, so the nearest entries are found by a binary search instead of probing every offset.
  * <p>
  * The implementation is fairly generic and uses shape.getBoundingPoints().getBoundingBox() to do it's work.
  * The reason for getBoundPoints, is that the x/y of a Circle is at the center, where as other shapes are top left - getBoundingPoints normalises this to top left.
@@ -57,29 +58,29 @@ import com.ait.lienzo.client.core.types.Point2DArray;
  */
 public class AlignAndDistribute {
 
-    private Map<Double, LinkedList<AlignAndDistributeControl>> m_leftIndex;
+    private SortedIndex<AlignAndDistributeControl> m_leftIndex;
 
-    private Map<Double, LinkedList<AlignAndDistributeControl>> m_hCenterIndex;
+    private SortedIndex<AlignAndDistributeControl> m_hCenterIndex;
 
-    private Map<Double, LinkedList<AlignAndDistributeControl>> m_rightIndex;
+    private SortedIndex<AlignAndDistributeControl> m_rightIndex;
 
-    private Map<Double, LinkedList<AlignAndDistributeControl>> m_topIndex;
+    private SortedIndex<AlignAndDistributeControl> m_topIndex;
 
-    private Map<Double, LinkedList<AlignAndDistributeControl>> m_vCenterIndex;
+    private SortedIndex<AlignAndDistributeControl> m_vCenterIndex;
 
-    private Map<Double, LinkedList<AlignAndDistributeControl>> m_bottomIndex;
+    private SortedIndex<AlignAndDistributeControl> m_bottomIndex;
 
-    private Map<Double, LinkedList<DistributionEntry>> m_leftDistIndex;
+    private SortedIndex<DistributionEntry> m_leftDistIndex;
 
-    private Map<Double, LinkedList<DistributionEntry>> m_hCenterDistIndex;
+    private SortedIndex<DistributionEntry> m_hCenterDistIndex;
 
-    private Map<Double, LinkedList<DistributionEntry>> m_rightDistIndex;
+    private SortedIndex<DistributionEntry> m_rightDistIndex;
 
-    private Map<Double, LinkedList<DistributionEntry>> m_topDistIndex;
+    private SortedIndex<DistributionEntry> m_topDistIndex;
 
-    private Map<Double, LinkedList<DistributionEntry>> m_vCenterDistIndex;
+    private SortedIndex<DistributionEntry> m_vCenterDistIndex;
 
-    private Map<Double, LinkedList<DistributionEntry>> m_bottomDistIndex;
+    private SortedIndex<DistributionEntry> m_bottomDistIndex;
 
     private DefaultAlignAndDistributeMatchesCallback m_alignmentCallback;
 
@@ -87,28 +88,32 @@ public class AlignAndDistribute {
 
     private int m_circa = 4;
 
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    private final AlignAndDistributeMatches m_matches = new AlignAndDistributeMatches();
+
     protected boolean m_snap = true;
 
     protected boolean m_drawGuideLines = true;
 
     public AlignAndDistribute(Layer layer) {
-        m_leftIndex = new HashMap<Double, LinkedList<AlignAndDistributeControl>>();
-        m_hCenterIndex = new HashMap<Double, LinkedList<AlignAndDistributeControl>>();
-        m_rightIndex = new HashMap<Double, LinkedList<AlignAndDistributeControl>>();
+        m_leftIndex = new SortedIndex<AlignAndDistributeControl>();
+        m_hCenterIndex = new SortedIndex<AlignAndDistributeControl>();
+        m_rightIndex = new SortedIndex<AlignAndDistributeControl>();
 
-        m_topIndex = new HashMap<Double, LinkedList<AlignAndDistributeControl>>();
-        m_vCenterIndex = new HashMap<Double, LinkedList<AlignAndDistributeControl>>();
-        m_bottomIndex = new HashMap<Double, LinkedList<AlignAndDistributeControl>>();
+        m_topIndex = new SortedIndex<AlignAndDistributeControl>();
+        m_vCenterIndex = new SortedIndex<AlignAndDistributeControl>();
+        m_bottomIndex = new SortedIndex<AlignAndDistributeControl>();
 
         m_alignmentCallback = new DefaultAlignAndDistributeMatchesCallback(layer);
 
-        m_leftDistIndex = new HashMap<Double, LinkedList<DistributionEntry>>();
-        m_hCenterDistIndex = new HashMap<Double, LinkedList<DistributionEntry>>();
-        m_rightDistIndex = new HashMap<Double, LinkedList<DistributionEntry>>();
+        m_leftDistIndex = new SortedIndex<DistributionEntry>();
+        m_hCenterDistIndex = new SortedIndex<DistributionEntry>();
+        m_rightDistIndex = new SortedIndex<DistributionEntry>();
 
-        m_topDistIndex = new HashMap<Double, LinkedList<DistributionEntry>>();
-        m_vCenterDistIndex = new HashMap<Double, LinkedList<DistributionEntry>>();
-        m_bottomDistIndex = new HashMap<Double, LinkedList<DistributionEntry>>();
+        m_topDistIndex = new SortedIndex<DistributionEntry>();
+        m_vCenterDistIndex = new SortedIndex<DistributionEntry>();
+        m_bottomDistIndex = new SortedIndex<DistributionEntry>();
     }
 
     public static BoundingBox getBoundingBox(IDrawable<?> prim) {
@@ -200,50 +205,20 @@ public class AlignAndDistribute {
         return m_shapes.get(uuid);
     }
 
-    public void addAlignIndexEntry(Map<Double, LinkedList<AlignAndDistributeControl>> index, AlignAndDistributeControl handler, double pos) {
-        double rounded = round(pos);
-
-        LinkedList<AlignAndDistributeControl> bucket = index.get(rounded);
-
-        if (bucket == null) {
-            bucket = new LinkedList<AlignAndDistributeControl>();
-
-            index.put(rounded, bucket);
-        }
-        bucket.add(handler);
+    public void addAlignIndexEntry(SortedIndex<AlignAndDistributeControl> index, AlignAndDistributeControl handler, double pos) {
+        index.add(round(pos), handler);
     }
 
-    public void removeAlignIndexEntry(Map<Double, LinkedList<AlignAndDistributeControl>> index, AlignAndDistributeControl handler, double pos) {
-        double rounded = round(pos);
-
-        LinkedList<AlignAndDistributeControl> bucket = index.get(rounded);
-
-        bucket.remove(handler);
-
-        if (bucket.isEmpty()) {
-            index.remove(rounded);
-        }
+    public void removeAlignIndexEntry(SortedIndex<AlignAndDistributeControl> index, AlignAndDistributeControl handler, double pos) {
+        index.remove(round(pos), handler);
     }
 
-    public void addDistIndexEntry(Map<Double, LinkedList<DistributionEntry>> index, DistributionEntry dist) {
-        LinkedList<DistributionEntry> bucket = index.get(dist.getPoint());
-
-        if (bucket == null) {
-            bucket = new LinkedList<DistributionEntry>();
-
-            index.put(dist.getPoint(), bucket);
-        }
-        bucket.add(dist);
+    public void addDistIndexEntry(SortedIndex<DistributionEntry> index, DistributionEntry dist) {
+        index.add(dist.getPoint(), dist);
     }
 
-    public void removeDistIndexEntry(Map<Double, LinkedList<DistributionEntry>> index, DistributionEntry dist) {
-        LinkedList<DistributionEntry> bucket = index.get(dist.getPoint());
-
-        bucket.remove(dist);
-
-        if (bucket.isEmpty()) {
-            index.remove(dist.getPoint());
-        }
+    public void removeDistIndexEntry(SortedIndex<DistributionEntry> index, DistributionEntry dist) {
+        index.remove(dist.getPoint(), dist);
     }
 
     public void removeDistIndex(AlignAndDistributeControl handler) {
@@ -456,105 +431,184 @@ public class AlignAndDistribute {
     }
 
     public AlignAndDistributeMatches findNearestMatches(AlignAndDistributeControl handler, double left, double hCenter, double right, double top, double vCenter, double bottom) {
-        LinkedList<AlignAndDistributeControl> leftList = null;
-        LinkedList<AlignAndDistributeControl> hCenterList = null;
-        LinkedList<AlignAndDistributeControl> rightList = null;
-
-        LinkedList<AlignAndDistributeControl> topList = null;
-        LinkedList<AlignAndDistributeControl> vCenterList = null;
-        LinkedList<AlignAndDistributeControl> bottomList = null;
-
-        LinkedList<DistributionEntry> leftDistList = null;
-        LinkedList<DistributionEntry> hCenterDistList = null;
-        LinkedList<DistributionEntry> rightDistList = null;
-
-        LinkedList<DistributionEntry> topDistList = null;
-        LinkedList<DistributionEntry> vCenterDistList = null;
-        LinkedList<DistributionEntry> bottomDistList = null;
-
-        int hOffset = 0;
-        while (hOffset <= m_circa) {
-            leftList = findNearestAlignIndexEntry(m_leftIndex, left + hOffset);
-            hCenterList = findNearestAlignIndexEntry(m_hCenterIndex, hCenter + hOffset);
-            rightList = findNearestAlignIndexEntry(m_rightIndex, right + hOffset);
-
-            leftDistList = findNearestDistIndexEntry(m_leftDistIndex, right + hOffset);
-            hCenterDistList = findNearestDistIndexEntry(m_hCenterDistIndex, hCenter + hOffset);
-            rightDistList = findNearestDistIndexEntry(m_rightDistIndex, left + hOffset);
-
-            if (matchFound(leftList, hCenterList, rightList, leftDistList, hCenterDistList, rightDistList)) {
-                break;
-            }
+        int hOffset = NO_OFFSET;
+        hOffset = findNearestOffset(m_leftIndex, left, hOffset);
+        hOffset = findNearestOffset(m_hCenterIndex, hCenter, hOffset);
+        hOffset = findNearestOffset(m_rightIndex, right, hOffset);
+        hOffset = findNearestOffset(m_leftDistIndex, right, hOffset);
+        hOffset = findNearestOffset(m_hCenterDistIndex, hCenter, hOffset);
+        hOffset = findNearestOffset(m_rightDistIndex, left, hOffset);
+
+        int vOffset = NO_OFFSET;
+        vOffset = findNearestOffset(m_topIndex, top, vOffset);
+        vOffset = findNearestOffset(m_vCenterIndex, vCenter, vOffset);
+        vOffset = findNearestOffset(m_bottomIndex, bottom, vOffset);
+        vOffset = findNearestOffset(m_topDistIndex, bottom, vOffset);
+        vOffset = findNearestOffset(m_vCenterDistIndex, vCenter, vOffset);
+        vOffset = findNearestOffset(m_bottomDistIndex, top, vOffset);
+
+        if ((hOffset == NO_OFFSET) && (vOffset == NO_OFFSET)) {
+            return emptyAlignedMatches;
+        }
+        // the positions of an axis without matches are past the circa, as they were when probing every offset
+        if (hOffset == NO_OFFSET) {
+            hOffset = m_circa + 1;
+        }
+        if (vOffset == NO_OFFSET) {
+            vOffset = m_circa + 1;
+        }
+        // the matches are reused, so finding them on every drag move does not allocate
+        return m_matches.set(handler, left + hOffset, getIndexEntry(m_leftIndex, hOffset), hCenter + hOffset, getIndexEntry(m_hCenterIndex, hOffset), right + hOffset, getIndexEntry(m_rightIndex, hOffset), top + vOffset, getIndexEntry(m_topIndex, vOffset), vCenter + vOffset, getIndexEntry(m_vCenterIndex, vOffset), bottom + vOffset, getIndexEntry(m_bottomIndex, vOffset), getIndexEntry(m_leftDistIndex, hOffset), getIndexEntry(m_hCenterDistIndex, hOffset), getIndexEntry(m_rightDistIndex, hOffset), getIndexEntry(m_topDistIndex, vOffset), getIndexEntry(m_vCenterDistIndex, vOffset), getIndexEntry(m_bottomDistIndex, vOffset));
+    }
 
-            leftList = findNearestAlignIndexEntry(m_leftIndex, left - hOffset);
-            hCenterList = findNearestAlignIndexEntry(m_hCenterIndex, hCenter - hOffset);
-            rightList = findNearestAlignIndexEntry(m_rightIndex, right - hOffset);
+    /**
+     * Returns the offset from the given position to the nearest entry of the index within circa, if it is nearer than the given offset.
+     * The offsets after the position win over the ones before it at the same distance.
+     */
+    private int findNearestOffset(SortedIndex<?> index, double pos, int offset) {
+        double rounded = round(pos);
 
-            leftDistList = findNearestDistIndexEntry(m_leftDistIndex, right - hOffset);
-            hCenterDistList = findNearestDistIndexEntry(m_hCenterDistIndex, hCenter - hOffset);
-            rightDistList = findNearestDistIndexEntry(m_rightDistIndex, left - hOffset);
-            if (matchFound(leftList, hCenterList, rightList, leftDistList, hCenterDistList, rightDistList)) {
-                hOffset = -hOffset;
-                break;
+        int nearest = (offset == NO_OFFSET) ? m_circa + 1 : Math.abs(offset);
+
+        int i = index.search(rounded);
+
+        if (i < index.size()) {
+            double distance = index.keyAt(i) - rounded;
+
+            if ((distance < nearest) || ((distance == nearest) && (offset < 0) && (offset != NO_OFFSET))) {
+                offset = (int) distance;
+                nearest = offset;
             }
-            hOffset++;
         }
+        if (i > 0) {
+            double distance = rounded - index.keyAt(i - 1);
+
+            if (distance < nearest) {
+                offset = -(int) distance;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the entries at the given offset from the position last searched in the index.
+     */
+    private <T> LinkedList<T> getIndexEntry(SortedIndex<T> index, int offset) {
+        if (offset > m_circa) {
+            return null;
+        }
+        return index.getNearSearched(offset);
+    }
 
-        int vOffset = 0;
-        while (vOffset <= m_circa) {
-            topList = findNearestAlignIndexEntry(m_topIndex, top + vOffset);
-            vCenterList = findNearestAlignIndexEntry(m_vCenterIndex, vCenter + vOffset);
-            bottomList = findNearestAlignIndexEntry(m_bottomIndex, bottom + vOffset);
+    /**
+     * The entries of an index, bucketed by position and sorted, so the nearest positions to a given one are found by a binary search.
+     * The positions are kept in a primitive array, so searching them does not allocate.
+     */
+    public static class SortedIndex<T> {
 
-            topDistList = findNearestDistIndexEntry(m_topDistIndex, bottom + vOffset);
-            vCenterDistList = findNearestDistIndexEntry(m_vCenterDistIndex, vCenter + vOffset);
-            bottomDistList = findNearestDistIndexEntry(m_bottomDistIndex, top + vOffset);
+        private double[] m_keys = new double[16];
 
-            if (matchFound(topList, vCenterList, bottomList, topDistList, vCenterDistList, bottomDistList)) {
-                break;
-            }
+        private Object[] m_buckets = new Object[16];
 
-            topList = findNearestAlignIndexEntry(m_topIndex, top - vOffset);
-            vCenterList = findNearestAlignIndexEntry(m_vCenterIndex, vCenter - vOffset);
-            bottomList = findNearestAlignIndexEntry(m_bottomIndex, bottom - vOffset);
+        private int m_size;
+
+        private double m_searched;
+
+        private int m_ceiling;
+
+        public int size() {
+            return m_size;
+        }
 
-            topDistList = findNearestDistIndexEntry(m_topDistIndex, bottom - vOffset);
-            vCenterDistList = findNearestDistIndexEntry(m_vCenterDistIndex, vCenter - vOffset);
-            bottomDistList = findNearestDistIndexEntry(m_bottomDistIndex, top - vOffset);
+        public double keyAt(int i) {
+            return m_keys[i];
+        }
 
-            if (matchFound(topList, vCenterList, bottomList, topDistList, vCenterDistList, bottomDistList)) {
-                vOffset = -vOffset;
-                break;
+        /**
+         * Returns the index of the first position that is not lower than the given one, or the size if there is none.
+         */
+        public int ceiling(double key) {
+            int low = 0;
+            int high = m_size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (m_keys[middle] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
             }
-            vOffset++;
+            return low;
         }
 
-        AlignAndDistributeMatches matches;
-        if (matchFound(leftList, hCenterList, rightList, leftDistList, hCenterDistList, rightDistList) || matchFound(topList, vCenterList, bottomList, topDistList, vCenterDistList, bottomDistList)) {
-            matches = new AlignAndDistributeMatches(handler, left + hOffset, leftList, hCenter + hOffset, hCenterList, right + hOffset, rightList, top + vOffset, topList, vCenter + vOffset, vCenterList, bottom + vOffset, bottomList, leftDistList, hCenterDistList, rightDistList, topDistList, vCenterDistList, bottomDistList);
-        } else {
-            matches = emptyAlignedMatches;
+        /**
+         * Same as {@link #ceiling(double)}, and keeps the position and its result for {@link #getNearSearched(int)}.
+         */
+        public int search(double key) {
+            m_searched = key;
+            m_ceiling = ceiling(key);
+            return m_ceiling;
         }
-        return matches;
-    }
 
-    private boolean matchFound(LinkedList<AlignAndDistributeControl> l1, LinkedList<AlignAndDistributeControl> l2, LinkedList<AlignAndDistributeControl> l3, LinkedList<DistributionEntry> l4, LinkedList<DistributionEntry> l5, LinkedList<DistributionEntry> l6) {
-        if (l1 != null || l2 != null || l3 != null || l4 != null || l5 != null || l6 != null) {
-            return true;
+        /**
+         * Returns the entries at the given offset from the position last searched, if it is the nearest one in that direction.
+         */
+        @SuppressWarnings("unchecked")
+        public LinkedList<T> getNearSearched(int offset) {
+            int i = (offset < 0) ? m_ceiling - 1 : m_ceiling;
+            if ((i >= 0) && (i < m_size) && (m_keys[i] == m_searched + offset)) {
+                return (LinkedList<T>) m_buckets[i];
+            }
+            return null;
         }
-        return false;
-    }
 
-    private static LinkedList<AlignAndDistributeControl> findNearestAlignIndexEntry(Map<Double, LinkedList<AlignAndDistributeControl>> map, double pos) {
-        double rounded = Math.round(pos);
-        LinkedList<AlignAndDistributeControl> indexEntries = map.get(rounded);
-        return indexEntries;
-    }
+        @SuppressWarnings("unchecked")
+        public LinkedList<T> get(double key) {
+            int i = ceiling(key);
+            if ((i < m_size) && (m_keys[i] == key)) {
+                return (LinkedList<T>) m_buckets[i];
+            }
+            return null;
+        }
+
+        public void add(double key, T entry) {
+            LinkedList<T> bucket = get(key);
+            if (bucket == null) {
+                bucket = new LinkedList<T>();
+                insert(ceiling(key), key, bucket);
+            }
+            bucket.add(entry);
+        }
 
-    private static LinkedList<DistributionEntry> findNearestDistIndexEntry(Map<Double, LinkedList<DistributionEntry>> map, double pos) {
-        double rounded = Math.round(pos);
-        LinkedList<DistributionEntry> indexEntries = map.get(rounded);
-        return indexEntries;
+        public void remove(double key, T entry) {
+            int i = ceiling(key);
+            if ((i == m_size) || (m_keys[i] != key)) {
+                return;
+            }
+            LinkedList<?> bucket = (LinkedList<?>) m_buckets[i];
+            bucket.remove(entry);
+            if (bucket.isEmpty()) {
+                System.arraycopy(m_keys, i + 1, m_keys, i, m_size - i - 1);
+                System.arraycopy(m_buckets, i + 1, m_buckets, i, m_size - i - 1);
+                m_buckets[--m_size] = null;
+            }
+        }
+
+        private void insert(int i, double key, LinkedList<T> bucket) {
+            if (m_size == m_keys.length) {
+                double[] keys = new double[m_size * 2];
+                Object[] buckets = new Object[m_size * 2];
+                System.arraycopy(m_keys, 0, keys, 0, m_size);
+                System.arraycopy(m_buckets, 0, buckets, 0, m_size);
+                m_keys = keys;
+                m_buckets = buckets;
+            }
+            System.arraycopy(m_keys, i, m_keys, i + 1, m_size - i);
+            System.arraycopy(m_buckets, i, m_buckets, i + 1, m_size - i);
+            m_keys[i] = key;
+            m_buckets[i] = bucket;
+            m_size++;
+        }
     }
 
     private static final EmptyAlignAndDistributeMatches emptyAlignedMatches = new EmptyAlignAndDistributeMatches();
@@ -700,6 +754,10 @@ public class AlignAndDistribute {
         }
 
         public AlignAndDistributeMatches(AlignAndDistributeControl handler, double leftPos, LinkedList<AlignAndDistributeControl> leftList, double hCenterPos, LinkedList<AlignAndDistributeControl> hCenterList, double rightPos, LinkedList<AlignAndDistributeControl> rightList, double topPos, LinkedList<AlignAndDistributeControl> topList, double vCenterPos, LinkedList<AlignAndDistributeControl> vCenterList, double bottomPos, LinkedList<AlignAndDistributeControl> bottomList, LinkedList<DistributionEntry> leftDistList, LinkedList<DistributionEntry> hCenterDistList, LinkedList<DistributionEntry> rightDistList, LinkedList<DistributionEntry> topDistList, LinkedList<DistributionEntry> vCenterDistList, LinkedList<DistributionEntry> bottomDistList) {
+            set(handler, leftPos, leftList, hCenterPos, hCenterList, rightPos, rightList, topPos, topList, vCenterPos, vCenterList, bottomPos, bottomList, leftDistList, hCenterDistList, rightDistList, topDistList, vCenterDistList, bottomDistList);
+        }
+
+        private AlignAndDistributeMatches set(AlignAndDistributeControl handler, double leftPos, LinkedList<AlignAndDistributeControl> leftList, double hCenterPos, LinkedList<AlignAndDistributeControl> hCenterList, double rightPos, LinkedList<AlignAndDistributeControl> rightList, double topPos, LinkedList<AlignAndDistributeControl> topList, double vCenterPos, LinkedList<AlignAndDistributeControl> vCenterList, double bottomPos, LinkedList<AlignAndDistributeControl> bottomList, LinkedList<DistributionEntry> leftDistList, LinkedList<DistributionEntry> hCenterDistList, LinkedList<DistributionEntry> rightDistList, LinkedList<DistributionEntry> topDistList, LinkedList<DistributionEntry> vCenterDistList, LinkedList<DistributionEntry> bottomDistList) {
             m_handler = handler;
             m_leftPos = leftPos;
             m_leftList = leftList;
@@ -723,6 +781,8 @@ public class AlignAndDistribute {
             m_bottomDistList = bottomDistList;
 
             m_hasMatch = true;
+
+            return this;
         }
 
         public AlignAndDistributeControl getHandler() {
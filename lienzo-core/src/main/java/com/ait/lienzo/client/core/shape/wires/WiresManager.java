@@ -32,6 +32,7 @@ import com.ait.lienzo.client.core.shape.wires.handlers.WiresShapeControl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresControlFactoryImpl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresHandlerFactoryImpl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresShapeHandler;
+import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.widget.DragConstraintEnforcer;
@@ -84,6 +85,8 @@ public final class WiresManager {
 
     private WiresEventHandlers m_wiresEventHandlers;
 
+    private ColorMapBackedPicker m_shapesPicker;
+
     public static final WiresManager get(Layer layer) {
         final String uuid = layer.uuid();
 
@@ -341,6 +344,7 @@ public final class WiresManager {
             m_handler = null;
         }
         m_shapeHandlersMap.clear();
+        setShapesPicker(null);
         m_controlFactory = null;
         m_wiresHandlerFactory = null;
         m_locationAcceptor = null;
@@ -371,6 +375,20 @@ public final class WiresManager {
         return m_index;
     }
 
+    /**
+     * Returns the picker of the shapes on this layer that is kept between drag operations, if any.
+     */
+    public ColorMapBackedPicker getShapesPicker() {
+        return m_shapesPicker;
+    }
+
+    public void setShapesPicker(final ColorMapBackedPicker picker) {
+        if ((null != m_shapesPicker) && (m_shapesPicker != picker)) {
+            m_shapesPicker.clear();
+        }
+        m_shapesPicker = picker;
+    }
+
     public void setWiresControlFactory(final WiresControlFactory factory) {
         this.m_controlFactory = factory;
     }
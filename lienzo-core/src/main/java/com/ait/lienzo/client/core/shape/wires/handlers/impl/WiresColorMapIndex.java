@@ -25,9 +25,20 @@ import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
 public class WiresColorMapIndex implements WiresLayerIndex {
 
     private final ColorMapBackedPicker picker;
+    private final boolean persistent;
 
     public WiresColorMapIndex(final ColorMapBackedPicker picker) {
+        this(picker, false);
+    }
+
+    /**
+     * @param persistent whether the picker is kept between uses of the index, in which case clearing
+     * the index keeps the picker, so it is only updated on the next build.
+     */
+    public WiresColorMapIndex(final ColorMapBackedPicker picker,
+                              final boolean persistent) {
         this.picker = picker;
+        this.persistent = persistent;
     }
 
     @Override
@@ -50,7 +61,9 @@ public class WiresColorMapIndex implements WiresLayerIndex {
 
     @Override
     public void clear() {
-        picker.clear();
+        if (!persistent) {
+            picker.clear();
+        }
         picker.getPickerOptions().getShapesToSkip().clear();
     }
 }
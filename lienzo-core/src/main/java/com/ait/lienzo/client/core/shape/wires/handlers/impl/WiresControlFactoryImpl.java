@@ -32,6 +32,22 @@ import com.ait.lienzo.client.core.util.ScratchPad;
 
 public class WiresControlFactoryImpl implements WiresControlFactory {
 
+    private boolean geometricIndex;
+
+    /**
+     * Whether the shapes are picked by hit-testing their bounds and paths, instead of from a color map
+     * of the layer. The geometric index does not rasterize the shapes, so building it on large layers
+     * is cheaper, and it does not depend on the size of the scratch pad.
+     */
+    public WiresControlFactoryImpl setGeometricIndex(final boolean geometricIndex) {
+        this.geometricIndex = geometricIndex;
+        return this;
+    }
+
+    public boolean isGeometricIndex() {
+        return geometricIndex;
+    }
+
     @Override
     public WiresShapeControl newShapeControl(WiresShape shape,
                                              WiresManager wiresManager) {
@@ -51,12 +67,29 @@ public class WiresControlFactoryImpl implements WiresControlFactory {
 
     @Override
     public WiresLayerIndex newIndex(WiresManager manager) {
+        if (geometricIndex) {
+            return new WiresGeometricIndex(true,
+                                           manager.getDockingAcceptor().getHotspotSize());
+        }
+        // The picker is kept by the manager, so the next builds only redraw the shapes that changed.
+        // It uses its own scratch pad, as the viewport one is drawn into by other controls.
         final ScratchPad scratchPad = manager.getLayer().getLayer().getScratchPad();
-        final ColorMapBackedPicker.PickerOptions pickerOptions =
-                new ColorMapBackedPicker.PickerOptions(true,
-                                                       manager.getDockingAcceptor().getHotspotSize());
-        return new WiresColorMapIndex(new ColorMapBackedPicker(scratchPad,
-                                                               pickerOptions));
+        final int hotspotSize = manager.getDockingAcceptor().getHotspotSize();
+        ColorMapBackedPicker picker = manager.getShapesPicker();
+        if (null == picker || picker.getPickerOptions().getHotspotWidth() != hotspotSize) {
+            final ColorMapBackedPicker.PickerOptions pickerOptions =
+                    new ColorMapBackedPicker.PickerOptions(true,
+                                                           hotspotSize);
+            picker = new ColorMapBackedPicker(new ScratchPad(scratchPad.getWidth(),
+                                                             scratchPad.getHeight()),
+                                              pickerOptions);
+            manager.setShapesPicker(picker);
+        } else {
+            picker.setPixelSize(scratchPad.getWidth(),
+                                scratchPad.getHeight());
+        }
+        return new WiresColorMapIndex(picker,
+                                      true);
     }
 
     @Override
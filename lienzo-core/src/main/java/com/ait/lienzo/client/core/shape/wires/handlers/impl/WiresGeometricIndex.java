@@ -0,0 +1,235 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires.handlers.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.shape.MultiPath;
+import com.ait.lienzo.client.core.shape.wires.PickerPart;
+import com.ait.lienzo.client.core.shape.wires.WiresContainer;
+import com.ait.lienzo.client.core.shape.wires.WiresLayer;
+import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.shape.wires.handlers.WiresLayerIndex;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.PathPartList;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Point2DArray;
+import com.ait.lienzo.client.core.util.Geometry;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+
+/**
+ * A shape part picker that does not rasterize the layer. Building it only indexes the bounds of
+ * the shapes in a uniform grid, and the shapes found at the given coordinates are hit-tested
+ * against their path outlines, the same way the {@link WiresColorMapIndex} draws them:
+ * the shapes drawn later cover the earlier ones, and their borders cover their bodies.
+ * <p>
+ * The supplementary paths a {@link com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker}
+ * subclass may draw are not considered.
+ */
+public class WiresGeometricIndex implements WiresLayerIndex {
+
+    static final double CELL_SIZE = 256;
+
+    // Shapes covering more cells than this are not indexed, they are always candidates.
+    private static final int MAX_INDEXED_CELLS = 64;
+
+    private final boolean hotspotsEnabled;
+    private final double hotspotWidth;
+    private final Set<WiresContainer> shapesToSkip = new HashSet<>();
+    private final Map<Integer, List<Entry>> cells = new HashMap<>();
+    private final List<Entry> unindexed = new ArrayList<>();
+    private int size;
+
+    public WiresGeometricIndex(final boolean hotspotsEnabled,
+                               final double hotspotWidth) {
+        this.hotspotsEnabled = hotspotsEnabled;
+        this.hotspotWidth = hotspotWidth;
+    }
+
+    @Override
+    public WiresLayerIndex exclude(final WiresContainer shape) {
+        shapesToSkip.add(shape);
+        return this;
+    }
+
+    @Override
+    public WiresLayerIndex build(final WiresLayer layer) {
+        cells.clear();
+        unindexed.clear();
+        size = 0;
+        index(layer.getChildShapes());
+        return this;
+    }
+
+    @Override
+    public PickerPart findShapeAt(final int x,
+                                  final int y) {
+        final List<Entry> candidates = new ArrayList<>(unindexed);
+        final List<Entry> entries = cells.get(key(cell(x), cell(y)));
+        if (null != entries) {
+            candidates.addAll(entries);
+        }
+        Entry found = null;
+        PickerPart.ShapePart foundPart = null;
+        for (final Entry entry : candidates) {
+            if ((null != found) && (entry.order < found.order)) {
+                continue;
+            }
+            final PickerPart.ShapePart part = entry.hitTest(x, y);
+            if (null != part) {
+                found = entry;
+                foundPart = part;
+            }
+        }
+        return (null != found) ? new PickerPart(found.shape, foundPart) : null;
+    }
+
+    @Override
+    public void clear() {
+        cells.clear();
+        unindexed.clear();
+        shapesToSkip.clear();
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void index(final NFastArrayList<WiresShape> shapes) {
+        for (int j = 0; j < shapes.size(); j++) {
+            final WiresShape shape = shapes.get(j);
+            if (shapesToSkip.contains(shape)) {
+                continue;
+            }
+            index(shape);
+            if (shape.getChildShapes() != null && !shape.getChildShapes().isEmpty()) {
+                index(shape.getChildShapes());
+            }
+        }
+    }
+
+    private void index(final WiresShape shape) {
+        final MultiPath path = shape.getPath();
+        if (null == path) {
+            return;
+        }
+        final Entry entry = new Entry(shape, size++, path.getStrokeWidth());
+        final BoundingBox bbox = path.getBoundingBox();
+        final Point2D location = path.getComputedLocation();
+        if ((null == bbox) || (null == location)) {
+            unindexed.add(entry);
+            return;
+        }
+        final double pad = (entry.borderWidth / 2) + 1;
+        entry.minX = location.getX() + bbox.getMinX() - pad;
+        entry.minY = location.getY() + bbox.getMinY() - pad;
+        entry.maxX = location.getX() + bbox.getMaxX() + pad;
+        entry.maxY = location.getY() + bbox.getMaxY() + pad;
+        final int minx = cell(entry.minX);
+        final int miny = cell(entry.minY);
+        final int maxx = cell(entry.maxX);
+        final int maxy = cell(entry.maxY);
+        if ((((double) (maxx - minx + 1)) * (maxy - miny + 1)) > MAX_INDEXED_CELLS) {
+            unindexed.add(entry);
+            return;
+        }
+        for (int x = minx; x <= maxx; x++) {
+            for (int y = miny; y <= maxy; y++) {
+                cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(entry);
+            }
+        }
+    }
+
+    private static int cell(final double value) {
+        return (int) Math.floor(value / CELL_SIZE);
+    }
+
+    // Different cells may share a key, which only adds candidates that are filtered out by their bounds.
+    private static Integer key(final int x,
+                               final int y) {
+        return (x * 92821) ^ y;
+    }
+
+    private class Entry {
+
+        private final WiresShape shape;
+        private final int order;
+        private final double strokeWidth;
+        private final double borderWidth;
+        private double minX = -Double.MAX_VALUE;
+        private double minY = -Double.MAX_VALUE;
+        private double maxX = Double.MAX_VALUE;
+        private double maxY = Double.MAX_VALUE;
+        // The outlines are only flattened once the shape is hit-tested.
+        private List<NFastArrayList<Point2DArray>> outlines;
+
+        private Entry(final WiresShape shape,
+                      final int order,
+                      final double strokeWidth) {
+            this.shape = shape;
+            this.order = order;
+            this.strokeWidth = strokeWidth;
+            this.borderWidth = hotspotsEnabled ? Math.max(strokeWidth, hotspotWidth) : strokeWidth;
+        }
+
+        private PickerPart.ShapePart hitTest(final double x,
+                                             final double y) {
+            if ((x < minX) || (x > maxX) || (y < minY) || (y > maxY)) {
+                return null;
+            }
+            final List<NFastArrayList<Point2DArray>> outlines = getOutlines();
+            double distance = Double.MAX_VALUE;
+            for (final NFastArrayList<Point2DArray> list : outlines) {
+                distance = Math.min(distance, Geometry.getDistanceToOutlines(x, y, list));
+            }
+            if (hotspotsEnabled && (distance <= (borderWidth / 2))) {
+                return PickerPart.ShapePart.BORDER;
+            }
+            if (distance <= (strokeWidth / 2)) {
+                return PickerPart.ShapePart.BODY;
+            }
+            for (final NFastArrayList<Point2DArray> list : outlines) {
+                if (Geometry.isPointInOutlines(x, y, list)) {
+                    return PickerPart.ShapePart.BODY;
+                }
+            }
+            return null;
+        }
+
+        private List<NFastArrayList<Point2DArray>> getOutlines() {
+            if (null == outlines) {
+                final MultiPath path = shape.getPath();
+                final Point2D location = path.getComputedLocation();
+                final NFastArrayList<PathPartList> lists = path.getActualPathPartListArray();
+                outlines = new ArrayList<>(lists.size());
+                if (null == location) {
+                    return outlines;
+                }
+                for (int k = 0; k < lists.size(); k++) {
+                    outlines.add(Geometry.getOutlines(lists.get(k), location.getX(), location.getY()));
+                }
+            }
+            return outlines;
+        }
+    }
+}
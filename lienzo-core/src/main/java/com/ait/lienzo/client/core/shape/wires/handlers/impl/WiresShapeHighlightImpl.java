@@ -79,7 +79,8 @@ public class WiresShapeHighlightImpl implements WiresShapeHighlight<PickerPart.S
             parent.getPath().setStrokeAlpha(0.8);
             parent.getPath().setStrokeWidth(m_priorSize > 0 ? m_priorSize * 2.5 : 3d);
             this.parent = parent;
-            drawLayer();
+            // The highlighted stroke is wider, so its bounds also cover the prior ones.
+            drawPath();
         }
     }
 
@@ -108,13 +109,13 @@ public class WiresShapeHighlightImpl implements WiresShapeHighlight<PickerPart.S
 
     private void restoreBody() {
         if (isBodyHighlight()) {
+            drawPath();
             parent.getPath().setStrokeColor(m_priorColor);
             parent.getPath().setStrokeAlpha(getPriorAlpha());
             parent.getPath().setStrokeWidth(m_priorSize);
             m_priorColor = null;
             m_priorSize = null;
             m_priorAlpha = null;
-            drawLayer();
         }
     }
 
@@ -134,9 +135,9 @@ public class WiresShapeHighlightImpl implements WiresShapeHighlight<PickerPart.S
         return null != m_priorAlpha ? m_priorAlpha : 0d;
     }
 
-    private void drawLayer() {
+    private void drawPath() {
         if (null != parent) {
-            parent.getGroup().getLayer().batch();
+            parent.getPath().batchBounds();
         }
     }
 
@@ -16,8 +16,12 @@
 
 package com.ait.lienzo.client.core.shape.wires.picker;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.MultiPath;
@@ -25,15 +29,31 @@ import com.ait.lienzo.client.core.shape.wires.BackingColorMapUtils;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresContainer;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
+import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 
+/**
+ * Picks the shape parts at a location, by drawing the shapes into a backing image with a different
+ * color for each part.
+ * <p>
+ * The backing image is kept between builds. Once built, building the picker again only redraws the
+ * areas of the shapes that were added, removed, moved or resized since, or that are skipped now, so
+ * a picker can be kept for a layer and built at the start of every drag.
+ */
 public class ColorMapBackedPicker {
 
     public static final ColorKeyRotor m_colorKeyRotor = new ColorKeyRotor();
 
+    // Margin around the shape bounds, for the anti-aliased edges.
+    private static final double BOUNDS_PADDING = 2;
+
+    // Beyond this many changed areas the backing image is drawn as a whole.
+    private static final int MAX_DIRTY_REGIONS = 32;
+
     private final Context2D m_ctx;
 
     private final ScratchPad m_scratchPad;
@@ -42,8 +62,14 @@ public class ColorMapBackedPicker {
 
     private final NFastArrayList<WiresShape> m_shapesMap = new NFastArrayList<>();
 
+    private final Map<WiresShape, DrawnShape> m_drawnShapes = new HashMap<>();
+
     private final PickerOptions m_options;
 
+    private DrawnShape m_drawing;
+
+    private boolean m_built;
+
     public ColorMapBackedPicker(final ScratchPad scratchPad,
                                 final PickerOptions options) {
         m_scratchPad = scratchPad;
@@ -52,13 +78,29 @@ public class ColorMapBackedPicker {
     }
 
     public void build(final NFastArrayList<WiresShape> shapes) {
-        clear();
-        processShapes(shapes);
+        if (m_built) {
+            update(shapes);
+        } else {
+            clear();
+            processShapes(shapes);
+        }
+    }
+
+    /**
+     * Resizes the backing image, which is then drawn as a whole on the next build.
+     */
+    public void setPixelSize(final int wide,
+                             final int high) {
+        if ((m_scratchPad.getWidth() != wide) || (m_scratchPad.getHeight() != high)) {
+            m_scratchPad.setPixelSize(wide, high);
+            m_built = false;
+        }
     }
 
     void processShapes(final NFastArrayList<WiresShape> shapes) {
         computeShapes(shapes);
         drawShapes();
+        m_built = true;
     }
 
     private void computeShapes(final NFastArrayList<WiresShape> shapes) {
@@ -80,17 +122,161 @@ public class ColorMapBackedPicker {
     private void drawShapes() {
         // Draw all shapes (and children) into the scratchPad instance.
         for (int j = 0; j < m_shapesMap.size(); j++) {
-            WiresShape prim = m_shapesMap.get(j);
+            drawShape(m_shapesMap.get(j));
+        }
+    }
+
+    private void drawShape(final WiresShape prim) {
+        DrawnShape drawn = m_drawnShapes.get(prim);
+        if (null == drawn) {
+            drawn = new DrawnShape(getBounds(prim));
+            m_drawnShapes.put(prim, drawn);
+        }
+        drawn.next = 0;
+        m_drawing = drawn;
+        try {
             MultiPath multiPath = prim.getPath();
-            drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BODY), true);
+            drawShape(nextColor(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BODY), true);
             addSupplementaryPaths(prim);
 
             if (m_options.hotspotsEnabled) {
-                drawShape(m_colorKeyRotor.next(), m_options.hotspotWidth, new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+                drawShape(nextColor(), m_options.hotspotWidth, new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
                 // need to be able to detect the difference between the actual border selection and the border hotspot
-                drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+                drawShape(nextColor(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+            }
+        } finally {
+            m_drawing = null;
+        }
+    }
+
+    /**
+     * Redraws the areas of the shapes that changed since the last build.
+     */
+    private void update(final NFastArrayList<WiresShape> shapes) {
+        final NFastArrayList<WiresShape> previous = m_shapesMap.copy();
+        m_shapesMap.clear();
+        computeShapes(shapes);
+
+        final List<BoundingBox> dirty = new ArrayList<>();
+        final Set<WiresShape> current = new HashSet<>(m_shapesMap.toList());
+        for (int j = 0; j < previous.size(); j++) {
+            final WiresShape prim = previous.get(j);
+            if (!current.contains(prim)) {
+                final DrawnShape drawn = m_drawnShapes.remove(prim);
+                if (null != drawn) {
+                    releaseColors(drawn);
+                    dirty.add(drawn.bounds);
+                }
+            }
+        }
+        for (int j = 0; j < m_shapesMap.size(); j++) {
+            final WiresShape prim = m_shapesMap.get(j);
+            final BoundingBox bounds = getBounds(prim);
+            final DrawnShape drawn = m_drawnShapes.get(prim);
+            if (null == drawn) {
+                m_drawnShapes.put(prim, new DrawnShape(bounds));
+                dirty.add(bounds);
+            } else if ((null == bounds) || !bounds.equals(drawn.bounds)) {
+                releaseColors(drawn);
+                dirty.add(drawn.bounds);
+                dirty.add(bounds);
+                drawn.bounds = bounds;
+            }
+        }
+        if (dirty.size() > MAX_DIRTY_REGIONS || dirty.contains(null) || !isSameOrder(previous, m_shapesMap)) {
+            redrawAll();
+            return;
+        }
+        for (final BoundingBox region : dirty) {
+            redraw(region);
+        }
+    }
+
+    private void redrawAll() {
+        m_scratchPad.clear();
+        drawShapes();
+    }
+
+    private void redraw(final BoundingBox region) {
+        m_ctx.save();
+        m_ctx.beginPath();
+        m_ctx.rect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+        m_ctx.clip();
+        m_ctx.clearRect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+        for (int j = 0; j < m_shapesMap.size(); j++) {
+            final WiresShape prim = m_shapesMap.get(j);
+            final DrawnShape drawn = m_drawnShapes.get(prim);
+            if ((null == drawn) || (null == drawn.bounds) || drawn.bounds.intersects(region)) {
+                drawShape(prim);
+            }
+        }
+        m_ctx.restore();
+    }
+
+    /**
+     * Whether the shapes in both lists are in the same relative order, as the shapes drawn later
+     * cover the earlier ones.
+     */
+    private static boolean isSameOrder(final NFastArrayList<WiresShape> previous,
+                                       final NFastArrayList<WiresShape> current) {
+        final Set<WiresShape> inPrevious = new HashSet<>(previous.toList());
+        final Set<WiresShape> inCurrent = new HashSet<>(current.toList());
+        int i = 0;
+        int j = 0;
+        while (true) {
+            while ((i < previous.size()) && !inCurrent.contains(previous.get(i))) {
+                i++;
+            }
+            while ((j < current.size()) && !inPrevious.contains(current.get(j))) {
+                j++;
             }
+            if ((i == previous.size()) || (j == current.size())) {
+                return (i == previous.size()) && (j == current.size());
+            }
+            if (previous.get(i++) != current.get(j++)) {
+                return false;
+            }
+        }
+    }
+
+    private BoundingBox getBounds(final WiresShape prim) {
+        final MultiPath path = prim.getPath();
+        final BoundingBox bbox = (null != path) ? path.getBoundingBox() : null;
+        final Point2D location = (null != path) ? path.getComputedLocation() : null;
+        if ((null == bbox) || (null == location)) {
+            return null;
+        }
+        double pad = path.getStrokeWidth();
+        if (m_options.hotspotsEnabled) {
+            pad = Math.max(pad, m_options.hotspotWidth);
+        }
+        pad += BOUNDS_PADDING;
+        return BoundingBox.fromDoubles(location.getX() + bbox.getMinX() - pad,
+                                       location.getY() + bbox.getMinY() - pad,
+                                       location.getX() + bbox.getMaxX() + pad,
+                                       location.getY() + bbox.getMaxY() + pad);
+    }
+
+    /**
+     * Returns the next color for the parts of the shape being drawn. A shape keeps its colors when
+     * drawn again, so the parts of it outside of the redrawn areas can still be picked.
+     */
+    protected String nextColor() {
+        final DrawnShape drawing = m_drawing;
+        if (null == drawing) {
+            return m_colorKeyRotor.next();
+        }
+        if (drawing.next == drawing.colors.size()) {
+            drawing.colors.add(m_colorKeyRotor.next());
+        }
+        return drawing.colors.get(drawing.next++);
+    }
+
+    private void releaseColors(final DrawnShape drawn) {
+        for (final String color : drawn.drawnColors) {
+            m_colorMap.remove(color);
         }
+        drawn.drawnColors.clear();
     }
 
     @SuppressWarnings("unused")
@@ -99,16 +285,23 @@ public class ColorMapBackedPicker {
     }
 
     protected void drawShape(String color, double strokeWidth, PickerPart pickerPart, boolean fill) {
-        m_colorMap.put(color, pickerPart);
+        putColor(color, pickerPart);
         BackingColorMapUtils.drawShapeToBacking(m_ctx, pickerPart.getShape(), color, strokeWidth, fill);
     }
 
     protected void drawShape(String color, double strokeWidth, MultiPath multiPath, PickerPart pickerPart, boolean fill) {
-        m_colorMap.put(color, pickerPart);
+        putColor(color, pickerPart);
 
         BackingColorMapUtils.drawShapeToBacking(m_ctx, multiPath, color, strokeWidth, fill);
     }
 
+    private void putColor(final String color, final PickerPart pickerPart) {
+        m_colorMap.put(color, pickerPart);
+        if (null != m_drawing) {
+            m_drawing.drawnColors.add(color);
+        }
+    }
+
     public PickerPart findShapeAt(int x, int y) {
         ImageDataPixelColor color = m_ctx.getImageDataPixelColor(x, y);
         if (color != null) {
@@ -124,12 +317,26 @@ public class ColorMapBackedPicker {
         m_scratchPad.clear();
         m_colorMap.clear();
         m_shapesMap.clear();
+        m_drawnShapes.clear();
+        m_built = false;
     }
 
     public PickerOptions getPickerOptions() {
         return m_options;
     }
 
+    private static final class DrawnShape {
+
+        private final List<String> colors = new ArrayList<>();
+        private final Set<String> drawnColors = new HashSet<>();
+        private BoundingBox bounds;
+        private int next;
+
+        private DrawnShape(final BoundingBox bounds) {
+            this.bounds = bounds;
+        }
+    }
+
     public static final class PickerOptions {
 
         private final NFastArrayList<WiresContainer> shapesToSkip;
@@ -43,6 +43,8 @@ public final class Geometry {
 
     private static final double NRRF_PRECISION = 0.000001;
 
+    private static final int FLATTENED_CURVE_SEGMENTS = 16;
+
     public static final double RADIANS_0 = toRadians(0);
 
     public static final double RADIANS_90 = toRadians(90);
@@ -1544,4 +1546,204 @@ public final class Geometry {
     private static double lerp(double a, double b, double x) {
         return (a + x * (b - a));
     }
+
+    /**
+     * Returns the outlines of the given path part list, offset by the given location, with its curves and arcs
+     * flattened into line segments. Every move starts a new outline, and the outlines are implicitly closed, as
+     * when the path is filled.
+     *
+     * @param path    the path part list
+     * @param offsetX the x location of the path
+     * @param offsetY the y location of the path
+     * @return the outlines, each one with at least two points
+     */
+    public static NFastArrayList<Point2DArray> getOutlines(final PathPartList path, final double offsetX, final double offsetY) {
+        final NFastArrayList<Point2DArray> outlines = new NFastArrayList<>();
+
+        Point2DArray outline = new Point2DArray();
+
+        outline.push(new Point2D(offsetX, offsetY));
+
+        for (int i = 0; i < path.size(); i++) {
+            final PathPartEntryJSO entry = path.get(i);
+
+            final double[] points = entry.getPoints();
+
+            switch (entry.getCommand()) {
+                case PathPartEntryJSO.MOVETO_ABSOLUTE: {
+                    addOutline(outlines, outline);
+
+                    outline = new Point2DArray();
+
+                    outline.push(new Point2D(points[0] + offsetX, points[1] + offsetY));
+                    break;
+                }
+                case PathPartEntryJSO.LINETO_ABSOLUTE: {
+                    outline.push(new Point2D(points[0] + offsetX, points[1] + offsetY));
+                    break;
+                }
+                case PathPartEntryJSO.BEZIER_CURVETO_ABSOLUTE: {
+                    final Point2D p0 = outline.get(outline.size() - 1);
+
+                    final double[] xval = {p0.getX(), points[0] + offsetX, points[2] + offsetX, points[4] + offsetX};
+
+                    final double[] yval = {p0.getY(), points[1] + offsetY, points[3] + offsetY, points[5] + offsetY};
+
+                    for (int s = 1; s <= FLATTENED_CURVE_SEGMENTS; s++) {
+                        final double t = ((double) s) / FLATTENED_CURVE_SEGMENTS;
+
+                        final double u = 1 - t;
+
+                        final double a = u * u * u;
+                        final double b = 3 * u * u * t;
+                        final double c = 3 * u * t * t;
+                        final double d = t * t * t;
+
+                        outline.push(new Point2D((a * xval[0]) + (b * xval[1]) + (c * xval[2]) + (d * xval[3]),
+                                                 (a * yval[0]) + (b * yval[1]) + (c * yval[2]) + (d * yval[3])));
+                    }
+                    break;
+                }
+                case PathPartEntryJSO.CANVAS_ARCTO_ABSOLUTE: {
+                    final Point2D p0 = outline.get(outline.size() - 1);
+
+                    final Point2D p1 = new Point2D(points[0] + offsetX, points[1] + offsetY);
+
+                    final Point2D p2 = new Point2D(points[2] + offsetX, points[3] + offsetY);
+
+                    addCanvasArcTo(outline, p0, p1, p2, points[4]);
+                    break;
+                }
+                case PathPartEntryJSO.CLOSE_PATH_PART: {
+                    final Point2D first = outline.get(0);
+
+                    addOutline(outlines, outline);
+
+                    outline = new Point2DArray();
+
+                    outline.push(first);
+                    break;
+                }
+            }
+        }
+        addOutline(outlines, outline);
+
+        return outlines;
+    }
+
+    private static void addOutline(final NFastArrayList<Point2DArray> outlines, final Point2DArray outline) {
+        if (outline.size() > 1) {
+            outlines.add(outline);
+        }
+    }
+
+    private static void addCanvasArcTo(final Point2DArray outline, final Point2D p0, final Point2D p1, final Point2D p2, final double r) {
+        // the canvas draws a straight line to p1 when the arc can not be drawn
+        if ((r <= 0) || p0.equals(p1) || p1.equals(p2) || collinear(p0, p1, p2)) {
+            outline.push(p1);
+
+            return;
+        }
+        final Point2DArray arc = getCanvasArcToPoints(p0, p1, p2, r);
+
+        final Point2D ps = arc.get(0);
+        final Point2D pc = arc.get(1);
+        final Point2D pe = arc.get(2);
+
+        final double as = Math.atan2(ps.getY() - pc.getY(), ps.getX() - pc.getX());
+
+        double sweep = Math.atan2(pe.getY() - pc.getY(), pe.getX() - pc.getX()) - as;
+
+        // the arc between both tangent points is always the short one
+        if (sweep > Math.PI) {
+            sweep -= TWO_PI;
+        } else if (sweep < -Math.PI) {
+            sweep += TWO_PI;
+        }
+        outline.push(ps);
+
+        for (int s = 1; s <= FLATTENED_CURVE_SEGMENTS; s++) {
+            final double a = as + ((sweep * s) / FLATTENED_CURVE_SEGMENTS);
+
+            outline.push(new Point2D(pc.getX() + (r * Math.cos(a)), pc.getY() + (r * Math.sin(a))));
+        }
+    }
+
+    /**
+     * Whether the given point is inside the given closed outlines, using the non-zero winding rule the canvas fills paths with.
+     *
+     * @param x        point x
+     * @param y        point y
+     * @param outlines the outlines, as returned by {@link #getOutlines(PathPartList, double, double)}
+     * @return true if the point is inside
+     */
+    public static boolean isPointInOutlines(final double x, final double y, final NFastArrayList<Point2DArray> outlines) {
+        int winding = 0;
+
+        for (int k = 0; k < outlines.size(); k++) {
+            final Point2DArray outline = outlines.get(k);
+
+            final int size = outline.size();
+
+            for (int i = 0; i < size; i++) {
+                final Point2D a = outline.get(i);
+
+                final Point2D b = outline.get((i + 1) % size);
+
+                final double cross = ((b.getX() - a.getX()) * (y - a.getY())) - ((x - a.getX()) * (b.getY() - a.getY()));
+
+                if (a.getY() <= y) {
+                    if ((b.getY() > y) && (cross > 0)) {
+                        winding++;
+                    }
+                } else if ((b.getY() <= y) && (cross < 0)) {
+                    winding--;
+                }
+            }
+        }
+        return winding != 0;
+    }
+
+    /**
+     * Returns the distance from the given point to the closest segment of the given closed outlines.
+     *
+     * @param x        point x
+     * @param y        point y
+     * @param outlines the outlines, as returned by {@link #getOutlines(PathPartList, double, double)}
+     * @return the distance, or {@link Double#MAX_VALUE} if there are no outlines
+     */
+    public static double getDistanceToOutlines(final double x, final double y, final NFastArrayList<Point2DArray> outlines) {
+        double min = Double.MAX_VALUE;
+
+        for (int k = 0; k < outlines.size(); k++) {
+            final Point2DArray outline = outlines.get(k);
+
+            final int size = outline.size();
+
+            for (int i = 0; i < size; i++) {
+                final Point2D a = outline.get(i);
+
+                final Point2D b = outline.get((i + 1) % size);
+
+                min = Math.min(min, getDistanceToSegment(x, y, a.getX(), a.getY(), b.getX(), b.getY()));
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the distance from the given point to the line segment between (x0,y0) and (x1,y1).
+     */
+    public static double getDistanceToSegment(final double x, final double y, final double x0, final double y0, final double x1, final double y1) {
+        final double dx = x1 - x0;
+        final double dy = y1 - y0;
+        final double length = (dx * dx) + (dy * dy);
+
+        if (length == 0) {
+            return distance(x - x0, y - y0);
+        }
+        final double t = Math.max(0, Math.min(1, (((x - x0) * dx) + ((y - y0) * dy)) / length));
+
+        return distance(x - (x0 + (t * dx)), y - (y0 + (t * dy)));
+    }
 }
\ No newline at end of file
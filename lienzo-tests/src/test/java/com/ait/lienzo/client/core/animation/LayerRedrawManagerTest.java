@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.animation;
+
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class LayerRedrawManagerTest {
+
+    @Test
+    public void testMergeDisjointRegions() {
+        final NFastArrayList<BoundingBox> merged = LayerRedrawManager.merge(regions(BoundingBox.fromDoubles(0, 0, 10, 10),
+                                                                                     BoundingBox.fromDoubles(20, 20, 30, 30)));
+
+        assertEquals(2, merged.size());
+        assertEquals(BoundingBox.fromDoubles(0, 0, 10, 10), merged.get(0));
+        assertEquals(BoundingBox.fromDoubles(20, 20, 30, 30), merged.get(1));
+    }
+
+    @Test
+    public void testMergeOverlappingRegions() {
+        final NFastArrayList<BoundingBox> merged = LayerRedrawManager.merge(regions(BoundingBox.fromDoubles(0, 0, 10, 10),
+                                                                                     BoundingBox.fromDoubles(5, 5, 15, 15),
+                                                                                     BoundingBox.fromDoubles(100, 100, 110, 110)));
+
+        assertEquals(2, merged.size());
+        assertEquals(BoundingBox.fromDoubles(0, 0, 15, 15), merged.get(0));
+        assertEquals(BoundingBox.fromDoubles(100, 100, 110, 110), merged.get(1));
+    }
+
+    @Test
+    public void testMergeRegionsOverlappingOnceGrown() {
+        // The last region joins the first two, and the result then overlaps the third one.
+        final NFastArrayList<BoundingBox> merged = LayerRedrawManager.merge(regions(BoundingBox.fromDoubles(0, 0, 10, 10),
+                                                                                     BoundingBox.fromDoubles(20, 0, 30, 10),
+                                                                                     BoundingBox.fromDoubles(5, 20, 25, 30),
+                                                                                     BoundingBox.fromDoubles(5, 5, 25, 5)));
+
+        assertEquals(2, merged.size());
+        assertEquals(BoundingBox.fromDoubles(5, 20, 25, 30), merged.get(0));
+        assertEquals(BoundingBox.fromDoubles(0, 0, 30, 10), merged.get(1));
+    }
+
+    @Test
+    public void testMergeKeepsGivenRegions() {
+        final BoundingBox region = BoundingBox.fromDoubles(0, 0, 10, 10);
+
+        LayerRedrawManager.merge(regions(region, BoundingBox.fromDoubles(5, 5, 15, 15)));
+
+        assertEquals(BoundingBox.fromDoubles(0, 0, 10, 10), region);
+    }
+
+    private static NFastArrayList<BoundingBox> regions(final BoundingBox... regions) {
+        final NFastArrayList<BoundingBox> list = new NFastArrayList<>();
+        for (final BoundingBox region : regions) {
+            list.add(region);
+        }
+        return list;
+    }
+}
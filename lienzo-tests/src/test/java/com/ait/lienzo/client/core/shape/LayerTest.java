@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.shape.storage.PrimitiveSpatialIndexStorageEngine;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class LayerTest {
+
+    @Mock
+    private Context2D context;
+
+    private Layer layer;
+
+    @Before
+    public void setUp() {
+        layer = spy(new Layer());
+        layer.setListening(false);
+        doReturn(context).when(layer).getContext();
+    }
+
+    @Test
+    public void testDrawRegions() {
+        layer.add(new Rectangle(10, 10).setX(10).setY(10));
+
+        final NFastArrayList<BoundingBox> regions = new NFastArrayList<>();
+        regions.add(BoundingBox.fromDoubles(10, 10, 30, 30));
+        regions.add(BoundingBox.fromDoubles(100, 100, 110, 120));
+        layer.draw(regions);
+
+        final InOrder inOrder = inOrder(context);
+        inOrder.verify(context).rect(8, 8, 24, 24);
+        inOrder.verify(context).clip();
+        inOrder.verify(context).clearRect(8, 8, 24, 24);
+        inOrder.verify(context).rect(98, 98, 14, 24);
+        inOrder.verify(context).clip();
+        inOrder.verify(context).clearRect(98, 98, 14, 24);
+        verify(context, times(2)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testDrawRegionsWithoutClearing() {
+        layer.setClearLayerBeforeDraw(false);
+
+        final NFastArrayList<BoundingBox> regions = new NFastArrayList<>();
+        regions.add(BoundingBox.fromDoubles(10, 10, 30, 30));
+        layer.draw(regions);
+
+        verify(context).rect(8, 8, 24, 24);
+        verify(context, times(0)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testDrawRegionsClearsSelectionLayerWithoutClearing() {
+        final Layer.SelectionLayer selection = mockSelectionLayer();
+        final Context2D selectionContext = selection.getContext();
+        layer.setClearLayerBeforeDraw(false);
+
+        final NFastArrayList<BoundingBox> regions = new NFastArrayList<>();
+        regions.add(BoundingBox.fromDoubles(10, 10, 30, 30));
+        layer.draw(regions);
+
+        verify(context, never()).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(selectionContext).clearRect(8, 8, 24, 24);
+    }
+
+    @Test
+    public void testSelectionLayerOnDemand() {
+        final Layer.SelectionLayer selection = mockSelectionLayer();
+        layer.setSelectionLayerOnDemand(true);
+        layer.add(new Rectangle(10, 10));
+
+        layer.draw();
+        layer.draw();
+        verify(selection, never()).clear();
+        assertEquals(0, layer.getSelectionLayerDraws());
+        assertEquals(1, layer.getAvoidedSelectionLayerDraws());
+
+        layer.findShapeAtPoint(5, 5);
+        verify(selection, times(1)).clear();
+        assertEquals(1, layer.getSelectionLayerDraws());
+        assertEquals(1, layer.getAvoidedSelectionLayerDraws());
+
+        layer.findShapeAtPoint(5, 5);
+        verify(selection, times(1)).clear();
+        assertEquals(1, layer.getSelectionLayerDraws());
+    }
+
+    @Test
+    public void testSelectionLayerOnDemandRegions() {
+        final Layer.SelectionLayer selection = mockSelectionLayer();
+        final Context2D selectionContext = selection.getContext();
+        layer.setSelectionLayerOnDemand(true);
+
+        final NFastArrayList<BoundingBox> regions = new NFastArrayList<>();
+        regions.add(BoundingBox.fromDoubles(10, 10, 30, 30));
+        layer.draw(regions);
+        verify(selectionContext, never()).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+
+        layer.findShapeAtPoint(5, 5);
+        verify(selectionContext).clearRect(8, 8, 24, 24);
+        verify(selection, never()).clear();
+        assertEquals(1, layer.getSelectionLayerDraws());
+        assertEquals(0, layer.getAvoidedSelectionLayerDraws());
+    }
+
+    @Test
+    public void testSelectionLayerOnDemandRegionsWithoutClearing() {
+        final Layer.SelectionLayer selection = mockSelectionLayer();
+        final Context2D selectionContext = selection.getContext();
+        layer.setSelectionLayerOnDemand(true);
+        layer.setClearLayerBeforeDraw(false);
+
+        final NFastArrayList<BoundingBox> regions = new NFastArrayList<>();
+        regions.add(BoundingBox.fromDoubles(10, 10, 30, 30));
+        layer.draw(regions);
+
+        layer.findShapeAtPoint(5, 5);
+        verify(context, never()).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(selectionContext).clearRect(8, 8, 24, 24);
+    }
+
+    @Test
+    public void testSelectionLayerDrawnWithLayer() {
+        final Layer.SelectionLayer selection = mockSelectionLayer();
+
+        layer.draw();
+        layer.draw();
+        verify(selection, times(2)).clear();
+        assertEquals(0, layer.getAvoidedSelectionLayerDraws());
+    }
+
+    @Test
+    public void testBatchBounds() {
+        doReturn(layer).when(layer).batch(any(BoundingBox.class));
+        final Rectangle rectangle = new Rectangle(10, 20).setX(5).setY(5).setStrokeWidth(2);
+        final Group group = new Group().setX(100).setY(200);
+        group.add(rectangle);
+        layer.add(group);
+
+        rectangle.batchBounds();
+
+        final ArgumentCaptor<BoundingBox> region = ArgumentCaptor.forClass(BoundingBox.class);
+        verify(layer).batch(region.capture());
+        assertEquals(BoundingBox.fromDoubles(103, 203, 117, 227), region.getValue());
+    }
+
+    @Test
+    public void testIndexedAncestors() {
+        final Rectangle rectangle = new Rectangle(10, 10);
+        final Group group = new Group();
+        group.add(rectangle);
+        layer.add(group);
+        assertEquals(0, group.getIndexedAncestors());
+        assertEquals(0, rectangle.getIndexedAncestors());
+
+        layer.setStorageEngine(new PrimitiveSpatialIndexStorageEngine());
+        assertEquals(1, group.getIndexedAncestors());
+        assertEquals(1, rectangle.getIndexedAncestors());
+
+        final Rectangle added = new Rectangle(10, 10);
+        group.add(added);
+        assertEquals(1, added.getIndexedAncestors());
+
+        layer.remove(group);
+        assertEquals(0, group.getIndexedAncestors());
+        assertEquals(0, rectangle.getIndexedAncestors());
+        assertEquals(0, added.getIndexedAncestors());
+    }
+
+    private Layer.SelectionLayer mockSelectionLayer() {
+        final Layer.SelectionLayer selection = mock(Layer.SelectionLayer.class);
+        when(selection.getContext()).thenReturn(mock(Context2D.class));
+        layer.setListening(true);
+        doReturn(selection).when(layer).getSelectionLayer();
+        return selection;
+    }
+}
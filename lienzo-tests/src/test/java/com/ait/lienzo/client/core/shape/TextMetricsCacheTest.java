@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import elemental2.dom.EventListener;
+import elemental2.dom.FontFaceSet;
+import elemental2.dom.TextMetrics;
+import elemental2.promise.IThenable;
+import elemental2.promise.Promise;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class TextMetricsCacheTest {
+
+    private static final String FONT = "normal 10.0pt Verdana";
+
+    private static final String OTHER_FONT = "bold 12.0pt Verdana";
+
+    @Mock
+    private Context2D context;
+
+    private TextMetricsCache tested;
+
+    @Before
+    public void setup() {
+        when(context.measureText(anyString())).thenAnswer((Answer<TextMetrics>) invocation -> {
+            final TextMetrics out = new TextMetrics();
+            // Kerned, so the strings are narrower than the sum of their characters.
+            out.width = (((String) invocation.getArguments()[0]).length() * 10.0) - 1;
+            return out;
+        });
+        tested = new TextMetricsCache(context, 3);
+    }
+
+    @Test
+    public void testWidthsAreMeasuredOnce() {
+        assertEquals(39, tested.getWidth(FONT, "text"), 0);
+        assertEquals(39, tested.getWidth(FONT, "text"), 0);
+        assertEquals(39, tested.getWidth(OTHER_FONT, "text"), 0);
+        assertEquals(2, tested.getMeasures());
+        verify(context, times(2)).measureText("text");
+        verify(context, times(1)).setTextFont(FONT);
+        verify(context, times(1)).setTextFont(OTHER_FONT);
+        assertEquals(0, tested.getWidth(FONT, ""), 0);
+        assertEquals(0, tested.getWidth(FONT, null), 0);
+        assertEquals(2, tested.getMeasures());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedWidthsAreDiscarded() {
+        tested.getWidth(FONT, "a");
+        tested.getWidth(FONT, "b");
+        tested.getWidth(FONT, "c");
+        tested.getWidth(FONT, "a");
+        tested.getWidth(FONT, "d");
+        assertEquals(3, tested.size());
+        assertEquals(4, tested.getMeasures());
+
+        tested.getWidth(FONT, "a");
+        assertEquals(4, tested.getMeasures());
+        tested.getWidth(FONT, "b");
+        assertEquals(5, tested.getMeasures());
+    }
+
+    @Test
+    public void testCharacterWidths() {
+        tested.setCharacterWidthsEnabled(true);
+        assertEquals(36, tested.getWidth(FONT, "text"), 0);
+        assertEquals(95, tested.getMeasures());
+        assertEquals(45, tested.getWidth(FONT, "words"), 0);
+        assertEquals(95, tested.getMeasures());
+        // Not in the character range, so measured.
+        assertEquals(39, tested.getWidth(FONT, "téxt"), 0);
+        assertEquals(96, tested.getMeasures());
+    }
+
+    @Test
+    public void testClear() {
+        tested.getWidth(FONT, "text");
+        tested.clear();
+        assertEquals(0, tested.size());
+        tested.getWidth(FONT, "text");
+        assertEquals(2, tested.getMeasures());
+        verify(context, times(2)).setTextFont(FONT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClearOnFontsLoaded() {
+        final FontFaceSet fonts = mock(FontFaceSet.class);
+        final Promise<FontFaceSet> ready = mock(Promise.class);
+        when(fonts.getReady()).thenReturn(ready);
+        tested.clearOnFontsLoaded(fonts);
+
+        final ArgumentCaptor<EventListener> loadingDone = ArgumentCaptor.forClass(EventListener.class);
+        verify(fonts).addEventListener(eq("loadingdone"), loadingDone.capture());
+        final ArgumentCaptor<IThenable.ThenOnFulfilledCallbackFn> onReady = ArgumentCaptor.forClass(IThenable.ThenOnFulfilledCallbackFn.class);
+        verify(ready).then(onReady.capture());
+
+        tested.getWidth(FONT, "text");
+        onReady.getValue().onInvoke(fonts);
+        assertEquals(0, tested.size());
+
+        tested.getWidth(FONT, "text");
+        loadingDone.getValue().handleEvent(null);
+        assertEquals(0, tested.size());
+        tested.getWidth(FONT, "text");
+        assertEquals(3, tested.getMeasures());
+    }
+
+    @Test
+    public void testClearOnFontsLoadedWithoutFonts() {
+        tested.clearOnFontsLoaded(null);
+        tested.getWidth(FONT, "text");
+        assertEquals(1, tested.size());
+    }
+}
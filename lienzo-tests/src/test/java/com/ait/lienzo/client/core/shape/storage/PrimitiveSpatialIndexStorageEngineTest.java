@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.shape.MultiPath;
+import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class PrimitiveSpatialIndexStorageEngineTest {
+
+    private static final BoundingBox VISIBLE = BoundingBox.fromDoubles(0, 0, 500, 500);
+
+    private Layer layer;
+
+    private PrimitiveSpatialIndexStorageEngine tested;
+
+    @Before
+    public void setUp() {
+        tested = new PrimitiveSpatialIndexStorageEngine(100, 0);
+        layer = new Layer();
+        layer.setStorageEngine(tested);
+    }
+
+    @Test
+    public void testType() {
+        assertTrue(tested.isSpatiallyIndexed());
+        assertEquals(StorageEngineType.PRIMITIVE_SPATIAL_INDEX_STORAGE_ENGINE, tested.getStorageEngineType());
+    }
+
+    @Test
+    public void testGetChildrenInBounds() {
+        final Rectangle visible1 = rectangle(10, 10);
+        final Rectangle hidden = rectangle(1000, 1000);
+        final Rectangle visible2 = rectangle(490, 20);
+
+        assertChildren(tested.getChildren(VISIBLE), visible1, visible2);
+        assertChildren(tested.getChildren(null), visible1, hidden, visible2);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(950, 950, 1100, 1100)), hidden);
+    }
+
+    @Test
+    public void testGetChildrenKeepsDrawingOrder() {
+        final Rectangle first = rectangle(10, 10);
+        final Rectangle second = rectangle(20, 20);
+        final Rectangle third = rectangle(30, 30);
+
+        assertChildren(tested.getChildren(VISIBLE), first, second, third);
+
+        layer.moveToBottom(third);
+        assertChildren(tested.getChildren(VISIBLE), third, first, second);
+
+        layer.moveToTop(first);
+        assertChildren(tested.getChildren(VISIBLE), third, second, first);
+
+        layer.moveUp(third);
+        assertChildren(tested.getChildren(VISIBLE), tested.getChildren().toList().toArray(new IPrimitive<?>[0]));
+    }
+
+    @Test
+    public void testMovedPrimitivesAreIndexedAgain() {
+        final Rectangle rectangle = rectangle(1000, 1000);
+        assertChildren(tested.getChildren(VISIBLE));
+
+        rectangle.setX(100).setY(100);
+        assertChildren(tested.getChildren(VISIBLE), rectangle);
+
+        rectangle.setY(-1000);
+        assertChildren(tested.getChildren(VISIBLE));
+    }
+
+    @Test
+    public void testMovedNestedPrimitivesAreIndexedAgain() {
+        final Group group = new Group();
+        final Rectangle rectangle = new Rectangle(50, 50);
+        group.add(rectangle);
+        layer.add(group);
+        assertChildren(tested.getChildren(VISIBLE), group);
+
+        rectangle.setX(2000);
+        assertChildren(tested.getChildren(VISIBLE));
+    }
+
+    @Test
+    public void testTransformedPrimitivesAreIndexedAgain() {
+        final Rectangle rectangle = rectangle(-100, -100);
+        assertChildren(tested.getChildren(VISIBLE));
+
+        rectangle.setScale(3);
+        assertChildren(tested.getChildren(VISIBLE), rectangle);
+
+        rectangle.setScale(1);
+        assertChildren(tested.getChildren(VISIBLE));
+
+        rectangle.setRotationDegrees(180).setOffset(100, 100);
+        assertChildren(tested.getChildren(VISIBLE), rectangle);
+
+        rectangle.setOffset(0, 0);
+        assertChildren(tested.getChildren(VISIBLE));
+    }
+
+    @Test
+    public void testNestedChangesAreIndexedAgain() {
+        final Group group = new Group();
+        final MultiPath path = new MultiPath().rect(2000, 2000, 50, 50);
+        group.add(path);
+        layer.add(group);
+        assertChildren(tested.getChildren(VISIBLE));
+
+        path.clear().rect(0, 0, 50, 50);
+        assertChildren(tested.getChildren(VISIBLE), group);
+
+        group.remove(path);
+        group.add(new Rectangle(10, 10).setX(2000));
+        assertChildren(tested.getChildren(VISIBLE));
+    }
+
+    @Test
+    public void testResizedPrimitivesAreIndexedOnRefresh() {
+        final Rectangle rectangle = rectangle(-100, -100);
+        assertChildren(tested.getChildren(VISIBLE));
+
+        rectangle.setWidth(200).setHeight(200);
+        assertChildren(tested.getChildren(VISIBLE));
+
+        tested.refresh(rectangle);
+        assertChildren(tested.getChildren(VISIBLE), rectangle);
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        final Rectangle rectangle1 = rectangle(10, 10);
+        final Rectangle rectangle2 = rectangle(20, 20);
+
+        layer.remove(rectangle1);
+        assertChildren(tested.getChildren(VISIBLE), rectangle2);
+
+        layer.removeAll();
+        assertChildren(tested.getChildren(VISIBLE));
+        assertEquals(0, tested.size());
+    }
+
+    @Test
+    public void testLargeLayer() {
+        final List<Rectangle> visible = new ArrayList<>();
+        for (int x = 0; x < 100; x++) {
+            for (int y = 0; y < 100; y++) {
+                final Rectangle rectangle = rectangle(x * 100, y * 100);
+                if (x < 5 && y < 5) {
+                    visible.add(rectangle);
+                }
+            }
+        }
+        final Rectangle large = rectangle(-5000, -5000).setWidth(20000).setHeight(20000);
+        tested.refresh(large);
+        visible.add(large);
+
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(0, 0, 480, 480)), visible.toArray(new IPrimitive<?>[0]));
+    }
+
+    private Rectangle rectangle(final double x, final double y) {
+        final Rectangle rectangle = new Rectangle(50, 50).setX(x).setY(y);
+        layer.add(rectangle);
+        return rectangle;
+    }
+
+    private static void assertChildren(final NFastArrayList<IPrimitive<?>> children, final IPrimitive<?>... expected) {
+        assertEquals(expected.length, children.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], children.get(i));
+        }
+    }
+}
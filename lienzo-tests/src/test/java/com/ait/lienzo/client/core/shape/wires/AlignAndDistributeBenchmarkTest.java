@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.shape.wires.handlers.AlignAndDistributeControl;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Times {@link AlignAndDistribute#findNearestMatches} on 1,000 indexed shapes, against probing
+ * hash indexes at every offset within circa, as the drag moves did before the indexes were sorted.
+ * The shapes are spread over a dense and a sparse area, where most of the moves have no match.
+ * <p>
+ * It is left out of the default test runs, run it with the benchmark profile:
+ * <pre>
+ * mvn test -Dbenchmark -Dtest=AlignAndDistributeBenchmarkTest
+ * </pre>
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class AlignAndDistributeBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(AlignAndDistributeBenchmarkTest.class.getName());
+
+    private static final int SHAPES = 1000;
+    private static final int[] SIZES = {20000, 200000};
+    private static final int MOVES = 100000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 10;
+
+    private AlignAndDistribute tested;
+    private AlignAndDistributeControl handler;
+    private List<Map<Double, LinkedList<AlignAndDistributeControl>>> probed;
+    private double[] moves;
+
+    private void index(int size) {
+        tested = new AlignAndDistribute(mock(Layer.class));
+        handler = mock(AlignAndDistributeControl.class);
+        probed = new LinkedList<>();
+        // the alignment indexes, then the distribution ones, which are left empty
+        for (int i = 0; i < 12; i++) {
+            probed.add(new HashMap<>());
+        }
+        Random random = new Random(SHAPES);
+        for (int i = 0; i < SHAPES; i++) {
+            AlignAndDistributeControl control = mock(AlignAndDistributeControl.class);
+            double left = random.nextInt(size);
+            double top = random.nextInt(size);
+            double width = 50 + random.nextInt(100);
+            double height = 50 + random.nextInt(100);
+            tested.addLeftAlignIndexEntry(control, left);
+            tested.addHCenterAlignIndexEntry(control, left + (width / 2));
+            tested.addRightAlignIndexEntry(control, left + width);
+            tested.addTopAlignIndexEntry(control, top);
+            tested.addVCenterAlignIndexEntry(control, top + (height / 2));
+            tested.addBottomAlignIndexEntry(control, top + height);
+            double[] positions = {left, left + (width / 2), left + width, top, top + (height / 2), top + height};
+            for (int j = 0; j < positions.length; j++) {
+                probed.get(j).computeIfAbsent((double) Math.round(positions[j]), k -> new LinkedList<>()).add(control);
+            }
+        }
+        moves = new double[MOVES * 2];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = random.nextDouble() * size;
+        }
+    }
+
+    @Test
+    public void testBenchmark() {
+        for (int size : SIZES) {
+            index(size);
+            run(size);
+        }
+    }
+
+    private void run(int size) {
+        int matches = 0;
+        int probedMatches = 0;
+        long sorted = 0;
+        long probing = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            matches = 0;
+            probedMatches = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < MOVES; i++) {
+                double left = moves[i * 2];
+                double top = moves[(i * 2) + 1];
+                if (tested.findNearestMatches(handler, left, left + 50, left + 100, top, top + 50, top + 100).hashMatch()) {
+                    matches++;
+                }
+            }
+            long middle = System.nanoTime();
+            for (int i = 0; i < MOVES; i++) {
+                double left = moves[i * 2];
+                double top = moves[(i * 2) + 1];
+                if (probe(0, left, left + 50, left + 100) || probe(3, top, top + 50, top + 100)) {
+                    probedMatches++;
+                }
+            }
+            long end = System.nanoTime();
+            if (round >= WARMUP_ROUNDS) {
+                sorted += middle - start;
+                probing += end - middle;
+            }
+        }
+        assertEquals(probedMatches, matches);
+        LOGGER.info(String.format("%d shapes in %dpx, %d drag moves, %d matched: sorted indexes %.3f us per move, probing hash indexes %.3f us per move",
+                                  SHAPES, size, MOVES, matches,
+                                  sorted / (ROUNDS * MOVES * 1e3),
+                                  probing / (ROUNDS * MOVES * 1e3)));
+    }
+
+    private boolean probe(int first, double p0, double p1, double p2) {
+        for (int offset = 0; offset <= tested.getSnapCirca(); offset++) {
+            if (probe(first, p0, p1, p2, offset) || probe(first, p0, p1, p2, -offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean probe(int first, double p0, double p1, double p2, int offset) {
+        return (probed.get(first).get((double) Math.round(p0 + offset)) != null)
+                || (probed.get(first + 1).get((double) Math.round(p1 + offset)) != null)
+                || (probed.get(first + 2).get((double) Math.round(p2 + offset)) != null)
+                || (probed.get(first + 6).get((double) Math.round(p2 + offset)) != null)
+                || (probed.get(first + 7).get((double) Math.round(p1 + offset)) != null)
+                || (probed.get(first + 8).get((double) Math.round(p0 + offset)) != null);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires;
+
+import java.util.Random;
+
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.shape.wires.handlers.AlignAndDistributeControl;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class AlignAndDistributeTest {
+
+    private static final double FAR = -10000;
+
+    @Mock
+    private Layer layer;
+
+    @Mock
+    private AlignAndDistributeControl handler;
+
+    @Mock
+    private AlignAndDistributeControl control1;
+
+    @Mock
+    private AlignAndDistributeControl control2;
+
+    private AlignAndDistribute tested;
+
+    @Before
+    public void setup() {
+        tested = new AlignAndDistribute(layer);
+    }
+
+    @Test
+    public void testNearestMatch() {
+        tested.addLeftAlignIndexEntry(control1, 100);
+        tested.addLeftAlignIndexEntry(control2, 103);
+
+        AlignAndDistribute.AlignAndDistributeMatches matches = findNearestMatches(101.2, FAR);
+
+        assertTrue(matches.hashMatch());
+        assertEquals(100.2, matches.getLeftPos(), 0.000001);
+        assertEquals(1, matches.getLeftList().size());
+        assertSame(control1, matches.getLeftList().getFirst());
+        assertNull(matches.getHorizontalCenterList());
+        assertNull(matches.getTopList());
+    }
+
+    @Test
+    public void testMatchAfterThePositionWins() {
+        tested.addLeftAlignIndexEntry(control1, 98);
+        tested.addRightAlignIndexEntry(control2, 202);
+
+        AlignAndDistribute.AlignAndDistributeMatches matches = findNearestMatches(100, FAR);
+
+        assertEquals(102, matches.getLeftPos(), 0);
+        assertNull(matches.getLeftList());
+        assertSame(control2, matches.getRightList().getFirst());
+    }
+
+    @Test
+    public void testNoMatchBeyondCirca() {
+        tested.addLeftAlignIndexEntry(control1, 105);
+        tested.addTopAlignIndexEntry(control1, 95);
+
+        assertFalse(findNearestMatches(100, 100).hashMatch());
+
+        tested.setSnapCirca(5);
+        AlignAndDistribute.AlignAndDistributeMatches matches = findNearestMatches(100, 100);
+
+        assertSame(control1, matches.getLeftList().getFirst());
+        assertSame(control1, matches.getTopList().getFirst());
+        assertEquals(105, matches.getLeftPos(), 0);
+        assertEquals(95, matches.getTopPos(), 0);
+    }
+
+    @Test
+    public void testAxisWithoutMatches() {
+        tested.addTopAlignIndexEntry(control1, 100);
+
+        AlignAndDistribute.AlignAndDistributeMatches matches = findNearestMatches(500, 100);
+
+        assertNull(matches.getLeftList());
+        assertEquals(505, matches.getLeftPos(), 0);
+        assertEquals(100, matches.getTopPos(), 0);
+    }
+
+    @Test
+    public void testRemovedEntriesDoNotMatch() {
+        tested.addLeftAlignIndexEntry(control1, 100);
+        tested.removeLeftAlignIndexEntry(control1, 100);
+
+        assertFalse(findNearestMatches(100, FAR).hashMatch());
+    }
+
+    @Test
+    public void testMatchesAreReused() {
+        tested.addLeftAlignIndexEntry(control1, 100);
+
+        AlignAndDistribute.AlignAndDistributeMatches matches = findNearestMatches(100, FAR);
+
+        assertSame(matches, findNearestMatches(101, FAR));
+        assertEquals(100, matches.getLeftPos(), 0);
+    }
+
+    @Test
+    public void testSameMatchesAsProbingEveryOffset() {
+        Random random = new Random(7);
+        int[] lefts = new int[50];
+        int[] rights = new int[50];
+        for (int i = 0; i < lefts.length; i++) {
+            lefts[i] = random.nextInt(2000);
+            rights[i] = lefts[i] + 20 + random.nextInt(200);
+            AlignAndDistributeControl control = mock(AlignAndDistributeControl.class);
+            tested.addLeftAlignIndexEntry(control, lefts[i]);
+            tested.addRightAlignIndexEntry(control, rights[i]);
+        }
+        for (int i = 0; i < 1000; i++) {
+            double left = random.nextDouble() * 2000;
+            double right = left + 100;
+            AlignAndDistribute.AlignAndDistributeMatches matches = tested.findNearestMatches(handler, left, left + 50, right, FAR, FAR, FAR);
+
+            Integer expected = null;
+            for (int offset = 0; (offset <= tested.getSnapCirca()) && (expected == null); offset++) {
+                if (contains(lefts, Math.round(left + offset)) || contains(rights, Math.round(right + offset))) {
+                    expected = offset;
+                } else if (contains(lefts, Math.round(left - offset)) || contains(rights, Math.round(right - offset))) {
+                    expected = -offset;
+                }
+            }
+            assertEquals(expected != null, matches.hashMatch());
+            if (expected != null) {
+                assertEquals(left + expected, matches.getLeftPos(), 0.000001);
+            }
+        }
+    }
+
+    private AlignAndDistribute.AlignAndDistributeMatches findNearestMatches(double left, double top) {
+        return tested.findNearestMatches(handler, left, left + 50, left + 100, top, top + 50, top + 100);
+    }
+
+    private static boolean contains(int[] values, long value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
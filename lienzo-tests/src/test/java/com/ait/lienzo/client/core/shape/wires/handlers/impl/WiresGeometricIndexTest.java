@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires.handlers.impl;
+
+import com.ait.lienzo.client.core.shape.MultiPath;
+import com.ait.lienzo.client.core.shape.wires.PickerPart;
+import com.ait.lienzo.client.core.shape.wires.WiresLayer;
+import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class WiresGeometricIndexTest {
+
+    private static final int HOTSPOT_SIZE = 10;
+
+    @Mock
+    private WiresLayer layer;
+
+    private NFastArrayList<WiresShape> shapes;
+
+    private WiresGeometricIndex tested;
+
+    @Before
+    public void setup() {
+        shapes = new NFastArrayList<>();
+        when(layer.getChildShapes()).thenReturn(shapes);
+        tested = new WiresGeometricIndex(true, HOTSPOT_SIZE);
+    }
+
+    @Test
+    public void testFindShapeAt() {
+        final WiresShape shape = rectangle(100, 100);
+        tested.build(layer);
+        assertEquals(1, tested.size());
+        assertPart(shape, PickerPart.ShapePart.BODY, tested.findShapeAt(150, 150));
+        assertPart(shape, PickerPart.ShapePart.BORDER, tested.findShapeAt(103, 150));
+        assertPart(shape, PickerPart.ShapePart.BORDER, tested.findShapeAt(150, 97));
+        assertNull(tested.findShapeAt(90, 150));
+        assertNull(tested.findShapeAt(500, 500));
+    }
+
+    @Test
+    public void testFindShapeAtWithoutHotspots() {
+        tested = new WiresGeometricIndex(false, HOTSPOT_SIZE);
+        final WiresShape shape = rectangle(100, 100);
+        tested.build(layer);
+        assertPart(shape, PickerPart.ShapePart.BODY, tested.findShapeAt(103, 150));
+        assertNull(tested.findShapeAt(97, 150));
+    }
+
+    @Test
+    public void testLaterShapesCoverEarlierOnes() {
+        final WiresShape bottom = rectangle(100, 100);
+        final WiresShape top = rectangle(150, 150);
+        tested.build(layer);
+        assertPart(top, PickerPart.ShapePart.BODY, tested.findShapeAt(175, 175));
+        assertPart(top, PickerPart.ShapePart.BORDER, tested.findShapeAt(152, 175));
+        assertPart(bottom, PickerPart.ShapePart.BODY, tested.findShapeAt(120, 120));
+    }
+
+    @Test
+    public void testFindShapeAtCurvedPath() {
+        final WiresShape shape = new WiresShape(new MultiPath().circle(50));
+        shape.setLocation(new Point2D(300, 300));
+        shapes.add(shape);
+        tested.build(layer);
+        // The circle is centered at (300, 350).
+        assertPart(shape, PickerPart.ShapePart.BODY, tested.findShapeAt(300, 350));
+        assertPart(shape, PickerPart.ShapePart.BORDER, tested.findShapeAt(348, 350));
+        assertNull(tested.findShapeAt(256, 306));
+    }
+
+    @Test
+    public void testFindShapeAcrossCells() {
+        final WiresShape shape = new WiresShape(new MultiPath().rect(0, 0, 600, 100));
+        shape.setLocation(new Point2D(200, 200));
+        shapes.add(shape);
+        tested.build(layer);
+        assertPart(shape, PickerPart.ShapePart.BODY, tested.findShapeAt(250, 250));
+        assertPart(shape, PickerPart.ShapePart.BODY, tested.findShapeAt(750, 250));
+    }
+
+    @Test
+    public void testExclude() {
+        final WiresShape excluded = rectangle(100, 100);
+        tested.exclude(excluded);
+        tested.build(layer);
+        assertEquals(0, tested.size());
+        assertNull(tested.findShapeAt(150, 150));
+    }
+
+    @Test
+    public void testClear() {
+        final WiresShape excluded = rectangle(100, 100);
+        tested.exclude(excluded);
+        tested.clear();
+        tested.build(layer);
+        assertPart(excluded, PickerPart.ShapePart.BODY, tested.findShapeAt(150, 150));
+        tested.clear();
+        assertNull(tested.findShapeAt(150, 150));
+    }
+
+    private WiresShape rectangle(final double x,
+                                 final double y) {
+        final WiresShape shape = new WiresShape(new MultiPath().rect(0, 0, 100, 100));
+        shape.setLocation(new Point2D(x, y));
+        shapes.add(shape);
+        return shape;
+    }
+
+    private static void assertPart(final WiresShape shape,
+                                   final PickerPart.ShapePart part,
+                                   final PickerPart pickerPart) {
+        assertEquals(shape, pickerPart.getShape());
+        assertEquals(part, pickerPart.getShapePart());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires.handlers.impl;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.shape.MultiPath;
+import com.ait.lienzo.client.core.shape.wires.PickerPart;
+import com.ait.lienzo.client.core.shape.wires.WiresLayer;
+import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.shape.wires.handlers.WiresLayerIndex;
+import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.util.ScratchPad;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compares the time to build a {@link WiresLayerIndex} and to find the shapes at random points,
+ * for the color map and the geometric strategies, on layers of 100, 1k and 5k shapes.
+ * <p>
+ * It is left out of the default test runs, run it with the benchmark profile:
+ * <pre>
+ * mvn test -Dbenchmark -Dtest=WiresLayerIndexBenchmarkTest
+ * </pre>
+ * There is no canvas in the tests, so the color map strategy draws into a mocked context. Its
+ * timings include the overhead of the mock and leave out the rasterization and the pixel reads,
+ * they are only comparable with the ones taken in the same run.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class WiresLayerIndexBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(WiresLayerIndexBenchmarkTest.class.getName());
+
+    private static final int[] SIZES = {100, 1000, 5000};
+    private static final int COLUMNS = 100;
+    private static final int SPACING = 120;
+    private static final int HOTSPOT_SIZE = 10;
+    private static final int QUERIES = 1000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 10;
+
+    private ScratchPad scratchPad;
+
+    @Before
+    public void setup() {
+        // Stub only mocks do not record the calls, which would dominate the timings.
+        scratchPad = mock(ScratchPad.class, withSettings().stubOnly());
+        when(scratchPad.getContext()).thenReturn(mock(Context2D.class, withSettings().stubOnly()));
+    }
+
+    @Test
+    public void testBenchmark() {
+        LOGGER.info(String.format("%-10s %8s %14s %14s", "strategy", "shapes", "build (ms)", "query (us)"));
+        for (final int size : SIZES) {
+            final WiresLayer layer = layer(size);
+            run("color map", size, layer, () -> new WiresColorMapIndex(
+                    new ColorMapBackedPicker(scratchPad,
+                                             new ColorMapBackedPicker.PickerOptions(true, HOTSPOT_SIZE))));
+            run("geometric", size, layer, () -> new WiresGeometricIndex(true, HOTSPOT_SIZE));
+            final WiresLayerIndex index = new WiresGeometricIndex(true, HOTSPOT_SIZE).build(layer);
+            final PickerPart part = index.findShapeAt(SPACING * (COLUMNS / 2) + 40, 30);
+            assertEquals(layer.getChildShapes().get(COLUMNS / 2), part.getShape());
+        }
+    }
+
+    private static void run(final String strategy,
+                            final int size,
+                            final WiresLayer layer,
+                            final Supplier<WiresLayerIndex> indexes) {
+        final Random random = new Random(size);
+        final int[] xs = new int[QUERIES];
+        final int[] ys = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextInt(COLUMNS * SPACING);
+            ys[i] = random.nextInt(((size / COLUMNS) + 1) * SPACING);
+        }
+        long build = 0;
+        long query = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            final long start = System.nanoTime();
+            final WiresLayerIndex index = indexes.get().build(layer);
+            final long built = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                index.findShapeAt(xs[i], ys[i]);
+            }
+            final long queried = System.nanoTime();
+            index.clear();
+            if (round >= WARMUP_ROUNDS) {
+                build += built - start;
+                query += queried - built;
+            }
+        }
+        LOGGER.info(String.format("%-10s %8d %14.3f %14.3f",
+                                  strategy,
+                                  size,
+                                  build / (ROUNDS * 1e6),
+                                  query / (ROUNDS * QUERIES * 1e3)));
+    }
+
+    private static WiresLayer layer(final int size) {
+        final NFastArrayList<WiresShape> shapes = new NFastArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final WiresShape shape = new WiresShape(new MultiPath().rect(0, 0, 80, 60));
+            shape.setLocation(new Point2D((i % COLUMNS) * SPACING, (i / COLUMNS) * SPACING));
+            shapes.add(shape);
+        }
+        final WiresLayer layer = mock(WiresLayer.class);
+        when(layer.getChildShapes()).thenReturn(shapes);
+        return layer;
+    }
+}
@@ -16,11 +16,14 @@
 
 package com.ait.lienzo.client.core.shape.wires.picker;
 
+import java.util.Arrays;
+
 import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.MultiPath;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
 import com.ait.lienzo.client.core.types.PathPartList;
 import com.ait.lienzo.client.core.types.Point2D;
@@ -31,9 +34,15 @@ import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -84,6 +93,132 @@ public class ColorMapBackedPickerTest {
         tested = new ColorMapBackedPicker(scratchPad, pickerOptions);
     }
 
+    @Test
+    public void testBuildDrawsAllShapes() {
+        final WiresShape shape1 = mockShape(new Point2D(0, 0));
+        final WiresShape shape2 = mockShape(new Point2D(100, 0));
+
+        tested.build(shapes(shape1, shape2));
+
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(2)).fill();
+        verify(context, never()).clip();
+    }
+
+    @Test
+    public void testBuildAgainWithoutChanges() {
+        final WiresShape shape1 = mockShape(new Point2D(0, 0));
+        final WiresShape shape2 = mockShape(new Point2D(100, 0));
+        tested.build(shapes(shape1, shape2));
+        reset(context);
+
+        tested.build(shapes(shape1, shape2));
+
+        verify(scratchPad, times(1)).clear();
+        verify(context, never()).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(context, never()).fill();
+    }
+
+    @Test
+    public void testBuildAgainRedrawsMovedShapes() {
+        final Point2D location = new Point2D(0, 0);
+        final WiresShape shape1 = mockShape(location);
+        final WiresShape shape2 = mockShape(new Point2D(100, 0));
+        tested.build(shapes(shape1, shape2));
+        reset(context);
+
+        location.setX(200);
+        tested.build(shapes(shape1, shape2));
+
+        verify(scratchPad, times(1)).clear();
+        verify(context).clearRect(-2, -2, 14, 14);
+        verify(context).clearRect(198, -2, 14, 14);
+        verify(context, times(2)).clip();
+        // Only the moved shape is drawn again, on its new area.
+        verify(context, times(1)).fill();
+    }
+
+    @Test
+    public void testBuildAgainRedrawsAddedAndRemovedShapes() {
+        final WiresShape shape1 = mockShape(new Point2D(0, 0));
+        final WiresShape shape2 = mockShape(new Point2D(100, 0));
+        final WiresShape shape3 = mockShape(new Point2D(5, 5));
+        tested.build(shapes(shape1, shape2));
+        reset(context);
+
+        tested.build(shapes(shape1, shape3));
+
+        verify(scratchPad, times(1)).clear();
+        verify(context).clearRect(98, -2, 14, 14);
+        verify(context).clearRect(3, 3, 14, 14);
+        // The new shape overlaps the first one, which is drawn again below it.
+        verify(context, times(2)).fill();
+    }
+
+    @Test
+    public void testBuildAgainRedrawsSkippedShapes() {
+        final WiresShape shape1 = mockShape(new Point2D(0, 0));
+        final WiresShape shape2 = mockShape(new Point2D(100, 0));
+        tested.build(shapes(shape1, shape2));
+        reset(context);
+
+        tested.getPickerOptions().getShapesToSkip().add(shape2);
+        tested.build(shapes(shape1, shape2));
+
+        verify(context).clearRect(98, -2, 14, 14);
+        verify(context, never()).fill();
+
+        tested.getPickerOptions().getShapesToSkip().clear();
+        tested.build(shapes(shape1, shape2));
+
+        verify(context, times(2)).clearRect(98, -2, 14, 14);
+        verify(context, times(1)).fill();
+        verify(scratchPad, times(1)).clear();
+    }
+
+    @Test
+    public void testBuildAgainWithNewOrder() {
+        final WiresShape shape1 = mockShape(new Point2D(0, 0));
+        final WiresShape shape2 = mockShape(new Point2D(100, 0));
+        tested.build(shapes(shape1, shape2));
+
+        tested.build(shapes(shape2, shape1));
+
+        verify(scratchPad, times(2)).clear();
+    }
+
+    @Test
+    public void testRedrawnShapesKeepTheirColors() {
+        final Point2D location = new Point2D(0, 0);
+        final WiresShape shape1 = mockShape(location);
+        final WiresShape shape2 = mockShape(new Point2D(5, 5));
+        tested.build(shapes(shape1, shape2));
+
+        final ArgumentCaptor<String> colors = ArgumentCaptor.forClass(String.class);
+        verify(context, times(2)).setFillColor(colors.capture());
+        reset(context);
+
+        location.setX(1);
+        tested.build(shapes(shape1, shape2));
+
+        final ArgumentCaptor<String> redrawn = ArgumentCaptor.forClass(String.class);
+        verify(context, times(4)).setFillColor(redrawn.capture());
+        assertEquals(Arrays.asList(colors.getValue(), colors.getAllValues().get(0)), redrawn.getAllValues().subList(1, 3));
+        assertEquals(shape2, findShape(colors.getValue()));
+        assertEquals(shape1, findShape(colors.getAllValues().get(0)));
+    }
+
+    @Test
+    public void testClearBuildsAgainAsAWhole() {
+        final WiresShape shape1 = mockShape(new Point2D(0, 0));
+        tested.build(shapes(shape1));
+
+        tested.clear();
+        tested.build(shapes(shape1));
+
+        verify(scratchPad, times(3)).clear();
+    }
+
     @Test
     public void drawAndFindShapeAtTest() {
 
@@ -93,4 +228,32 @@ public class ColorMapBackedPickerTest {
         verify(context).getImageDataPixelColor(X, Y);
         verify(pixelColor).toBrowserRGB();
     }
+
+    private WiresShape findShape(final String color) {
+        when(context.getImageDataPixelColor(X, Y)).thenReturn(pixelColor);
+        when(pixelColor.toBrowserRGB()).thenReturn(color);
+        final PickerPart part = tested.findShapeAt(X, Y);
+        return null != part ? part.getShape() : null;
+    }
+
+    private WiresShape mockShape(final Point2D location) {
+        final WiresShape shape = mock(WiresShape.class);
+        final MultiPath path = mock(MultiPath.class);
+        final NFastArrayList<PathPartList> pathPartList = new NFastArrayList<>();
+        pathPartList.add(partList);
+        when(shape.getPath()).thenReturn(path);
+        when(shape.getGroup()).thenReturn(new Group());
+        when(path.getActualPathPartListArray()).thenReturn(pathPartList);
+        when(path.getComputedLocation()).thenReturn(location);
+        when(path.getBoundingBox()).thenReturn(BoundingBox.fromDoubles(0, 0, 10, 10));
+        return shape;
+    }
+
+    private static NFastArrayList<WiresShape> shapes(final WiresShape... shapes) {
+        final NFastArrayList<WiresShape> list = new NFastArrayList<>();
+        for (final WiresShape shape : shapes) {
+            list.add(shape);
+        }
+        return list;
+    }
 }
\ No newline at end of file
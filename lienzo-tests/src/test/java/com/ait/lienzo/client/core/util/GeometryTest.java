@@ -18,9 +18,11 @@ package com.ait.lienzo.client.core.util;
 
 import com.ait.lienzo.client.core.shape.QuadraticCurve;
 import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.PathPartList;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.Point2DArray;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -223,4 +225,61 @@ public class GeometryTest {
         Point2D result = Geometry.getProjection(intersection, intersection, 0);
         assertEquals(new Point2D(0, 0), result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetOutlines() {
+        PathPartList path = new PathPartList();
+        path.rect(0, 0, 10, 20);
+        path.M(30, 30);
+        path.L(40, 40);
+        NFastArrayList<Point2DArray> outlines = Geometry.getOutlines(path, 5, 5);
+        assertEquals(2, outlines.size());
+        assertEquals(4, outlines.get(0).size());
+        assertEquals(new Point2D(5, 5), outlines.get(0).get(0));
+        assertEquals(new Point2D(15, 25), outlines.get(0).get(2));
+        assertEquals(new Point2D(45, 45), outlines.get(1).get(1));
+    }
+
+    @Test
+    public void testGetOutlinesFlattensCurves() {
+        PathPartList path = new PathPartList();
+        path.M(0, 0);
+        path.C(0, 10, 10, 10, 10, 0);
+        NFastArrayList<Point2DArray> outlines = Geometry.getOutlines(path, 0, 0);
+        assertEquals(1, outlines.size());
+        Point2DArray outline = outlines.get(0);
+        assertEquals(new Point2D(10, 0), outline.get(outline.size() - 1));
+        assertEquals(7.5, outline.get(outline.size() / 2).getY(), 0.000001);
+    }
+
+    @Test
+    public void testIsPointInOutlines() {
+        PathPartList path = new PathPartList();
+        path.rect(0, 0, 100, 100);
+        path.rect(25, 25, 50, 50);
+        NFastArrayList<Point2DArray> outlines = Geometry.getOutlines(path, 0, 0);
+        assertTrue(Geometry.isPointInOutlines(10, 10, outlines));
+        // both rectangles wind the same way, so the inner one is not a hole
+        assertTrue(Geometry.isPointInOutlines(50, 50, outlines));
+        assertFalse(Geometry.isPointInOutlines(110, 50, outlines));
+        assertFalse(Geometry.isPointInOutlines(50, -1, outlines));
+    }
+
+    @Test
+    public void testGetDistanceToOutlines() {
+        PathPartList path = new PathPartList();
+        path.rect(0, 0, 100, 100);
+        NFastArrayList<Point2DArray> outlines = Geometry.getOutlines(path, 0, 0);
+        assertEquals(10, Geometry.getDistanceToOutlines(50, 10, outlines), 0);
+        assertEquals(5, Geometry.getDistanceToOutlines(-5, 50, outlines), 0);
+        assertEquals(5, Geometry.getDistanceToOutlines(103, 104, outlines), 0);
+        assertEquals(Double.MAX_VALUE, Geometry.getDistanceToOutlines(0, 0, new NFastArrayList<>()), 0);
+    }
+
+    @Test
+    public void testGetDistanceToSegment() {
+        assertEquals(3, Geometry.getDistanceToSegment(5, 3, 0, 0, 10, 0), 0);
+        assertEquals(5, Geometry.getDistanceToSegment(13, 4, 0, 0, 10, 0), 0);
+        assertEquals(5, Geometry.getDistanceToSegment(3, 4, 0, 0, 0, 0), 0);
+    }
+}
@@ -163,14 +163,18 @@ public class BaseGridRendererHelper {
         final List<GridColumn<?>> bodyColumns = new ArrayList<>();
         final List<GridColumn<?>> floatingColumns = new ArrayList<>();
 
-        double viewHeight = 0;
+        // Row heights are read once per rendering pass, as rows can change their height without notifying the model.
+        // The offsets of the rows are accumulated at the same time so the visible rows can be found by binary search.
         final int rowCount = model.getRowCount();
-        final List<Double> rowHeights = new ArrayList<>();
-        for (GridRow row : model.getRows()) {
-            final double rowHeight = row.getHeight();
-            viewHeight = viewHeight + rowHeight;
+        final List<GridRow> rows = model.getRows();
+        final List<Double> rowHeights = new ArrayList<>(rows.size());
+        final double[] rowOffsets = new double[rows.size() + 1];
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            final double rowHeight = rows.get(rowIndex).getHeight();
             rowHeights.add(rowHeight);
+            rowOffsets[rowIndex + 1] = rowOffsets[rowIndex] + rowHeight;
         }
+        final double viewHeight = rowOffsets[rows.size()];
 
         final double vpX = bounds.getX();
         final double vpY = bounds.getY();
@@ -216,21 +220,21 @@ public class BaseGridRendererHelper {
         long currentTimeMillis = log(LOGGER, " - Pre- identify rows to render");
 
         int minVisibleRowIndex = 0;
-        if (model.getRowCount() > 0) {
-            double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
-            while (rowHeights.get(minVisibleRowIndex) < clipTop && minVisibleRowIndex < rowCount - 1) {
-                clipTop = clipTop - rowHeights.get(minVisibleRowIndex);
-                minVisibleRowIndex++;
-            }
+        if (rowCount > 0) {
+            final double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
+            minVisibleRowIndex = findRowIndex(rowOffsets,
+                                              0,
+                                              rowCount,
+                                              clipTop);
         }
 
         int maxVisibleRowIndex = minVisibleRowIndex;
-        if (model.getRowCount() > 0) {
-            double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight - getRowOffset(minVisibleRowIndex, rowHeights);
-            while (rowHeights.get(maxVisibleRowIndex) < clipBottom && maxVisibleRowIndex < rowCount - 1) {
-                clipBottom = clipBottom - rowHeights.get(maxVisibleRowIndex);
-                maxVisibleRowIndex++;
-            }
+        if (rowCount > 0) {
+            final double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight;
+            maxVisibleRowIndex = findRowIndex(rowOffsets,
+                                              minVisibleRowIndex,
+                                              rowCount,
+                                              clipBottom);
         }
         log(LOGGER, " - Post- identify rows to render", currentTimeMillis);
 
@@ -238,9 +242,9 @@ public class BaseGridRendererHelper {
         currentTimeMillis = log(LOGGER, " - Pre- identify columns to render");
 
         double x = 0;
+        double floatingColumnsWidth = 0;
         for (GridColumn<?> column : model.getColumns()) {
             allColumns.add(column);
-            final double floatingColumnsWidth = getWidth(floatingColumns);
             if (view.getComputedLocation().getX() + x + column.getWidth() >= vpX + floatingColumnsWidth) {
                 if (view.getComputedLocation().getX() + x < vpX + vpWidth) {
                     bodyColumns.add(column);
@@ -252,6 +256,9 @@ public class BaseGridRendererHelper {
                         allColumns.remove(column);
                         bodyColumns.remove(column);
                         floatingColumns.add(column);
+                        if (column.isVisible()) {
+                            floatingColumnsWidth = floatingColumnsWidth + column.getWidth();
+                        }
                     }
                 }
             }
@@ -261,7 +268,7 @@ public class BaseGridRendererHelper {
         }
 
         //If the floating columns obscure the body columns remove the float and just show the body columns
-        if (view.getComputedLocation().getX() + x - vpX < getWidth(floatingColumns)) {
+        if (view.getComputedLocation().getX() + x - vpX < floatingColumnsWidth) {
             allColumns.clear();
             bodyColumns.clear();
             floatingColumns.clear();
@@ -282,7 +289,7 @@ public class BaseGridRendererHelper {
         log(LOGGER, " - Post- identify columns to render", currentTimeMillis);
 
         //Construct details of Floating and Body blocks
-        double visibleRowOffset = getRowOffset(minVisibleRowIndex, rowHeights);
+        double visibleRowOffset = rowOffsets[minVisibleRowIndex];
         final double bodyOffsetY = visibleRowOffset + renderer.getHeaderHeight();
         final double offsetX = (bodyColumns.size() > 0 ? getColumnOffset(bodyColumns.get(0)) : 0);
         final double floatingOffsetX = getFloatingColumnOffset();
@@ -336,6 +343,32 @@ public class BaseGridRendererHelper {
                                         headerRowsYOffset);
     }
 
+    /**
+     * Find the first row, from a given index, whose bottom edge is at or below a grid-relative y-coordinate;
+     * or the last row if there is none.
+     * @param rowOffsets The y-offsets of the rows, with the total height of the rows as the last element.
+     * @param fromRowIndex The index of the first candidate row.
+     * @param rowCount The number of rows.
+     * @param y A y-coordinate relative to the top of the first row.
+     * @return The row index.
+     */
+    static int findRowIndex(final double[] rowOffsets,
+                            final int fromRowIndex,
+                            final int rowCount,
+                            final double y) {
+        int low = fromRowIndex;
+        int high = rowCount - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (rowOffsets[middle + 1] >= y) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
     /**
      * Get information about a column corresponding to a grid-relative x-coordinate. This method never returns null.
      * It returns a ColumnInformation object representing the column corresponding to the grid-relative x-coordinate;
@@ -32,6 +32,7 @@ import com.ait.lienzo.client.core.shape.IPrimitive;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.Line;
 import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.Point2DArray;
 import com.ait.lienzo.client.core.types.Transform;
@@ -163,6 +164,14 @@ public class DefaultGridLayer extends Layer implements GridLayer,
         return batch(REDRAW);
     }
 
+    /**
+     * Grids are always redrawn as a whole, as their connectors are updated when drawing.
+     */
+    @Override
+    public Layer batch(final BoundingBox region) {
+        return batch();
+    }
+
     @Override
     public Layer batch(final GridLayerRedrawManager.PrioritizedCommand command) {
         GridLayerRedrawManager.get().schedule(command);
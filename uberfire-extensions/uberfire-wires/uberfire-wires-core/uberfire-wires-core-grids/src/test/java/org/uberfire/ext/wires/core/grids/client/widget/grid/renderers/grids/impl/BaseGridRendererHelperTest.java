@@ -357,6 +357,41 @@ public class BaseGridRendererHelperTest {
                                uiColumn1.getWidth());
     }
 
+    @Test
+    public void testGetRenderingInformation_LargeModel() {
+        final int rowCount = 5000;
+        for (int i = uiModel.getRowCount(); i < rowCount; i++) {
+            uiModel.appendRow(new BaseGridRow());
+        }
+        final double gridWidgetLocationY = -uiRow1.getHeight() * rowCount / 2;
+        when(gridWidget.isSelected()).thenReturn(false);
+        when(gridLayer.getVisibleBounds()).thenReturn(new BaseBounds(0, 0, BOUNDS_WIDTH, BOUNDS_HEIGHT));
+        when(gridWidget.getComputedLocation()).thenReturn(new Point2D(0, gridWidgetLocationY));
+
+        final BaseGridRendererHelper.RenderingInformation renderingInformation = helper.getRenderingInformation();
+
+        assertThat(renderingInformation).isNotNull();
+        assertThat(renderingInformation.getAllRowHeights()).hasSize(rowCount);
+        assertThat(renderingInformation.getMinVisibleRowIndex()).isEqualTo(2498);
+        assertThat(renderingInformation.getMaxVisibleRowIndex()).isEqualTo(2548);
+        assertThat(renderingInformation.getVisibleRowOffsets()).hasSize(51);
+        assertThat(renderingInformation.getVisibleRowOffsets().get(0)).isEqualTo(uiRow1.getHeight() * 2498);
+        assertThat(renderingInformation.getBodyBlockInformation().getBodyY()).isEqualTo(uiRow1.getHeight() * 2498 + HEADER_HEIGHT);
+    }
+
+    @Test
+    public void testFindRowIndex() {
+        final double[] rowOffsets = new double[]{0.0, 10.0, 30.0, 30.0, 60.0};
+
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 0, 4, -5.0)).isEqualTo(0);
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 0, 4, 10.0)).isEqualTo(0);
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 0, 4, 10.5)).isEqualTo(1);
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 0, 4, 30.0)).isEqualTo(1);
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 0, 4, 31.0)).isEqualTo(3);
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 0, 4, 100.0)).isEqualTo(3);
+        assertThat(BaseGridRendererHelper.findRowIndex(rowOffsets, 2, 4, 5.0)).isEqualTo(2);
+    }
+
     @Test
     public void testGetColumnInformation_FixedHeaderSelected_NoFloatingColumns() {
         when(gridWidget.isSelected()).thenReturn(true);